@@ -9,6 +9,7 @@ package io.camunda.application.commons.actor;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.IoThreadMode;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,6 +41,7 @@ public final class ActorSchedulerConfiguration {
   public ActorScheduler scheduler() {
     final var cpuThreads = schedulerConfiguration.cpuThreads();
     final var ioThreads = schedulerConfiguration.ioThreads();
+    final var ioThreadMode = schedulerConfiguration.ioThreadMode();
     final var metricsEnabled = schedulerConfiguration.metricsEnabled();
     final var prefix = schedulerConfiguration.schedulerPrefix();
     final var nodeId = schedulerConfiguration.nodeId();
@@ -49,6 +51,7 @@ public final class ActorSchedulerConfiguration {
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
+            .setIoThreadMode(ioThreadMode)
             .setMeterRegistry(metricsEnabled ? registry : null)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
@@ -61,6 +64,7 @@ public final class ActorSchedulerConfiguration {
   public record SchedulerConfiguration(
       int cpuThreads,
       int ioThreads,
+      IoThreadMode ioThreadMode,
       boolean metricsEnabled,
       String schedulerPrefix,
       String nodeId) {}
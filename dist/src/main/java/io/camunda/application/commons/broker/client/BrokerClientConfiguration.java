@@ -11,6 +11,7 @@ import io.atomix.cluster.AtomixCluster;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerClientRequestMetrics;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.RequestCoalescingConfig;
 import io.camunda.zeebe.broker.client.impl.BrokerClientImpl;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
@@ -52,10 +53,17 @@ public final class BrokerClientConfiguration {
             cluster.getEventService(),
             scheduler,
             topologyManager,
-            metrics);
+            metrics,
+            config.requestCoalescing());
     brokerClient.start().forEach(ActorFuture::join);
     return brokerClient;
   }
 
-  public record BrokerClientTimeoutConfiguration(Duration requestTimeout) {}
+  public record BrokerClientTimeoutConfiguration(
+      Duration requestTimeout, RequestCoalescingConfig requestCoalescing) {
+
+    public BrokerClientTimeoutConfiguration(final Duration requestTimeout) {
+      this(requestTimeout, RequestCoalescingConfig.DISABLED);
+    }
+  }
 }
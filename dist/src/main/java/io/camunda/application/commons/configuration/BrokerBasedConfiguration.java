@@ -13,6 +13,7 @@ import io.camunda.application.commons.broker.client.BrokerClientConfiguration.Br
 import io.camunda.application.commons.configuration.WorkingDirectoryConfiguration.WorkingDirectory;
 import io.camunda.application.commons.job.JobHandlerConfiguration.ActivateJobHandlerConfiguration;
 import io.camunda.configuration.beans.BrokerBasedProperties;
+import io.camunda.zeebe.broker.client.api.RequestCoalescingConfig;
 import io.camunda.zeebe.broker.clustering.ClusterConfigFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.gateway.RestApiCompositeFilter;
@@ -59,8 +60,12 @@ public class BrokerBasedConfiguration {
 
   @Bean
   public BrokerClientTimeoutConfiguration brokerClientConfig() {
+    final var clusterCfg = properties.getGateway().getCluster();
+    final var coalescingCfg = clusterCfg.getRequestCoalescing();
     return new BrokerClientTimeoutConfiguration(
-        properties.getGateway().getCluster().getRequestTimeout());
+        clusterCfg.getRequestTimeout(),
+        new RequestCoalescingConfig(
+            coalescingCfg.isEnabled(), coalescingCfg.getWindow(), coalescingCfg.getMaxBatchSize()));
   }
 
   @Bean
@@ -68,9 +73,11 @@ public class BrokerBasedConfiguration {
     final var threadCfg = properties.getThreads();
     final var cpuThreads = threadCfg.getCpuThreadCount();
     final var ioThreads = threadCfg.getIoThreadCount();
+    final var ioThreadMode = threadCfg.getIoThreadMode();
     final var metricsEnabled = properties.getExperimental().getFeatures().isEnableActorMetrics();
     final var nodeId = String.valueOf(properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads, ioThreads, ioThreadMode, metricsEnabled, "Broker", nodeId);
   }
 
   @ConditionalOnRestGatewayEnabled
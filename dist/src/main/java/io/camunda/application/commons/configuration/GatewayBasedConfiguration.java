@@ -18,6 +18,7 @@ import io.camunda.application.commons.actor.ActorSchedulerConfiguration.Schedule
 import io.camunda.application.commons.broker.client.BrokerClientConfiguration.BrokerClientTimeoutConfiguration;
 import io.camunda.application.commons.job.JobHandlerConfiguration.ActivateJobHandlerConfiguration;
 import io.camunda.configuration.beans.GatewayBasedProperties;
+import io.camunda.zeebe.broker.client.api.RequestCoalescingConfig;
 import io.camunda.zeebe.gateway.RestApiCompositeFilter;
 import io.camunda.zeebe.gateway.impl.configuration.ClusterCfg;
 import io.camunda.zeebe.gateway.impl.configuration.FilterCfg;
@@ -25,6 +26,7 @@ import io.camunda.zeebe.gateway.impl.configuration.GatewayCfg;
 import io.camunda.zeebe.gateway.impl.configuration.MembershipCfg;
 import io.camunda.zeebe.gateway.rest.ConditionalOnRestGatewayEnabled;
 import io.camunda.zeebe.gateway.rest.impl.filters.FilterRepository;
+import io.camunda.zeebe.scheduler.IoThreadMode;
 import jakarta.servlet.Filter;
 import java.time.Duration;
 import java.util.Collection;
@@ -80,7 +82,12 @@ public final class GatewayBasedConfiguration {
 
   @Bean
   public BrokerClientTimeoutConfiguration brokerClientConfig() {
-    return new BrokerClientTimeoutConfiguration(properties.getCluster().getRequestTimeout());
+    final var clusterCfg = properties.getCluster();
+    final var coalescingCfg = clusterCfg.getRequestCoalescing();
+    return new BrokerClientTimeoutConfiguration(
+        clusterCfg.getRequestTimeout(),
+        new RequestCoalescingConfig(
+            coalescingCfg.isEnabled(), coalescingCfg.getWindow(), coalescingCfg.getMaxBatchSize()));
   }
 
   @Bean
@@ -90,7 +97,8 @@ public final class GatewayBasedConfiguration {
     final var ioThreads = 0;
     final var metricsEnabled = false;
     final var nodeId = properties.getCluster().getMemberId();
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Gateway", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads, ioThreads, IoThreadMode.PLATFORM, metricsEnabled, "Gateway", nodeId);
   }
 
   @Bean
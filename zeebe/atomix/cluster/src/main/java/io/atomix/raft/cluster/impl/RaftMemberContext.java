@@ -33,6 +33,7 @@ public final class RaftMemberContext {
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
   private final int maxAppendsPerMember;
+  private final int maxInstallsPerMember;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -45,7 +46,8 @@ public final class RaftMemberContext {
   private int inFlightAppendCount;
   private boolean appendSucceeded;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private boolean installFailed;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -55,9 +57,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInstallsPerMember = maxInstallsPerMember;
   }
 
   /** Resets the member state. */
@@ -70,7 +74,8 @@ public final class RaftMemberContext {
     responseTime = 0;
     inFlightAppendCount = 0;
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    installFailed = false;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -188,6 +193,15 @@ public final class RaftMemberContext {
     inFlightAppendCount--;
   }
 
+  /**
+   * Returns the number of append requests which were sent to the member but not yet completed.
+   *
+   * @return the number of in-flight append requests
+   */
+  public int getInFlightAppendCount() {
+    return inFlightAppendCount;
+  }
+
   /**
    * Returns a boolean indicating whether a configure request can be sent to the member.
    *
@@ -208,22 +222,44 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an install request can be sent to the member.
+   * Returns a boolean indicating whether an install request can be sent to the member. After an
+   * install request failed, no further requests can be sent until all in-flight requests are
+   * completed, as the member rejects the chunks following the failed one anyway.
    *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open
+        && (installFailed
+            ? inFlightInstallCount == 0
+            : inFlightInstallCount < maxInstallsPerMember);
+  }
+
+  /**
+   * Returns whether install requests were sent to the member which are not completed yet.
+   *
+   * @return true if there are in-flight install requests
+   */
+  public boolean hasInFlightInstalls() {
+    return inFlightInstallCount > 0;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    if (inFlightInstallCount == 0) {
+      installFailed = false;
+    }
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount = Math.max(0, inFlightInstallCount - 1);
+  }
+
+  /** Marks an install request to the member as failed. */
+  public void failInstall() {
+    installFailed = true;
   }
 
   /**
@@ -258,7 +294,7 @@ public final class RaftMemberContext {
         .add("appending", inFlightAppendCount)
         .add("appendSucceeded", appendSucceeded)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("inFlightInstallCount", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
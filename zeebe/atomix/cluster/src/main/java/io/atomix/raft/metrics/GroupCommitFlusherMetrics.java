@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import static io.atomix.raft.metrics.GroupCommitFlusherMetricsDoc.FLUSH_LATENCY;
+import static io.atomix.raft.metrics.GroupCommitFlusherMetricsDoc.FSYNC_COUNT;
+import static io.atomix.raft.metrics.GroupCommitFlusherMetricsDoc.GROUP_SIZE;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+
+public final class GroupCommitFlusherMetrics {
+  private final Timer flushLatency;
+  private final Counter fsyncCount;
+  private final DistributionSummary groupSize;
+  private final MeterRegistry registry;
+
+  public GroupCommitFlusherMetrics(final MeterRegistry registry) {
+    this.registry = Objects.requireNonNull(registry, "MeterRegistry cannot be null");
+    flushLatency =
+        Timer.builder(FLUSH_LATENCY.getName())
+            .description(FLUSH_LATENCY.getDescription())
+            .serviceLevelObjectives(FLUSH_LATENCY.getTimerSLOs())
+            .register(registry);
+    fsyncCount =
+        Counter.builder(FSYNC_COUNT.getName())
+            .description(FSYNC_COUNT.getDescription())
+            .register(registry);
+    groupSize =
+        DistributionSummary.builder(GROUP_SIZE.getName())
+            .description(GROUP_SIZE.getDescription())
+            .serviceLevelObjectives(GROUP_SIZE.getDistributionSLOs())
+            .register(registry);
+  }
+
+  public Timer.Sample startFlush() {
+    return Timer.start(registry.config().clock());
+  }
+
+  public void observeFlushed(final Timer.Sample sample, final int flushedJournals) {
+    sample.stop(flushLatency);
+    groupSize.record(flushedJournals);
+  }
+
+  public void countFsync() {
+    fsyncCount.increment();
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+
+@SuppressWarnings("NullableProblems")
+public enum GroupCommitFlusherMetricsDoc implements ExtendedMeterDocumentation {
+  /**
+   * Time between a flush request of the partition and its data being durable, including the time
+   * spent waiting for the group commit window
+   */
+  FLUSH_LATENCY {
+    @Override
+    public String getName() {
+      return "atomix.raft.log.group.commit.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time between a flush request of the partition and its data being durable, including"
+          + " the time spent waiting for the group commit window";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+
+  /** Number of fsyncs issued by the group commit flusher for the partition's journal */
+  FSYNC_COUNT {
+    @Override
+    public String getName() {
+      return "atomix.raft.log.group.commit.fsyncs";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of fsyncs issued by the group commit flusher for the partition's journal";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+
+  /** Number of journals flushed in the same group commit as the partition's journal */
+  GROUP_SIZE {
+    private final double[] buckets = {1, 2, 4, 8, 12, 16, 24, 32, 48, 64};
+
+    @Override
+    public String getName() {
+      return "atomix.raft.log.group.commit.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of journals flushed in the same group commit as the partition's journal";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return buckets;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  }
+}
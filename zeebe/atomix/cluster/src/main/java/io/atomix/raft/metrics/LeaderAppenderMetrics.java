@@ -33,6 +33,7 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
   private final Counter commitRate;
   private final StatefulGauge nonCommittedEntriesValue;
   private final Map<String, StatefulGauge> nonReplicatedEntries;
+  private final Map<String, StatefulGauge> inFlightAppends;
 
   public LeaderAppenderMetrics(final String partitionName, final MeterRegistry meterRegistry) {
     super(partitionName);
@@ -41,6 +42,7 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     appendDataRate = new HashMap<>();
     appendRate = new HashMap<>();
     nonReplicatedEntries = new HashMap<>();
+    inFlightAppends = new HashMap<>();
 
     commitRate =
         Counter.builder(LeaderMetricsDoc.COMMIT_RATE.getName())
@@ -79,6 +81,10 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
         .set(remainingEntries);
   }
 
+  public void observeInFlightAppends(final String memberId, final int inFlightRequests) {
+    inFlightAppends.computeIfAbsent(memberId, this::registerInFlightAppends).set(inFlightRequests);
+  }
+
   private Timer getAppendLatency(final String memberId) {
     return appendLatency.computeIfAbsent(
         memberId,
@@ -130,6 +136,14 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
         .register(meterRegistry);
   }
 
+  private StatefulGauge registerInFlightAppends(final String memberId) {
+    return StatefulGauge.builder(LeaderMetricsDoc.IN_FLIGHT_APPENDS.getName())
+        .description(LeaderMetricsDoc.IN_FLIGHT_APPENDS.getDescription())
+        .tag(RaftKeyNames.FOLLOWER.asString(), memberId)
+        .tag(RaftKeyNames.PARTITION_GROUP.asString(), partitionGroupName)
+        .register(meterRegistry);
+  }
+
   @Override
   public void close() {
     meterRegistry.remove(commitRate);
@@ -138,5 +152,6 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     appendRate.values().forEach(meterRegistry::remove);
     appendDataRate.values().forEach(meterRegistry::remove);
     nonReplicatedEntries.values().forEach(meterRegistry::remove);
+    inFlightAppends.values().forEach(meterRegistry::remove);
   }
 }
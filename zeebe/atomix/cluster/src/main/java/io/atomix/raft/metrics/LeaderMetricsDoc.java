@@ -114,6 +114,30 @@ public enum LeaderMetricsDoc implements ExtendedMeterDocumentation {
       };
     }
   },
+  /** The number of append requests sent to a follower which are not yet completed */
+  IN_FLIGHT_APPENDS {
+    @Override
+    public String getName() {
+      return "atomix.append.entries.inflight";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The number of append requests sent to a follower which are not yet completed";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
+  },
   /** The count of entries committed (counting entries, not their size) */
   COMMIT_RATE {
     @Override
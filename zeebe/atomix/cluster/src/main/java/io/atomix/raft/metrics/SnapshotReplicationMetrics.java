@@ -19,6 +19,7 @@ import static io.atomix.raft.metrics.SnapshotReplicationMetricsDoc.*;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.StatefulGauge;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 
 public class SnapshotReplicationMetrics extends RaftMetrics implements CloseableSilently {
@@ -26,6 +27,8 @@ public class SnapshotReplicationMetrics extends RaftMetrics implements Closeable
   private final MeterRegistry meterRegistry;
   private final StatefulGauge count;
   private final StatefulGauge duration;
+  private final Counter receivedBytes;
+  private final Counter reusedBytes;
 
   public SnapshotReplicationMetrics(final String partitionName, final MeterRegistry meterRegistry) {
     super(partitionName);
@@ -42,6 +45,20 @@ public class SnapshotReplicationMetrics extends RaftMetrics implements Closeable
             .description(DURATION.getDescription())
             .tag(RaftKeyNames.PARTITION_GROUP.asString(), partitionGroupName)
             .register(meterRegistry);
+
+    receivedBytes =
+        Counter.builder(RECEIVED_BYTES.getName())
+            .description(RECEIVED_BYTES.getDescription())
+            .baseUnit(RECEIVED_BYTES.getBaseUnit())
+            .tag(RaftKeyNames.PARTITION_GROUP.asString(), partitionGroupName)
+            .register(meterRegistry);
+
+    reusedBytes =
+        Counter.builder(REUSED_BYTES.getName())
+            .description(REUSED_BYTES.getDescription())
+            .baseUnit(REUSED_BYTES.getBaseUnit())
+            .tag(RaftKeyNames.PARTITION_GROUP.asString(), partitionGroupName)
+            .register(meterRegistry);
   }
 
   public void incrementCount() {
@@ -60,9 +77,19 @@ public class SnapshotReplicationMetrics extends RaftMetrics implements Closeable
     duration.set(durationMillis);
   }
 
+  public void countReceivedBytes(final long bytes) {
+    receivedBytes.increment(bytes);
+  }
+
+  public void countReusedBytes(final long bytes) {
+    reusedBytes.increment(bytes);
+  }
+
   @Override
   public void close() {
     meterRegistry.remove(count);
     meterRegistry.remove(duration);
+    meterRegistry.remove(receivedBytes);
+    meterRegistry.remove(reusedBytes);
   }
 }
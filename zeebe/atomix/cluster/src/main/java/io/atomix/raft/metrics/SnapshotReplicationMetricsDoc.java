@@ -58,6 +58,62 @@ public enum SnapshotReplicationMetricsDoc implements ExtendedMeterDocumentation
       return "ms";
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+
+  /** Number of snapshot bytes received from the leader */
+  RECEIVED_BYTES {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.received.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of snapshot bytes received from the leader";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+
+  /** Number of snapshot bytes reused from the latest snapshot instead of being received */
+  REUSED_BYTES {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.reused.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of snapshot bytes reused from the latest snapshot instead of being received";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
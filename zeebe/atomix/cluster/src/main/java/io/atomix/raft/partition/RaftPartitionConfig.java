@@ -16,6 +16,7 @@
  */
 package io.atomix.raft.partition;
 
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.atomix.raft.zeebe.EntryValidator;
 import java.time.Duration;
 
@@ -45,6 +46,9 @@ public class RaftPartitionConfig {
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
   private int snapshotChunkSize;
+  private int maxInFlightSnapshotChunks = 1;
+  private SnapshotChunkCompression snapshotChunkCompression = SnapshotChunkCompression.NONE;
+  private boolean incrementalSnapshotReplication;
 
   /**
    * Returns the Raft leader election timeout.
@@ -144,6 +148,50 @@ public class RaftPartitionConfig {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  /**
+   * Sets how many snapshot chunks a leader sends to a follower without waiting for their
+   * acknowledgement. With the default of one, the next chunk is only sent once the previous one was
+   * acknowledged.
+   *
+   * @param maxInFlightSnapshotChunks the maximum number of unacknowledged chunks per follower
+   */
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return snapshotChunkCompression;
+  }
+
+  /**
+   * Sets the compression applied to snapshot chunks sent to followers. Followers must be able to
+   * read compressed chunks, so this should only be enabled once all members support it.
+   *
+   * @param snapshotChunkCompression the compression of sent snapshot chunks
+   */
+  public void setSnapshotChunkCompression(final SnapshotChunkCompression snapshotChunkCompression) {
+    this.snapshotChunkCompression = snapshotChunkCompression;
+  }
+
+  public boolean isIncrementalSnapshotReplication() {
+    return incrementalSnapshotReplication;
+  }
+
+  /**
+   * Sets whether a leader skips sending the snapshot files which a follower has already, as part of
+   * its latest snapshot. Followers must be able to reuse files, so this should only be enabled once
+   * all members support it.
+   *
+   * @param incrementalSnapshotReplication whether to skip files the follower has already
+   */
+  public void setIncrementalSnapshotReplication(final boolean incrementalSnapshotReplication) {
+    this.incrementalSnapshotReplication = incrementalSnapshotReplication;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -228,6 +276,12 @@ public class RaftPartitionConfig {
         + snapshotRequestTimeout
         + ", snapshotChunkSize="
         + snapshotChunkSize
+        + ", maxInFlightSnapshotChunks="
+        + maxInFlightSnapshotChunks
+        + ", snapshotChunkCompression="
+        + snapshotChunkCompression
+        + ", incrementalSnapshotReplication="
+        + incrementalSnapshotReplication
         + ", configurationChangeTimeout="
         + configurationChangeTimeout
         + ", minStepDownFailureCount="
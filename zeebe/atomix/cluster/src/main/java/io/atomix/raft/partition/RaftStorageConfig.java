@@ -19,6 +19,7 @@ package io.atomix.raft.partition;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.record.RecordCompression;
 
 /** Raft storage configuration. */
 public class RaftStorageConfig {
@@ -31,11 +32,17 @@ public class RaftStorageConfig {
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
 
+  private static final RecordCompression DEFAULT_RECORD_COMPRESSION = RecordCompression.NONE;
+
+  private static final boolean DEFAULT_ADVISE_SEQUENTIAL_READS = false;
+
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private RecordCompression recordCompression = DEFAULT_RECORD_COMPRESSION;
+  private boolean adviseSequentialReads = DEFAULT_ADVISE_SEQUENTIAL_READS;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +132,39 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return the compression applied to the data of newly appended records
+   */
+  public RecordCompression getRecordCompression() {
+    return recordCompression;
+  }
+
+  /**
+   * Sets the compression applied to the data of newly appended records. Records written with a
+   * different compression remain readable.
+   *
+   * @param recordCompression the compression of new records
+   */
+  public void setRecordCompression(final RecordCompression recordCompression) {
+    this.recordCompression = recordCompression;
+  }
+
+  /**
+   * @return true if readers hint the OS to read sealed segments ahead, false otherwise
+   */
+  public boolean isAdviseSequentialReads() {
+    return adviseSequentialReads;
+  }
+
+  /**
+   * Sets whether readers hint the OS to read sealed segments ahead when scanning them sequentially.
+   *
+   * @param adviseSequentialReads true to advise sequential reads of sealed segments
+   */
+  public void setAdviseSequentialReads(final boolean adviseSequentialReads) {
+    this.adviseSequentialReads = adviseSequentialReads;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +178,10 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", recordCompression="
+        + recordCompression
+        + ", adviseSequentialReads="
+        + adviseSequentialReads
         + '}';
   }
 }
@@ -61,6 +61,11 @@ class RaftMessageContext {
     leaderHeartbeatSubject = getSubject(prefix, "leaderHeartbeat");
   }
 
+  /** Returns the subject on which the messages of the given subject are encoded with SBE. */
+  static String getSbeSubject(final String subject) {
+    return subject + "-sbe";
+  }
+
   private static String getSubject(final String prefix, final String type) {
     if (prefix == null) {
       return type;
@@ -310,6 +310,8 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withRecordCompression(storageConfig.getRecordCompression())
+        .withAdviseSequentialReads(storageConfig.isAdviseSequentialReads())
         .build();
   }
 
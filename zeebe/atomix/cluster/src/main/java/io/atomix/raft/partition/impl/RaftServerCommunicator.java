@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -43,17 +44,34 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.RaftMessageSBESerializer;
 import io.atomix.utils.serializer.Serializer;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
-/** Raft server protocol that uses a {@link ClusterCommunicationService}. */
+/**
+ * Raft server protocol that uses a {@link ClusterCommunicationService}. The messages are encoded
+ * with SBE, see {@link RaftMessageSBESerializer}, and fall back to Kryo for members which don't
+ * handle the SBE subjects yet.
+ */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  /**
+   * The interval after which a member, which only understood Kryo, is asked again with SBE. Each
+   * probe of a member which still only understands Kryo costs a failed round trip.
+   */
+  private static final Duration KRYO_ONLY_PROBE_INTERVAL = Duration.ofMinutes(1);
+
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final ThreadLocal<RaftMessageSBESerializer> sbeSerializer =
+      ThreadLocal.withInitial(RaftMessageSBESerializer::new);
+  private final Map<MemberId, Long> kryoOnlyMembers = new ConcurrentHashMap<>();
   private final ClusterCommunicationService clusterCommunicator;
   private final RaftRequestMetrics metrics;
   private final Duration requestTimeout;
@@ -133,7 +151,8 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final AppendRequest request) {
-    return sendAndReceive(context.appendV1subject, request, memberId);
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return sendWithKryo(context.appendV1subject, request, memberId, requestTimeout);
   }
 
   @Override
@@ -145,136 +164,100 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public void registerTransferHandler(
       final Function<TransferRequest, CompletableFuture<TransferResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.transferSubject,
-        serializer::decode,
-        handler.<TransferRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.transferSubject, handler);
   }
 
   @Override
   public void unregisterTransferHandler() {
-    clusterCommunicator.unsubscribe(context.transferSubject);
+    unsubscribe(context.transferSubject);
   }
 
   @Override
   public void registerConfigureHandler(
       final Function<ConfigureRequest, CompletableFuture<ConfigureResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.configureSubject,
-        serializer::decode,
-        handler.<ConfigureRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.configureSubject, handler);
   }
 
   @Override
   public void unregisterConfigureHandler() {
-    clusterCommunicator.unsubscribe(context.configureSubject);
+    unsubscribe(context.configureSubject);
   }
 
   @Override
   public void registerReconfigureHandler(
       final Function<ReconfigureRequest, CompletableFuture<ReconfigureResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.reconfigureSubject,
-        serializer::decode,
-        handler.<ReconfigureRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.reconfigureSubject, handler);
   }
 
   @Override
   public void unregisterReconfigureHandler() {
-    clusterCommunicator.unsubscribe(context.reconfigureSubject);
+    unsubscribe(context.reconfigureSubject);
   }
 
   @Override
   public void registerForceConfigureHandler(
       final Function<ForceConfigureRequest, CompletableFuture<ForceConfigureResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.forceConfigureSubject,
-        serializer::decode,
-        handler.<ForceConfigureRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.forceConfigureSubject, handler);
   }
 
   @Override
   public void unregisterForceConfigureHandler() {
-    clusterCommunicator.unsubscribe(context.forceConfigureSubject);
+    unsubscribe(context.forceConfigureSubject);
   }
 
   @Override
   public void registerJoinHandler(
       final Function<JoinRequest, CompletableFuture<JoinResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.joinSubject,
-        serializer::decode,
-        handler.<JoinRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.joinSubject, handler);
   }
 
   @Override
   public void unregisterJoinHandler() {
-    clusterCommunicator.unsubscribe(context.joinSubject);
+    unsubscribe(context.joinSubject);
   }
 
   @Override
   public void registerLeaveHandler(
       final Function<LeaveRequest, CompletableFuture<LeaveResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.leaveSubject,
-        serializer::decode,
-        handler.<LeaveRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.leaveSubject, handler);
   }
 
   @Override
   public void unregisterLeaveHandler() {
-    clusterCommunicator.unsubscribe(context.leaveSubject);
+    unsubscribe(context.leaveSubject);
   }
 
   @Override
   public void registerInstallHandler(
       final Function<InstallRequest, CompletableFuture<InstallResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.installSubject,
-        serializer::decode,
-        handler.<InstallRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.installSubject, handler);
   }
 
   @Override
   public void unregisterInstallHandler() {
-    clusterCommunicator.unsubscribe(context.installSubject);
+    unsubscribe(context.installSubject);
   }
 
   @Override
   public void registerPollHandler(
       final Function<PollRequest, CompletableFuture<PollResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.pollSubject,
-        serializer::decode,
-        handler.<PollRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.pollSubject, handler);
   }
 
   @Override
   public void unregisterPollHandler() {
-    clusterCommunicator.unsubscribe(context.pollSubject);
+    unsubscribe(context.pollSubject);
   }
 
   @Override
   public void registerVoteHandler(
       final Function<VoteRequest, CompletableFuture<VoteResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.voteSubject,
-        serializer::decode,
-        handler.<VoteRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.voteSubject, handler);
   }
 
   @Override
   public void unregisterVoteHandler() {
-    clusterCommunicator.unsubscribe(context.voteSubject);
+    unsubscribe(context.voteSubject);
   }
 
   @Override
@@ -290,31 +273,113 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public void registerAppendV2Handler(
       final Function<VersionedAppendRequest, CompletableFuture<AppendResponse>> handler) {
-    clusterCommunicator.replyTo(
-        context.appendV2subject,
-        serializer::decode,
-        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
-        serializer::encode);
+    replyTo(context.appendV2subject, handler);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
-    clusterCommunicator.unsubscribe(context.appendV2subject);
+    unsubscribe(context.appendV2subject);
   }
 
-  private <T, U> CompletableFuture<U> sendAndReceive(
+  private <T extends RaftMessage, U extends RaftMessage> CompletableFuture<U> sendAndReceive(
       final String subject, final T request, final MemberId memberId) {
     return sendAndReceive(subject, request, memberId, requestTimeout);
   }
 
-  private <T, U> CompletableFuture<U> sendAndReceive(
+  /**
+   * Sends the request encoded with SBE, unless the member is known to only understand Kryo. If the
+   * member has no handler for the SBE subject, e.g. because it runs an older version, the request
+   * is sent again encoded with Kryo.
+   */
+  private <T extends RaftMessage, U extends RaftMessage> CompletableFuture<U> sendAndReceive(
       final String subject, final T request, final MemberId memberId, final Duration timeout) {
     metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    if (isKryoOnly(memberId)) {
+      return sendWithKryo(subject, request, memberId, timeout);
+    }
+
+    final CompletableFuture<U> response =
+        clusterCommunicator.send(
+            RaftMessageContext.getSbeSubject(subject),
+            request,
+            this::encodeWithSbe,
+            this::decodeWithSbe,
+            memberId,
+            timeout);
+    return response.exceptionallyCompose(
+        error -> {
+          if (!(unwrap(error) instanceof NoRemoteHandler)) {
+            return CompletableFuture.failedFuture(error);
+          }
+
+          // the member may also not have registered any handler yet, so it's only remembered as
+          // Kryo-only if it replies to the Kryo subject
+          return this.<T, U>sendWithKryo(subject, request, memberId, timeout)
+              .thenApply(
+                  kryoResponse -> {
+                    kryoOnlyMembers.put(memberId, System.currentTimeMillis());
+                    return kryoResponse;
+                  });
+        });
+  }
+
+  private <T, U> CompletableFuture<U> sendWithKryo(
+      final String subject, final T request, final MemberId memberId, final Duration timeout) {
     return clusterCommunicator.send(
         subject, request, serializer::encode, serializer::decode, memberId, timeout);
   }
 
+  private boolean isKryoOnly(final MemberId memberId) {
+    final Long since = kryoOnlyMembers.get(memberId);
+    if (since == null) {
+      return false;
+    }
+
+    // the member may have been updated in the meantime
+    if (System.currentTimeMillis() - since >= KRYO_ONLY_PROBE_INTERVAL.toMillis()) {
+      kryoOnlyMembers.remove(memberId, since);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Registers the handler for the subject with both encodings, so that it can serve members which
+   * send with SBE as well as members which only send with Kryo.
+   */
+  private <T extends RaftMessage, U extends RaftMessage> void replyTo(
+      final String subject, final Function<T, CompletableFuture<U>> handler) {
+    final Function<T, CompletableFuture<U>> recordingHandler =
+        handler.<T>compose(this::recordReceivedMetrics);
+    clusterCommunicator.replyTo(subject, serializer::decode, recordingHandler, serializer::encode);
+    clusterCommunicator.replyTo(
+        RaftMessageContext.getSbeSubject(subject),
+        this::decodeWithSbe,
+        recordingHandler,
+        this::encodeWithSbe);
+  }
+
+  private void unsubscribe(final String subject) {
+    clusterCommunicator.unsubscribe(subject);
+    clusterCommunicator.unsubscribe(RaftMessageContext.getSbeSubject(subject));
+  }
+
+  private byte[] encodeWithSbe(final RaftMessage message) {
+    return sbeSerializer.get().encode(message);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T extends RaftMessage> T decodeWithSbe(final byte[] bytes) {
+    return (T) sbeSerializer.get().decode(bytes);
+  }
+
+  private static Throwable unwrap(final Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null
+        ? error.getCause()
+        : error;
+  }
+
   private <T extends RaftMessage> T recordReceivedMetrics(final T m) {
     metrics.receivedMessage(m.getClass().getSimpleName());
     return m;
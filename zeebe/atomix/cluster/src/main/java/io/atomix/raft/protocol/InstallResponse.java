@@ -20,33 +20,84 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import io.atomix.utils.misc.StringUtils;
+import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
+import java.nio.ByteBuffer;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Besides indicating whether or not the request was successful, an error response may
+ * carry the id of the chunk the follower expects next, such that the leader can resume sending the
+ * snapshot from there instead of starting over. Responses may also carry the files of the
+ * follower's latest snapshot, such that the leader can skip sending the files the follower has
+ * already.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the id of the chunk the follower expects next (or null if unknown)
+  protected ByteBuffer nextChunkId;
+  // the files of the follower's latest snapshot, encoded as SnapshotFiles (or null if unknown)
+  protected ByteBuffer snapshotFiles;
 
   public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+    this(status, error, preferredChunkSize, null);
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final ByteBuffer nextChunkId) {
+    this(status, error, preferredChunkSize, nextChunkId, null);
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final ByteBuffer nextChunkId,
+      final ByteBuffer snapshotFiles) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.nextChunkId = nextChunkId;
+    this.snapshotFiles = snapshotFiles;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the id of the chunk the follower expects next; may be null
+   *
+   * @return the id of the next expected chunk
+   */
+  public ByteBuffer nextChunkId() {
+    return nextChunkId;
+  }
+
+  /**
+   * Returns the files of the follower's latest snapshot with their checksums; may be null
+   *
+   * @return the encoded files of the follower's latest snapshot
+   */
+  public ByteBuffer snapshotFiles() {
+    return snapshotFiles;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add(
+            "nextChunkId",
+            nextChunkId == null ? "null" : new SnapshotChunkId(nextChunkId).toString())
+        .add("snapshotFiles", StringUtils.printShortBuffer(snapshotFiles))
         .toString();
   }
 
@@ -62,17 +113,41 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected ByteBuffer nextChunkId;
+    protected ByteBuffer snapshotFiles;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, nextChunkId, snapshotFiles);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    /**
+     * Sets the id of the chunk the follower expects next.
+     *
+     * @param nextChunkId the id of the next expected chunk
+     * @return the response builder
+     */
+    public Builder withNextChunkId(final ByteBuffer nextChunkId) {
+      this.nextChunkId = nextChunkId;
+      return this;
+    }
+
+    /**
+     * Sets the files of the follower's latest snapshot, encoded as {@code SnapshotFiles}.
+     *
+     * @param snapshotFiles the encoded files of the latest snapshot
+     * @return the response builder
+     */
+    public Builder withSnapshotFiles(final ByteBuffer snapshotFiles) {
+      this.snapshotFiles = snapshotFiles;
+      return this;
+    }
   }
 }
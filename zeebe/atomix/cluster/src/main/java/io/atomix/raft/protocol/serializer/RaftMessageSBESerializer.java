@@ -0,0 +1,872 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.cluster.RaftMember;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ConfigureRequest;
+import io.atomix.raft.protocol.ConfigureResponse;
+import io.atomix.raft.protocol.ForceConfigureRequest;
+import io.atomix.raft.protocol.ForceConfigureResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.JoinRequest;
+import io.atomix.raft.protocol.JoinResponse;
+import io.atomix.raft.protocol.LeaveRequest;
+import io.atomix.raft.protocol.LeaveResponse;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.RaftMessage;
+import io.atomix.raft.protocol.RaftResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReconfigureRequest;
+import io.atomix.raft.protocol.ReconfigureResponse;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.ReplicatableRaftRecord;
+import io.atomix.raft.protocol.TransferRequest;
+import io.atomix.raft.protocol.TransferResponse;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VoteRequest;
+import io.atomix.raft.protocol.VoteResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes the raft protocol messages with SBE, see raft-protocol-schema.xml. Only the versioned
+ * append request is supported, the legacy {@link io.atomix.raft.protocol.AppendRequest} is still
+ * serialized with Kryo.
+ *
+ * <p>The entries of an append request are written directly into the encoded message, which is
+ * allocated with its exact length. Other messages are small and are encoded into a reusable buffer
+ * first.
+ *
+ * <p>This class is not thread-safe.
+ */
+public final class RaftMessageSBESerializer {
+
+  private static final int INITIAL_BUFFER_CAPACITY = 256;
+  private static final byte[] EMPTY = new byte[0];
+
+  private final ExpandableArrayBuffer writeBuffer =
+      new ExpandableArrayBuffer(INITIAL_BUFFER_CAPACITY);
+  private final UnsafeBuffer readBuffer = new UnsafeBuffer();
+  private final UnsafeBuffer dataBuffer = new UnsafeBuffer();
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+
+  private final AppendRequestEncoder appendRequestEncoder = new AppendRequestEncoder();
+  private final AppendRequestDecoder appendRequestDecoder = new AppendRequestDecoder();
+  private final AppendResponseEncoder appendResponseEncoder = new AppendResponseEncoder();
+  private final AppendResponseDecoder appendResponseDecoder = new AppendResponseDecoder();
+  private final InstallRequestEncoder installRequestEncoder = new InstallRequestEncoder();
+  private final InstallRequestDecoder installRequestDecoder = new InstallRequestDecoder();
+  private final InstallResponseEncoder installResponseEncoder = new InstallResponseEncoder();
+  private final InstallResponseDecoder installResponseDecoder = new InstallResponseDecoder();
+  private final PollRequestEncoder pollRequestEncoder = new PollRequestEncoder();
+  private final PollRequestDecoder pollRequestDecoder = new PollRequestDecoder();
+  private final PollResponseEncoder pollResponseEncoder = new PollResponseEncoder();
+  private final PollResponseDecoder pollResponseDecoder = new PollResponseDecoder();
+  private final VoteRequestEncoder voteRequestEncoder = new VoteRequestEncoder();
+  private final VoteRequestDecoder voteRequestDecoder = new VoteRequestDecoder();
+  private final VoteResponseEncoder voteResponseEncoder = new VoteResponseEncoder();
+  private final VoteResponseDecoder voteResponseDecoder = new VoteResponseDecoder();
+  private final TransferRequestEncoder transferRequestEncoder = new TransferRequestEncoder();
+  private final TransferRequestDecoder transferRequestDecoder = new TransferRequestDecoder();
+  private final TransferResponseEncoder transferResponseEncoder = new TransferResponseEncoder();
+  private final TransferResponseDecoder transferResponseDecoder = new TransferResponseDecoder();
+  private final ConfigureRequestEncoder configureRequestEncoder = new ConfigureRequestEncoder();
+  private final ConfigureRequestDecoder configureRequestDecoder = new ConfigureRequestDecoder();
+  private final ConfigureResponseEncoder configureResponseEncoder = new ConfigureResponseEncoder();
+  private final ConfigureResponseDecoder configureResponseDecoder = new ConfigureResponseDecoder();
+  private final ReconfigureRequestEncoder reconfigureRequestEncoder =
+      new ReconfigureRequestEncoder();
+  private final ReconfigureRequestDecoder reconfigureRequestDecoder =
+      new ReconfigureRequestDecoder();
+  private final ReconfigureResponseEncoder reconfigureResponseEncoder =
+      new ReconfigureResponseEncoder();
+  private final ReconfigureResponseDecoder reconfigureResponseDecoder =
+      new ReconfigureResponseDecoder();
+  private final ForceConfigureRequestEncoder forceConfigureRequestEncoder =
+      new ForceConfigureRequestEncoder();
+  private final ForceConfigureRequestDecoder forceConfigureRequestDecoder =
+      new ForceConfigureRequestDecoder();
+  private final ForceConfigureResponseEncoder forceConfigureResponseEncoder =
+      new ForceConfigureResponseEncoder();
+  private final ForceConfigureResponseDecoder forceConfigureResponseDecoder =
+      new ForceConfigureResponseDecoder();
+  private final JoinRequestEncoder joinRequestEncoder = new JoinRequestEncoder();
+  private final JoinRequestDecoder joinRequestDecoder = new JoinRequestDecoder();
+  private final JoinResponseEncoder joinResponseEncoder = new JoinResponseEncoder();
+  private final JoinResponseDecoder joinResponseDecoder = new JoinResponseDecoder();
+  private final LeaveRequestEncoder leaveRequestEncoder = new LeaveRequestEncoder();
+  private final LeaveRequestDecoder leaveRequestDecoder = new LeaveRequestDecoder();
+  private final LeaveResponseEncoder leaveResponseEncoder = new LeaveResponseEncoder();
+  private final LeaveResponseDecoder leaveResponseDecoder = new LeaveResponseDecoder();
+
+  /**
+   * Encodes the given message.
+   *
+   * @throws IllegalArgumentException if the message is not supported
+   */
+  public byte[] encode(final RaftMessage message) {
+    return switch (message) {
+      case final VersionedAppendRequest request -> encodeAppendRequest(request);
+      case final AppendResponse response -> encodeAppendResponse(response);
+      case final InstallRequest request -> encodeInstallRequest(request);
+      case final InstallResponse response -> encodeInstallResponse(response);
+      case final PollRequest request -> encodePollRequest(request);
+      case final PollResponse response -> encodePollResponse(response);
+      case final VoteRequest request -> encodeVoteRequest(request);
+      case final VoteResponse response -> encodeVoteResponse(response);
+      case final TransferRequest request -> encodeTransferRequest(request);
+      case final TransferResponse response -> encodeTransferResponse(response);
+      case final ConfigureRequest request -> encodeConfigureRequest(request);
+      case final ConfigureResponse response -> encodeConfigureResponse(response);
+      case final ReconfigureRequest request -> encodeReconfigureRequest(request);
+      case final ReconfigureResponse response -> encodeReconfigureResponse(response);
+      case final ForceConfigureRequest request -> encodeForceConfigureRequest(request);
+      case final ForceConfigureResponse response -> encodeForceConfigureResponse(response);
+      case final JoinRequest request -> encodeJoinRequest(request);
+      case final JoinResponse response -> encodeJoinResponse(response);
+      case final LeaveRequest request -> encodeLeaveRequest(request);
+      case final LeaveResponse response -> encodeLeaveResponse(response);
+      default ->
+          throw new IllegalArgumentException(
+              "Expected a raft message which can be encoded with SBE, but got "
+                  + message.getClass().getSimpleName());
+    };
+  }
+
+  /**
+   * Decodes a message which was encoded with {@link #encode(RaftMessage)}.
+   *
+   * @throws IllegalArgumentException if the bytes are not an encoded raft message
+   */
+  public RaftMessage decode(final byte[] bytes) {
+    readBuffer.wrap(bytes);
+    headerDecoder.wrap(readBuffer, 0);
+    if (headerDecoder.schemaId() != MessageHeaderDecoder.SCHEMA_ID) {
+      throw new IllegalArgumentException(
+          "Expected a raft message with schema id %d, but got %d"
+              .formatted(MessageHeaderDecoder.SCHEMA_ID, headerDecoder.schemaId()));
+    }
+
+    return switch (headerDecoder.templateId()) {
+      case AppendRequestDecoder.TEMPLATE_ID -> decodeAppendRequest();
+      case AppendResponseDecoder.TEMPLATE_ID -> decodeAppendResponse();
+      case InstallRequestDecoder.TEMPLATE_ID -> decodeInstallRequest();
+      case InstallResponseDecoder.TEMPLATE_ID -> decodeInstallResponse();
+      case PollRequestDecoder.TEMPLATE_ID -> decodePollRequest();
+      case PollResponseDecoder.TEMPLATE_ID -> decodePollResponse();
+      case VoteRequestDecoder.TEMPLATE_ID -> decodeVoteRequest();
+      case VoteResponseDecoder.TEMPLATE_ID -> decodeVoteResponse();
+      case TransferRequestDecoder.TEMPLATE_ID -> decodeTransferRequest();
+      case TransferResponseDecoder.TEMPLATE_ID -> decodeTransferResponse();
+      case ConfigureRequestDecoder.TEMPLATE_ID -> decodeConfigureRequest();
+      case ConfigureResponseDecoder.TEMPLATE_ID -> decodeConfigureResponse();
+      case ReconfigureRequestDecoder.TEMPLATE_ID -> decodeReconfigureRequest();
+      case ReconfigureResponseDecoder.TEMPLATE_ID -> decodeReconfigureResponse();
+      case ForceConfigureRequestDecoder.TEMPLATE_ID -> decodeForceConfigureRequest();
+      case ForceConfigureResponseDecoder.TEMPLATE_ID -> decodeForceConfigureResponse();
+      case JoinRequestDecoder.TEMPLATE_ID -> decodeJoinRequest();
+      case JoinResponseDecoder.TEMPLATE_ID -> decodeJoinResponse();
+      case LeaveRequestDecoder.TEMPLATE_ID -> decodeLeaveRequest();
+      case LeaveResponseDecoder.TEMPLATE_ID -> decodeLeaveResponse();
+      default ->
+          throw new IllegalArgumentException(
+              "Expected a raft message, but got unknown template id " + headerDecoder.templateId());
+    };
+  }
+
+  private byte[] encodeAppendRequest(final VersionedAppendRequest request) {
+    final byte[] leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final List<ReplicatableJournalRecord> entries = new ArrayList<>(request.entries().size());
+    int entriesLength = 0;
+    for (final ReplicatableRaftRecord entry : request.entries()) {
+      if (!(entry instanceof final ReplicatableJournalRecord record)) {
+        throw new IllegalArgumentException(
+            "Expected entries of type ReplicatableJournalRecord, but got "
+                + entry.getClass().getSimpleName());
+      }
+      entries.add(record);
+      entriesLength += record.serializedJournalRecord().length;
+    }
+
+    // allocate the message with its exact length, so the entries are copied only once
+    final int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendRequestEncoder.BLOCK_LENGTH
+            + AppendRequestEncoder.EntriesEncoder.sbeHeaderSize()
+            + entries.size()
+                * (AppendRequestEncoder.EntriesEncoder.sbeBlockLength()
+                    + AppendRequestEncoder.EntriesEncoder.serializedJournalRecordHeaderLength())
+            + entriesLength
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+    final byte[] bytes = new byte[length];
+    final var buffer = new UnsafeBuffer(bytes);
+
+    appendRequestEncoder
+        .wrapAndApplyHeader(buffer, 0, headerEncoder)
+        .version(request.version())
+        .term(request.term())
+        .prevLogIndex(request.prevLogIndex())
+        .prevLogTerm(request.prevLogTerm())
+        .commitIndex(request.commitIndex());
+
+    final var entriesEncoder = appendRequestEncoder.entriesCount(entries.size());
+    for (final ReplicatableJournalRecord entry : entries) {
+      final byte[] serializedRecord = entry.serializedJournalRecord();
+      entriesEncoder
+          .next()
+          .term(entry.term())
+          .index(entry.index())
+          .checksum(entry.checksum())
+          .putSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+    }
+    appendRequestEncoder.putLeader(leader, 0, leader.length);
+
+    return bytes;
+  }
+
+  private VersionedAppendRequest decodeAppendRequest() {
+    appendRequestDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final int version = appendRequestDecoder.version();
+    final long term = appendRequestDecoder.term();
+    final long prevLogIndex = appendRequestDecoder.prevLogIndex();
+    final long prevLogTerm = appendRequestDecoder.prevLogTerm();
+    final long commitIndex = appendRequestDecoder.commitIndex();
+
+    final var entriesDecoder = appendRequestDecoder.entries();
+    final List<ReplicatableJournalRecord> entries = new ArrayList<>(entriesDecoder.count());
+    for (final var entry : entriesDecoder) {
+      final long entryTerm = entry.term();
+      final long index = entry.index();
+      final long checksum = entry.checksum();
+      final byte[] serializedRecord = new byte[entry.serializedJournalRecordLength()];
+      entry.getSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+      entries.add(new ReplicatableJournalRecord(entryTerm, index, checksum, serializedRecord));
+    }
+
+    final String leader = appendRequestDecoder.leader();
+    return new VersionedAppendRequest(
+        version, term, leader, prevLogIndex, prevLogTerm, entries, commitIndex);
+  }
+
+  private byte[] encodeAppendResponse(final AppendResponse response) {
+    appendResponseEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .status(getSBEStatus(response))
+        .errorType(getSBEErrorType(response.error()))
+        .term(response.term())
+        .succeeded(getSBEBoolean(response.succeeded()))
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .configurationIndex(response.configurationIndex())
+        .errorMessage(getErrorMessage(response.error()));
+    return copyEncoded(appendResponseEncoder.encodedLength());
+  }
+
+  private AppendResponse decodeAppendResponse() {
+    appendResponseDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final Status status = getStatus(appendResponseDecoder.status());
+    final ErrorType errorType = appendResponseDecoder.errorType();
+    final long term = appendResponseDecoder.term();
+    final boolean succeeded = getBoolean(appendResponseDecoder.succeeded());
+    final long lastLogIndex = appendResponseDecoder.lastLogIndex();
+    final long lastSnapshotIndex = appendResponseDecoder.lastSnapshotIndex();
+    final long configurationIndex = appendResponseDecoder.configurationIndex();
+    final RaftError error = getError(errorType, appendResponseDecoder.errorMessage());
+    return new AppendResponse(
+        status, error, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+  }
+
+  private byte[] encodeInstallRequest(final InstallRequest request) {
+    installRequestEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .currentTerm(request.currentTerm())
+        .index(request.index())
+        .term(request.term())
+        .version(request.version())
+        .initial(getSBEBoolean(request.isInitial()))
+        .complete(getSBEBoolean(request.complete()))
+        .leader(request.leader().id());
+
+    // the buffers are read without changing their positions, the request may be sent again
+    wrapData(request.chunkId());
+    installRequestEncoder.putChunkId(dataBuffer, 0, dataBuffer.capacity());
+    wrapData(request.nextChunkId());
+    installRequestEncoder.putNextChunkId(dataBuffer, 0, dataBuffer.capacity());
+    wrapData(request.data());
+    installRequestEncoder.putData(dataBuffer, 0, dataBuffer.capacity());
+    dataBuffer.wrap(EMPTY);
+
+    return copyEncoded(installRequestEncoder.encodedLength());
+  }
+
+  private InstallRequest decodeInstallRequest() {
+    installRequestDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final long currentTerm = installRequestDecoder.currentTerm();
+    final long index = installRequestDecoder.index();
+    final long term = installRequestDecoder.term();
+    final int version = installRequestDecoder.version();
+    final boolean initial = getBoolean(installRequestDecoder.initial());
+    final boolean complete = getBoolean(installRequestDecoder.complete());
+    final MemberId leader = MemberId.from(installRequestDecoder.leader());
+
+    final byte[] chunkId = new byte[installRequestDecoder.chunkIdLength()];
+    installRequestDecoder.getChunkId(chunkId, 0, chunkId.length);
+    final byte[] nextChunkId = new byte[installRequestDecoder.nextChunkIdLength()];
+    installRequestDecoder.getNextChunkId(nextChunkId, 0, nextChunkId.length);
+    final byte[] data = new byte[installRequestDecoder.dataLength()];
+    installRequestDecoder.getData(data, 0, data.length);
+
+    return new InstallRequest(
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        // the chunk ids are never empty, an empty chunk id is used to encode a missing one
+        chunkId.length == 0 ? null : ByteBuffer.wrap(chunkId),
+        nextChunkId.length == 0 ? null : ByteBuffer.wrap(nextChunkId),
+        ByteBuffer.wrap(data),
+        initial,
+        complete);
+  }
+
+  private byte[] encodeInstallResponse(final InstallResponse response) {
+    installResponseEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .status(getSBEStatus(response))
+        .errorType(getSBEErrorType(response.error()))
+        .preferredChunkSize(response.preferredChunkSize())
+        .errorMessage(getErrorMessage(response.error()));
+    wrapData(response.nextChunkId());
+    installResponseEncoder.putNextChunkId(dataBuffer, 0, dataBuffer.capacity());
+    wrapData(response.snapshotFiles());
+    installResponseEncoder.putSnapshotFiles(dataBuffer, 0, dataBuffer.capacity());
+    dataBuffer.wrap(EMPTY);
+    return copyEncoded(installResponseEncoder.encodedLength());
+  }
+
+  private InstallResponse decodeInstallResponse() {
+    installResponseDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final Status status = getStatus(installResponseDecoder.status());
+    final ErrorType errorType = installResponseDecoder.errorType();
+    final int preferredChunkSize = installResponseDecoder.preferredChunkSize();
+    final RaftError error = getError(errorType, installResponseDecoder.errorMessage());
+    final byte[] nextChunkId = new byte[installResponseDecoder.nextChunkIdLength()];
+    installResponseDecoder.getNextChunkId(nextChunkId, 0, nextChunkId.length);
+    final byte[] snapshotFiles = new byte[installResponseDecoder.snapshotFilesLength()];
+    installResponseDecoder.getSnapshotFiles(snapshotFiles, 0, snapshotFiles.length);
+    return new InstallResponse(
+        status,
+        error,
+        preferredChunkSize,
+        nextChunkId.length == 0 ? null : ByteBuffer.wrap(nextChunkId),
+        snapshotFiles.length == 0 ? null : ByteBuffer.wrap(snapshotFiles));
+  }
+
+  private byte[] encodePollRequest(final PollRequest request) {
+    pollRequestEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .term(request.term())
+        .lastLogIndex(request.lastLogIndex())
+        .lastLogTerm(request.lastLogTerm())
+        .candidate(request.candidate().id());
+    return copyEncoded(pollRequestEncoder.encodedLength());
+  }
+
+  private PollRequest decodePollRequest() {
+    pollRequestDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final long term = pollRequestDecoder.term();
+    final long lastLogIndex = pollRequestDecoder.lastLogIndex();
+    final long lastLogTerm = pollRequestDecoder.lastLogTerm();
+    final String candidate = pollRequestDecoder.candidate();
+    return new PollRequest(term, candidate, lastLogIndex, lastLogTerm);
+  }
+
+  private byte[] encodePollResponse(final PollResponse response) {
+    pollResponseEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .status(getSBEStatus(response))
+        .errorType(getSBEErrorType(response.error()))
+        .term(response.term())
+        .accepted(getSBEBoolean(response.accepted()))
+        .errorMessage(getErrorMessage(response.error()));
+    return copyEncoded(pollResponseEncoder.encodedLength());
+  }
+
+  private PollResponse decodePollResponse() {
+    pollResponseDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final Status status = getStatus(pollResponseDecoder.status());
+    final ErrorType errorType = pollResponseDecoder.errorType();
+    final long term = pollResponseDecoder.term();
+    final boolean accepted = getBoolean(pollResponseDecoder.accepted());
+    final RaftError error = getError(errorType, pollResponseDecoder.errorMessage());
+    return new PollResponse(status, error, term, accepted);
+  }
+
+  private byte[] encodeVoteRequest(final VoteRequest request) {
+    voteRequestEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .term(request.term())
+        .lastLogIndex(request.lastLogIndex())
+        .lastLogTerm(request.lastLogTerm())
+        .candidate(request.candidate().id());
+    return copyEncoded(voteRequestEncoder.encodedLength());
+  }
+
+  private VoteRequest decodeVoteRequest() {
+    voteRequestDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final long term = voteRequestDecoder.term();
+    final long lastLogIndex = voteRequestDecoder.lastLogIndex();
+    final long lastLogTerm = voteRequestDecoder.lastLogTerm();
+    final String candidate = voteRequestDecoder.candidate();
+    return new VoteRequest(term, candidate, lastLogIndex, lastLogTerm);
+  }
+
+  private byte[] encodeVoteResponse(final VoteResponse response) {
+    voteResponseEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .status(getSBEStatus(response))
+        .errorType(getSBEErrorType(response.error()))
+        .term(response.term())
+        .voted(getSBEBoolean(response.voted()))
+        .errorMessage(getErrorMessage(response.error()));
+    return copyEncoded(voteResponseEncoder.encodedLength());
+  }
+
+  private VoteResponse decodeVoteResponse() {
+    voteResponseDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final Status status = getStatus(voteResponseDecoder.status());
+    final ErrorType errorType = voteResponseDecoder.errorType();
+    final long term = voteResponseDecoder.term();
+    final boolean voted = getBoolean(voteResponseDecoder.voted());
+    final RaftError error = getError(errorType, voteResponseDecoder.errorMessage());
+    return new VoteResponse(status, error, term, voted);
+  }
+
+  private byte[] encodeTransferRequest(final TransferRequest request) {
+    transferRequestEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .member(request.member().id());
+    return copyEncoded(transferRequestEncoder.encodedLength());
+  }
+
+  private TransferRequest decodeTransferRequest() {
+    transferRequestDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    return TransferRequest.builder()
+        .withMember(MemberId.from(transferRequestDecoder.member()))
+        .build();
+  }
+
+  private byte[] encodeTransferResponse(final TransferResponse response) {
+    transferResponseEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .status(getSBEStatus(response))
+        .errorType(getSBEErrorType(response.error()))
+        .errorMessage(getErrorMessage(response.error()));
+    return copyEncoded(transferResponseEncoder.encodedLength());
+  }
+
+  private TransferResponse decodeTransferResponse() {
+    transferResponseDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final Status status = getStatus(transferResponseDecoder.status());
+    final ErrorType errorType = transferResponseDecoder.errorType();
+    final RaftError error = getError(errorType, transferResponseDecoder.errorMessage());
+    return new TransferResponse(status, error);
+  }
+
+  private byte[] encodeConfigureRequest(final ConfigureRequest request) {
+    configureRequestEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .term(request.term())
+        .index(request.index())
+        .timestamp(request.timestamp());
+
+    final var newMembersEncoder =
+        configureRequestEncoder.newMembersCount(request.newMembers().size());
+    for (final RaftMember member : request.newMembers()) {
+      newMembersEncoder
+          .next()
+          .type(getSBEType(member.getType()))
+          .updated(member.getLastUpdated().toEpochMilli())
+          .memberId(member.memberId().id());
+    }
+
+    final var oldMembersEncoder =
+        configureRequestEncoder.oldMembersCount(request.oldMembers().size());
+    for (final RaftMember member : request.oldMembers()) {
+      oldMembersEncoder
+          .next()
+          .type(getSBEType(member.getType()))
+          .updated(member.getLastUpdated().toEpochMilli())
+          .memberId(member.memberId().id());
+    }
+
+    configureRequestEncoder.leader(request.leader().id());
+    return copyEncoded(configureRequestEncoder.encodedLength());
+  }
+
+  private ConfigureRequest decodeConfigureRequest() {
+    configureRequestDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final long term = configureRequestDecoder.term();
+    final long index = configureRequestDecoder.index();
+    final long timestamp = configureRequestDecoder.timestamp();
+
+    final var newMembersDecoder = configureRequestDecoder.newMembers();
+    final List<RaftMember> newMembers = new ArrayList<>(newMembersDecoder.count());
+    for (final var member : newMembersDecoder) {
+      newMembers.add(getMember(member.type(), member.updated(), member.memberId()));
+    }
+
+    final var oldMembersDecoder = configureRequestDecoder.oldMembers();
+    final List<RaftMember> oldMembers = new ArrayList<>(oldMembersDecoder.count());
+    for (final var member : oldMembersDecoder) {
+      oldMembers.add(getMember(member.type(), member.updated(), member.memberId()));
+    }
+
+    final String leader = configureRequestDecoder.leader();
+    return new ConfigureRequest(term, leader, index, timestamp, newMembers, oldMembers);
+  }
+
+  private byte[] encodeConfigureResponse(final ConfigureResponse response) {
+    configureResponseEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .status(getSBEStatus(response))
+        .errorType(getSBEErrorType(response.error()))
+        .errorMessage(getErrorMessage(response.error()));
+    return copyEncoded(configureResponseEncoder.encodedLength());
+  }
+
+  private ConfigureResponse decodeConfigureResponse() {
+    configureResponseDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final Status status = getStatus(configureResponseDecoder.status());
+    final ErrorType errorType = configureResponseDecoder.errorType();
+    final RaftError error = getError(errorType, configureResponseDecoder.errorMessage());
+    return new ConfigureResponse(status, error);
+  }
+
+  private byte[] encodeReconfigureRequest(final ReconfigureRequest request) {
+    reconfigureRequestEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .index(request.index())
+        .term(request.term());
+
+    final var membersEncoder = reconfigureRequestEncoder.membersCount(request.members().size());
+    for (final RaftMember member : request.members()) {
+      membersEncoder
+          .next()
+          .type(getSBEType(member.getType()))
+          .updated(member.getLastUpdated().toEpochMilli())
+          .memberId(member.memberId().id());
+    }
+
+    reconfigureRequestEncoder.from(request.from().id());
+    return copyEncoded(reconfigureRequestEncoder.encodedLength());
+  }
+
+  private ReconfigureRequest decodeReconfigureRequest() {
+    reconfigureRequestDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final long index = reconfigureRequestDecoder.index();
+    final long term = reconfigureRequestDecoder.term();
+
+    final var membersDecoder = reconfigureRequestDecoder.members();
+    final List<RaftMember> members = new ArrayList<>(membersDecoder.count());
+    for (final var member : membersDecoder) {
+      members.add(getMember(member.type(), member.updated(), member.memberId()));
+    }
+
+    final String from = reconfigureRequestDecoder.from();
+    return new ReconfigureRequest(members, index, term, from);
+  }
+
+  private byte[] encodeReconfigureResponse(final ReconfigureResponse response) {
+    reconfigureResponseEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .status(getSBEStatus(response))
+        .errorType(getSBEErrorType(response.error()))
+        .index(response.index())
+        .term(response.term())
+        .timestamp(response.timestamp());
+
+    final Collection<RaftMember> members =
+        response.members() == null ? List.of() : response.members();
+    final var membersEncoder = reconfigureResponseEncoder.membersCount(members.size());
+    for (final RaftMember member : members) {
+      membersEncoder
+          .next()
+          .type(getSBEType(member.getType()))
+          .updated(member.getLastUpdated().toEpochMilli())
+          .memberId(member.memberId().id());
+    }
+
+    reconfigureResponseEncoder.errorMessage(getErrorMessage(response.error()));
+    return copyEncoded(reconfigureResponseEncoder.encodedLength());
+  }
+
+  private ReconfigureResponse decodeReconfigureResponse() {
+    reconfigureResponseDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final Status status = getStatus(reconfigureResponseDecoder.status());
+    final ErrorType errorType = reconfigureResponseDecoder.errorType();
+    final long index = reconfigureResponseDecoder.index();
+    final long term = reconfigureResponseDecoder.term();
+    final long timestamp = reconfigureResponseDecoder.timestamp();
+
+    final var membersDecoder = reconfigureResponseDecoder.members();
+    final List<RaftMember> members = new ArrayList<>(membersDecoder.count());
+    for (final var member : membersDecoder) {
+      members.add(getMember(member.type(), member.updated(), member.memberId()));
+    }
+
+    final RaftError error = getError(errorType, reconfigureResponseDecoder.errorMessage());
+    return new ReconfigureResponse(status, error, index, term, timestamp, members);
+  }
+
+  private byte[] encodeForceConfigureRequest(final ForceConfigureRequest request) {
+    forceConfigureRequestEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .term(request.term())
+        .index(request.index())
+        .timestamp(request.timestamp());
+
+    final var newMembersEncoder =
+        forceConfigureRequestEncoder.newMembersCount(request.newMembers().size());
+    for (final RaftMember member : request.newMembers()) {
+      newMembersEncoder
+          .next()
+          .type(getSBEType(member.getType()))
+          .updated(member.getLastUpdated().toEpochMilli())
+          .memberId(member.memberId().id());
+    }
+
+    forceConfigureRequestEncoder.from(request.from().id());
+    return copyEncoded(forceConfigureRequestEncoder.encodedLength());
+  }
+
+  private ForceConfigureRequest decodeForceConfigureRequest() {
+    forceConfigureRequestDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final long term = forceConfigureRequestDecoder.term();
+    final long index = forceConfigureRequestDecoder.index();
+    final long timestamp = forceConfigureRequestDecoder.timestamp();
+
+    final var newMembersDecoder = forceConfigureRequestDecoder.newMembers();
+    final Set<RaftMember> newMembers = new HashSet<>(newMembersDecoder.count());
+    for (final var member : newMembersDecoder) {
+      newMembers.add(getMember(member.type(), member.updated(), member.memberId()));
+    }
+
+    final String from = forceConfigureRequestDecoder.from();
+    return new ForceConfigureRequest(term, index, timestamp, newMembers, from);
+  }
+
+  private byte[] encodeForceConfigureResponse(final ForceConfigureResponse response) {
+    forceConfigureResponseEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .status(getSBEStatus(response))
+        .errorType(getSBEErrorType(response.error()))
+        .index(response.index())
+        .term(response.term())
+        .errorMessage(getErrorMessage(response.error()));
+    return copyEncoded(forceConfigureResponseEncoder.encodedLength());
+  }
+
+  private ForceConfigureResponse decodeForceConfigureResponse() {
+    forceConfigureResponseDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final Status status = getStatus(forceConfigureResponseDecoder.status());
+    final ErrorType errorType = forceConfigureResponseDecoder.errorType();
+    final long index = forceConfigureResponseDecoder.index();
+    final long term = forceConfigureResponseDecoder.term();
+    final RaftError error = getError(errorType, forceConfigureResponseDecoder.errorMessage());
+    return new ForceConfigureResponse(status, error, index, term);
+  }
+
+  private byte[] encodeJoinRequest(final JoinRequest request) {
+    final RaftMember member = request.joiningMember();
+    joinRequestEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .type(getSBEType(member.getType()))
+        .updated(member.getLastUpdated().toEpochMilli())
+        .memberId(member.memberId().id());
+    return copyEncoded(joinRequestEncoder.encodedLength());
+  }
+
+  private JoinRequest decodeJoinRequest() {
+    joinRequestDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final RaftMember member =
+        getMember(
+            joinRequestDecoder.type(), joinRequestDecoder.updated(), joinRequestDecoder.memberId());
+    return JoinRequest.builder().withJoiningMember(member).build();
+  }
+
+  private byte[] encodeJoinResponse(final JoinResponse response) {
+    joinResponseEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .status(getSBEStatus(response))
+        .errorType(getSBEErrorType(response.error()))
+        .errorMessage(getErrorMessage(response.error()));
+    return copyEncoded(joinResponseEncoder.encodedLength());
+  }
+
+  private JoinResponse decodeJoinResponse() {
+    joinResponseDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final Status status = getStatus(joinResponseDecoder.status());
+    final ErrorType errorType = joinResponseDecoder.errorType();
+    final RaftError error = getError(errorType, joinResponseDecoder.errorMessage());
+
+    final var builder = JoinResponse.builder().withStatus(status);
+    if (error != null) {
+      builder.withError(error);
+    }
+    return builder.build();
+  }
+
+  private byte[] encodeLeaveRequest(final LeaveRequest request) {
+    final RaftMember member = request.leavingMember();
+    leaveRequestEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .type(getSBEType(member.getType()))
+        .updated(member.getLastUpdated().toEpochMilli())
+        .memberId(member.memberId().id());
+    return copyEncoded(leaveRequestEncoder.encodedLength());
+  }
+
+  private LeaveRequest decodeLeaveRequest() {
+    leaveRequestDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final RaftMember member =
+        getMember(
+            leaveRequestDecoder.type(),
+            leaveRequestDecoder.updated(),
+            leaveRequestDecoder.memberId());
+    return new LeaveRequest(member);
+  }
+
+  private byte[] encodeLeaveResponse(final LeaveResponse response) {
+    leaveResponseEncoder
+        .wrapAndApplyHeader(writeBuffer, 0, headerEncoder)
+        .status(getSBEStatus(response))
+        .errorType(getSBEErrorType(response.error()))
+        .errorMessage(getErrorMessage(response.error()));
+    return copyEncoded(leaveResponseEncoder.encodedLength());
+  }
+
+  private LeaveResponse decodeLeaveResponse() {
+    leaveResponseDecoder.wrapAndApplyHeader(readBuffer, 0, headerDecoder);
+    final Status status = getStatus(leaveResponseDecoder.status());
+    final ErrorType errorType = leaveResponseDecoder.errorType();
+    final RaftError error = getError(errorType, leaveResponseDecoder.errorMessage());
+
+    final var builder = LeaveResponse.builder().withStatus(status);
+    if (error != null) {
+      builder.withError(error);
+    }
+    return builder.build();
+  }
+
+  private byte[] copyEncoded(final int messageLength) {
+    return Arrays.copyOf(
+        writeBuffer.byteArray(), MessageHeaderEncoder.ENCODED_LENGTH + messageLength);
+  }
+
+  private void wrapData(final ByteBuffer data) {
+    if (data == null) {
+      dataBuffer.wrap(EMPTY);
+    } else {
+      dataBuffer.wrap(data, data.position(), data.remaining());
+    }
+  }
+
+  private static RaftMember getMember(
+      final MemberType type, final long updated, final String memberId) {
+    return new DefaultRaftMember(
+        MemberId.from(memberId), getRaftMemberType(type), Instant.ofEpochMilli(updated));
+  }
+
+  private static MemberType getSBEType(final RaftMember.Type type) {
+    return switch (type) {
+      case INACTIVE -> MemberType.INACTIVE;
+      case PASSIVE -> MemberType.PASSIVE;
+      case PROMOTABLE -> MemberType.PROMOTABLE;
+      case ACTIVE -> MemberType.ACTIVE;
+    };
+  }
+
+  private static RaftMember.Type getRaftMemberType(final MemberType type) {
+    return switch (type) {
+      case INACTIVE -> RaftMember.Type.INACTIVE;
+      case PASSIVE -> RaftMember.Type.PASSIVE;
+      case PROMOTABLE -> RaftMember.Type.PROMOTABLE;
+      case ACTIVE -> RaftMember.Type.ACTIVE;
+      default -> throw new IllegalStateException("Unexpected member type " + type);
+    };
+  }
+
+  private static ResponseStatus getSBEStatus(final RaftResponse response) {
+    return response.status() == Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR;
+  }
+
+  private static Status getStatus(final ResponseStatus status) {
+    return switch (status) {
+      case OK -> Status.OK;
+      case ERROR -> Status.ERROR;
+      default -> throw new IllegalStateException("Unexpected response status " + status);
+    };
+  }
+
+  private static ErrorType getSBEErrorType(final RaftError error) {
+    return error == null ? ErrorType.NULL_VAL : ErrorType.valueOf(error.type().name());
+  }
+
+  private static String getErrorMessage(final RaftError error) {
+    return error == null || error.message() == null ? "" : error.message();
+  }
+
+  private static RaftError getError(final ErrorType errorType, final String message) {
+    if (errorType == ErrorType.NULL_VAL) {
+      return null;
+    }
+
+    // an error type which is added in a newer version is not known yet
+    final RaftError.Type type =
+        errorType == ErrorType.SBE_UNKNOWN
+            ? RaftError.Type.PROTOCOL_ERROR
+            : RaftError.Type.valueOf(errorType.name());
+    return new RaftError(type, message.isEmpty() ? null : message);
+  }
+
+  private static BooleanType getSBEBoolean(final boolean value) {
+    return value ? BooleanType.TRUE : BooleanType.FALSE;
+  }
+
+  private static boolean getBoolean(final BooleanType value) {
+    return value == BooleanType.TRUE;
+  }
+}
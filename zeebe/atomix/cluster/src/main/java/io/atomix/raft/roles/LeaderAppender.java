@@ -39,10 +39,12 @@ import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
+import io.atomix.raft.snapshot.impl.SnapshotFilesImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -204,6 +206,7 @@ final class LeaderAppender {
 
     // Start the append to the member.
     member.startAppend();
+    observeInFlightAppends(member);
 
     final long timestamp = System.currentTimeMillis();
 
@@ -217,6 +220,7 @@ final class LeaderAppender {
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
                 member.completeAppend();
+                observeInFlightAppends(member);
 
                 if (error == null) {
                   LOGGER.trace("Received {} from {}", response, member.getMember().memberId());
@@ -259,8 +263,11 @@ final class LeaderAppender {
 
   /** Updates the match index when a response is received. */
   private void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // With multiple requests in flight, responses can arrive out of order. An older response must
+    // not move the match index back, as the entries acknowledged by a newer one are still there.
+    if (response.lastLogIndex() > member.getMatchIndex()) {
+      member.setMatchIndex(response.lastLogIndex());
+    }
     observeRemainingMemberEntries(member);
   }
 
@@ -273,6 +280,32 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * Rewinds the member to the entry after the last acknowledged one, when a request with entries
+   * failed. The requests which were sent after the failed one are likely to be rejected by the
+   * follower, so instead of waiting for their rejections or the next heartbeat we resend the
+   * entries right away. The follower ignores entries it already has.
+   */
+  private void resetToMatchIndex(
+      final RaftMemberContext member, final VersionedAppendRequest request) {
+    if (request.entries().isEmpty() || !member.hasReplicationContext()) {
+      return;
+    }
+
+    // only send one request at a time until the member acknowledges again
+    member.appendFailed();
+
+    final long matchIndex = member.getMatchIndex();
+    if (matchIndex > 0 && member.getCurrentIndex() > matchIndex) {
+      resetNextIndex(member, matchIndex + 1);
+    }
+  }
+
+  private void observeInFlightAppends(final RaftMemberContext member) {
+    metrics.observeInFlightAppends(
+        member.getMember().memberId().id(), member.getInFlightAppendCount());
+  }
+
   private void observeRemainingMemberEntries(final RaftMemberContext member) {
     metrics.observeRemainingEntries(
         member.getMember().memberId().id(), raft.getLog().getLastIndex() - member.getMatchIndex());
@@ -376,8 +409,18 @@ final class LeaderAppender {
   private Optional<InstallRequest> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
+      if (member.hasInFlightInstalls()) {
+        // wait until the chunks of the previous snapshot are completed, before sending a new one
+        return Optional.empty();
+      }
+
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        if (raft.isIncrementalSnapshotReplication() && persistedSnapshot.getChecksums() != null) {
+          // assume the member has all files already; the first chunk it cannot reuse makes it
+          // reply with the files it actually has
+          snapshotChunkReader.setReusableFiles(persistedSnapshot.getChecksums().getChecksums());
+        }
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         LOGGER.warn(
@@ -392,16 +435,20 @@ final class LeaderAppender {
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
+    final boolean continueAfterSentChunk = member.hasInFlightInstalls();
 
     try {
       // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
       // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
-        // member.getNextSnapshotChunk is null when it is the first chunk.
-        reader.reset();
+      // always. Only with chunks in flight, the reader is already positioned after the last sent
+      // chunk, which is the one the member expects next.
+      if (!continueAfterSentChunk) {
+        if (member.getNextSnapshotChunk() != null) {
+          reader.seek(member.getNextSnapshotChunk());
+        } else {
+          // member.getNextSnapshotChunk is null when it is the first chunk.
+          reader.reset();
+        }
       }
 
       if (!reader.hasNext()) {
@@ -421,9 +468,10 @@ final class LeaderAppender {
               .withIndex(persistedSnapshot.getIndex())
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
-              .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+              .withData(
+                  new SnapshotChunkImpl(chunk, raft.getSnapshotChunkCompression()).toByteBuffer())
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(!continueAfterSentChunk && member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
@@ -482,6 +530,9 @@ final class LeaderAppender {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
     }
+    // the chunks sent after this one are rejected by the member, so resend from the last
+    // acknowledged chunk once they are completed
+    member.failInstall();
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -499,6 +550,7 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    updateReusableSnapshotFiles(member, request, response);
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -508,7 +560,7 @@ final class LeaderAppender {
       resetNextIndex(member, request.index() + 1);
     }
     // If more install requests remain, increment the member's snapshot offset.
-    else {
+    else if (member.getNextSnapshotIndex() == request.index()) {
       member.setNextSnapshotChunkId(request.nextChunkId());
     }
 
@@ -517,11 +569,26 @@ final class LeaderAppender {
   }
 
   /** Handles an ERROR install response. */
-  @SuppressWarnings("unused")
   private void handleInstallResponseError(
       final RaftMemberContext member,
       final InstallRequest request,
       final InstallResponse response) {
+    member.failInstall();
+    updateReusableSnapshotFiles(member, request, response);
+
+    // The member still has the chunks before the one it expects next, so resume from there. A new
+    // leader which sends the same snapshot ends up here as well, so it's not worth a warning.
+    if (response.nextChunkId() != null && member.getNextSnapshotIndex() == request.index()) {
+      LOGGER.debug(
+          "Failed to send {} to member {}, with {}. Resume sending snapshot from {}.",
+          request,
+          member.getMember().memberId(),
+          response.error(),
+          new SnapshotChunkId(response.nextChunkId()));
+      member.setNextSnapshotChunkId(response.nextChunkId());
+      return;
+    }
+
     LOGGER.warn(
         "Failed to send {} to member {}, with {}. Restart sending snapshot.",
         request,
@@ -532,6 +599,21 @@ final class LeaderAppender {
     member.setNextSnapshotChunkId(null);
   }
 
+  /** Skips sending the files of the snapshot, which the member has as part of its latest one. */
+  private void updateReusableSnapshotFiles(
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
+    if (response.snapshotFiles() == null
+        || !raft.isIncrementalSnapshotReplication()
+        || member.getNextSnapshotIndex() != request.index()) {
+      return;
+    }
+
+    final var snapshotFiles = SnapshotFilesImpl.of(response.snapshotFiles());
+    member.getSnapshotChunkReader().setReusableFiles(snapshotFiles.getFileChecksums());
+  }
+
   /**
    * Registers a commit handler for the given commit index.
    *
@@ -627,6 +709,7 @@ final class LeaderAppender {
   private void handleAppendResponseFailure(
       final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
     failHeartbeat();
+    resetToMatchIndex(member, request);
 
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
@@ -810,6 +893,8 @@ final class LeaderAppender {
       raft.setLeader(null);
       raft.transition(RaftServer.Role.FOLLOWER);
     } else {
+      resetToMatchIndex(member, request);
+
       // If any other error occurred, increment the failure count for the member. Log the first
       // three
       // failures,
@@ -907,8 +992,15 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // Keep sending chunks until the member has the maximum in flight. This is safe, because the
+    // member applies them in the order in which they are sent.
+    while (member.canInstall()) {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        break;
+      }
+      sendInstallRequest(member, installRequest.get());
+    }
   }
 
   private void replicateEvents(final RaftMemberContext member) {
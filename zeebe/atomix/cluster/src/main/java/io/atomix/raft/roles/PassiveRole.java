@@ -43,6 +43,7 @@ import io.atomix.raft.protocol.ReplicatableRaftRecord;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
+import io.atomix.raft.snapshot.impl.SnapshotFilesImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.atomix.raft.storage.system.Configuration;
@@ -51,8 +52,10 @@ import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotException.FileNotReusableException;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import io.camunda.zeebe.util.CheckedRunnable;
@@ -61,6 +64,7 @@ import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -75,6 +79,8 @@ public class PassiveRole extends InactiveRole {
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
+  // whether the leader was asked to resume the pending snapshot, instead of restarting it
+  private boolean pendingSnapshotResumeRequested;
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -128,8 +134,7 @@ public class PassiveRole extends InactiveRole {
     updateTermAndLeader(request.currentTerm(), request.leader());
 
     final var snapshotChunk = new SnapshotChunkImpl();
-    final var snapshotChunkBuffer = new UnsafeBuffer(request.data());
-    if (!snapshotChunk.tryWrap(snapshotChunkBuffer)) {
+    if (!tryWrapSnapshotChunk(snapshotChunk, request)) {
       abortPendingSnapshots();
       return CompletableFuture.completedFuture(
           logResponse(
@@ -214,6 +219,27 @@ public class PassiveRole extends InactiveRole {
     try {
       pendingSnapshot.apply(snapshotChunk).join();
     } catch (final Exception e) {
+      if (snapshotChunk.isFileReference() && isCausedBy(e, FileNotReusableException.class)) {
+        // The leader assumed that we have the file already, which is how it asks for the files of
+        // our latest snapshot. Keep the chunks received so far, and let the leader send the file
+        // from here on, knowing which files we have.
+        log.debug(
+            "Cannot reuse file {} for snapshot {}, asking {} to send it",
+            snapshotChunk.getChunkName(),
+            pendingSnapshot,
+            request.leader(),
+            e);
+        setNextExpected(request.chunkId());
+        return CompletableFuture.completedFuture(
+            logResponse(
+                InstallResponse.builder()
+                    .withStatus(Status.ERROR)
+                    .withError(Type.ILLEGAL_MEMBER_STATE, "Cannot reuse snapshot file")
+                    .withNextChunkId(request.chunkId())
+                    .withSnapshotFiles(getLatestSnapshotFiles())
+                    .build()));
+      }
+
       log.warn(
           "Failed to write pending snapshot chunk {}, rolling back snapshot {}",
           snapshotChunk,
@@ -230,6 +256,12 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
+    if (snapshotChunk.isFileReference()) {
+      snapshotReplicationMetrics.countReusedBytes(snapshotChunk.getTotalFileSize());
+    } else {
+      snapshotReplicationMetrics.countReceivedBytes(snapshotChunk.getContent().length);
+    }
+
     // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
     // snapshot offset.
     if (request.complete()) {
@@ -259,6 +291,7 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      pendingSnapshotResumeRequested = false;
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
       raft.updateCurrentSnapshot();
@@ -266,14 +299,18 @@ public class PassiveRole extends InactiveRole {
     } else {
       setNextExpected(request.nextChunkId());
       previouslyReceivedSnapshotChunkId = request.chunkId();
+      pendingSnapshotResumeRequested = false;
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(
-            InstallResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withPreferredChunkSize(snapshotChunkSize)
-                .build()));
+    // a leader which refers to files of our latest snapshot is interested in all of them
+    final var response =
+        InstallResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withPreferredChunkSize(snapshotChunkSize);
+    if (request.isInitial() && snapshotChunk.isFileReference()) {
+      response.withSnapshotFiles(getLatestSnapshotFiles());
+    }
+    return CompletableFuture.completedFuture(logResponse(response.build()));
   }
 
   @Override
@@ -449,6 +486,23 @@ public class PassiveRole extends InactiveRole {
               + "] got ["
               + new SnapshotChunkId(request.chunkId())
               + "].";
+
+      // The chunks received so far belong to the same snapshot, so instead of starting over, ask
+      // the leader to resume from the next expected chunk. This happens when a chunk was lost
+      // while others were in flight, or when a new leader starts sending the same snapshot.
+      // Leaders which don't know how to resume send the first chunk again, in which case the
+      // pending snapshot is rolled back as before.
+      if (pendingSnapshot != null && !(request.isInitial() && pendingSnapshotResumeRequested)) {
+        pendingSnapshotResumeRequested |= request.isInitial();
+        return Either.left(
+            logResponse(
+                InstallResponse.builder()
+                    .withStatus(Status.ERROR)
+                    .withError(Type.ILLEGAL_MEMBER_STATE, errMsg)
+                    .withNextChunkId(nextPendingSnapshotChunkId)
+                    .build()));
+      }
+
       abortPendingSnapshots();
       return Either.left(
           logResponse(
@@ -543,14 +597,46 @@ public class PassiveRole extends InactiveRole {
     raft.notifySnapshotReplicationCompleted();
   }
 
+  private ByteBuffer getLatestSnapshotFiles() {
+    final var fileChecksums =
+        raft.getPersistedSnapshotStore()
+            .getLatestSnapshot()
+            .map(PersistedSnapshot::getChecksums)
+            .<Map<String, Long>>map(ImmutableChecksumsSFV::getChecksums)
+            .orElse(Map.of());
+    return new SnapshotFilesImpl(fileChecksums).toByteBuffer();
+  }
+
+  private static boolean isCausedBy(
+      final Throwable error, final Class<? extends Throwable> causeType) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (causeType.isInstance(cause)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private void setNextExpected(final ByteBuffer nextChunkId) {
     nextPendingSnapshotChunkId = nextChunkId;
   }
 
+  private boolean tryWrapSnapshotChunk(
+      final SnapshotChunkImpl snapshotChunk, final InstallRequest request) {
+    try {
+      return snapshotChunk.tryWrap(new UnsafeBuffer(request.data()));
+    } catch (final IllegalStateException e) {
+      // e.g. the chunk content could not be decompressed
+      log.warn("Failed to read snapshot chunk {}", new SnapshotChunkId(request.chunkId()), e);
+      return false;
+    }
+  }
+
   private void abortPendingSnapshots() {
     if (pendingSnapshot != null) {
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      pendingSnapshotResumeRequested = false;
       log.info("Rolling back snapshot {}", pendingSnapshot);
       try {
         pendingSnapshot.abort();
@@ -0,0 +1,33 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.snapshot;
+
+/**
+ * The compression applied to the content of snapshot chunks sent to followers. Chunks are always
+ * readable, regardless of the configured compression, as each compressed chunk carries the
+ * algorithm it was compressed with. Followers on versions which don't know about compression cannot
+ * read compressed chunks though.
+ */
+public enum SnapshotChunkCompression {
+  /** Chunks are sent uncompressed. */
+  NONE,
+
+  /**
+   * Chunks are compressed with Zstandard, unless they are too small to benefit from it, or the
+   * compressed content would not be smaller than the original.
+   */
+  ZSTD
+}
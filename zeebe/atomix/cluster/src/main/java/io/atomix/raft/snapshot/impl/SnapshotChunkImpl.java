@@ -16,7 +16,9 @@
  */
 package io.atomix.raft.snapshot.impl;
 
+import com.github.luben.zstd.Zstd;
 import io.atomix.raft.snapshot.SbeBufferWriterReader;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import org.agrona.DirectBuffer;
@@ -27,6 +29,11 @@ public final class SnapshotChunkImpl
     extends SbeBufferWriterReader<SnapshotChunkEncoder, SnapshotChunkDecoder>
     implements SnapshotChunk {
 
+  // smaller chunks don't benefit from compression, e.g. the snapshot metadata
+  static final int MIN_COMPRESSIBLE_LENGTH = 256;
+  // favor speed over ratio, as compression happens while the snapshot is replicated
+  private static final int ZSTD_LEVEL = 1;
+
   private final SnapshotChunkEncoder encoder = new SnapshotChunkEncoder();
   private final SnapshotChunkDecoder decoder = new SnapshotChunkDecoder();
   private final DirectBuffer content = new UnsafeBuffer(0, 0);
@@ -36,17 +43,37 @@ public final class SnapshotChunkImpl
   private long checksum;
   private long fileBlockPosition;
   private long totalFileSize;
+  private CompressionAlgorithm compression = CompressionAlgorithm.NULL_VAL;
+  private int uncompressedLength = SnapshotChunkDecoder.uncompressedLengthNullValue();
+  private boolean fileReference;
 
   public SnapshotChunkImpl() {}
 
   public SnapshotChunkImpl(final SnapshotChunk chunk) {
+    this(chunk, SnapshotChunkCompression.NONE);
+  }
+
+  /**
+   * Creates a chunk to be sent to a follower, with its content compressed if requested. The
+   * checksum of the chunk is always the one of the uncompressed content, so it still verifies the
+   * content after it was decompressed by the receiver.
+   */
+  public SnapshotChunkImpl(final SnapshotChunk chunk, final SnapshotChunkCompression compression) {
     snapshotId = chunk.getSnapshotId();
     totalCount = chunk.getTotalCount();
     chunkName = chunk.getChunkName();
     checksum = chunk.getChecksum();
-    content.wrap(chunk.getContent());
     fileBlockPosition = chunk.getFileBlockPosition();
     totalFileSize = chunk.getTotalFileSize();
+    fileReference = chunk.isFileReference();
+
+    final byte[] chunkContent = chunk.getContent();
+    if (compression == SnapshotChunkCompression.ZSTD
+        && chunkContent.length >= MIN_COMPRESSIBLE_LENGTH) {
+      compress(chunkContent);
+    } else {
+      content.wrap(chunkContent);
+    }
   }
 
   @Override
@@ -67,6 +94,9 @@ public final class SnapshotChunkImpl
     checksum = SnapshotChunkDecoder.checksumNullValue();
     fileBlockPosition = SnapshotChunkDecoder.fileBlockPositionNullValue();
     totalFileSize = SnapshotChunkDecoder.totalFileSizeNullValue();
+    compression = CompressionAlgorithm.NULL_VAL;
+    uncompressedLength = SnapshotChunkDecoder.uncompressedLengthNullValue();
+    fileReference = false;
 
     snapshotId = "";
     chunkName = "";
@@ -94,6 +124,9 @@ public final class SnapshotChunkImpl
         .totalCount(totalCount)
         .fileBlockPosition(fileBlockPosition)
         .totalFileSize(totalFileSize)
+        .compression(compression)
+        .uncompressedLength(uncompressedLength)
+        .fileReference(fileReference ? BooleanType.TRUE : BooleanType.FALSE)
         .snapshotId(snapshotId)
         .chunkName(chunkName)
         .checksum(checksum)
@@ -111,10 +144,62 @@ public final class SnapshotChunkImpl
     snapshotId = decoder.snapshotId();
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
+    // chunks of older senders are never references, for which the field decodes as NULL_VAL
+    fileReference = decoder.fileReference() == BooleanType.TRUE;
 
     if (decoder.contentLength() > 0) {
       decoder.wrapContent(content);
     }
+
+    // chunks are handed out decompressed, such that receivers don't need to care about it
+    final CompressionAlgorithm algorithm = decoder.compression();
+    if (algorithm == CompressionAlgorithm.ZSTD) {
+      decompress(decoder.uncompressedLength());
+    } else if (algorithm != CompressionAlgorithm.NULL_VAL) {
+      throw new IllegalStateException(
+          "Cannot read snapshot chunk %s of snapshot %s. Unknown compression algorithm %s."
+              .formatted(chunkName, snapshotId, algorithm));
+    }
+  }
+
+  private void compress(final byte[] chunkContent) {
+    final byte[] compressed = new byte[(int) Zstd.compressBound(chunkContent.length)];
+    final long result =
+        Zstd.compressByteArray(
+            compressed, 0, compressed.length, chunkContent, 0, chunkContent.length, ZSTD_LEVEL);
+    if (Zstd.isError(result)) {
+      throw new IllegalStateException(
+          "Failed to compress snapshot chunk %s of snapshot %s: %s"
+              .formatted(chunkName, snapshotId, Zstd.getErrorName(result)));
+    }
+
+    if (result >= chunkContent.length) {
+      // the content doesn't compress, e.g. because the files are compressed already
+      content.wrap(chunkContent);
+      return;
+    }
+
+    content.wrap(compressed, 0, (int) result);
+    compression = CompressionAlgorithm.ZSTD;
+    uncompressedLength = chunkContent.length;
+  }
+
+  private void decompress(final int length) {
+    final byte[] compressed = BufferUtil.bufferAsArray(content);
+    final byte[] decompressed = new byte[length];
+    final long result =
+        Zstd.decompressByteArray(decompressed, 0, length, compressed, 0, compressed.length);
+    if (Zstd.isError(result) || result != length) {
+      throw new IllegalStateException(
+          "Failed to decompress snapshot chunk %s of snapshot %s, expected %d bytes but got %s"
+              .formatted(
+                  chunkName,
+                  snapshotId,
+                  length,
+                  Zstd.isError(result) ? Zstd.getErrorName(result) : result));
+    }
+
+    content.wrap(decompressed);
   }
 
   @Override
@@ -162,6 +247,11 @@ public final class SnapshotChunkImpl
     return totalFileSize;
   }
 
+  @Override
+  public boolean isFileReference() {
+    return fileReference;
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -178,6 +268,10 @@ public final class SnapshotChunkImpl
         + fileBlockPosition
         + ", totalFileSize="
         + totalFileSize
+        + ", compression="
+        + compression
+        + ", fileReference="
+        + fileReference
         + "} "
         + super.toString();
   }
@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2020  camunda services GmbH (info@camunda.com)
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package io.atomix.raft.snapshot.impl;
+
+import io.atomix.raft.snapshot.SbeBufferWriterReader;
+import io.atomix.raft.snapshot.impl.SnapshotFilesEncoder.FilesEncoder;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * The files of a snapshot with their checksums. A follower sends them to the leader, such that the
+ * leader can skip sending the files which the follower has already.
+ */
+public final class SnapshotFilesImpl
+    extends SbeBufferWriterReader<SnapshotFilesEncoder, SnapshotFilesDecoder> {
+
+  private final SnapshotFilesEncoder encoder = new SnapshotFilesEncoder();
+  private final SnapshotFilesDecoder decoder = new SnapshotFilesDecoder();
+  private final Map<String, Long> fileChecksums = new HashMap<>();
+
+  public SnapshotFilesImpl() {}
+
+  public SnapshotFilesImpl(final Map<String, Long> fileChecksums) {
+    this.fileChecksums.putAll(fileChecksums);
+  }
+
+  /**
+   * Decodes the files of a snapshot, as sent with {@link
+   * io.atomix.raft.protocol.InstallResponse#snapshotFiles()}.
+   */
+  public static SnapshotFilesImpl of(final ByteBuffer buffer) {
+    final var files = new SnapshotFilesImpl();
+    files.wrap(new UnsafeBuffer(buffer), 0, buffer.remaining());
+    return files;
+  }
+
+  @Override
+  protected SnapshotFilesEncoder getBodyEncoder() {
+    return encoder;
+  }
+
+  @Override
+  protected SnapshotFilesDecoder getBodyDecoder() {
+    return decoder;
+  }
+
+  @Override
+  public void reset() {
+    super.reset();
+    fileChecksums.clear();
+  }
+
+  @Override
+  public int getLength() {
+    int length = super.getLength() + FilesEncoder.sbeHeaderSize();
+    for (final var fileName : fileChecksums.keySet()) {
+      length +=
+          FilesEncoder.sbeBlockLength()
+              + FilesEncoder.fileNameHeaderLength()
+              + BufferUtil.wrapString(fileName).capacity();
+    }
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    super.write(buffer, offset);
+
+    final var filesEncoder = encoder.filesCount(fileChecksums.size());
+    fileChecksums.forEach(
+        (fileName, checksum) -> {
+          final var fileNameBuffer = BufferUtil.wrapString(fileName);
+          filesEncoder
+              .next()
+              .checksum(checksum)
+              .putFileName(fileNameBuffer, 0, fileNameBuffer.capacity());
+        });
+  }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    super.wrap(buffer, offset, length);
+
+    for (final var file : decoder.files()) {
+      final long checksum = file.checksum();
+      fileChecksums.put(file.fileName(), checksum);
+    }
+  }
+
+  public Map<String, Long> getFileChecksums() {
+    return fileChecksums;
+  }
+
+  @Override
+  public String toString() {
+    return "SnapshotFilesImpl{" + "fileChecksums=" + fileChecksums + "} " + super.toString();
+  }
+}
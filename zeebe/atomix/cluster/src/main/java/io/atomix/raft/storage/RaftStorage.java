@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.raft.storage.system.MetaStore;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.concurrent.ThreadContextFactory;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import io.camunda.zeebe.util.FileUtil;
@@ -65,6 +66,8 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final RecordCompression recordCompression;
+  private final boolean adviseSequentialReads;
   private final MeterRegistry meterRegistry;
   private final RaftLogFlusher.Factory flusherFactory;
 
@@ -78,6 +81,8 @@ public final class RaftStorage {
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
       final boolean preallocateSegmentFiles,
+      final RecordCompression recordCompression,
+      final boolean adviseSequentialReads,
       final MeterRegistry meterRegistry) {
     this.prefix = prefix;
     this.partitionId = partitionId;
@@ -88,6 +93,8 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.recordCompression = recordCompression;
+    this.adviseSequentialReads = adviseSequentialReads;
     this.meterRegistry = meterRegistry;
 
     try {
@@ -197,6 +204,8 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withRecordCompression(recordCompression)
+        .withAdviseSequentialReads(adviseSequentialReads)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -253,6 +262,8 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final RecordCompression DEFAULT_RECORD_COMPRESSION = RecordCompression.NONE;
+    private static final boolean DEFAULT_ADVISE_SEQUENTIAL_READS = false;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -265,6 +276,8 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private RecordCompression recordCompression = DEFAULT_RECORD_COMPRESSION;
+    private boolean adviseSequentialReads = DEFAULT_ADVISE_SEQUENTIAL_READS;
     private int partitionId = DEFAULT_PARTITION_ID;
     private final MeterRegistry meterRegistry;
 
@@ -372,6 +385,30 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the compression applied to the data of newly appended records. Compressed records are
+     * replicated as they are, so followers benefit from it as well.
+     *
+     * @param recordCompression the compression of new records
+     * @return this builder for chaining
+     */
+    public Builder withRecordCompression(final RecordCompression recordCompression) {
+      this.recordCompression = checkNotNull(recordCompression, "recordCompression cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets whether readers hint the OS to read sealed segments ahead when scanning them
+     * sequentially, e.g. on replay, when exporting, or when a follower catches up.
+     *
+     * @param adviseSequentialReads true to advise sequential reads of sealed segments
+     * @return this builder for chaining
+     */
+    public Builder withAdviseSequentialReads(final boolean adviseSequentialReads) {
+      this.adviseSequentialReads = adviseSequentialReads;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -400,6 +437,8 @@ public final class RaftStorage {
           persistedSnapshotStore,
           journalIndexDensity,
           preallocateSegmentFiles,
+          recordCompression,
+          adviseSequentialReads,
           meterRegistry);
     }
   }
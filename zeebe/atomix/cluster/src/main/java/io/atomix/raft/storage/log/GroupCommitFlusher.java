@@ -0,0 +1,191 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.GroupCommitFlusherMetrics;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Aligns the flushes of several journals, e.g. of all partitions of a broker, into group commits.
+ * Each partition gets its own {@link RaftLogFlusher} via {@link #createFlusher(MeterRegistry)}.
+ *
+ * <p>When a flush is requested, the partition waits up to the configured window for flush requests
+ * of other partitions to join its group. The window is cut short as soon as every registered
+ * flusher has a pending request, since nothing else can join the group then. Once the group is
+ * released, every partition fsyncs its own journal on its own thread, so the fsyncs of a group are
+ * issued concurrently. File systems which share a journal across files, like ext4 or XFS, can then
+ * commit them together, instead of one after the other as when partitions flush at random times. A
+ * slow fsync of one partition never delays the fsyncs of the others.
+ *
+ * <p>This trades a bounded amount of latency for fewer device flushes on the shared volume, and is
+ * only worth it when many partitions flush concurrently.
+ *
+ * <p>The guarantees are the same as with the {@link RaftLogFlusher.DirectFlusher}: a call to {@link
+ * RaftLogFlusher#flush(Journal)} blocks until the given journal was flushed, and fails if that
+ * flush failed. Acknowledging data after flushing is thus as safe as with a direct flush.
+ *
+ * <p>No thread is involved in forming the groups, so there is nothing to start or stop when
+ * flushers are created or closed.
+ */
+public final class GroupCommitFlusher {
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+
+  private final Duration window;
+  private int registeredFlushers;
+  // the group which flush requests currently join, or null if no request is pending
+  private Group openGroup;
+
+  public GroupCommitFlusher(final Duration window) {
+    this.window = Objects.requireNonNull(window, "must specify a group commit window");
+    if (window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException(
+          "Expected group commit window to be positive, but was '%s'".formatted(window));
+    }
+  }
+
+  /**
+   * Creates a new flusher which takes part in the group commits. The returned flusher must be
+   * closed when it is not needed anymore.
+   *
+   * @param meterRegistry the registry of the partition using the flusher
+   * @return a new flusher joining the group commits of all other flushers of this instance
+   */
+  public synchronized RaftLogFlusher createFlusher(final MeterRegistry meterRegistry) {
+    registeredFlushers++;
+    return new PartitionFlusher(new GroupCommitFlusherMetrics(meterRegistry));
+  }
+
+  private synchronized void release() {
+    registeredFlushers--;
+    // the closed flusher may have been the last one the open group was waiting for
+    if (openGroup != null && openGroup.size >= registeredFlushers) {
+      releaseOpenGroup();
+    }
+  }
+
+  private synchronized Group join() {
+    if (openGroup == null) {
+      openGroup = new Group(System.nanoTime() + window.toNanos());
+    }
+
+    final var group = openGroup;
+    group.size++;
+    if (group.size >= registeredFlushers) {
+      releaseOpenGroup();
+    }
+
+    return group;
+  }
+
+  private synchronized void releaseAfterWindow(final Group group) {
+    if (openGroup == group) {
+      releaseOpenGroup();
+    }
+  }
+
+  private void releaseOpenGroup() {
+    final var group = openGroup;
+    openGroup = null;
+    group.released.complete(group.size);
+  }
+
+  /**
+   * Waits until the given group is released, either because it is complete, or because its window
+   * elapsed.
+   *
+   * @return the final size of the group
+   */
+  private int awaitRelease(final Group group) throws FlushException {
+    try {
+      final long remaining = group.deadline - System.nanoTime();
+      return group.released.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+    } catch (final TimeoutException e) {
+      releaseAfterWindow(group);
+      return group.released.join();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new FlushException(
+          new InterruptedIOException("Interrupted while waiting for the group commit"));
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Group commits are never completed exceptionally", e);
+    }
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "GroupCommitFlusher{"
+        + "window="
+        + window
+        + ", registeredFlushers="
+        + registeredFlushers
+        + '}';
+  }
+
+  private static final class Group {
+    private final long deadline;
+    private final CompletableFuture<Integer> released = new CompletableFuture<>();
+    private int size;
+
+    private Group(final long deadline) {
+      this.deadline = deadline;
+    }
+  }
+
+  private final class PartitionFlusher implements RaftLogFlusher {
+    private final GroupCommitFlusherMetrics metrics;
+    private volatile boolean closed;
+
+    private PartitionFlusher(final GroupCommitFlusherMetrics metrics) {
+      this.metrics = metrics;
+    }
+
+    @Override
+    public void flush(final Journal journal) throws FlushException {
+      if (closed) {
+        LOGGER.debug("Flushing journal directly, as the group commit flusher is closed");
+        journal.flush();
+        return;
+      }
+
+      final var sample = metrics.startFlush();
+      final int groupSize = awaitRelease(join());
+      journal.flush();
+      metrics.countFsync();
+      metrics.observeFlushed(sample, groupSize);
+    }
+
+    @Override
+    public boolean isDirect() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        release();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "PartitionFlusher{" + "groupCommitFlusher=" + GroupCommitFlusher.this + '}';
+    }
+  }
+}
@@ -21,6 +21,7 @@ import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
 
@@ -129,6 +130,30 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets the compression applied to the data of newly appended records. Compressed records are
+   * replicated as they are, so followers benefit from it as well.
+   *
+   * @param recordCompression the compression of new records
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withRecordCompression(final RecordCompression recordCompression) {
+    journalBuilder.withRecordCompression(recordCompression);
+    return this;
+  }
+
+  /**
+   * Sets whether readers hint the OS to read sealed segments ahead when scanning them sequentially,
+   * e.g. on replay, when exporting, or when a follower catches up.
+   *
+   * @param adviseSequentialReads true to advise sequential reads of sealed segments
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withAdviseSequentialReads(final boolean adviseSequentialReads) {
+    journalBuilder.withAdviseSequentialReads(adviseSequentialReads);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
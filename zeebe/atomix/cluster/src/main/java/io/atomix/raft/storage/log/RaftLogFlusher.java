@@ -28,6 +28,11 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} keeps the guarantees of {@link DirectFlusher}, but aligns the
+ * flushes of several partitions into group commits which are issued concurrently. It can reduce the
+ * number of device flushes when many partitions share the same disk, at the cost of some additional
+ * commit latency.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
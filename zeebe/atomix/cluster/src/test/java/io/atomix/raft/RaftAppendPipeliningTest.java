@@ -0,0 +1,219 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.TestAppendListener;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replicates entries over a network with a fixed latency, with one entry per append request, to
+ * show how the number of in-flight append requests per follower affects the commit throughput.
+ */
+@RunWith(Parameterized.class)
+public class RaftAppendPipeliningTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RaftAppendPipeliningTest.class);
+  private static final Duration LATENCY = Duration.ofMillis(20);
+  private static final int ENTRY_COUNT = 50;
+
+  @Parameter public int maxAppendsPerFollower;
+
+  // delays every request by the same latency, while keeping the order in which they were sent,
+  // like a TCP connection between two members; a single thread hands them to the receiver
+  private final ExecutorService deliveryExecutor = Executors.newSingleThreadExecutor();
+  private final Executor delivery =
+      CompletableFuture.delayedExecutor(
+          LATENCY.toMillis(), TimeUnit.MILLISECONDS, deliveryExecutor);
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new RaftRule.Configurator() {
+            @Override
+            public void configure(final MemberId id, final RaftServer.Builder builder) {
+              final var config =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              // only one entry per request, so that the window is not hidden by batching
+              config.setMaxAppendBatchSize(1);
+              config.setMaxAppendsPerFollower(maxAppendsPerFollower);
+              builder.withPartitionConfig(config);
+            }
+          });
+
+  @After
+  public void tearDown() {
+    deliveryExecutor.shutdownNow();
+  }
+
+  @Parameters(name = "maxAppendsPerFollower={0}")
+  public static Object[] maxAppendsPerFollower() {
+    return new Object[] {1, 2, 4, 8};
+  }
+
+  @Test
+  public void shouldPipelineAppendRequests() throws Exception {
+    // given
+    final var leaderProtocol = getLeaderProtocol();
+    leaderProtocol.interceptRequest(
+        VersionedAppendRequest.class,
+        request -> {
+          return CompletableFuture.runAsync(() -> {}, delivery);
+        });
+
+    // when
+    final var startNanos = System.nanoTime();
+    final var lastIndex = appendEntriesAsync(ENTRY_COUNT);
+    final var elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+
+    // then
+    LOGGER.info(
+        "Committed {} entries with {} in-flight appends per follower and {} latency in {} ms"
+            + " ({} entries/s)",
+        ENTRY_COUNT,
+        maxAppendsPerFollower,
+        LATENCY,
+        elapsed.toMillis(),
+        ENTRY_COUNT * 1000L / Math.max(1, elapsed.toMillis()));
+
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+    // the window is respected: at most maxAppendsPerFollower entries are sent per latency period
+    assertThat(elapsed)
+        .isGreaterThanOrEqualTo(LATENCY.multipliedBy(ENTRY_COUNT / maxAppendsPerFollower - 1));
+    if (maxAppendsPerFollower > 1) {
+      // sending one request at a time takes at least the latency per entry
+      assertThat(elapsed).isLessThan(LATENCY.multipliedBy(ENTRY_COUNT));
+    }
+  }
+
+  @Test
+  public void shouldResendEntriesAfterFailedAppend() throws Exception {
+    // given - the first request with entries is lost, while the following ones are in flight
+    final var leaderProtocol = getLeaderProtocol();
+    final var failed = new AtomicBoolean();
+    leaderProtocol.interceptRequest(
+        VersionedAppendRequest.class,
+        request ->
+            !request.entries().isEmpty() && failed.compareAndSet(false, true)
+                ? CompletableFuture.failedFuture(new ConnectException("expected"))
+                : CompletableFuture.completedFuture(null));
+
+    // when
+    final var lastIndex = appendEntriesAsync(ENTRY_COUNT);
+
+    // then
+    assertThat(failed).isTrue();
+    raftRule.awaitSameLogSizeOnAllNodes(lastIndex);
+  }
+
+  @Test
+  public void shouldNotDecreaseMatchIndexOnOutOfOrderResponse() throws Exception {
+    // with a single in-flight request, there is nothing to overtake the delayed response
+    assumeTrue(maxAppendsPerFollower > 1);
+
+    // given - the response to the first appended entry arrives after the following ones, and all
+    // responses afterwards are lost, such that only the delayed one can change the match index
+    final var leader = raftRule.getLeader().orElseThrow();
+    final var firstIndex = leader.getContext().getLog().getLastIndex() + 1;
+    final var delayed = new AtomicBoolean();
+    final var dropResponses = new AtomicBoolean();
+    final var release = new CompletableFuture<Void>();
+    final var delivered = new CountDownLatch(1);
+    getLeaderProtocol()
+        .interceptResponse(
+            AppendResponse.class,
+            response -> {
+              if (dropResponses.get()) {
+                return CompletableFuture.failedFuture(new TimeoutException("expected"));
+              }
+              if (response.lastLogIndex() != firstIndex || !delayed.compareAndSet(false, true)) {
+                return CompletableFuture.completedFuture(response);
+              }
+              return release.thenApply(
+                  ignored -> {
+                    delivered.countDown();
+                    return response;
+                  });
+            });
+
+    // when - the delayed response is only delivered once all entries are replicated
+    final var lastIndex = appendEntriesAsync(ENTRY_COUNT);
+    Awaitility.await("until all entries are replicated to all followers")
+        .untilAsserted(() -> assertMatchIndexOfAllFollowers(leader, lastIndex));
+    dropResponses.set(true);
+    release.complete(null);
+    assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // then
+    Awaitility.await("until the delayed response is handled by the leader")
+        .during(Duration.ofMillis(300))
+        .atMost(Duration.ofSeconds(1))
+        .untilAsserted(() -> assertMatchIndexOfAllFollowers(leader, lastIndex));
+  }
+
+  private void assertMatchIndexOfAllFollowers(final RaftServer leader, final long index) {
+    assertThat(leader.getContext().getCluster().getReplicationTargets())
+        .allSatisfy(member -> assertThat(member.getMatchIndex()).isEqualTo(index));
+  }
+
+  private TestRaftServerProtocol getLeaderProtocol() {
+    return (TestRaftServerProtocol) raftRule.getLeader().orElseThrow().getContext().getProtocol();
+  }
+
+  private long appendEntriesAsync(final int count) throws Exception {
+    final List<TestAppendListener> listeners = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      listeners.add(raftRule.appendEntryAsync());
+    }
+
+    long lastIndex = 0;
+    for (final var listener : listeners) {
+      lastIndex = Math.max(lastIndex, listener.awaitCommit(Duration.ofSeconds(30)));
+    }
+    return lastIndex;
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
+import io.camunda.zeebe.snapshots.PersistedSnapshot;
+import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Replicates snapshots to a follower which has an older snapshot already, and verifies that the
+ * leader only sends the files which the follower doesn't have.
+ */
+public class RaftIncrementalSnapshotReplicationTest {
+
+  private static final int NUMBER_OF_CHUNKS = 10;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new RaftRule.Configurator() {
+            @Override
+            public void configure(final MemberId id, final RaftServer.Builder builder) {
+              final var config =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              config.setMaxInFlightSnapshotChunks(4);
+              config.setIncrementalSnapshotReplication(true);
+              builder.withPartitionConfig(config);
+            }
+          });
+
+  private final List<InstallRequest> sentRequests = new CopyOnWriteArrayList<>();
+  private RaftServer leader;
+  private RaftServer follower;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    follower = raftRule.getFollower().orElseThrow();
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+
+    final var leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        request -> {
+          sentRequests.add(request);
+          return CompletableFuture.completedFuture(null);
+        });
+  }
+
+  @Test
+  public void shouldSendAllFilesToFollowerWithoutSnapshot() throws Exception {
+    // when
+    replicateSnapshot(NUMBER_OF_CHUNKS);
+
+    // then - the follower can't reuse the file the leader asked for, and receives all of them
+    assertThat(sentChunksWithContent())
+        .extracting(SnapshotChunk::getChunkName)
+        .hasSize(NUMBER_OF_CHUNKS)
+        .doesNotHaveDuplicates();
+    assertSameSnapshotOnFollower();
+  }
+
+  @Test
+  public void shouldOnlySendFilesWhichFollowerDoesNotHave() throws Exception {
+    // given - the follower has the files of the first snapshot
+    replicateSnapshot(NUMBER_OF_CHUNKS);
+    sentRequests.clear();
+
+    // when - the next snapshot has the same files, and two new ones
+    replicateSnapshot(NUMBER_OF_CHUNKS + 2);
+
+    // then
+    assertThat(sentChunksWithContent())
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactlyInAnyOrder("chunk-10", "chunk-11");
+    assertSameSnapshotOnFollower();
+  }
+
+  private void replicateSnapshot(final int size) throws Exception {
+    raftRule.partition(follower);
+    final var commitIndex = raftRule.appendEntries(2);
+    raftRule.takeSnapshot(leader, commitIndex, size);
+    raftRule.appendEntry();
+
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(
+            snapshot -> {
+              if (snapshot.getIndex() == commitIndex) {
+                snapshotReceived.countDown();
+              }
+            });
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private List<SnapshotChunkImpl> sentChunksWithContent() {
+    return sentRequests.stream()
+        .map(
+            request -> {
+              final var chunk = new SnapshotChunkImpl();
+              chunk.wrap(new UnsafeBuffer(request.data()));
+              return chunk;
+            })
+        .filter(chunk -> !chunk.isFileReference())
+        .toList();
+  }
+
+  private void assertSameSnapshotOnFollower() {
+    final var leaderSnapshot =
+        raftRule.getPersistedSnapshotStore(leader.name()).getLatestSnapshot().orElseThrow();
+    final var followerSnapshot =
+        raftRule.getPersistedSnapshotStore(follower.name()).getLatestSnapshot().orElseThrow();
+
+    assertThat(followerSnapshot).isEqualTo(leaderSnapshot);
+    assertThat(readContent(followerSnapshot)).isEqualTo(readContent(leaderSnapshot));
+  }
+
+  private static Map<String, String> readContent(final PersistedSnapshot snapshot) {
+    final Map<String, String> content = new HashMap<>();
+    try (final var reader = snapshot.newChunkReader()) {
+      while (reader.hasNext()) {
+        final var chunk = reader.next();
+        content.put(chunk.getChunkName(), new String(chunk.getContent()));
+      }
+    }
+    return content;
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Replicates snapshots with several chunks in flight per follower, and verifies that the follower
+ * keeps the chunks it received when a chunk gets lost, instead of receiving the snapshot again.
+ */
+public class RaftSnapshotChunkPipeliningTest {
+
+  private static final int MAX_IN_FLIGHT_CHUNKS = 4;
+  private static final int NUMBER_OF_CHUNKS = 20;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new RaftRule.Configurator() {
+            @Override
+            public void configure(final MemberId id, final RaftServer.Builder builder) {
+              final var config =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              config.setMaxInFlightSnapshotChunks(MAX_IN_FLIGHT_CHUNKS);
+              config.setSnapshotChunkCompression(SnapshotChunkCompression.ZSTD);
+              builder.withPartitionConfig(config);
+            }
+          });
+
+  // delivers delayed requests one after another, in the order in which they were sent
+  private final ExecutorService deliveryExecutor = Executors.newSingleThreadExecutor();
+  private final Executor delayedDelivery =
+      CompletableFuture.delayedExecutor(20, TimeUnit.MILLISECONDS, deliveryExecutor);
+  private final List<InstallRequest> sentRequests = new CopyOnWriteArrayList<>();
+  private final SnapshotReplicationListener replicationListener =
+      mock(SnapshotReplicationListener.class);
+  private RaftServer leader;
+  private RaftServer follower;
+  private TestRaftServerProtocol leaderProtocol;
+
+  @Before
+  public void setup() throws Exception {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    follower = raftRule.getFollower().orElseThrow();
+    follower.getContext().addSnapshotReplicationListener(replicationListener);
+
+    raftRule.partition(follower);
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2);
+    raftRule.takeSnapshot(leader, commitIndex, NUMBER_OF_CHUNKS);
+    raftRule.appendEntry();
+  }
+
+  @After
+  public void tearDown() {
+    deliveryExecutor.shutdownNow();
+  }
+
+  @Test
+  public void shouldSendChunksWithoutWaitingForAcknowledgement() throws Exception {
+    // given - every chunk takes a while to be delivered
+    final var inFlight = new AtomicInteger();
+    final var maxInFlight = new AtomicInteger();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        request -> {
+          sentRequests.add(request);
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          return CompletableFuture.runAsync(() -> {}, delayedDelivery);
+        });
+    leaderProtocol.interceptResponse(
+        InstallResponse.class,
+        response -> {
+          inFlight.decrementAndGet();
+          return CompletableFuture.completedFuture(response);
+        });
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(MAX_IN_FLIGHT_CHUNKS);
+    assertThat(sentRequests)
+        .describedAs("Should send every chunk once")
+        .hasSize(NUMBER_OF_CHUNKS)
+        .extracting(InstallRequest::chunkId)
+        .doesNotHaveDuplicates();
+    assertThat(raftRule.getPersistedSnapshotStore(follower.name()).getLatestSnapshot())
+        .isEqualTo(raftRule.getPersistedSnapshotStore(leader.name()).getLatestSnapshot());
+  }
+
+  @Test
+  public void shouldResumeFromLostChunk() throws Exception {
+    // given - the third chunk times out, while the following ones are in flight
+    failThirdRequestWith(new TimeoutException("expected"));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(sentRequests)
+        .describedAs("Should not send the snapshot from the first chunk again")
+        .filteredOn(InstallRequest::isInitial)
+        .hasSize(1);
+    verify(replicationListener, timeout(1_000).times(1)).onSnapshotReplicationStarted();
+  }
+
+  @Test
+  public void shouldResumePendingSnapshotWhenLeaderSendsFirstChunkAgain() throws Exception {
+    // given - the connection fails on the third chunk, after which the leader starts over with the
+    // first chunk, like a new leader would do
+    failThirdRequestWith(new ConnectException("expected"));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(sentRequests).filteredOn(InstallRequest::isInitial).hasSize(2);
+    verify(replicationListener, timeout(1_000).times(1)).onSnapshotReplicationStarted();
+  }
+
+  private void failThirdRequestWith(final Exception error) {
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        request -> {
+          sentRequests.add(request);
+          return sentRequests.size() == 3
+              ? CompletableFuture.failedFuture(error)
+              : CompletableFuture.completedFuture(null);
+        });
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.VoteRequest;
+import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.utils.serializer.Serializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RaftServerCommunicatorTest {
+
+  private static final String PREFIX = "raft-partition-1";
+  private static final MemberId MEMBER = MemberId.from("1");
+
+  private final ClusterCommunicationService clusterCommunicator =
+      mock(ClusterCommunicationService.class);
+  private RaftServerCommunicator communicator;
+
+  @BeforeEach
+  void setup() {
+    communicator =
+        new RaftServerCommunicator(
+            PREFIX,
+            Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+            clusterCommunicator,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            new SimpleMeterRegistry());
+  }
+
+  @Test
+  void shouldSendWithSbe() {
+    // given
+    final var response = new PollResponse(Status.OK, null, 1, true);
+    when(clusterCommunicator.send(eq(PREFIX + "-poll-sbe"), any(), any(), any(), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    // when
+    final var result = communicator.poll(MEMBER, new PollRequest(1, "0", 0, 0));
+
+    // then
+    assertThat(result).isCompletedWithValue(response);
+    verify(clusterCommunicator, never())
+        .send(eq(PREFIX + "-poll"), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldFallBackToKryoIfMemberHasNoSbeHandler() {
+    // given
+    final var response = new VoteResponse(Status.OK, null, 1, true);
+    when(clusterCommunicator.send(eq(PREFIX + "-vote-sbe"), any(), any(), any(), eq(MEMBER), any()))
+        .thenReturn(noRemoteHandler(PREFIX + "-vote-sbe"));
+    when(clusterCommunicator.send(eq(PREFIX + "-vote"), any(), any(), any(), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    // when
+    final var first = communicator.vote(MEMBER, new VoteRequest(1, "0", 0, 0));
+    final var second = communicator.vote(MEMBER, new VoteRequest(1, "0", 0, 0));
+
+    // then - the member is only asked once with SBE
+    assertThat(first).isCompletedWithValue(response);
+    assertThat(second).isCompletedWithValue(response);
+    verify(clusterCommunicator)
+        .send(eq(PREFIX + "-vote-sbe"), any(), any(), any(), eq(MEMBER), any());
+  }
+
+  @Test
+  void shouldFailIfMemberHasNoHandlerForBothEncodings() {
+    // given
+    when(clusterCommunicator.send(eq(PREFIX + "-vote-sbe"), any(), any(), any(), eq(MEMBER), any()))
+        .thenReturn(noRemoteHandler(PREFIX + "-vote-sbe"));
+    when(clusterCommunicator.send(eq(PREFIX + "-vote"), any(), any(), any(), eq(MEMBER), any()))
+        .thenReturn(noRemoteHandler(PREFIX + "-vote"));
+
+    // when
+    final var first = communicator.vote(MEMBER, new VoteRequest(1, "0", 0, 0));
+    communicator.vote(MEMBER, new VoteRequest(1, "0", 0, 0));
+
+    // then - the member is not remembered as Kryo-only, it may not have started yet
+    assertThat(first)
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(Exception.class)
+        .havingRootCause()
+        .isInstanceOf(NoRemoteHandler.class);
+    verify(clusterCommunicator, times(2))
+        .send(eq(PREFIX + "-vote-sbe"), any(), any(), any(), eq(MEMBER), any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldReplyToBothEncodings() {
+    // given
+    final Function<PollRequest, CompletableFuture<PollResponse>> handler =
+        request -> CompletableFuture.completedFuture(new PollResponse(Status.OK, null, 1, true));
+
+    // when
+    communicator.registerPollHandler(handler);
+
+    // then
+    verify(clusterCommunicator)
+        .replyTo(eq(PREFIX + "-poll"), any(Function.class), any(), any(Function.class));
+    verify(clusterCommunicator)
+        .replyTo(eq(PREFIX + "-poll-sbe"), any(Function.class), any(), any(Function.class));
+  }
+
+  private static <T> CompletableFuture<T> noRemoteHandler(final String subject) {
+    return CompletableFuture.failedFuture(new NoRemoteHandler(subject));
+  }
+}
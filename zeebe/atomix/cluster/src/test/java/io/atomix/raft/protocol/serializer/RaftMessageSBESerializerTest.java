@@ -0,0 +1,221 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.cluster.RaftMember;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.cluster.impl.DefaultRaftMember;
+import io.atomix.raft.protocol.AppendRequest;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.ConfigureRequest;
+import io.atomix.raft.protocol.ConfigureResponse;
+import io.atomix.raft.protocol.ForceConfigureRequest;
+import io.atomix.raft.protocol.ForceConfigureResponse;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.JoinRequest;
+import io.atomix.raft.protocol.JoinResponse;
+import io.atomix.raft.protocol.LeaveRequest;
+import io.atomix.raft.protocol.LeaveResponse;
+import io.atomix.raft.protocol.PollRequest;
+import io.atomix.raft.protocol.PollResponse;
+import io.atomix.raft.protocol.RaftMessage;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReconfigureRequest;
+import io.atomix.raft.protocol.ReconfigureResponse;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.TransferRequest;
+import io.atomix.raft.protocol.TransferResponse;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.VoteRequest;
+import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.snapshot.impl.SnapshotFilesImpl;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class RaftMessageSBESerializerTest {
+
+  private static final RaftMember ACTIVE_MEMBER =
+      new DefaultRaftMember(MemberId.from("1"), Type.ACTIVE, Instant.ofEpochMilli(123));
+  private static final RaftMember PASSIVE_MEMBER =
+      new DefaultRaftMember(MemberId.from("2"), Type.PASSIVE, Instant.ofEpochMilli(456));
+  private static final RaftMember PROMOTABLE_MEMBER =
+      new DefaultRaftMember(MemberId.from("3"), Type.PROMOTABLE, Instant.ofEpochMilli(789));
+  private static final RaftError ERROR =
+      new RaftError(RaftError.Type.ILLEGAL_MEMBER_STATE, "Not a leader");
+
+  private final RaftMessageSBESerializer serializer = new RaftMessageSBESerializer();
+
+  @ParameterizedTest
+  @MethodSource("messages")
+  void shouldEncodeAndDecodeMessage(final RaftMessage message) {
+    // when
+    final var decoded = serializer.decode(serializer.encode(message));
+
+    // then
+    assertThat(decoded)
+        .usingRecursiveComparison()
+        .withEqualsForType(ByteBuffer::equals, ByteBuffer.class)
+        .isEqualTo(message);
+  }
+
+  @Test
+  void shouldEncodeAppendRequestWithManyEntries() {
+    // given - more entries than fit into the default group size encoding
+    final var entries =
+        IntStream.range(0, 1_000)
+            .mapToObj(i -> new ReplicatableJournalRecord(3, i + 1, i, new byte[] {(byte) i}))
+            .toList();
+    final var request = new VersionedAppendRequest(2, 3, "0", 0, 0, entries, 500);
+
+    // when
+    final var decoded = serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldNotChangeInstallRequestBuffers() {
+    // given
+    final var chunkId = ByteBuffer.wrap("chunk".getBytes());
+    final var data = ByteBuffer.wrap("skipped-data".getBytes()).position(8);
+    final var request =
+        new InstallRequest(1, MemberId.from("0"), 2, 1, 1, chunkId, null, data, true, false);
+
+    // when
+    final var decoded = (InstallRequest) serializer.decode(serializer.encode(request));
+
+    // then
+    assertThat(decoded.data()).isEqualTo(ByteBuffer.wrap("data".getBytes()));
+    assertThat(decoded.nextChunkId()).isNull();
+    assertThat(chunkId.position()).isZero();
+    assertThat(data.position()).isEqualTo(8);
+  }
+
+  @ParameterizedTest
+  @EnumSource(RaftError.Type.class)
+  void shouldEncodeAndDecodeErrorType(final RaftError.Type type) {
+    // given
+    final var response = new ConfigureResponse(Status.ERROR, new RaftError(type, null));
+
+    // when
+    final var decoded = (ConfigureResponse) serializer.decode(serializer.encode(response));
+
+    // then
+    assertThat(decoded.error().type()).isEqualTo(type);
+    assertThat(decoded.error().message()).isNull();
+  }
+
+  @Test
+  void shouldRejectLegacyAppendRequest() {
+    // given
+    final var request = new AppendRequest(1, "0", 0, 0, List.of(), 0);
+
+    // when - then
+    assertThatThrownBy(() -> serializer.encode(request))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectMessageOfOtherSchema() {
+    // given
+    final byte[] bytes = new byte[MessageHeaderEncoder.ENCODED_LENGTH];
+
+    // when - then
+    assertThatThrownBy(() -> serializer.decode(bytes)).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static Stream<RaftMessage> messages() {
+    return Stream.of(
+        new VersionedAppendRequest(
+            2,
+            5,
+            "0",
+            10,
+            4,
+            List.of(
+                new ReplicatableJournalRecord(5, 11, 123, "first".getBytes()),
+                new ReplicatableJournalRecord(5, 12, 456, "second".getBytes())),
+            9),
+        new VersionedAppendRequest(2, 5, "0", 10, 4, List.of(), 9),
+        new AppendResponse(Status.OK, null, 5, true, 12, 3, 1),
+        new AppendResponse(Status.ERROR, ERROR, 5, false, 12, 3, 1),
+        new InstallRequest(
+            5,
+            MemberId.from("0"),
+            100,
+            4,
+            1,
+            ByteBuffer.wrap("chunk-1".getBytes()),
+            ByteBuffer.wrap("chunk-2".getBytes()),
+            ByteBuffer.wrap("data".getBytes()),
+            true,
+            false),
+        new InstallRequest(
+            5,
+            MemberId.from("0"),
+            100,
+            4,
+            1,
+            ByteBuffer.wrap("chunk-2".getBytes()),
+            null,
+            ByteBuffer.wrap(new byte[0]),
+            false,
+            true),
+        new InstallResponse(Status.OK, null, 1024),
+        new InstallResponse(Status.ERROR, ERROR, 0),
+        new InstallResponse(Status.ERROR, ERROR, 0, ByteBuffer.wrap("chunk-2".getBytes())),
+        new InstallResponse(
+            Status.OK,
+            null,
+            1024,
+            null,
+            new SnapshotFilesImpl(Map.of("file-1", 123L)).toByteBuffer()),
+        new PollRequest(5, "1", 10, 4),
+        new PollResponse(Status.OK, null, 5, true),
+        new VoteRequest(5, "1", 10, 4),
+        new VoteResponse(Status.ERROR, ERROR, 5, false),
+        TransferRequest.builder().withMember(MemberId.from("2")).build(),
+        new TransferResponse(Status.OK, null),
+        new ConfigureRequest(
+            5, "0", 10, 1234, List.of(ACTIVE_MEMBER, PASSIVE_MEMBER), List.of(PROMOTABLE_MEMBER)),
+        new ConfigureResponse(Status.ERROR, ERROR),
+        new ReconfigureRequest(List.of(ACTIVE_MEMBER, PROMOTABLE_MEMBER), 10, 5, "1"),
+        new ReconfigureResponse(Status.OK, null, 10, 5, 1234, List.of(ACTIVE_MEMBER)),
+        new ReconfigureResponse(Status.ERROR, ERROR, 0, 0, 0, List.of()),
+        new ForceConfigureRequest(5, 10, 1234, Set.of(ACTIVE_MEMBER), "1"),
+        new ForceConfigureResponse(Status.OK, null, 10, 5),
+        JoinRequest.builder().withJoiningMember(PROMOTABLE_MEMBER).build(),
+        JoinResponse.builder().withStatus(Status.ERROR).withError(ERROR).build(),
+        new LeaveRequest(PASSIVE_MEMBER),
+        LeaveResponse.builder().withStatus(Status.OK).build());
+  }
+}
@@ -22,6 +22,7 @@ import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import io.camunda.zeebe.snapshots.SnapshotException.FileNotReusableException;
 import io.camunda.zeebe.snapshots.SnapshotId;
 import io.camunda.zeebe.snapshots.SnapshotMetadata;
 import io.camunda.zeebe.snapshots.SnapshotReservation;
@@ -30,6 +31,7 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
@@ -108,6 +110,7 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
   public SnapshotChunkReader newChunkReader() {
     return new SnapshotChunkReader() {
       private NavigableMap<String, String> iterator = chunks;
+      private Map<String, Long> reusableFiles = Map.of();
 
       @Override
       public void reset() {
@@ -131,6 +134,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public void setMaximumChunkSize(final int maximumChunkSize) {}
 
+      @Override
+      public void setReusableFiles(final Map<String, Long> fileChecksums) {
+        reusableFiles = Map.copyOf(fileChecksums);
+      }
+
       @Override
       public void close() {
         iterator = null;
@@ -145,6 +153,12 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       public SnapshotChunk next() {
         final var nextEntry = iterator.firstEntry();
         iterator = chunks.tailMap(nextEntry.getKey(), false);
+        final Long reusableChecksum = reusableFiles.get(nextEntry.getKey());
+        if (reusableChecksum != null
+            && reusableChecksum.equals(checksum.getChecksums().get(nextEntry.getKey()))) {
+          return TestSnapshotChunkImpl.fileReference(
+              id, nextEntry.getKey(), reusableChecksum, chunks.size());
+        }
         return new TestSnapshotChunkImpl(
             id, nextEntry.getKey(), StringUtil.getBytes(nextEntry.getValue()), chunks.size());
       }
@@ -208,10 +222,27 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
 
   @Override
   public ActorFuture<Void> apply(final SnapshotChunk chunk) {
+    if (chunk.isFileReference()) {
+      return reuseChunkOfLatestSnapshot(chunk);
+    }
     chunks.put(chunk.getChunkName(), StringUtil.fromBytes(chunk.getContent()));
     return CompletableActorFuture.completed(null);
   }
 
+  private ActorFuture<Void> reuseChunkOfLatestSnapshot(final SnapshotChunk chunk) {
+    final var latestSnapshot = testSnapshotStore.currentPersistedSnapshot.get();
+    if (latestSnapshot == null
+        || !Long.valueOf(chunk.getChecksum())
+            .equals(latestSnapshot.checksum.getChecksums().get(chunk.getChunkName()))) {
+      return CompletableActorFuture.completedExceptionally(
+          new FileNotReusableException(
+              "Expected to reuse chunk %s of latest snapshot %s"
+                  .formatted(chunk.getChunkName(), latestSnapshot)));
+    }
+    chunks.put(chunk.getChunkName(), latestSnapshot.chunks.get(chunk.getChunkName()));
+    return CompletableActorFuture.completed(null);
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
@@ -219,8 +250,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
 
   @Override
   public ActorFuture<PersistedSnapshot> persist() {
+    final var checksums = new SfvChecksumImpl();
+    chunks.forEach(
+        (name, content) -> checksums.updateFromBytes(name, StringUtil.getBytes(content)));
+    checksum = checksums;
     testSnapshotStore.newSnapshot(this);
-    checksum = new SfvChecksumImpl();
     return CompletableActorFuture.completed(this);
   }
 
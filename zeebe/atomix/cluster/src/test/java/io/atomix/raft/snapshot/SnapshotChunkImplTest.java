@@ -0,0 +1,116 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
+import java.util.Arrays;
+import java.util.Random;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+final class SnapshotChunkImplTest {
+
+  private static final String SNAPSHOT_ID = "1-1-2-3-1";
+
+  @ParameterizedTest
+  @EnumSource(SnapshotChunkCompression.class)
+  void shouldReadWrittenChunk(final SnapshotChunkCompression compression) {
+    // given
+    final var content = new byte[64 * 1024];
+    Arrays.fill(content, (byte) 'a');
+    final var chunk = new TestSnapshotChunkImpl(SNAPSHOT_ID, "file", content, 3);
+
+    // when
+    final var written = new SnapshotChunkImpl(chunk, compression).toBytes();
+    final var read = new SnapshotChunkImpl();
+    read.wrap(new UnsafeBuffer(written));
+
+    // then
+    assertThat(read.getContent()).isEqualTo(content);
+    assertThat(read.getSnapshotId()).isEqualTo(SNAPSHOT_ID);
+    assertThat(read.getChunkName()).isEqualTo("file");
+    assertThat(read.getTotalCount()).isEqualTo(3);
+    assertThat(read.getTotalFileSize()).isEqualTo(chunk.getTotalFileSize());
+    assertThat(read.isFileReference()).isFalse();
+  }
+
+  @Test
+  void shouldReadWrittenFileReference() {
+    // given
+    final var chunk = TestSnapshotChunkImpl.fileReference(SNAPSHOT_ID, "file", 123L, 3);
+
+    // when
+    final var written = new SnapshotChunkImpl(chunk, SnapshotChunkCompression.ZSTD).toBytes();
+    final var read = new SnapshotChunkImpl();
+    read.wrap(new UnsafeBuffer(written));
+
+    // then
+    assertThat(read.isFileReference()).isTrue();
+    assertThat(read.getChecksum()).isEqualTo(123L);
+    assertThat(read.getChunkName()).isEqualTo("file");
+    assertThat(read.getContent()).isEmpty();
+  }
+
+  @Test
+  void shouldCompressContent() {
+    // given
+    final var content = new byte[64 * 1024];
+    Arrays.fill(content, (byte) 'a');
+    final var chunk = new TestSnapshotChunkImpl(SNAPSHOT_ID, "file", content, 1);
+
+    // when
+    final var compressed = new SnapshotChunkImpl(chunk, SnapshotChunkCompression.ZSTD);
+    final var uncompressed = new SnapshotChunkImpl(chunk, SnapshotChunkCompression.NONE);
+
+    // then
+    assertThat(compressed.getLength()).isLessThan(uncompressed.getLength() / 10);
+  }
+
+  @Test
+  void shouldNotCompressIncompressibleContent() {
+    // given
+    final var content = new byte[64 * 1024];
+    new Random(1).nextBytes(content);
+    final var chunk = new TestSnapshotChunkImpl(SNAPSHOT_ID, "file", content, 1);
+
+    // when
+    final var written = new SnapshotChunkImpl(chunk, SnapshotChunkCompression.ZSTD);
+    final var read = new SnapshotChunkImpl();
+    read.wrap(new UnsafeBuffer(written.toBytes()));
+
+    // then
+    assertThat(written.getLength())
+        .isEqualTo(new SnapshotChunkImpl(chunk, SnapshotChunkCompression.NONE).getLength());
+    assertThat(read.getContent()).isEqualTo(content);
+  }
+
+  @Test
+  void shouldNotCompressSmallContent() {
+    // given
+    final var chunk = new TestSnapshotChunkImpl(SNAPSHOT_ID, "file", new byte[16], 1);
+
+    // when
+    final var written = new SnapshotChunkImpl(chunk, SnapshotChunkCompression.ZSTD);
+
+    // then
+    assertThat(written.getLength())
+        .isEqualTo(new SnapshotChunkImpl(chunk, SnapshotChunkCompression.NONE).getLength());
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.snapshot.impl.SnapshotFilesImpl;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class SnapshotFilesImplTest {
+
+  @Test
+  void shouldReadWrittenFiles() {
+    // given
+    final var fileChecksums = Map.of("000001.sst", 1L, "000002.sst", -2L, "CURRENT", 3L);
+
+    // when
+    final var read = SnapshotFilesImpl.of(new SnapshotFilesImpl(fileChecksums).toByteBuffer());
+
+    // then
+    assertThat(read.getFileChecksums()).isEqualTo(fileChecksums);
+  }
+
+  @Test
+  void shouldReadWrittenEmptyFiles() {
+    // when
+    final var read = SnapshotFilesImpl.of(new SnapshotFilesImpl(Map.of()).toByteBuffer());
+
+    // then
+    assertThat(read.getFileChecksums()).isEmpty();
+  }
+}
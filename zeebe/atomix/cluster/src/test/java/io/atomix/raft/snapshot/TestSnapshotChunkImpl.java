@@ -23,13 +23,33 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
   final String chunkName;
   private final byte[] content;
   private final String snapshotId;
+  private final long checksum;
+  private final boolean fileReference;
 
   TestSnapshotChunkImpl(
       final String snapshotId, final String chunkName, final byte[] content, final int totalCount) {
+    this(snapshotId, chunkName, content, totalCount, 0, false);
+  }
+
+  private TestSnapshotChunkImpl(
+      final String snapshotId,
+      final String chunkName,
+      final byte[] content,
+      final int totalCount,
+      final long checksum,
+      final boolean fileReference) {
     this.content = content;
     this.snapshotId = snapshotId;
     this.totalCount = totalCount;
     this.chunkName = chunkName;
+    this.checksum = checksum;
+    this.fileReference = fileReference;
+  }
+
+  static TestSnapshotChunkImpl fileReference(
+      final String snapshotId, final String chunkName, final long checksum, final int totalCount) {
+    return new TestSnapshotChunkImpl(
+        snapshotId, chunkName, new byte[0], totalCount, checksum, true);
   }
 
   @Override
@@ -49,7 +69,7 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
 
   @Override
   public long getChecksum() {
-    return 0;
+    return checksum;
   }
 
   @Override
@@ -66,4 +86,9 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
   public long getTotalFileSize() {
     return 0;
   }
+
+  @Override
+  public boolean isFileReference() {
+    return fileReference;
+  }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.raft.metrics.GroupCommitFlusherMetricsDoc;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
+import io.camunda.zeebe.journal.Journal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
+
+@Timeout(value = 30, unit = TimeUnit.SECONDS)
+final class GroupCommitFlusherTest {
+  // a window which is long enough that no test completes if it has to wait for it to elapse
+  private static final Duration WINDOW = Duration.ofHours(1);
+
+  private final GroupCommitFlusher groupCommitFlusher = new GroupCommitFlusher(WINDOW);
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private RaftLogFlusher flusher;
+  private RaftLogFlusher otherFlusher;
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietCloseAll(flusher, otherFlusher);
+  }
+
+  @Test
+  void shouldRejectNonPositiveWindow() {
+    assertThatThrownBy(() -> new GroupCommitFlusher(Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldBeDirect() {
+    // when
+    flusher = groupCommitFlusher.createFlusher(meterRegistry);
+
+    // then
+    assertThat(flusher.isDirect()).isTrue();
+  }
+
+  @Test
+  void shouldFlushWithoutWaitingForWindowWhenAllFlushersArePending()
+      throws CheckedJournalException {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    flusher = groupCommitFlusher.createFlusher(meterRegistry);
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(meterRegistry.get(GroupCommitFlusherMetricsDoc.FSYNC_COUNT.getName()).counter())
+        .returns(1.0, c -> c.count());
+  }
+
+  @Test
+  void shouldFlushJournalsOfDifferentFlushersTogether() throws Exception {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var otherJournal = Mockito.mock(Journal.class);
+    final var otherRegistry = new SimpleMeterRegistry();
+    flusher = groupCommitFlusher.createFlusher(meterRegistry);
+    otherFlusher = groupCommitFlusher.createFlusher(otherRegistry);
+
+    // when - the first flush can only complete once the second flusher joined the group
+    final var firstFlush = CompletableFuture.runAsync(() -> flushUnchecked(flusher, journal));
+    otherFlusher.flush(otherJournal);
+    firstFlush.join();
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    Mockito.verify(otherJournal, Mockito.times(1)).flush();
+    assertThat(meterRegistry.get(GroupCommitFlusherMetricsDoc.GROUP_SIZE.getName()).summary().max())
+        .isEqualTo(2);
+    assertThat(otherRegistry.get(GroupCommitFlusherMetricsDoc.GROUP_SIZE.getName()).summary().max())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void shouldFlushJournalsOfTheSameGroupConcurrently() throws Exception {
+    // given - each flush only completes once the other journal is being flushed as well
+    final var journal = Mockito.mock(Journal.class);
+    final var otherJournal = Mockito.mock(Journal.class);
+    final var flushing = new CountDownLatch(2);
+    Mockito.doAnswer(ignored -> awaitOther(flushing)).when(journal).flush();
+    Mockito.doAnswer(ignored -> awaitOther(flushing)).when(otherJournal).flush();
+    flusher = groupCommitFlusher.createFlusher(meterRegistry);
+    otherFlusher = groupCommitFlusher.createFlusher(new SimpleMeterRegistry());
+
+    // when
+    final var firstFlush = CompletableFuture.runAsync(() -> flushUnchecked(flusher, journal));
+    final var otherFlush =
+        CompletableFuture.runAsync(() -> flushUnchecked(otherFlusher, otherJournal));
+
+    // then
+    assertThat(CompletableFuture.allOf(firstFlush, otherFlush))
+        .succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void shouldFlushAfterWindowElapsed() throws CheckedJournalException {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var shortWindowFlusher = new GroupCommitFlusher(Duration.ofMillis(10));
+    flusher = shortWindowFlusher.createFlusher(meterRegistry);
+    otherFlusher = shortWindowFlusher.createFlusher(new SimpleMeterRegistry());
+
+    // when - the other flusher never requests a flush
+    flusher.flush(journal);
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(meterRegistry.get(GroupCommitFlusherMetricsDoc.GROUP_SIZE.getName()).summary().max())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldFlushWhenLastOtherFlusherIsClosed() {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    flusher = groupCommitFlusher.createFlusher(meterRegistry);
+    otherFlusher = groupCommitFlusher.createFlusher(new SimpleMeterRegistry());
+
+    // when
+    final var flush = CompletableFuture.runAsync(() -> flushUnchecked(flusher, journal));
+    otherFlusher.close();
+
+    // then
+    assertThat(flush).succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void shouldNotReturnBeforeOwnJournalIsFlushed() throws Exception {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var flushing = new CountDownLatch(1);
+    final var release = new CountDownLatch(1);
+    Mockito.doAnswer(
+            ignored -> {
+              flushing.countDown();
+              release.await();
+              return null;
+            })
+        .when(journal)
+        .flush();
+    flusher = groupCommitFlusher.createFlusher(meterRegistry);
+
+    // when
+    final var flush = CompletableFuture.runAsync(() -> flushUnchecked(flusher, journal));
+    flushing.await();
+
+    // then
+    assertThat(flush).isNotDone();
+    release.countDown();
+    assertThat(flush).succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void shouldPropagateFlushFailure() throws CheckedJournalException {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    final var failure = new FlushException(new IOException("Cannot allocate memory"));
+    Mockito.doThrow(failure).when(journal).flush();
+    flusher = groupCommitFlusher.createFlusher(meterRegistry);
+
+    // when - then
+    assertThatThrownBy(() -> flusher.flush(journal)).isSameAs(failure);
+  }
+
+  @Test
+  void shouldFlushDirectlyAfterClose() throws CheckedJournalException {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    flusher = groupCommitFlusher.createFlusher(meterRegistry);
+
+    // when
+    flusher.close();
+    flusher.flush(journal);
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldRestartAfterAllFlushersWereClosed() throws CheckedJournalException {
+    // given
+    final var journal = Mockito.mock(Journal.class);
+    groupCommitFlusher.createFlusher(meterRegistry).close();
+
+    // when
+    flusher = groupCommitFlusher.createFlusher(new SimpleMeterRegistry());
+
+    // then
+    assertThatCode(() -> flusher.flush(journal)).doesNotThrowAnyException();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  private static Void awaitOther(final CountDownLatch flushing) throws InterruptedException {
+    flushing.countDown();
+    flushing.await();
+    return null;
+  }
+
+  private static void flushUnchecked(final RaftLogFlusher flusher, final Journal journal) {
+    try {
+      flusher.flush(journal);
+    } catch (final FlushException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
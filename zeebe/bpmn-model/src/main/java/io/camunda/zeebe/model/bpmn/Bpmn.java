@@ -308,6 +308,20 @@ public class Bpmn {
     return INSTANCE.doReadModelFromInputStream(stream);
   }
 
+  /**
+   * Allows reading a {@link BpmnModelInstance}, which is known to be valid, from an {@link
+   * InputStream}. Unlike {@link #readModelFromStream(InputStream)}, the document is validated while
+   * parsing it with the already compiled BPMN schema, instead of loading the schema for every read
+   * and validating the parsed document once more, which makes up most of the time to read a model.
+   *
+   * @param stream the {@link InputStream} to read the {@link BpmnModelInstance} from
+   * @return the model read
+   * @throws ModelParseException if the model cannot be read
+   */
+  public static BpmnModelInstance readValidModelFromStream(final InputStream stream) {
+    return INSTANCE.doReadValidModelFromInputStream(stream);
+  }
+
   /**
    * Allows writing a {@link BpmnModelInstance} to a File. It will be validated before writing.
    *
@@ -413,6 +427,10 @@ public class Bpmn {
     return bpmnParser.parseModelFromStream(is);
   }
 
+  protected BpmnModelInstance doReadValidModelFromInputStream(final InputStream is) {
+    return bpmnParser.parseValidModelFromStream(is);
+  }
+
   protected void doWriteModelToFile(final File file, final BpmnModelInstance modelInstance) {
     OutputStream os = null;
     try {
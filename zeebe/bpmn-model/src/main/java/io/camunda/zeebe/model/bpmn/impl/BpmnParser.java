@@ -25,6 +25,7 @@ import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.validation.SchemaFactory;
 import org.camunda.bpm.model.xml.impl.ModelImpl;
 import org.camunda.bpm.model.xml.impl.parser.AbstractModelParser;
+import org.camunda.bpm.model.xml.impl.util.DomUtil;
 import org.camunda.bpm.model.xml.impl.util.ReflectUtil;
 import org.camunda.bpm.model.xml.instance.DomDocument;
 
@@ -42,9 +43,18 @@ public class BpmnParser extends AbstractModelParser {
 
   private static final String W3C_XML_SCHEMA = "http://www.w3.org/2001/XMLSchema";
 
+  private final DocumentBuilderFactory validModelDocumentBuilderFactory;
+
   public BpmnParser() {
     schemaFactory = SchemaFactory.newInstance(W3C_XML_SCHEMA);
     addSchema(BPMN20_NS, createSchema(BPMN_20_SCHEMA_LOCATION, BpmnParser.class.getClassLoader()));
+
+    // validates with the compiled schema while parsing; the default factory loads the schema from
+    // its source on every parse instead, and the document is validated once more afterwards
+    validModelDocumentBuilderFactory = DocumentBuilderFactory.newInstance();
+    super.configureFactory(validModelDocumentBuilderFactory);
+    validModelDocumentBuilderFactory.setValidating(false);
+    validModelDocumentBuilderFactory.setSchema(schemas.get(BPMN20_NS));
   }
 
   @Override
@@ -62,6 +72,21 @@ public class BpmnParser extends AbstractModelParser {
     return (BpmnModelInstanceImpl) super.parseModelFromStream(inputStream);
   }
 
+  /**
+   * Parses the model like {@link #parseModelFromStream(InputStream)}, but skips the additional
+   * validation of the parsed document against the BPMN schema. Meant for models which are known to
+   * be valid, e.g. because they were validated when they were read the first time; a document
+   * violating the schema is still rejected while parsing it.
+   */
+  public BpmnModelInstanceImpl parseValidModelFromStream(final InputStream inputStream) {
+    final DomDocument document;
+    synchronized (validModelDocumentBuilderFactory) {
+      document = DomUtil.parseInputStream(validModelDocumentBuilderFactory, inputStream);
+    }
+
+    return createModelInstance(document);
+  }
+
   @Override
   public BpmnModelInstanceImpl getEmptyModel() {
     return (BpmnModelInstanceImpl) super.getEmptyModel();
@@ -22,7 +22,11 @@ import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.MODELER_NS;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.model.bpmn.instance.Definitions;
+import io.camunda.zeebe.model.bpmn.instance.Process;
+import io.camunda.zeebe.model.bpmn.instance.SequenceFlow;
 import io.camunda.zeebe.model.bpmn.util.VersionUtil;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import org.junit.Test;
 
 /**
@@ -46,4 +50,23 @@ public class BpmnTest {
     assertThat(definitions.getAttributeValueNs(MODELER_NS, "executionPlatformVersion"))
         .isEqualTo(VersionUtil.getVersion());
   }
+
+  @Test
+  public void testReadValidModelFromStream() {
+    final String xml =
+        Bpmn.convertToString(
+            Bpmn.createExecutableProcess("process").startEvent("start").endEvent("end").done());
+
+    final BpmnModelInstance model =
+        Bpmn.readValidModelFromStream(
+            new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+    final SequenceFlow sequenceFlow =
+        model.getModelElementsByType(SequenceFlow.class).iterator().next();
+    assertThat(sequenceFlow.getSource().getId()).isEqualTo("start");
+    assertThat(sequenceFlow.getTarget().getId()).isEqualTo("end");
+    assertThat(model.getDefinitions().getChildElementsByType(Process.class))
+        .extracting(Process::getId)
+        .containsExactly("process");
+  }
 }
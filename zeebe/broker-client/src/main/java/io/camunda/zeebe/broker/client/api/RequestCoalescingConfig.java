@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.api;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Configures whether commands to the same partition are coalesced into one request to the
+ * partition leader. The first command of a batch waits at most for the given window for further
+ * commands, and a batch is sent right away once it holds the max batch size of commands. The broker
+ * still appends and answers each command on its own.
+ *
+ * <p>Coalescing trades a bit of latency for fewer requests, so it's only worth it for high rates
+ * of small commands. Latency sensitive requests can opt out via {@link
+ * io.camunda.zeebe.broker.client.api.dto.BrokerRequest#setCoalescingAllowed(boolean)}.
+ *
+ * @param enabled whether commands are coalesced at all
+ * @param window how long the first command of a batch waits for further commands
+ * @param maxBatchSize how many commands are sent in one batch at most
+ */
+public record RequestCoalescingConfig(boolean enabled, Duration window, int maxBatchSize) {
+
+  public static final Duration DEFAULT_WINDOW = Duration.ofMillis(1);
+  public static final int DEFAULT_MAX_BATCH_SIZE = 32;
+  public static final RequestCoalescingConfig DISABLED =
+      new RequestCoalescingConfig(false, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+
+  public RequestCoalescingConfig {
+    Objects.requireNonNull(window, "must specify a coalescing window");
+    if (window.isNegative()) {
+      throw new IllegalArgumentException(
+          "Expected coalescing window to be non-negative, but was %s".formatted(window));
+    }
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "Expected max batch size to be at least 1, but was %d".formatted(maxBatchSize));
+    }
+  }
+}
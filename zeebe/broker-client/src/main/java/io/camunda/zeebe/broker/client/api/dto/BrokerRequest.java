@@ -33,6 +33,8 @@ public abstract class BrokerRequest<T> implements ClientRequest {
   protected final int schemaId;
   protected final int templateId;
 
+  private boolean coalescingAllowed = true;
+
   public BrokerRequest(final int schemaId, final int templateId) {
     this.schemaId = schemaId;
     this.templateId = templateId;
@@ -44,6 +46,22 @@ public abstract class BrokerRequest<T> implements ClientRequest {
 
   public abstract void setPartitionId(int partitionId);
 
+  /**
+   * @return false if the request must be sent on its own right away, even if the broker client
+   *     coalesces requests to the same partition
+   */
+  public boolean isCoalescingAllowed() {
+    return coalescingAllowed;
+  }
+
+  /**
+   * Latency sensitive requests can bypass request coalescing, see {@link
+   * io.camunda.zeebe.broker.client.api.RequestCoalescingConfig}.
+   */
+  public void setCoalescingAllowed(final boolean coalescingAllowed) {
+    this.coalescingAllowed = coalescingAllowed;
+  }
+
   public void setAuthorization(final Map<String, Object> claims) {
     // Unsupported by default
   }
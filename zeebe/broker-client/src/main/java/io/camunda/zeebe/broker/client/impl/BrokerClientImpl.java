@@ -14,6 +14,7 @@ import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerClientRequestMetrics;
 import io.camunda.zeebe.broker.client.api.BrokerResponseConsumer;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.RequestCoalescingConfig;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -46,6 +47,24 @@ public final class BrokerClientImpl implements BrokerClient {
       final ActorSchedulingService schedulingService,
       final BrokerTopologyManager topologyManager,
       final BrokerClientRequestMetrics metrics) {
+    this(
+        requestTimeout,
+        messagingService,
+        eventService,
+        schedulingService,
+        topologyManager,
+        metrics,
+        RequestCoalescingConfig.DISABLED);
+  }
+
+  public BrokerClientImpl(
+      final Duration requestTimeout,
+      final MessagingService messagingService,
+      final ClusterEventService eventService,
+      final ActorSchedulingService schedulingService,
+      final BrokerTopologyManager topologyManager,
+      final BrokerClientRequestMetrics metrics,
+      final RequestCoalescingConfig coalescingConfig) {
     this.eventService = eventService;
     this.schedulingService = schedulingService;
 
@@ -57,7 +76,8 @@ public final class BrokerClientImpl implements BrokerClient {
             topologyManager,
             new RoundRobinDispatchStrategy(),
             requestTimeout,
-            metrics);
+            metrics,
+            coalescingConfig);
   }
 
   @Override
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.client.impl;
 
+import io.atomix.cluster.messaging.MessagingException;
 import io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.AdditionalErrorCodes;
 import io.camunda.zeebe.broker.client.api.BrokerClientRequestMetrics;
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
@@ -18,6 +19,7 @@ import io.camunda.zeebe.broker.client.api.IllegalBrokerResponseException;
 import io.camunda.zeebe.broker.client.api.NoTopologyAvailableException;
 import io.camunda.zeebe.broker.client.api.PartitionInactiveException;
 import io.camunda.zeebe.broker.client.api.PartitionNotFoundException;
+import io.camunda.zeebe.broker.client.api.RequestCoalescingConfig;
 import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
@@ -25,39 +27,52 @@ import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.ClientRequest;
 import io.camunda.zeebe.transport.ClientTransport;
+import java.net.ConnectException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 
 final class BrokerRequestManager extends Actor {
 
   private static final TransportRequestSender SENDER_WITH_RETRY =
       (c, s, r, t) -> c.sendRequestWithRetry(s, BrokerRequestManager::responseValidation, r, t);
   private static final TransportRequestSender SENDER_WITHOUT_RETRY = ClientTransport::sendRequest;
+  // commands are only coalesced as long as the batch stays below this size, such that a batch
+  // never exceeds the max message size while each of its commands on its own would not
+  private static final int MAX_BATCH_LENGTH = 1024 * 1024;
   private final ClientTransport clientTransport;
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManager topologyManager;
   private final Duration requestTimeout;
   private final BrokerClientRequestMetrics metrics;
+  private final RequestCoalescingConfig coalescingConfig;
+  private final Int2ObjectHashMap<PendingBatch> pendingBatches = new Int2ObjectHashMap<>();
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManager topologyManager,
       final RequestDispatchStrategy dispatchStrategy,
       final Duration requestTimeout,
-      final BrokerClientRequestMetrics metrics) {
+      final BrokerClientRequestMetrics metrics,
+      final RequestCoalescingConfig coalescingConfig) {
     this.clientTransport = clientTransport;
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
     this.metrics = metrics;
+    this.coalescingConfig = coalescingConfig;
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -81,6 +96,23 @@ final class BrokerRequestManager extends Actor {
     }
   }
 
+  @Override
+  protected void onActorClosing() {
+    // the responses of batches which are sent now would never be handled, as the actor is closed
+    for (final var batch : pendingBatches.values()) {
+      batch.flushTimer.cancel();
+      for (final var pending : batch.requests) {
+        pending
+            .returnFuture()
+            .completeExceptionally(
+                new IllegalStateException(
+                    "Expected to send request to partition %d, but the broker client is closing"
+                        .formatted(batch.partitionId)));
+      }
+    }
+    pendingBatches.clear();
+  }
+
   <T> CompletableFuture<BrokerResponse<T>> sendRequestWithRetry(final BrokerRequest<T> request) {
     return sendRequestWithRetry(request, requestTimeout);
   }
@@ -135,34 +167,187 @@ final class BrokerRequestManager extends Actor {
       return;
     }
 
+    final long startTime = System.currentTimeMillis();
+    if (isCoalescable(request, requestTimeout)) {
+      coalesce(new PendingRequest<>(request, returnFuture, sender, requestTimeout, startTime));
+      return;
+    }
+
+    send(request, returnFuture, sender, requestTimeout, nodeIdProvider, startTime);
+  }
+
+  private <T> void send(
+      final BrokerRequest<T> request,
+      final CompletableFuture<BrokerResponse<T>> returnFuture,
+      final TransportRequestSender sender,
+      final Duration requestTimeout,
+      final Supplier<String> nodeIdProvider,
+      final long startTime) {
     final ActorFuture<DirectBuffer> responseFuture =
         sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
-    final long startTime = System.currentTimeMillis();
 
     actor.runOnCompletion(
         responseFuture,
-        (clientResponse, error) -> {
-          RequestResult result = null;
-          try {
-            if (error == null) {
-              final BrokerResponse<T> response = request.getResponse(clientResponse);
-
-              result = handleResponse(response, returnFuture);
-              if (result.wasProcessed()) {
-                final long elapsedTime = System.currentTimeMillis() - startTime;
-                metrics.registerSuccessfulRequest(
-                    request.getPartitionId(), request.getType(), elapsedTime);
-                return;
-              }
-            } else {
-              returnFuture.completeExceptionally(error);
+        (clientResponse, error) ->
+            handleClientResponse(request, returnFuture, clientResponse, error, startTime));
+  }
+
+  private <T> void handleClientResponse(
+      final BrokerRequest<T> request,
+      final CompletableFuture<BrokerResponse<T>> returnFuture,
+      final DirectBuffer clientResponse,
+      final Throwable error,
+      final long startTime) {
+    RequestResult result = null;
+    try {
+      if (error == null) {
+        final BrokerResponse<T> response = request.getResponse(clientResponse);
+
+        result = handleResponse(response, returnFuture);
+        if (result.wasProcessed()) {
+          final long elapsedTime = System.currentTimeMillis() - startTime;
+          metrics.registerSuccessfulRequest(
+              request.getPartitionId(), request.getType(), elapsedTime);
+          return;
+        }
+      } else {
+        returnFuture.completeExceptionally(error);
+      }
+    } catch (final RuntimeException e) {
+      returnFuture.completeExceptionally(new BrokerResponseException(e));
+    }
+
+    registerFailure(request, result, error);
+  }
+
+  /**
+   * Only commands to a known partition are coalesced, as only these can be appended by the
+   * partition leader one after the other; requests to a specific broker or any broker are always
+   * sent on their own. Requests with a longer timeout than the default may wait long for their
+   * response, e.g. for the result of a process instance, so they are sent on their own as well.
+   */
+  private boolean isCoalescable(final BrokerRequest<?> request, final Duration timeout) {
+    return coalescingConfig.enabled()
+        && request.isCoalescingAllowed()
+        && timeout.compareTo(requestTimeout) <= 0
+        && request.getBrokerId().isEmpty()
+        && (request.addressesSpecificPartition() || request.requiresPartitionId())
+        && request.getRequestType().getBatchType().isPresent();
+  }
+
+  private void coalesce(final PendingRequest<?> pending) {
+    final var partitionId = pending.request().getPartitionId();
+    var batch = pendingBatches.get(partitionId);
+    if (batch != null && batch.length + pending.request().getLength() > MAX_BATCH_LENGTH) {
+      flush(batch);
+      batch = null;
+    }
+
+    if (batch == null) {
+      final var newBatch = new PendingBatch(partitionId);
+      newBatch.flushTimer = actor.schedule(coalescingConfig.window(), () -> flush(newBatch));
+      pendingBatches.put(partitionId, newBatch);
+      batch = newBatch;
+    }
+
+    batch.add(pending);
+    if (batch.requests.size() >= coalescingConfig.maxBatchSize()) {
+      flush(batch);
+    }
+  }
+
+  private void flush(final PendingBatch batch) {
+    if (pendingBatches.get(batch.partitionId) != batch) {
+      // already sent, e.g. because it was full before the window passed
+      return;
+    }
+
+    pendingBatches.remove(batch.partitionId);
+    batch.flushTimer.cancel();
+
+    final var requests = batch.requests;
+    if (requests.size() == 1) {
+      sendAlone(requests.getFirst());
+      return;
+    }
+
+    // the batch waits as long as its longest waiting request, the others time out on their own
+    final long now = System.currentTimeMillis();
+    final var timeout =
+        requests.stream()
+            .map(pending -> pending.remainingTimeout(now))
+            .max(Comparator.naturalOrder())
+            .orElseThrow();
+    final var responseFutures =
+        clientTransport.sendRequestBatch(
+            new BrokerAddressProvider(batch.partitionId),
+            requests.stream().map(PendingRequest::request).toList(),
+            timeout);
+    for (int i = 0; i < requests.size(); i++) {
+      final var pending = requests.get(i);
+      final var remainingTimeout = pending.remainingTimeout(now);
+      final ScheduledTimer timeoutTimer =
+          remainingTimeout.compareTo(timeout) < 0
+              ? actor.schedule(remainingTimeout, () -> timeOut(pending))
+              : null;
+      actor.runOnCompletion(
+          responseFutures.get(i),
+          (response, error) -> {
+            if (timeoutTimer != null) {
+              timeoutTimer.cancel();
             }
-          } catch (final RuntimeException e) {
-            returnFuture.completeExceptionally(new BrokerResponseException(e));
-          }
+            onBatchedResponse(pending, response, error);
+          });
+    }
+  }
 
-          registerFailure(request, result, error);
-        });
+  private <T> void onBatchedResponse(
+      final PendingRequest<T> pending, final DirectBuffer response, final Throwable error) {
+    if (pending.returnFuture().isDone()) {
+      // timed out before the response was received
+      return;
+    }
+
+    if (error != null && (isConnectionIssue(error) || isConnectionIssue(error.getCause()))) {
+      // the batch was not handled, e.g. because the broker does not accept batches yet, so each
+      // request can safely be sent on its own
+      sendAlone(pending);
+      return;
+    }
+
+    if (error == null && pending.sender() == SENDER_WITH_RETRY && !responseValidation(response)) {
+      // the transport would have retried the request on its own, so we do so here
+      sendAlone(pending);
+      return;
+    }
+
+    handleClientResponse(
+        pending.request(), pending.returnFuture(), response, error, pending.startTime());
+  }
+
+  private void timeOut(final PendingRequest<?> pending) {
+    if (pending.returnFuture().isDone()) {
+      return;
+    }
+
+    final var error = new TimeoutException("Request timed out after " + pending.timeout());
+    pending.returnFuture().completeExceptionally(error);
+    registerFailure(pending.request(), null, error);
+  }
+
+  private <T> void sendAlone(final PendingRequest<T> pending) {
+    final var request = pending.request();
+    send(
+        request,
+        pending.returnFuture(),
+        pending.sender(),
+        pending.remainingTimeout(System.currentTimeMillis()),
+        new BrokerAddressProvider(request.getPartitionId()),
+        pending.startTime());
+  }
+
+  private static boolean isConnectionIssue(final Throwable error) {
+    return error instanceof ConnectException || error instanceof MessagingException.NoRemoteHandler;
   }
 
   private <T> void registerFailure(
@@ -287,6 +472,34 @@ final class BrokerRequestManager extends Actor {
     }
   }
 
+  private record PendingRequest<T>(
+      BrokerRequest<T> request,
+      CompletableFuture<BrokerResponse<T>> returnFuture,
+      TransportRequestSender sender,
+      Duration timeout,
+      long startTime) {
+
+    Duration remainingTimeout(final long now) {
+      return timeout.minusMillis(now - startTime);
+    }
+  }
+
+  private static final class PendingBatch {
+    private final int partitionId;
+    private final List<PendingRequest<?>> requests = new ArrayList<>();
+    private int length;
+    private ScheduledTimer flushTimer;
+
+    private PendingBatch(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    private void add(final PendingRequest<?> pending) {
+      requests.add(pending);
+      length += pending.request().getLength();
+    }
+  }
+
   private interface TransportRequestSender {
 
     ActorFuture<DirectBuffer> send(
@@ -47,6 +47,7 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.awaitility.Awaitility;
@@ -510,6 +511,123 @@ public final class BrokerClientTest {
     }
   }
 
+  @Nested
+  final class RequestCoalescingTest {
+
+    @Test
+    void shouldSendCommandsOnceBatchIsFull() {
+      // given - the window is long enough that only a full batch is sent
+      useCoalescingClient(new RequestCoalescingConfig(true, Duration.ofHours(1), 3));
+      registerSuccessResponse(broker);
+
+      // when
+      final var responses =
+          Stream.generate(TestCommand::new).limit(3).map(client::sendRequestWithRetry).toList();
+
+      // then
+      assertThat(responses)
+          .allSatisfy(response -> assertThat(response).succeedsWithin(Duration.ofSeconds(10)));
+      assertThat(broker.getReceivedCommandRequests()).hasSize(3);
+    }
+
+    @Test
+    void shouldSendCommandsOnceWindowHasPassed() {
+      // given
+      useCoalescingClient(new RequestCoalescingConfig(true, Duration.ofMillis(50), 100));
+      registerSuccessResponse(broker);
+
+      // when
+      final var responses =
+          Stream.generate(TestCommand::new).limit(2).map(client::sendRequestWithRetry).toList();
+
+      // then
+      assertThat(responses)
+          .allSatisfy(response -> assertThat(response).succeedsWithin(Duration.ofSeconds(10)));
+      assertThat(broker.getReceivedCommandRequests()).hasSize(2);
+    }
+
+    @Test
+    void shouldSendCommandRightAwayIfCoalescingIsNotAllowed() {
+      // given
+      useCoalescingClient(new RequestCoalescingConfig(true, Duration.ofHours(1), 100));
+      registerSuccessResponse(broker);
+      final var request = new TestCommand();
+      request.setCoalescingAllowed(false);
+
+      // when
+      final var response = client.sendRequestWithRetry(request);
+
+      // then
+      assertThat(response).succeedsWithin(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldSendCommandRightAwayIfItsTimeoutIsLongerThanDefault() {
+      // given
+      useCoalescingClient(new RequestCoalescingConfig(true, Duration.ofHours(1), 100));
+      registerSuccessResponse(broker);
+
+      // when
+      final var response = client.sendRequestWithRetry(new TestCommand(), Duration.ofSeconds(10));
+
+      // then
+      assertThat(response).succeedsWithin(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void shouldReturnErrorOfEachBatchedCommand() {
+      // given
+      useCoalescingClient(new RequestCoalescingConfig(true, Duration.ofHours(1), 2));
+      registerError(broker, ErrorCode.INTERNAL_ERROR, "test");
+
+      // when
+      final var responses =
+          Stream.generate(TestCommand::new).limit(2).map(client::sendRequestWithRetry).toList();
+
+      // then
+      assertThat(responses)
+          .allSatisfy(
+              response ->
+                  assertThat(response)
+                      .failsWithin(Duration.ofSeconds(10))
+                      .withThrowableThat()
+                      .withCause(
+                          new BrokerErrorException(
+                              new BrokerError(ErrorCode.INTERNAL_ERROR, "test"))));
+    }
+
+    @Test
+    void shouldSendCommandsOnTheirOwnIfBrokerDoesNotAcceptBatches() {
+      // given
+      broker.withoutCommandBatches();
+      useCoalescingClient(new RequestCoalescingConfig(true, Duration.ofHours(1), 2));
+      registerSuccessResponse(broker);
+
+      // when
+      final var responses =
+          Stream.generate(TestCommand::new).limit(2).map(client::sendRequestWithRetry).toList();
+
+      // then
+      assertThat(responses)
+          .allSatisfy(response -> assertThat(response).succeedsWithin(Duration.ofSeconds(10)));
+      assertThat(broker.getReceivedCommandRequests()).hasSize(2);
+    }
+
+    private void useCoalescingClient(final RequestCoalescingConfig coalescingConfig) {
+      client.close();
+      client =
+          new BrokerClientImpl(
+              Duration.ofSeconds(5),
+              atomixCluster.getMessagingService(),
+              atomixCluster.getEventService(),
+              actorScheduler,
+              topologyManager,
+              new BrokerClientRequestMetrics(meterRegistry),
+              coalescingConfig);
+      client.start().forEach(ActorFuture::join);
+    }
+  }
+
   @Nested
   final class RoutingTest {
     @Test
@@ -37,6 +37,7 @@ import io.camunda.zeebe.dynamic.config.changes.PartitionScalingChangeExecutor;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.dynamic.config.state.RoutingState;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.engine.state.deployment.SharedProcessCache;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -138,13 +139,25 @@ public final class PartitionManagerImpl
             featureFlags,
             securityConfig,
             searchClientsProxy,
-            brokerRequestAuthorizationConverter);
+            brokerRequestAuthorizationConverter,
+            createSharedProcessCache(brokerCfg, meterRegistry));
     managementService =
         new DefaultPartitionManagementService(
             clusterServices.getMembershipService(), clusterServices.getCommunicationService());
     raftPartitionFactory = new RaftPartitionFactory(brokerCfg);
   }
 
+  private static SharedProcessCache createSharedProcessCache(
+      final BrokerCfg brokerCfg, final MeterRegistry meterRegistry) {
+    final var cachesCfg = brokerCfg.getExperimental().getEngine().getCaches();
+    if (!cachesCfg.isSharedProcessCacheEnabled()) {
+      return null;
+    }
+
+    return new SharedProcessCache(
+        cachesCfg.getSharedProcessCacheMemoryLimit().toBytes(), meterRegistry);
+  }
+
   public void start() {
     actorSchedulingService.submitActor(topologyManager);
     final var localMemberId = managementService.getMembershipService().getLocalMember().id();
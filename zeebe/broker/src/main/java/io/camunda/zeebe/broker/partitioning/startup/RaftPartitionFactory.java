@@ -12,6 +12,7 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
@@ -31,9 +32,17 @@ public final class RaftPartitionFactory {
   public static final String GROUP_NAME = "raft-partition";
   private static final Logger LOG = Loggers.SYSTEM_LOGGER;
   private final BrokerCfg brokerCfg;
+  // shared by all partitions of the broker, so flushes can be coalesced across partitions
+  private final GroupCommitFlusher groupCommitFlusher;
 
   public RaftPartitionFactory(final BrokerCfg brokerCfg) {
     this.brokerCfg = brokerCfg;
+
+    final var groupCommitWindow = brokerCfg.getExperimental().getRaft().getFlushGroupCommitWindow();
+    groupCommitFlusher =
+        groupCommitWindow != null && groupCommitWindow.isPositive()
+            ? new GroupCommitFlusher(groupCommitWindow)
+            : null;
   }
 
   public RaftPartition createRaftPartition(
@@ -77,12 +86,18 @@ public final class RaftPartitionFactory {
 
     storageConfig.setFlusherFactory(
         createFlusherFactory(
-            brokerCfg.getCluster().getRaft().getFlush(), brokerCfg.getExperimental()));
+            brokerCfg.getCluster().getRaft().getFlush(),
+            brokerCfg.getExperimental(),
+            partitionMeterRegistry));
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setRecordCompression(
+        brokerCfg.getExperimental().getRaft().getRecordCompression());
+    storageConfig.setAdviseSequentialReads(
+        brokerCfg.getExperimental().getRaft().isAdviseSequentialReads());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -99,6 +114,12 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setMaxInFlightSnapshotChunks(
+        brokerCfg.getExperimental().getRaft().getMaxInFlightSnapshotChunks());
+    partitionConfig.setSnapshotChunkCompression(
+        brokerCfg.getExperimental().getRaft().getSnapshotChunkCompression());
+    partitionConfig.setIncrementalSnapshotReplication(
+        brokerCfg.getExperimental().getRaft().isIncrementalSnapshotReplication());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
@@ -113,19 +134,26 @@ public final class RaftPartitionFactory {
   }
 
   private RaftLogFlusher.Factory createFlusherFactory(
-      final FlushConfig config, final ExperimentalCfg experimental) {
+      final FlushConfig config,
+      final ExperimentalCfg experimental,
+      final MeterRegistry partitionMeterRegistry) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO), partitionMeterRegistry);
     }
 
-    return createFlusherFactory(config);
+    return createFlusherFactory(config, partitionMeterRegistry);
   }
 
-  private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
+  private RaftLogFlusher.Factory createFlusherFactory(
+      final FlushConfig config, final MeterRegistry partitionMeterRegistry) {
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
       if (delayTime.isZero()) {
+        if (groupCommitFlusher != null) {
+          return threadFactory -> groupCommitFlusher.createFlusher(partitionMeterRegistry);
+        }
+
         return RaftLogFlusher.Factory::direct;
       }
 
@@ -60,6 +60,7 @@ import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.engine.state.deployment.SharedProcessCache;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -122,6 +123,7 @@ public final class ZeebePartitionFactory {
   private final SecurityConfiguration securityConfig;
   private final SearchClientsProxy searchClientsProxy;
   private final BrokerRequestAuthorizationConverter brokerRequestAuthorizationConverter;
+  private final SharedProcessCache sharedProcessCache;
 
   public ZeebePartitionFactory(
       final ActorSchedulingService actorSchedulingService,
@@ -140,7 +142,8 @@ public final class ZeebePartitionFactory {
       final FeatureFlags featureFlags,
       final SecurityConfiguration securityConfig,
       final SearchClientsProxy searchClientsProxy,
-      final BrokerRequestAuthorizationConverter brokerRequestAuthorizationConverter) {
+      final BrokerRequestAuthorizationConverter brokerRequestAuthorizationConverter,
+      final SharedProcessCache sharedProcessCache) {
     this.actorSchedulingService = actorSchedulingService;
     this.brokerCfg = brokerCfg;
     this.localBroker = localBroker;
@@ -158,6 +161,7 @@ public final class ZeebePartitionFactory {
     this.securityConfig = securityConfig;
     this.searchClientsProxy = searchClientsProxy;
     this.brokerRequestAuthorizationConverter = brokerRequestAuthorizationConverter;
+    this.sharedProcessCache = sharedProcessCache;
   }
 
   public ZeebePartition constructPartition(
@@ -210,6 +214,7 @@ public final class ZeebePartitionFactory {
             securityConfig,
             partitionMeterRegistry);
     context.setDynamicPartitionConfig(initialPartitionConfig);
+    context.setSharedProcessCache(sharedProcessCache);
 
     final PartitionTransition newTransitionBehavior = new PartitionTransitionImpl(TRANSITION_STEPS);
 
@@ -9,6 +9,8 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static io.camunda.zeebe.broker.system.configuration.ClusterCfg.DEFAULT_ELECTION_TIMEOUT;
 
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.time.Duration;
 import org.springframework.util.unit.DataSize;
 
@@ -24,6 +26,13 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final RecordCompression DEFAULT_RECORD_COMPRESSION = RecordCompression.NONE;
+  private static final Duration DEFAULT_FLUSH_GROUP_COMMIT_WINDOW = Duration.ZERO;
+  private static final boolean DEFAULT_ADVISE_SEQUENTIAL_READS = false;
+  private static final int DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS = 1;
+  private static final SnapshotChunkCompression DEFAULT_SNAPSHOT_CHUNK_COMPRESSION =
+      SnapshotChunkCompression.NONE;
+  private static final boolean DEFAULT_INCREMENTAL_SNAPSHOT_REPLICATION = false;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
@@ -33,6 +42,12 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private RecordCompression recordCompression = DEFAULT_RECORD_COMPRESSION;
+  private Duration flushGroupCommitWindow = DEFAULT_FLUSH_GROUP_COMMIT_WINDOW;
+  private boolean adviseSequentialReads = DEFAULT_ADVISE_SEQUENTIAL_READS;
+  private int maxInFlightSnapshotChunks = DEFAULT_MAX_IN_FLIGHT_SNAPSHOT_CHUNKS;
+  private SnapshotChunkCompression snapshotChunkCompression = DEFAULT_SNAPSHOT_CHUNK_COMPRESSION;
+  private boolean incrementalSnapshotReplication = DEFAULT_INCREMENTAL_SNAPSHOT_REPLICATION;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -97,4 +112,52 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public RecordCompression getRecordCompression() {
+    return recordCompression;
+  }
+
+  public void setRecordCompression(final RecordCompression recordCompression) {
+    this.recordCompression = recordCompression;
+  }
+
+  public Duration getFlushGroupCommitWindow() {
+    return flushGroupCommitWindow;
+  }
+
+  public void setFlushGroupCommitWindow(final Duration flushGroupCommitWindow) {
+    this.flushGroupCommitWindow = flushGroupCommitWindow;
+  }
+
+  public boolean isAdviseSequentialReads() {
+    return adviseSequentialReads;
+  }
+
+  public void setAdviseSequentialReads(final boolean adviseSequentialReads) {
+    this.adviseSequentialReads = adviseSequentialReads;
+  }
+
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return snapshotChunkCompression;
+  }
+
+  public void setSnapshotChunkCompression(final SnapshotChunkCompression snapshotChunkCompression) {
+    this.snapshotChunkCompression = snapshotChunkCompression;
+  }
+
+  public boolean isIncrementalSnapshotReplication() {
+    return incrementalSnapshotReplication;
+  }
+
+  public void setIncrementalSnapshotReplication(final boolean incrementalSnapshotReplication) {
+    this.incrementalSnapshotReplication = incrementalSnapshotReplication;
+  }
 }
@@ -38,6 +38,7 @@ public final class FeatureFlagsCfg {
   private boolean enableStraightThroughProcessingLoopDetector =
       DEFAULT_SETTINGS.enableStraightThroughProcessingLoopDetector();
   private boolean enableMessageBodyOnExpired = DEFAULT_SETTINGS.enableMessageBodyOnExpired();
+  private boolean enableLockFreeSequencer = DEFAULT_SETTINGS.enableLockFreeSequencer();
 
   public boolean isEnableYieldingDueDateChecker() {
     return enableYieldingDueDateChecker;
@@ -88,6 +89,14 @@ public final class FeatureFlagsCfg {
     this.enableMessageBodyOnExpired = enableMessageBodyOnExpired;
   }
 
+  public boolean isEnableLockFreeSequencer() {
+    return enableLockFreeSequencer;
+  }
+
+  public void setEnableLockFreeSequencer(final boolean enableLockFreeSequencer) {
+    this.enableLockFreeSequencer = enableLockFreeSequencer;
+  }
+
   public FeatureFlags toFeatureFlags() {
     return new FeatureFlags(
         enableYieldingDueDateChecker,
@@ -95,7 +104,8 @@ public final class FeatureFlagsCfg {
         enableMessageTtlCheckerAsync,
         enableTimerDueDateCheckerAsync,
         enableStraightThroughProcessingLoopDetector,
-        enableMessageBodyOnExpired
+        enableMessageBodyOnExpired,
+        enableLockFreeSequencer
         /*, enableFoo*/ );
   }
 
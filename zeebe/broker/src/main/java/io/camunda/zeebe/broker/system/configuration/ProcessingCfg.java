@@ -15,6 +15,8 @@ public final class ProcessingCfg implements ConfigurationEntry {
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enablePipelinedProcessing = false;
+  private int replayThreads = 1;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
 
@@ -47,6 +49,22 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.enableAsyncScheduledTasks = enableAsyncScheduledTasks;
   }
 
+  public boolean isEnablePipelinedProcessing() {
+    return enablePipelinedProcessing;
+  }
+
+  public void setEnablePipelinedProcessing(final boolean enablePipelinedProcessing) {
+    this.enablePipelinedProcessing = enablePipelinedProcessing;
+  }
+
+  public int getReplayThreads() {
+    return replayThreads;
+  }
+
+  public void setReplayThreads(final int replayThreads) {
+    this.replayThreads = replayThreads;
+  }
+
   public Set<Long> skipPositions() {
     return skipPositions != null ? skipPositions : Set.of();
   }
@@ -62,6 +80,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
         + maxCommandsInBatch
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
+        + ", enablePipelinedProcessing="
+        + enablePipelinedProcessing
+        + ", replayThreads="
+        + replayThreads
         + ", scheduledTaskCheckInterval="
         + scheduledTaskCheckInterval
         + '}';
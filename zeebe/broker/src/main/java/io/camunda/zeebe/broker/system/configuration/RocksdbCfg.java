@@ -9,9 +9,11 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionKind;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 import java.util.regex.Pattern;
 import org.springframework.util.unit.DataSize;
 
@@ -28,6 +30,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private Set<String> cachedColumnFamilies = Set.of();
+  private DataSize columnFamilyCacheSize =
+      DataSize.ofBytes(RocksDbConfiguration.DEFAULT_COLUMN_FAMILY_CACHE_SIZE);
+  private TransactionKind transactionKind = RocksDbConfiguration.DEFAULT_TRANSACTION_KIND;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +127,30 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public void setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+  }
+
+  public DataSize getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public void setColumnFamilyCacheSize(final DataSize columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+  }
+
+  public TransactionKind getTransactionKind() {
+    return transactionKind;
+  }
+
+  public void setTransactionKind(final TransactionKind transactionKind) {
+    this.transactionKind = transactionKind;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +169,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setCachedColumnFamilies(cachedColumnFamilies)
+        .setColumnFamilyCacheSize(columnFamilyCacheSize.toBytes())
+        .setTransactionKind(transactionKind);
   }
 
   @Override
@@ -165,6 +198,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", cachedColumnFamilies="
+        + cachedColumnFamilies
+        + ", columnFamilyCacheSize="
+        + columnFamilyCacheSize
+        + ", transactionKind="
+        + transactionKind
         + '}';
   }
 
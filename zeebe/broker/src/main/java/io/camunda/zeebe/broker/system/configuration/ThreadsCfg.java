@@ -7,9 +7,12 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.scheduler.IoThreadMode;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private IoThreadMode ioThreadMode = IoThreadMode.PLATFORM;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +30,14 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public IoThreadMode getIoThreadMode() {
+    return ioThreadMode;
+  }
+
+  public void setIoThreadMode(final IoThreadMode ioThreadMode) {
+    this.ioThreadMode = ioThreadMode;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +45,8 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", ioThreadMode="
+        + ioThreadMode
         + '}';
   }
 }
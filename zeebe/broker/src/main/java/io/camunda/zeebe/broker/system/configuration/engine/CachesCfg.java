@@ -9,14 +9,20 @@ package io.camunda.zeebe.broker.system.configuration.engine;
 
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import org.springframework.util.unit.DataSize;
 
 public final class CachesCfg implements ConfigurationEntry {
+  private static final DataSize DEFAULT_SHARED_PROCESS_CACHE_MEMORY_LIMIT =
+      DataSize.ofMegabytes(256);
+
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
   private int resourceCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
   private int authorizationsCacheCapacity =
       EngineConfiguration.DEFAULT_AUTHORIZATIONS_CACHE_CAPACITY;
+  private boolean sharedProcessCacheEnabled = false;
+  private DataSize sharedProcessCacheMemoryLimit = DEFAULT_SHARED_PROCESS_CACHE_MEMORY_LIMIT;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -58,6 +64,22 @@ public final class CachesCfg implements ConfigurationEntry {
     this.authorizationsCacheCapacity = authorizationsCacheCapacity;
   }
 
+  public boolean isSharedProcessCacheEnabled() {
+    return sharedProcessCacheEnabled;
+  }
+
+  public void setSharedProcessCacheEnabled(final boolean sharedProcessCacheEnabled) {
+    this.sharedProcessCacheEnabled = sharedProcessCacheEnabled;
+  }
+
+  public DataSize getSharedProcessCacheMemoryLimit() {
+    return sharedProcessCacheMemoryLimit;
+  }
+
+  public void setSharedProcessCacheMemoryLimit(final DataSize sharedProcessCacheMemoryLimit) {
+    this.sharedProcessCacheMemoryLimit = sharedProcessCacheMemoryLimit;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -71,6 +93,10 @@ public final class CachesCfg implements ConfigurationEntry {
         + resourceCacheCapacity
         + ", authorizationsCacheCapacity="
         + authorizationsCacheCapacity
+        + ", sharedProcessCacheEnabled="
+        + sharedProcessCacheEnabled
+        + ", sharedProcessCacheMemoryLimit="
+        + sharedProcessCacheMemoryLimit
         + '}';
   }
 }
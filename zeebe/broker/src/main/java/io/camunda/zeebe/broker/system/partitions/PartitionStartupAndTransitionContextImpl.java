@@ -40,6 +40,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.SharedProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
@@ -86,6 +87,7 @@ public class PartitionStartupAndTransitionContextImpl
   private final SnapshotCopy snapshotCopy;
   private final StateController stateController;
   private DynamicPartitionConfig dynamicPartitionConfig;
+  private SharedProcessCache sharedProcessCache;
   private StreamProcessor streamProcessor;
   private LogStream logStream;
   private AsyncSnapshotDirector snapshotDirector;
@@ -323,6 +325,15 @@ public class PartitionStartupAndTransitionContextImpl
     return securityConfig;
   }
 
+  @Override
+  public SharedProcessCache getSharedProcessCache() {
+    return sharedProcessCache;
+  }
+
+  public void setSharedProcessCache(final SharedProcessCache sharedProcessCache) {
+    this.sharedProcessCache = sharedProcessCache;
+  }
+
   @Override
   public QueryService getQueryService() {
     return queryService;
@@ -83,6 +83,8 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
         .withWriteRateLimit(
             flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
         .withMeterRegistry(context.getPartitionTransitionMeterRegistry())
+        .withLockFreeSequencer(
+            context.getBrokerCfg().getExperimental().getFeatures().isEnableLockFreeSequencer())
         .build();
   }
 
@@ -133,7 +133,11 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         targetRole == Role.LEADER ? StreamProcessorMode.PROCESSING : StreamProcessorMode.REPLAY;
 
     final var experimentalCfg = context.getBrokerCfg().getExperimental();
-    final var engineCfg = experimentalCfg.getEngine().createEngineConfiguration();
+    final var engineCfg =
+        experimentalCfg
+            .getEngine()
+            .createEngineConfiguration()
+            .setSharedProcessCache(context.getSharedProcessCache());
 
     final var engine =
         new Engine(
@@ -173,6 +177,16 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
+        .setEnablePipelinedProcessing(
+            context.getBrokerCfg().getProcessing().isEnablePipelinedProcessing())
+        .parallelReplay(
+            context.getBrokerCfg().getProcessing().getReplayThreads(),
+            () ->
+                List.of(
+                    new Engine(
+                        context.getTypedRecordProcessorFactory(),
+                        engineCfg,
+                        context.getSecurityConfig())))
         .setScheduledTaskCheckInterval(
             context.getBrokerCfg().getProcessing().getScheduledTaskCheckInterval())
         .processingFilter(processingFilter)
@@ -106,6 +106,8 @@ public final class CommandApiServiceImpl extends Actor
           serverTransport.subscribe(partitionId, RequestType.QUERY, queryHandler);
           commandHandler.addPartition(partitionId, logStreamWriter);
           serverTransport.subscribe(partitionId, RequestType.COMMAND, commandHandler);
+          // the transport unpacks batches, such that each command is still appended on its own
+          serverTransport.subscribe(partitionId, RequestType.COMMAND_BATCH, commandHandler);
         });
   }
 
@@ -119,6 +121,7 @@ public final class CommandApiServiceImpl extends Actor
     queryHandler.removePartition(partitionId);
     leadPartitions.remove(partitionId);
     serverTransport.unsubscribe(partitionId, RequestType.COMMAND);
+    serverTransport.unsubscribe(partitionId, RequestType.COMMAND_BATCH);
     serverTransport.unsubscribe(partitionId, RequestType.QUERY);
   }
 
@@ -13,8 +13,12 @@ import io.atomix.cluster.MemberId;
 import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
+import io.atomix.raft.storage.log.RaftLogFlusher;
+import io.atomix.raft.storage.log.RaftLogFlusher.DirectFlusher;
 import io.camunda.zeebe.broker.partitioning.startup.RaftPartitionFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
@@ -23,6 +27,7 @@ import java.util.Set;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.util.unit.DataSize;
 
@@ -226,6 +231,107 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @ParameterizedTest
+  @EnumSource(RecordCompression.class)
+  void shouldSetRecordCompression(final RecordCompression value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setRecordCompression(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().getRecordCompression())
+        .isEqualTo(value);
+  }
+
+  @Test
+  void shouldSetMaxInFlightSnapshotChunks() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxInFlightSnapshotChunks(8);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxInFlightSnapshotChunks()).isEqualTo(8);
+  }
+
+  @ParameterizedTest
+  @EnumSource(SnapshotChunkCompression.class)
+  void shouldSetSnapshotChunkCompression(final SnapshotChunkCompression value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setSnapshotChunkCompression(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getSnapshotChunkCompression()).isEqualTo(value);
+  }
+
+  @Test
+  void shouldSetIncrementalSnapshotReplication() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setIncrementalSnapshotReplication(true);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().isIncrementalSnapshotReplication()).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetAdviseSequentialReads(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setAdviseSequentialReads(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().isAdviseSequentialReads())
+        .isEqualTo(value);
+  }
+
+  @Test
+  void shouldFlushDirectlyWithoutGroupCommitWindow() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    final var flusher =
+        partition.getPartitionConfig().getStorageConfig().flusherFactory().createFlusher(null);
+    assertThat(flusher).isSameAs(RaftLogFlusher.Factory.DIRECT);
+  }
+
+  @Test
+  void shouldCoalesceFlushesWithGroupCommitWindow() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setFlushGroupCommitWindow(Duration.ofMillis(1));
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    try (final var flusher =
+        partition.getPartitionConfig().getStorageConfig().flusherFactory().createFlusher(null)) {
+      assertThat(flusher).isNotInstanceOf(DirectFlusher.class);
+      assertThat(flusher.isDirect()).isTrue();
+    }
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
     return new RaftPartitionFactory(brokerCfg)
         .createRaftPartition(
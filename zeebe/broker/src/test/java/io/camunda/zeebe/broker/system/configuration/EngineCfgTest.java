@@ -14,6 +14,7 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
 
 final class EngineCfgTest {
 
@@ -69,4 +70,30 @@ final class EngineCfgTest {
     assertThat(configuration.getCommandRedistributionMaxBackoff())
         .isEqualTo(Duration.ofMinutes(20));
   }
+
+  @Test
+  void shouldDisableSharedProcessCacheByDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // when
+    final var caches = cfg.getExperimental().getEngine().getCaches();
+
+    // then
+    assertThat(caches.isSharedProcessCacheEnabled()).isFalse();
+    assertThat(caches.getSharedProcessCacheMemoryLimit()).isEqualTo(DataSize.ofMegabytes(256));
+  }
+
+  @Test
+  void shouldConfigureSharedProcessCache() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("engine", environment);
+
+    // when
+    final var caches = cfg.getExperimental().getEngine().getCaches();
+
+    // then
+    assertThat(caches.isSharedProcessCacheEnabled()).isTrue();
+    assertThat(caches.getSharedProcessCacheMemoryLimit()).isEqualTo(DataSize.ofMegabytes(64));
+  }
 }
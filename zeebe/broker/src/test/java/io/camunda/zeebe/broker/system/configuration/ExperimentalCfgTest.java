@@ -9,6 +9,8 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -182,6 +184,104 @@ final class ExperimentalCfgTest {
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
 
+  @Test
+  void shouldNotCompressRecordsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getRecordCompression()).isEqualTo(RecordCompression.NONE);
+  }
+
+  @Test
+  void shouldSetRecordCompressionFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.recordCompression", "zstd");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getRecordCompression()).isEqualTo(RecordCompression.ZSTD);
+  }
+
+  @Test
+  void shouldNotGroupCommitFlushesByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getFlushGroupCommitWindow()).isZero();
+  }
+
+  @Test
+  void shouldSetFlushGroupCommitWindowFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.flushGroupCommitWindow", "2ms");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getFlushGroupCommitWindow()).isEqualTo(Duration.ofMillis(2));
+  }
+
+  @Test
+  void shouldNotAdviseSequentialReadsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isAdviseSequentialReads()).isFalse();
+  }
+
+  @Test
+  void shouldSetAdviseSequentialReadsFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.adviseSequentialReads", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.isAdviseSequentialReads()).isTrue();
+  }
+
+  @Test
+  void shouldReplicateSnapshotChunksOneByOneByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getMaxInFlightSnapshotChunks()).isOne();
+    assertThat(raftCfg.getSnapshotChunkCompression()).isEqualTo(SnapshotChunkCompression.NONE);
+    assertThat(raftCfg.isIncrementalSnapshotReplication()).isFalse();
+  }
+
+  @Test
+  void shouldSetSnapshotChunkReplicationFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.maxInFlightSnapshotChunks", "4");
+    environment.put("zeebe.broker.experimental.raft.snapshotChunkCompression", "zstd");
+    environment.put("zeebe.broker.experimental.raft.incrementalSnapshotReplication", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getMaxInFlightSnapshotChunks()).isEqualTo(4);
+    assertThat(raftCfg.getSnapshotChunkCompression()).isEqualTo(SnapshotChunkCompression.ZSTD);
+    assertThat(raftCfg.isIncrementalSnapshotReplication()).isTrue();
+  }
+
   @Test
   void shouldHaveDefaultVersionCheckRestriction() {
     // given
@@ -185,4 +185,27 @@ final class FeatureFlagsCfgTest {
     // then
     assertThat(featureFlagsCfg.isEnableMessageBodyOnExpired()).isFalse();
   }
+
+  @Test
+  void shouldSetEnableLockFreeSequencerFromConfig() {
+    // given
+    environment.put("zeebe.broker.experimental.features.enableLockFreeSequencer", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableLockFreeSequencer()).isTrue();
+  }
+
+  @Test
+  void shouldDisableEnableLockFreeSequencerByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableLockFreeSequencer()).isFalse();
+  }
 }
@@ -132,6 +132,57 @@ final class ProcessingCfgTest {
     assertThat(enabled).isTrue();
   }
 
+  @Test
+  void shouldDisablePipelinedProcessingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnablePipelinedProcessing();
+
+    // then
+    assertThat(enabled).isFalse();
+  }
+
+  @Test
+  void shouldEnablePipelinedProcessingFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.enablePipelinedProcessing", "true");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnablePipelinedProcessing();
+
+    // then
+    assertThat(enabled).isTrue();
+  }
+
+  @Test
+  void shouldReplayOnSingleThreadByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var replayThreads = cfg.getReplayThreads();
+
+    // then
+    assertThat(replayThreads).isOne();
+  }
+
+  @Test
+  void shouldSetReplayThreadsFromEnvironment() {
+    // given
+    final var environment = Collections.singletonMap("zeebe.broker.processing.replayThreads", "4");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var replayThreads = cfg.getReplayThreads();
+
+    // then
+    assertThat(replayThreads).isEqualTo(4);
+  }
+
   @Test
   void shouldSetSkipPositions() {
     // given
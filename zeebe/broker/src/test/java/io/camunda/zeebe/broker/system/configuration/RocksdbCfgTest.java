@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionKind;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -77,6 +78,10 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isTrue();
+    assertThat(rocksDbConfiguration.getCachedColumnFamilies()).isEmpty();
+    assertThat(rocksDbConfiguration.getColumnFamilyCacheSize())
+        .isEqualTo(DataSize.ofMegabytes(32).toBytes());
+    assertThat(rocksDbConfiguration.getTransactionKind()).isEqualTo(TransactionKind.OPTIMISTIC);
   }
 
   @Test
@@ -285,4 +290,57 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldSetColumnFamilyCacheViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getCachedColumnFamilies())
+        .containsExactlyInAnyOrder("ELEMENT_INSTANCE_KEY", "JOBS");
+    assertThat(rocksDbConfiguration.getColumnFamilyCacheSize())
+        .isEqualTo(DataSize.ofMegabytes(16).toBytes());
+  }
+
+  @Test
+  public void shouldSetColumnFamilyCacheViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.cachedColumnFamilies", "VARIABLES");
+    environment.put("zeebe.broker.experimental.rocksdb.columnFamilyCacheSize", "8MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getCachedColumnFamilies()).containsExactly("VARIABLES");
+    assertThat(rocksdb.getColumnFamilyCacheSize()).isEqualTo(DataSize.ofMegabytes(8));
+  }
+
+  @Test
+  public void shouldSetTransactionKindViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksDbConfiguration =
+        cfg.getExperimental().getRocksdb().createRocksDbConfiguration();
+
+    // then
+    assertThat(rocksDbConfiguration.getTransactionKind()).isEqualTo(TransactionKind.WRITE_BATCH);
+  }
+
+  @Test
+  public void shouldSetTransactionKindViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.transactionKind", "write_batch");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getTransactionKind()).isEqualTo(TransactionKind.WRITE_BATCH);
+  }
 }
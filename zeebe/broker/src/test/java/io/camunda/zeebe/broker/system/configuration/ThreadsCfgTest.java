@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.scheduler.IoThreadMode;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
@@ -115,4 +116,42 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldChooseDefaultIoThreadMode() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final var ioThreadMode = cfg.getIoThreadMode();
+
+    // then
+    assertThat(ioThreadMode).isEqualTo(IoThreadMode.PLATFORM);
+  }
+
+  @Test
+  void shouldSetIoThreadModeFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final var ioThreadMode = cfg.getIoThreadMode();
+
+    // then
+    assertThat(ioThreadMode).isEqualTo(IoThreadMode.VIRTUAL);
+  }
+
+  @Test
+  void shouldSetIoThreadModeFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.ioThreadMode", "platform");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final var ioThreadMode = cfg.getIoThreadMode();
+
+    // then
+    assertThat(ioThreadMode).isEqualTo(IoThreadMode.PLATFORM);
+  }
 }
@@ -37,6 +37,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorFactory;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.engine.state.deployment.SharedProcessCache;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -86,6 +87,7 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
   private DynamicPartitionConfig partitionConfig;
   private ControllableStreamClock clock;
   private SecurityConfiguration securityConfig;
+  private SharedProcessCache sharedProcessCache;
   private MeterRegistry transitionMeterRegistry;
   private String brokerVersion = PartitionTransitionContext.super.getBrokerVersion();
   private boolean migrationsPerformed;
@@ -287,6 +289,15 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
     return securityConfig;
   }
 
+  @Override
+  public SharedProcessCache getSharedProcessCache() {
+    return sharedProcessCache;
+  }
+
+  public void setSharedProcessCache(final SharedProcessCache sharedProcessCache) {
+    this.sharedProcessCache = sharedProcessCache;
+  }
+
   @Override
   public QueryService getQueryService() {
     return queryService;
@@ -92,6 +92,7 @@ public class CommandApiServiceImplTest {
     verify(logStream, times(1)).newLogStreamWriter();
     verify(serverTransport, times(1)).subscribe(eq(1), eq(RequestType.QUERY), any());
     verify(serverTransport, times(1)).subscribe(eq(1), eq(RequestType.COMMAND), any());
+    verify(serverTransport, times(1)).subscribe(eq(1), eq(RequestType.COMMAND_BATCH), any());
 
     // when - become not a leader, subscriptions are cleaned up
     final var prepareFollowerFuture =
@@ -101,6 +102,7 @@ public class CommandApiServiceImplTest {
     // then
     verify(serverTransport, times(1)).unsubscribe(eq(1), eq(RequestType.QUERY));
     verify(serverTransport, times(1)).unsubscribe(eq(1), eq(RequestType.COMMAND));
+    verify(serverTransport, times(1)).unsubscribe(eq(1), eq(RequestType.COMMAND_BATCH));
 
     // it does not unsubscribe twice
     clearInvocations(serverTransport);
@@ -17,6 +17,7 @@ import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.EventApplier;
 import io.camunda.zeebe.engine.state.appliers.EventAppliers;
+import io.camunda.zeebe.engine.state.appliers.ReplayShards;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.processing.DbBannedInstanceState;
 import io.camunda.zeebe.engine.state.routing.RoutingInfo;
@@ -57,6 +58,7 @@ public class Engine implements RecordProcessor {
   private EventApplier eventApplier;
   private RecordProcessorMap recordProcessorMap;
   private MutableProcessingState processingState;
+  private ReplayShards replayShards;
 
   private final ErrorRecord errorRecord = new ErrorRecord();
 
@@ -127,6 +129,7 @@ public class Engine implements RecordProcessor {
     processingState = typedProcessorContext.getProcessingState();
 
     ((EventAppliers) eventApplier).registerEventAppliers(processingState);
+    replayShards = new ReplayShards(processingState.getVariableState());
     final TypedRecordProcessors typedRecordProcessors =
         typedRecordProcessorFactory.createProcessors(typedProcessorContext);
 
@@ -149,6 +152,11 @@ public class Engine implements RecordProcessor {
         event.getKey(), event.getIntent(), event.getValue(), event.getRecordVersion());
   }
 
+  @Override
+  public long getReplayShard(final TypedRecord event) {
+    return replayShards.getShard(event);
+  }
+
   @Override
   public ProcessingResult process(
       final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine;
 
+import io.camunda.zeebe.engine.state.deployment.SharedProcessCache;
 import java.time.Duration;
 
 public final class EngineConfiguration {
@@ -91,6 +92,8 @@ public final class EngineConfiguration {
 
   private boolean enableIdentitySetup = DEFAULT_ENABLE_IDENTITY_SETUP;
 
+  private SharedProcessCache sharedProcessCache;
+
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
   }
@@ -336,4 +339,17 @@ public final class EngineConfiguration {
     this.enableIdentitySetup = enableIdentitySetup;
     return this;
   }
+
+  /**
+   * @return the broker-wide cache of transformed processes, or null if every partition transforms
+   *     and caches its processes on its own
+   */
+  public SharedProcessCache getSharedProcessCache() {
+    return sharedProcessCache;
+  }
+
+  public EngineConfiguration setSharedProcessCache(final SharedProcessCache sharedProcessCache) {
+    this.sharedProcessCache = sharedProcessCache;
+    return this;
+  }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.ACTIVATABLE_JOBS_INDEXED;
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.ACTIVATABLE_JOBS_INDEX_MEMORY;
+
+import io.camunda.zeebe.util.micrometer.StatefulGauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public final class ActivatableJobsIndexMetrics {
+
+  private final StatefulGauge indexedJobs;
+  private final StatefulGauge memoryInBytes;
+
+  public ActivatableJobsIndexMetrics(final MeterRegistry meterRegistry) {
+    indexedJobs =
+        StatefulGauge.builder(ACTIVATABLE_JOBS_INDEXED.getName())
+            .description(ACTIVATABLE_JOBS_INDEXED.getDescription())
+            .register(meterRegistry);
+    memoryInBytes =
+        StatefulGauge.builder(ACTIVATABLE_JOBS_INDEX_MEMORY.getName())
+            .description(ACTIVATABLE_JOBS_INDEX_MEMORY.getDescription())
+            .register(meterRegistry);
+  }
+
+  /**
+   * Since these are setting absolute values, they must only be called from the stream processor
+   * actor.
+   */
+  public void setIndexedJobs(final long count) {
+    indexedJobs.set(count);
+  }
+
+  public void setMemoryInBytes(final long bytes) {
+    memoryInBytes.set(bytes);
+  }
+}
@@ -260,6 +260,82 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       return new KeyName[] {EngineKeyNames.JOB_ACTION};
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of jobs in the in-memory index of activatable jobs */
+  ACTIVATABLE_JOBS_INDEXED {
+    @Override
+    public String getDescription() {
+      return "Number of jobs in the in-memory index of activatable jobs";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.job.activatable.index.jobs";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Estimated memory used by the in-memory index of activatable jobs */
+  ACTIVATABLE_JOBS_INDEX_MEMORY {
+    @Override
+    public String getDescription() {
+      return "Estimated memory used by the in-memory index of activatable jobs, in bytes";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.job.activatable.index.memory.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of lookups of message subscriptions guarded by the in-memory subscription filter */
+  MESSAGE_SUBSCRIPTION_FILTER_LOOKUPS {
+    @Override
+    public String getDescription() {
+      return "Number of lookups of message subscriptions guarded by the in-memory subscription"
+          + " filter, by result; the false positive rate is the ratio of false positives to all"
+          + " lookups which found no subscription";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.message.subscription.filter.lookups.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {EngineKeyNames.SUBSCRIPTION_TYPE, EngineKeyNames.FILTER_RESULT};
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -350,6 +426,25 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       }
     },
 
+    /** The kind of message subscription; see {@link SubscriptionType} for possible values. */
+    SUBSCRIPTION_TYPE {
+      @Override
+      public String asString() {
+        return "subscription";
+      }
+    },
+
+    /**
+     * The result of a lookup guarded by the subscription filter; see {@link FilterResult} for
+     * possible values.
+     */
+    FILTER_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
+    },
+
     /**
      * Metrics that are annotated with this label are vitally important for usage tracking and
      * data-based decision-making as part of Camunda's SaaS offering.
@@ -392,6 +487,30 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  public enum SubscriptionType {
+    MESSAGE_SUBSCRIPTION,
+    MESSAGE_START_EVENT_SUBSCRIPTION;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
+
+  public enum FilterResult {
+    /** The filter ruled out a subscription, and the lookup was skipped */
+    SKIPPED,
+    /** The filter reported a possible subscription, and one was found */
+    MATCHED,
+    /** The filter reported a possible subscription, but none was found */
+    FALSE_POSITIVE;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
+
   public enum IncidentAction {
     CREATED,
     RESOLVED;
@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static io.camunda.zeebe.engine.metrics.EngineMetricsDoc.MESSAGE_SUBSCRIPTION_FILTER_LOOKUPS;
+
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.FilterResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.SubscriptionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts the lookups of message subscriptions of a single {@link SubscriptionType} that are guarded
+ * by the in-memory subscription filter, by their {@link FilterResult}.
+ */
+public final class MessageSubscriptionFilterMetrics {
+
+  private final Counter skipped;
+  private final Counter matched;
+  private final Counter falsePositive;
+
+  public MessageSubscriptionFilterMetrics(
+      final MeterRegistry meterRegistry, final SubscriptionType subscriptionType) {
+    skipped = registerLookupCounter(meterRegistry, subscriptionType, FilterResult.SKIPPED);
+    matched = registerLookupCounter(meterRegistry, subscriptionType, FilterResult.MATCHED);
+    falsePositive =
+        registerLookupCounter(meterRegistry, subscriptionType, FilterResult.FALSE_POSITIVE);
+  }
+
+  public void countLookup(final FilterResult result) {
+    switch (result) {
+      case SKIPPED -> skipped.increment();
+      case MATCHED -> matched.increment();
+      case FALSE_POSITIVE -> falsePositive.increment();
+      default -> throw new IllegalArgumentException("Unexpected filter result " + result);
+    }
+  }
+
+  private static Counter registerLookupCounter(
+      final MeterRegistry meterRegistry,
+      final SubscriptionType subscriptionType,
+      final FilterResult result) {
+    return Counter.builder(MESSAGE_SUBSCRIPTION_FILTER_LOOKUPS.getName())
+        .description(MESSAGE_SUBSCRIPTION_FILTER_LOOKUPS.getDescription())
+        .tag(EngineKeyNames.SUBSCRIPTION_TYPE.asString(), subscriptionType.toString())
+        .tag(EngineKeyNames.FILTER_RESULT.asString(), result.toString())
+        .register(meterRegistry);
+  }
+}
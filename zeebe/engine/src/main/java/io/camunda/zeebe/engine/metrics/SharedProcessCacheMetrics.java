@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import static io.camunda.zeebe.engine.metrics.SharedProcessCacheMetricsDoc.EVICTIONS;
+import static io.camunda.zeebe.engine.metrics.SharedProcessCacheMetricsDoc.HITS;
+import static io.camunda.zeebe.engine.metrics.SharedProcessCacheMetricsDoc.LOAD_TIME;
+import static io.camunda.zeebe.engine.metrics.SharedProcessCacheMetricsDoc.MISSES;
+import static io.camunda.zeebe.engine.metrics.SharedProcessCacheMetricsDoc.SIZE;
+
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.camunda.zeebe.util.micrometer.StatefulGauge;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+
+public final class SharedProcessCacheMetrics {
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter evictions;
+  private final Timer loadTime;
+  private final StatefulGauge size;
+
+  public SharedProcessCacheMetrics(final MeterRegistry meterRegistry) {
+    hits = registerCounter(meterRegistry, HITS);
+    misses = registerCounter(meterRegistry, MISSES);
+    evictions = registerCounter(meterRegistry, EVICTIONS);
+    loadTime = MicrometerUtil.buildTimer(LOAD_TIME).register(meterRegistry);
+    size =
+        StatefulGauge.builder(SIZE.getName())
+            .description(SIZE.getDescription())
+            .register(meterRegistry);
+  }
+
+  public void countHit() {
+    hits.increment();
+  }
+
+  public void countMiss() {
+    misses.increment();
+  }
+
+  public void countEviction() {
+    evictions.increment();
+  }
+
+  public <T> T measureLoad(final Supplier<T> loader) {
+    return loadTime.record(loader);
+  }
+
+  public void setSize(final long sizeInBytes) {
+    size.set(sizeInBytes);
+  }
+
+  private static Counter registerCounter(
+      final MeterRegistry meterRegistry, final SharedProcessCacheMetricsDoc doc) {
+    return Counter.builder(doc.getName()).description(doc.getDescription()).register(meterRegistry);
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+@SuppressWarnings("NullableProblems")
+public enum SharedProcessCacheMetricsDoc implements ExtendedMeterDocumentation {
+  /** Number of lookups which found the process in the shared cache */
+  HITS {
+    @Override
+    public String getName() {
+      return "zeebe.shared.process.cache.hits";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of lookups which found the process in the broker-wide process cache";
+    }
+  },
+
+  /** Number of lookups which had to transform the process */
+  MISSES {
+    @Override
+    public String getName() {
+      return "zeebe.shared.process.cache.misses";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of lookups which had to transform the process, as it was not found in the"
+          + " broker-wide process cache";
+    }
+  },
+
+  /** Number of processes evicted to stay within the memory limit */
+  EVICTIONS {
+    @Override
+    public String getName() {
+      return "zeebe.shared.process.cache.evictions";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of processes evicted from the broker-wide process cache to stay within its"
+          + " memory limit";
+    }
+  },
+
+  /** Time it took to transform a process which was not found in the cache */
+  LOAD_TIME {
+    private static final Duration[] BUCKETS =
+        MicrometerUtil.exponentialBucketDuration(100, 2, 14, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.shared.process.cache.load.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time it took to transform a process which was not found in the broker-wide process"
+          + " cache";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return BUCKETS;
+    }
+  },
+
+  /** Estimated memory used by the cached processes */
+  SIZE {
+    @Override
+    public String getName() {
+      return "zeebe.shared.process.cache.size.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Estimated memory used by the processes in the broker-wide process cache, based on"
+          + " the size of their BPMN resources";
+    }
+  }
+}
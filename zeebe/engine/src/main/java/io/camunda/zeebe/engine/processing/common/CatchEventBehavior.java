@@ -377,15 +377,16 @@ public final class CatchEventBehavior {
         .setProcessDefinitionKey(processDefinitionKey)
         .setTenantId(tenantId);
 
+    final long timerKey = keyGenerator.nextKey();
     sideEffectWriter.appendSideEffect(
         () -> {
           /* timerChecker implements onRecovered to recover from restart, so no need to schedule
           this in TimerCreatedApplier.*/
-          timerChecker.scheduleTimer(dueDate);
+          timerChecker.scheduleTimer(elementInstanceKey, timerKey, dueDate);
           return true;
         });
 
-    stateWriter.appendFollowUpEvent(keyGenerator.nextKey(), TimerIntent.CREATED, timerRecord);
+    stateWriter.appendFollowUpEvent(timerKey, TimerIntent.CREATED, timerRecord);
   }
 
   private void subscribeToSignalEvents(
@@ -8,37 +8,67 @@
 package io.camunda.zeebe.engine.processing.job;
 
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.scheduled.TimingWheel;
+import io.camunda.zeebe.engine.processing.scheduled.TimingWheel.EntryVisitor;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.function.Function;
+import org.agrona.collections.LongArrayList;
 
+/**
+ * Recurs the failed jobs once their backoff is over. The due dates of the backoffs are kept in a
+ * {@link TimingWheel}, which is filled from the state on the first run and by {@link
+ * #addBackoff(long, long)} whenever a backoff is added to the state, such that the state is only
+ * consulted for the jobs which are actually due.
+ */
 public final class JobBackoffChecker implements StreamProcessorLifecycleAware {
 
   static final long BACKOFF_RESOLUTION = Duration.ofMillis(100).toMillis();
 
+  /**
+   * With a resolution of 100 ms, four levels of 64 slots span about 19 days. Backoffs due later, or
+   * beyond the maximum number of backoffs, are loaded from the state once the wheel reaches them.
+   */
+  private static final int WHEEL_LEVELS = 4;
+
+  private static final int MAX_BACKOFFS_IN_MEMORY = 1_000_000;
+
+  /**
+   * A recurred job is kept in the wheel until its backoff is removed from the state, in case the
+   * recur command is not processed, e.g. because it was rejected on writing.
+   */
+  private static final long RETRY_RECUR_DELAY = Duration.ofSeconds(10).toMillis();
+
   private final DueDateChecker backOffDueDateChecker;
 
+  /**
+   * Holds the key and the backoff of a job per entry, as an entry is due after the backoff once the
+   * recur is retried.
+   */
+  private final TimingWheel backoffs;
+
   public JobBackoffChecker(final InstantSource clock, final JobState jobState) {
+    backoffs =
+        new TimingWheel(BACKOFF_RESOLUTION, WHEEL_LEVELS, MAX_BACKOFFS_IN_MEMORY, clock.millis());
     backOffDueDateChecker =
         new DueDateChecker(
-            BACKOFF_RESOLUTION,
-            false,
-            taskResultBuilder ->
-                jobState.findBackedOffJobs(
-                    clock.millis(),
-                    (key, record) ->
-                        taskResultBuilder.appendCommandRecord(
-                            key, JobIntent.RECUR_AFTER_BACKOFF, record)),
-            clock);
+            BACKOFF_RESOLUTION, false, new RecurJobsSideEffect(jobState, backoffs, clock), clock);
   }
 
   public void scheduleBackOff(final long dueDate) {
     backOffDueDateChecker.schedule(dueDate);
   }
 
+  /** Keeps track of a backoff which was added to the state. */
+  public void addBackoff(final long backoff, final long jobKey) {
+    backoffs.add(backoff, jobKey, backoff);
+  }
+
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
     backOffDueDateChecker.onRecovered(context);
@@ -63,4 +93,67 @@ public final class JobBackoffChecker implements StreamProcessorLifecycleAware {
   public void onResumed() {
     backOffDueDateChecker.onResumed();
   }
+
+  private static final class RecurJobsSideEffect implements Function<TaskResultBuilder, Long> {
+
+    private final JobState jobState;
+    private final TimingWheel backoffs;
+    private final InstantSource clock;
+    private final LongArrayList recurredJobs = new LongArrayList();
+
+    private RecurJobsSideEffect(
+        final JobState jobState, final TimingWheel backoffs, final InstantSource clock) {
+      this.jobState = jobState;
+      this.backoffs = backoffs;
+      this.clock = clock;
+    }
+
+    @Override
+    public Long apply(final TaskResultBuilder taskResultBuilder) {
+      final var now = clock.millis();
+
+      recurredJobs.clear();
+      boolean isCompleted;
+      do {
+        // the wheel may have reached backoffs which were spilled, e.g. after a large clock jump
+        if (backoffs.needsRefill()) {
+          backoffs.refill(this::forEachPersistedBackoff);
+        }
+        isCompleted =
+            backoffs.expire(
+                now, (dueDate, jobKey, backoff) -> recurJob(taskResultBuilder, backoff, jobKey));
+      } while (isCompleted && backoffs.needsRefill());
+
+      for (int i = 0; i < recurredJobs.size(); i += 2) {
+        backoffs.add(now + RETRY_RECUR_DELAY, recurredJobs.getLong(i), recurredJobs.getLong(i + 1));
+      }
+
+      return backoffs.nextDueDate();
+    }
+
+    private boolean recurJob(
+        final TaskResultBuilder taskResultBuilder, final long backoff, final long jobKey) {
+      if (!jobState.jobBackoffExists(jobKey, backoff)) {
+        // the job was recurred, canceled or its retries were updated in the meantime
+        return true;
+      }
+
+      final var job = jobState.getJob(jobKey);
+      if (job == null) {
+        return true;
+      }
+
+      if (!taskResultBuilder.appendCommandRecord(jobKey, JobIntent.RECUR_AFTER_BACKOFF, job)) {
+        return false;
+      }
+      recurredJobs.addLong(jobKey);
+      recurredJobs.addLong(backoff);
+      return true;
+    }
+
+    private void forEachPersistedBackoff(final long fromBackoff, final EntryVisitor visitor) {
+      jobState.forEachBackoff(
+          fromBackoff, (backoff, jobKey) -> visitor.visit(backoff, jobKey, backoff));
+    }
+  }
 }
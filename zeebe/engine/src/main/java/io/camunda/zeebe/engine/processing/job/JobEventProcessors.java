@@ -48,6 +48,16 @@ public final class JobEventProcessors {
 
     final var jobBackoffChecker =
         new JobBackoffChecker(clock, scheduledTaskStateFactory.get().getJobState());
+    final var jobTimeoutCheckerScheduler =
+        new JobTimeoutCheckerScheduler(
+            scheduledTaskStateFactory.get().getJobState(),
+            config.getJobsTimeoutCheckerPollingInterval(),
+            config.getJobsTimeoutCheckerBatchLimit(),
+            clock);
+    processingState
+        .getJobState()
+        .setDueDateListeners(
+            jobTimeoutCheckerScheduler::addDeadline, jobBackoffChecker::addBackoff);
     typedRecordProcessors
         .onCommand(
             ValueType.JOB,
@@ -115,12 +125,7 @@ public final class JobEventProcessors {
                 processingState.getKeyGenerator(),
                 jobMetrics,
                 authCheckBehavior))
-        .withListener(
-            new JobTimeoutCheckerScheduler(
-                scheduledTaskStateFactory.get().getJobState(),
-                config.getJobsTimeoutCheckerPollingInterval(),
-                config.getJobsTimeoutCheckerBatchLimit(),
-                clock))
+        .withListener(jobTimeoutCheckerScheduler)
         .withListener(jobBackoffChecker);
   }
 }
@@ -7,8 +7,9 @@
  */
 package io.camunda.zeebe.engine.processing.job;
 
+import io.camunda.zeebe.engine.processing.scheduled.TimingWheel;
+import io.camunda.zeebe.engine.processing.scheduled.TimingWheel.EntryVisitor;
 import io.camunda.zeebe.engine.state.immutable.JobState;
-import io.camunda.zeebe.engine.state.immutable.JobState.DeadlineIndex;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.scheduling.Task;
@@ -16,26 +17,53 @@ import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
+import org.agrona.collections.LongArrayList;
 import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Times out the activated jobs once their deadline has passed. The deadlines are kept in a {@link
+ * TimingWheel}, which is filled from the state on the first run and by {@link #addDeadline(long,
+ * long)} whenever a deadline is added to the state. The state is only consulted for the jobs which
+ * are actually timed out, and to load the deadlines which are too far in the future to be kept in
+ * memory once the wheel reaches them.
+ */
 final class JobTimeoutChecker implements Task {
   private static final Logger LOG = LoggerFactory.getLogger(JobTimeoutChecker.class);
 
-  private boolean shouldReschedule = false;
+  private static final long DEADLINE_RESOLUTION = Duration.ofMillis(100).toMillis();
+
+  /**
+   * With a resolution of 100 ms, four levels of 64 slots span about 19 days. Deadlines due later,
+   * or beyond the maximum number of deadlines, are loaded from the state once the wheel reaches
+   * them.
+   */
+  private static final int WHEEL_LEVELS = 4;
 
-  /** Keeps track of the timestamp to compare the message deadlines against. */
-  private long executionTimestamp = -1;
+  private static final int MAX_DEADLINES_IN_MEMORY = 1_000_000;
 
-  /** Keeps track of where to continue between iterations. */
-  private DeadlineIndex startAtIndex = null;
+  /**
+   * A timed out job is kept in the wheel until its deadline is removed from the state, in case the
+   * time out command is not processed, e.g. because it was rejected on writing.
+   */
+  private static final long RETRY_TIME_OUT_DELAY = Duration.ofSeconds(10).toMillis();
+
+  private boolean shouldReschedule = false;
 
   private final JobState state;
+
+  /**
+   * Holds the key and the deadline of a job per entry, as an entry is due after the deadline once
+   * the time out is retried.
+   */
+  private final TimingWheel deadlines;
+
   private ReadonlyStreamProcessorContext processingContext;
   private final Duration pollingInterval;
   private final int batchLimit;
   private final InstantSource clock;
+  private final LongArrayList timedOutJobs = new LongArrayList();
 
   public JobTimeoutChecker(
       final JobState state,
@@ -46,6 +74,8 @@ final class JobTimeoutChecker implements Task {
     this.pollingInterval = pollingInterval;
     this.batchLimit = batchLimit;
     this.clock = clock;
+    deadlines =
+        new TimingWheel(DEADLINE_RESOLUTION, WHEEL_LEVELS, MAX_DEADLINES_IN_MEMORY, clock.millis());
   }
 
   public void schedule(final Duration idleInterval) {
@@ -54,36 +84,39 @@ final class JobTimeoutChecker implements Task {
     }
   }
 
+  public void addDeadline(final long deadline, final long jobKey) {
+    deadlines.add(deadline, jobKey, deadline);
+  }
+
   @Override
   public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
     LOG.trace("Job timeout checker running...");
-    if (executionTimestamp == -1) {
-      executionTimestamp = clock.millis();
-    }
-
+    final var now = clock.millis();
     final var counter = new MutableInteger(0);
 
-    final DeadlineIndex lastVisitedIndex =
-        state.forEachTimedOutEntry(
-            executionTimestamp,
-            startAtIndex,
-            (key, record) -> {
-              if (counter.getAndIncrement() >= batchLimit) {
-                return false;
-              }
-
-              return taskResultBuilder.appendCommandRecord(key, JobIntent.TIME_OUT, record);
-            });
-
-    if (lastVisitedIndex != null) {
-      LOG.trace(
-          "Job timeout checker yielded early. Will reschedule immediately from {}",
-          lastVisitedIndex);
-      startAtIndex = lastVisitedIndex;
+    timedOutJobs.clear();
+    boolean isCompleted;
+    do {
+      // the wheel may have reached deadlines which were spilled, e.g. after a large clock jump
+      if (deadlines.needsRefill()) {
+        deadlines.refill(this::forEachPersistedDeadline);
+      }
+      isCompleted =
+          deadlines.expire(
+              now,
+              (dueDate, jobKey, deadline) ->
+                  timeOutJob(taskResultBuilder, counter, deadline, jobKey));
+    } while (isCompleted && deadlines.needsRefill());
+
+    for (int i = 0; i < timedOutJobs.size(); i += 2) {
+      deadlines.add(
+          now + RETRY_TIME_OUT_DELAY, timedOutJobs.getLong(i), timedOutJobs.getLong(i + 1));
+    }
+
+    if (!isCompleted) {
+      LOG.trace("Job timeout checker yielded early. Will reschedule immediately");
       schedule(Duration.ZERO);
     } else {
-      executionTimestamp = -1;
-      startAtIndex = null;
       schedule(pollingInterval);
     }
 
@@ -92,6 +125,38 @@ final class JobTimeoutChecker implements Task {
     return taskResultBuilder.build();
   }
 
+  private boolean timeOutJob(
+      final TaskResultBuilder taskResultBuilder,
+      final MutableInteger counter,
+      final long deadline,
+      final long jobKey) {
+    if (!state.jobDeadlineExists(jobKey, deadline)) {
+      // the job was completed, failed or timed out in the meantime, or its deadline was updated
+      return true;
+    }
+
+    final var job = state.getJob(jobKey);
+    if (job == null) {
+      LOG.warn("Expected to find job with key {}, but no job found", jobKey);
+      return true;
+    }
+
+    if (counter.get() >= batchLimit
+        || !taskResultBuilder.appendCommandRecord(jobKey, JobIntent.TIME_OUT, job)) {
+      return false;
+    }
+
+    counter.increment();
+    timedOutJobs.addLong(jobKey);
+    timedOutJobs.addLong(deadline);
+    return true;
+  }
+
+  private void forEachPersistedDeadline(final long fromDeadline, final EntryVisitor visitor) {
+    state.forEachDeadline(
+        fromDeadline, (deadline, jobKey) -> visitor.visit(deadline, jobKey, deadline));
+  }
+
   public void setProcessingContext(final ReadonlyStreamProcessorContext processingContext) {
     this.processingContext = processingContext;
   }
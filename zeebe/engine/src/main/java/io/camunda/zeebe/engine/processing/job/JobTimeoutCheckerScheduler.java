@@ -29,6 +29,11 @@ public final class JobTimeoutCheckerScheduler implements StreamProcessorLifecycl
     jobTimeoutChecker = new JobTimeoutChecker(state, pollingInterval, batchLimit, clock);
   }
 
+  /** Keeps track of a deadline which was added to the state, see {@link JobTimeoutChecker}. */
+  public void addDeadline(final long deadline, final long jobKey) {
+    jobTimeoutChecker.addDeadline(deadline, jobKey);
+  }
+
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext processingContext) {
     jobTimeoutChecker.setProcessingContext(processingContext);
@@ -0,0 +1,406 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import org.agrona.collections.LongArrayList;
+
+/**
+ * A hierarchical timing wheel, which keeps entries with a due date in memory and expires them in
+ * order of their due date, without scanning the persisted state.
+ *
+ * <p>Every level of the wheel has {@value #SLOTS} slots. A slot of the first level spans a single
+ * tick, a slot of every further level spans all slots of the level below. An entry is placed on the
+ * lowest level which can hold it relative to the current tick, and is moved down a level whenever
+ * the wheel reaches its slot. Adding an entry is therefore constant in time, and expiring costs
+ * only the due entries plus the slots passed in between.
+ *
+ * <p>The wheel only holds a window of the entries, which bounds its memory: entries due after the
+ * {@link #coverage() coverage} of the wheel are spilled, i.e. they're not kept in memory and have
+ * to be looked up from the persisted state again by {@link #refill(Source)} once the wheel has room
+ * for them. The coverage is limited by the span of the wheel and by the maximum number of entries.
+ * The wheel holds every added entry which is due before its coverage, and none after it.
+ *
+ * <p>An entry consists of its due date, a key and an additional value, e.g. the key of the element
+ * instance of a timer. The wheel doesn't deduplicate entries.
+ *
+ * <p>This class is thread safe, but the visitors may not access the wheel.
+ */
+public final class TimingWheel {
+
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+  private static final int ENTRY_LENGTH = 3;
+
+  private final long tickMillis;
+  private final int levels;
+  private final int maxEntries;
+
+  /** The entries of every slot per level, stored as (due date, key, value) triplets. */
+  private final LongArrayList[][] slots;
+
+  private final int[] levelSizes;
+
+  private long currentTick;
+  private int size;
+
+  /** All entries due before the coverage are held in memory, all others are spilled. */
+  private long coverage;
+
+  /**
+   * A lower bound for the due date of the earliest spilled entry, or {@link Long#MAX_VALUE} if no
+   * entry has been spilled.
+   */
+  private long earliestSpilledDueDate;
+
+  /**
+   * Creates an empty wheel. Since nothing has been loaded yet, all entries are considered spilled
+   * until the first {@link #refill(Source)}.
+   *
+   * @param tickMillis the resolution of the wheel in ms
+   * @param levels the number of levels, which determine the span of the wheel, i.e. {@code
+   *     tickMillis * 64^levels}
+   * @param maxEntries the maximum number of entries to keep in memory
+   * @param now the current time in ms
+   */
+  public TimingWheel(
+      final long tickMillis, final int levels, final int maxEntries, final long now) {
+    if (tickMillis <= 0 || levels <= 0 || levels * SLOT_BITS >= Long.SIZE - 1 || maxEntries <= 0) {
+      throw new IllegalArgumentException(
+          ("Expected a positive tick, a positive number of levels which fits into a long and a"
+                  + " positive maximum number of entries, but got tick %d, %d levels and %d"
+                  + " entries")
+              .formatted(tickMillis, levels, maxEntries));
+    }
+
+    this.tickMillis = tickMillis;
+    this.levels = levels;
+    this.maxEntries = maxEntries;
+
+    slots = new LongArrayList[levels][SLOTS];
+    for (int level = 0; level < levels; level++) {
+      for (int slot = 0; slot < SLOTS; slot++) {
+        slots[level][slot] = new LongArrayList(0, Long.MIN_VALUE);
+      }
+    }
+    levelSizes = new int[levels];
+
+    currentTick = Math.max(0, now) / tickMillis;
+    coverage = 0;
+    earliestSpilledDueDate = 0;
+  }
+
+  /**
+   * Adds an entry to the wheel, unless it is due after the coverage of the wheel. If the wheel is
+   * full, the entries due furthest in the future are spilled to make room.
+   *
+   * @return true if the entry was added, false if it was spilled
+   */
+  public synchronized boolean add(final long dueDate, final long key, final long value) {
+    if (dueDate < coverage && size >= maxEntries) {
+      spillFurthestEntries();
+    }
+
+    if (dueDate >= coverage) {
+      earliestSpilledDueDate = Math.min(earliestSpilledDueDate, dueDate);
+      return false;
+    }
+
+    place(dueDate, key, value);
+    return true;
+  }
+
+  /**
+   * Visits all entries which are due at the given time, in order of their due date. An entry is
+   * removed from the wheel once it was visited, unless the visitor returns false, which also stops
+   * the iteration.
+   *
+   * @return false if the visitor stopped the iteration, true otherwise
+   */
+  public synchronized boolean expire(final long now, final EntryVisitor visitor) {
+    final long targetTick = Math.max(0, now) / tickMillis;
+
+    while (true) {
+      if (!expireCurrentSlot(now, visitor)) {
+        return false;
+      }
+      if (currentTick >= targetTick) {
+        return true;
+      }
+      advance(targetTick);
+    }
+  }
+
+  /**
+   * @return the due date of the next entry, including spilled ones, or -1 if there is none
+   */
+  public synchronized long nextDueDate() {
+    final long next = Math.min(earliestEntryDueDate(), earliestSpilledDueDate);
+    return next == Long.MAX_VALUE ? -1 : next;
+  }
+
+  /**
+   * @return true if spilled entries are known to fit into the wheel again
+   */
+  public synchronized boolean needsRefill() {
+    return earliestSpilledDueDate < horizon() && size <= maxEntries / 2;
+  }
+
+  /**
+   * Loads the spilled entries which fit into the wheel again from the given source, and extends the
+   * coverage of the wheel accordingly. The wheel is locked while loading, such that no entry can be
+   * added concurrently, which the source might not see yet.
+   */
+  public synchronized void refill(final Source source) {
+    final long horizon = horizon();
+    final long from = coverage;
+
+    final var loader =
+        new EntryVisitor() {
+          private long lastDueDate = -1;
+          private long nextDueDate = Long.MAX_VALUE;
+          private long newCoverage = horizon;
+
+          @Override
+          public boolean visit(final long dueDate, final long key, final long value) {
+            // entries with the same due date are always loaded together, since the coverage can't
+            // separate them
+            final boolean isFull = size >= maxEntries && dueDate != lastDueDate;
+            if (dueDate >= horizon || isFull) {
+              nextDueDate = dueDate;
+              newCoverage = Math.min(horizon, dueDate);
+              return false;
+            }
+
+            place(dueDate, key, value);
+            lastDueDate = dueDate;
+            return true;
+          }
+        };
+    source.forEachEntry(from, loader);
+
+    coverage = Math.max(coverage, loader.newCoverage);
+    earliestSpilledDueDate = loader.nextDueDate;
+  }
+
+  /**
+   * @return the number of entries in the wheel
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * @return the due date before which all entries are held in memory
+   */
+  public synchronized long coverage() {
+    return coverage;
+  }
+
+  /** The end of the span of the wheel, i.e. the first due date that can't be held anymore. */
+  private long horizon() {
+    final int spanBits = SLOT_BITS * levels;
+    final long horizonTick = ((currentTick >> spanBits) + 1) << spanBits;
+    return horizonTick > Long.MAX_VALUE / tickMillis ? Long.MAX_VALUE : horizonTick * tickMillis;
+  }
+
+  private void place(final long dueDate, final long key, final long value) {
+    final long tick = Math.max(currentTick, dueDate / tickMillis);
+
+    for (int level = 0; level < levels; level++) {
+      final int parentShift = SLOT_BITS * (level + 1);
+      if (tick >> parentShift == currentTick >> parentShift) {
+        final var slot = slots[level][(int) (tick >> (SLOT_BITS * level)) & SLOT_MASK];
+        slot.addLong(dueDate);
+        slot.addLong(key);
+        slot.addLong(value);
+        levelSizes[level]++;
+        size++;
+        return;
+      }
+    }
+
+    throw new IllegalStateException(
+        "Expected to place an entry due at %d before the horizon %d of the wheel, but it's not"
+            .formatted(dueDate, horizon()));
+  }
+
+  /**
+   * Expires the due entries of the slot of the current tick. Entries of the slot that are not due
+   * yet are kept, e.g. because the current tick is only partially over.
+   *
+   * @return false if the visitor stopped the iteration
+   */
+  private boolean expireCurrentSlot(final long now, final EntryVisitor visitor) {
+    final var slot = slots[0][(int) currentTick & SLOT_MASK];
+    final int length = slot.size();
+    int kept = 0;
+    boolean isStopped = false;
+
+    for (int i = 0; i < length; i += ENTRY_LENGTH) {
+      final long dueDate = slot.getLong(i);
+      final long key = slot.getLong(i + 1);
+      final long value = slot.getLong(i + 2);
+
+      final boolean isExpired = !isStopped && dueDate <= now && visitor.visit(dueDate, key, value);
+      if (isExpired) {
+        levelSizes[0]--;
+        size--;
+        continue;
+      }
+
+      isStopped |= dueDate <= now;
+      slot.setLong(kept++, dueDate);
+      slot.setLong(kept++, key);
+      slot.setLong(kept++, value);
+    }
+
+    removeTail(slot, kept);
+    return !isStopped;
+  }
+
+  /**
+   * Moves the wheel to the next tick, or further towards the target tick if the lower levels are
+   * empty anyway, and moves the entries of the reached slots one level down.
+   */
+  private void advance(final long targetTick) {
+    int emptyLevels = 0;
+    while (emptyLevels < levels && levelSizes[emptyLevels] == 0) {
+      emptyLevels++;
+    }
+
+    if (emptyLevels == levels) {
+      currentTick = targetTick;
+      return;
+    }
+
+    final int shift = SLOT_BITS * emptyLevels;
+    final long nextTick = ((currentTick >> shift) + 1) << shift;
+    currentTick = Math.min(nextTick, targetTick);
+
+    // move the entries of the reached slots down, starting with the highest level which wrapped
+    for (int level = levels - 1; level > 0; level--) {
+      final long levelMask = (1L << (SLOT_BITS * level)) - 1;
+      if ((currentTick & levelMask) == 0) {
+        cascade(level, (int) (currentTick >> (SLOT_BITS * level)) & SLOT_MASK);
+      }
+    }
+  }
+
+  private void cascade(final int level, final int slotIndex) {
+    final var slot = slots[level][slotIndex];
+    final int length = slot.size();
+    if (length == 0) {
+      return;
+    }
+
+    levelSizes[level] -= length / ENTRY_LENGTH;
+    size -= length / ENTRY_LENGTH;
+
+    // the entries of the slot are re-placed relative to the current tick, which puts them on a
+    // lower level; copy them first, since the slot may be reused by the lower levels
+    final long[] entries = new long[length];
+    for (int i = 0; i < length; i++) {
+      entries[i] = slot.getLong(i);
+    }
+    slot.clear();
+    slot.trimToSize();
+
+    for (int i = 0; i < length; i += ENTRY_LENGTH) {
+      place(entries[i], entries[i + 1], entries[i + 2]);
+    }
+  }
+
+  /**
+   * Spills the entries which are due furthest in the future, by dropping whole slots from the end
+   * of the wheel, until a quarter of the wheel is free again. The coverage is reduced to the start
+   * of the earliest dropped slot, which keeps the wheel consistent with the spilled entries.
+   */
+  private void spillFurthestEntries() {
+    final int targetSize = maxEntries - maxEntries / 4;
+
+    for (int level = levels - 1; level >= 0 && size > targetSize; level--) {
+      final int shift = SLOT_BITS * level;
+      final int currentSlot = (int) (currentTick >> shift) & SLOT_MASK;
+
+      for (int slotIndex = SLOT_MASK; slotIndex > currentSlot && size > targetSize; slotIndex--) {
+        final var slot = slots[level][slotIndex];
+        if (slot.isEmpty()) {
+          continue;
+        }
+
+        final int entries = slot.size() / ENTRY_LENGTH;
+        levelSizes[level] -= entries;
+        size -= entries;
+        slot.clear();
+        slot.trimToSize();
+
+        final long parentShift = shift + SLOT_BITS;
+        final long slotStartTick =
+            ((currentTick >> parentShift) << parentShift) | ((long) slotIndex << shift);
+        coverage = Math.min(coverage, slotStartTick * tickMillis);
+        earliestSpilledDueDate = Math.min(earliestSpilledDueDate, coverage);
+      }
+    }
+  }
+
+  private long earliestEntryDueDate() {
+    for (int level = 0; level < levels; level++) {
+      if (levelSizes[level] == 0) {
+        continue;
+      }
+
+      final int shift = SLOT_BITS * level;
+      // the current slot of the higher levels was already moved down
+      final int firstSlot = ((int) (currentTick >> shift) & SLOT_MASK) + (level == 0 ? 0 : 1);
+      for (int slotIndex = firstSlot; slotIndex < SLOTS; slotIndex++) {
+        final var slot = slots[level][slotIndex];
+        if (!slot.isEmpty()) {
+          long earliest = Long.MAX_VALUE;
+          for (int i = 0; i < slot.size(); i += ENTRY_LENGTH) {
+            earliest = Math.min(earliest, slot.getLong(i));
+          }
+          return earliest;
+        }
+      }
+    }
+    return Long.MAX_VALUE;
+  }
+
+  private static void removeTail(final LongArrayList list, final int newSize) {
+    if (newSize == 0) {
+      list.clear();
+      list.trimToSize();
+      return;
+    }
+
+    for (int i = list.size() - 1; i >= newSize; i--) {
+      list.removeAt(i);
+    }
+  }
+
+  @FunctionalInterface
+  public interface EntryVisitor {
+
+    /**
+     * @return true to continue with the next entry, false to stop
+     */
+    boolean visit(long dueDate, long key, long value);
+  }
+
+  /** The persisted entries of the wheel, e.g. the due dates of the timers in the state. */
+  @FunctionalInterface
+  public interface Source {
+
+    /**
+     * Visits all entries which are due at or after the given due date, in order of their due date,
+     * until the visitor returns false.
+     */
+    void forEachEntry(long fromDueDate, EntryVisitor visitor);
+  }
+}
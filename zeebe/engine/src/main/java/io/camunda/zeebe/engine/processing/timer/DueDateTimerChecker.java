@@ -8,6 +8,8 @@
 package io.camunda.zeebe.engine.processing.timer;
 
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
+import io.camunda.zeebe.engine.processing.scheduled.TimingWheel;
+import io.camunda.zeebe.engine.processing.scheduled.TimingWheel.EntryVisitor;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
 import io.camunda.zeebe.engine.state.instance.TimerInstance;
@@ -20,27 +22,54 @@ import io.camunda.zeebe.util.FeatureFlags;
 import java.time.Duration;
 import java.time.InstantSource;
 import java.util.function.Function;
+import org.agrona.collections.LongArrayList;
 
+/**
+ * Triggers the timers once they're due. The due timers are kept in a {@link TimingWheel}, which is
+ * filled from the state on recovery and by {@link #scheduleTimer(long, long, long)} when a timer is
+ * created. The state is only consulted for timers which are actually due, and to load the timers
+ * which are due too far in the future to be kept in memory once the wheel reaches them.
+ */
 public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private static final double GIVE_YIELD_FACTOR = 0.5;
+
+  /**
+   * With a resolution of 100 ms, four levels of 64 slots span about 19 days. Timers due later, or
+   * beyond the maximum number of timers, are loaded from the state once the wheel reaches them.
+   */
+  private static final int WHEEL_LEVELS = 4;
+
+  private static final int MAX_TIMERS_IN_MEMORY = 1_000_000;
+
+  /**
+   * A triggered timer is kept in the wheel until it's removed from the state, in case the trigger
+   * command is not processed, e.g. because it was rejected on writing.
+   */
+  private static final long RETRY_TRIGGER_DELAY = Duration.ofSeconds(10).toMillis();
+
   private final DueDateChecker dueDateChecker;
+  private final TimingWheel timingWheel;
 
   public DueDateTimerChecker(
       final TimerInstanceState timerInstanceState,
       final FeatureFlags featureFlags,
       final InstantSource clock) {
+    timingWheel =
+        new TimingWheel(TIMER_RESOLUTION, WHEEL_LEVELS, MAX_TIMERS_IN_MEMORY, clock.millis());
     dueDateChecker =
         new DueDateChecker(
             TIMER_RESOLUTION,
             featureFlags.enableTimerDueDateCheckerAsync(),
             new TriggerTimersSideEffect(
-                timerInstanceState, clock, featureFlags.yieldingDueDateChecker()),
+                timerInstanceState, timingWheel, clock, featureFlags.yieldingDueDateChecker()),
             clock);
   }
 
-  public void scheduleTimer(final long dueDate) {
+  public void scheduleTimer(
+      final long elementInstanceKey, final long timerKey, final long dueDate) {
+    timingWheel.add(dueDate, timerKey, elementInstanceKey);
     dueDateChecker.schedule(dueDate);
   }
 
@@ -75,13 +104,17 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     private final InstantSource clock;
 
     private final TimerInstanceState timerInstanceState;
+    private final TimingWheel timingWheel;
     private final boolean yieldControl;
+    private final LongArrayList triggeredTimers = new LongArrayList();
 
     public TriggerTimersSideEffect(
         final TimerInstanceState timerInstanceState,
+        final TimingWheel timingWheel,
         final InstantSource clock,
         final boolean yieldControl) {
       this.timerInstanceState = timerInstanceState;
+      this.timingWheel = timingWheel;
       this.clock = clock;
       this.yieldControl = yieldControl;
     }
@@ -101,7 +134,49 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
         timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
       }
 
-      return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
+      triggeredTimers.clear();
+      boolean isCompleted;
+      do {
+        // the wheel may have reached timers which were spilled, e.g. after a large clock jump
+        if (timingWheel.needsRefill()) {
+          timingWheel.refill(this::forEachPersistedTimer);
+        }
+        isCompleted =
+            timingWheel.expire(
+                now,
+                (dueDate, timerKey, elementInstanceKey) ->
+                    triggerTimer(timerVisitor, elementInstanceKey, timerKey));
+      } while (isCompleted && timingWheel.needsRefill());
+
+      for (int i = 0; i < triggeredTimers.size(); i += 2) {
+        timingWheel.add(
+            now + RETRY_TRIGGER_DELAY, triggeredTimers.getLong(i + 1), triggeredTimers.getLong(i));
+      }
+
+      return timingWheel.nextDueDate();
+    }
+
+    private boolean triggerTimer(
+        final TimerVisitor timerVisitor, final long elementInstanceKey, final long timerKey) {
+      final var timerInstance = timerInstanceState.get(elementInstanceKey, timerKey);
+      if (timerInstance == null) {
+        // the timer was already triggered or canceled
+        return true;
+      }
+
+      if (!timerVisitor.visit(timerInstance)) {
+        return false;
+      }
+      triggeredTimers.addLong(elementInstanceKey);
+      triggeredTimers.addLong(timerKey);
+      return true;
+    }
+
+    private void forEachPersistedTimer(final long fromDueDate, final EntryVisitor visitor) {
+      timerInstanceState.forEachDueDate(
+          fromDueDate,
+          (dueDate, elementInstanceKey, timerKey) ->
+              visitor.visit(dueDate, timerKey, elementInstanceKey));
     }
   }
 
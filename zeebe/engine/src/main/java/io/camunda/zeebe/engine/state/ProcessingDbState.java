@@ -204,6 +204,18 @@ public class ProcessingDbState implements MutableProcessingState {
     messageState.onRecovered(context);
   }
 
+  @Override
+  public void onClose() {
+    // releases the references the cached processes hold on the shared process cache, which
+    // outlives this state
+    processState.clearCache();
+  }
+
+  @Override
+  public void onFailed() {
+    processState.clearCache();
+  }
+
   @Override
   public MutableDeploymentState getDeploymentState() {
     return deploymentState;
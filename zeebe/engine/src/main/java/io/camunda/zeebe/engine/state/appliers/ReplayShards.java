@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.appliers;
+
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.variable.DbVariableState;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRelated;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+
+/**
+ * Decides which events can be replayed in parallel, see {@link RecordProcessor#getReplayShard}. The
+ * events are sharded by the key of their process instance, since the appliers of these events only
+ * access the state of the instance, e.g. its element instances, variables, jobs, timers, incidents
+ * and process message subscriptions.
+ *
+ * <p>All other events are unsharded, as well as the events of a process instance which access the
+ * state of another instance or the global state:
+ *
+ * <ul>
+ *   <li>the events of a call activity, and of a called process, which access both instances
+ *   <li>the completion and termination of a process, which releases the correlation key of the
+ *       message that started it
+ *   <li>the migration of an element, which may move its message subscriptions
+ *   <li>the variables whose values are stored in shared blobs, or may release a shared blob
+ *   <li>the completion and termination of any element while a blob exists, since removing the
+ *       variables of its scope may release a shared blob
+ * </ul>
+ */
+public final class ReplayShards {
+
+  private final VariableState variableState;
+
+  public ReplayShards(final VariableState variableState) {
+    this.variableState = variableState;
+  }
+
+  public long getShard(final TypedRecord<?> event) {
+    return switch (event.getValueType()) {
+      case PROCESS_INSTANCE -> getProcessInstanceShard(event);
+      case VARIABLE -> getVariableShard((VariableRecord) event.getValue());
+      case JOB, TIMER, INCIDENT, PROCESS_MESSAGE_SUBSCRIPTION ->
+          getShard(((ProcessInstanceRelated) event.getValue()).getProcessInstanceKey());
+      default -> RecordProcessor.UNSHARDED;
+    };
+  }
+
+  private long getProcessInstanceShard(final TypedRecord<?> event) {
+    final var record = (ProcessInstanceRecord) event.getValue();
+    final var intent = (ProcessInstanceIntent) event.getIntent();
+    final var elementType = record.getBpmnElementType();
+    if (elementType == BpmnElementType.CALL_ACTIVITY
+        || record.getParentProcessInstanceKey() > 0
+        || intent == ProcessInstanceIntent.ELEMENT_MIGRATED
+        || intent == ProcessInstanceIntent.ANCESTOR_MIGRATED) {
+      return RecordProcessor.UNSHARDED;
+    }
+
+    if ((intent == ProcessInstanceIntent.ELEMENT_COMPLETED
+            || intent == ProcessInstanceIntent.ELEMENT_TERMINATED)
+        && (elementType == BpmnElementType.PROCESS || variableState.hasBlobs())) {
+      return RecordProcessor.UNSHARDED;
+    }
+
+    return getShard(record.getProcessInstanceKey());
+  }
+
+  private long getVariableShard(final VariableRecord record) {
+    // while any blob exists, a smaller value may replace a value that references a shared blob
+    if (record.getValueBuffer().capacity() >= DbVariableState.BLOB_THRESHOLD
+        || variableState.hasBlobs()) {
+      return RecordProcessor.UNSHARDED;
+    }
+    return getShard(record.getProcessInstanceKey());
+  }
+
+  private static long getShard(final long processInstanceKey) {
+    return processInstanceKey > 0 ? processInstanceKey : RecordProcessor.UNSHARDED;
+  }
+}
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
@@ -109,6 +110,9 @@ public final class DbProcessState implements MutableProcessState {
 
   private final VersionManager versionManager;
 
+  /** Optional, broker-wide cache of the transformed processes; null if not enabled. */
+  private final SharedProcessCache sharedProcessCache;
+
   public DbProcessState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
@@ -180,8 +184,14 @@ public final class DbProcessState implements MutableProcessState {
         new VersionManager(
             DEFAULT_VERSION_VALUE, zeebeDb, ZbColumnFamilies.PROCESS_VERSION, transactionContext);
 
+    sharedProcessCache = config.getSharedProcessCache();
     processByTenantAndKeyCache =
-        CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
+        sharedProcessCache == null
+            ? CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build()
+            : CacheBuilder.newBuilder()
+                .maximumSize(config.getProcessCacheCapacity())
+                .removalListener(this::releaseSharedProcess)
+                .build();
     processesByTenantAndProcessIdAndVersionCache =
         CacheBuilder.newBuilder().maximumSize(config.getProcessCacheCapacity()).build();
     processDefinitionKeyByTenantAndProcessIdAndDeploymentKeyCache =
@@ -380,22 +390,14 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
-
     final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
+        sharedProcessCache == null
+            ? transformProcess(copiedProcess)
+            : sharedProcessCache.acquire(
+                copiedProcess.getTenantId(),
+                copiedProcess.getKey(),
+                copiedProcess.getResource().capacity(),
+                () -> transformProcess(copiedProcess));
 
     final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
 
@@ -404,9 +406,36 @@ public final class DbProcessState implements MutableProcessState {
     return deployedProcess;
   }
 
+  private ExecutableProcess transformProcess(final PersistedProcess persistedProcess) {
+    final BpmnModelInstance modelInstance =
+        readModelInstanceFromBuffer(persistedProcess.getResource());
+    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be"
+                            + " found.",
+                        persistedProcess.getKey())));
+  }
+
+  private void releaseSharedProcess(
+      final RemovalNotification<TenantIdAndProcessDefinitionKey, DeployedProcess> notification) {
+    final var key = notification.getKey();
+    sharedProcessCache.release(
+        key.tenantId(), key.processDefinitionKey(), notification.getValue().getProcess());
+  }
+
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
     try (final DirectBufferInputStream stream = new DirectBufferInputStream(buffer)) {
-      return Bpmn.readModelFromStream(stream);
+      // the resource was validated when it was deployed, so we can skip the expensive validation
+      // which would otherwise stall the processing on every cache miss
+      return Bpmn.readValidModelFromStream(stream);
     }
   }
 
@@ -0,0 +1,151 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.engine.metrics.SharedProcessCacheMetrics;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.state.deployment.DbProcessState.TenantIdAndProcessDefinitionKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A cache of transformed processes which is shared by all partitions of a broker. Deployments are
+ * distributed to all partitions with the same process definition key, so without it every partition
+ * would transform and hold its own copy of the same process.
+ *
+ * <p>A cached {@link ExecutableProcess} is never modified after its transformation, which is what
+ * makes it safe to share it between the partitions. Each partition acquires a reference when it
+ * adds a process to its own cache, and releases it again once the process is removed from it.
+ *
+ * <p>The memory used by the cache is bounded by the size of the BPMN resources of the cached
+ * processes, which serves as an estimate for the size of the transformed process. Once the limit is
+ * exceeded, processes which are not referenced by any partition are evicted first, least recently
+ * used first. If that is not enough, referenced processes are evicted as well; the partitions still
+ * hold on to them, they are just not shared anymore.
+ *
+ * <p>This class is thread safe. A process is transformed outside of the lock, so a slow
+ * transformation does not block other partitions.
+ */
+public final class SharedProcessCache {
+
+  private final long maxSizeInBytes;
+  private final SharedProcessCacheMetrics metrics;
+
+  // access ordered, i.e. iterates from least to most recently used
+  private final LinkedHashMap<TenantIdAndProcessDefinitionKey, Entry> entries =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private long sizeInBytes;
+
+  public SharedProcessCache(final long maxSizeInBytes, final MeterRegistry meterRegistry) {
+    this.maxSizeInBytes = maxSizeInBytes;
+    metrics = new SharedProcessCacheMetrics(meterRegistry);
+  }
+
+  /**
+   * Returns the cached process with the given key, or transforms it using the given loader if it is
+   * not cached yet, and acquires a reference to it. Every call must be paired with a call to {@link
+   * #release(String, long, ExecutableProcess)} once the caller no longer holds on to the process.
+   *
+   * @param tenantId the tenant which owns the process
+   * @param processDefinitionKey the key of the process
+   * @param sizeInBytes the size of the BPMN resource of the process
+   * @param loader transforms the process if it is not cached
+   * @return the shared, transformed process
+   */
+  public ExecutableProcess acquire(
+      final String tenantId,
+      final long processDefinitionKey,
+      final int sizeInBytes,
+      final Supplier<ExecutableProcess> loader) {
+    final var key = new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey);
+    synchronized (this) {
+      final var entry = entries.get(key);
+      if (entry != null) {
+        entry.references++;
+        metrics.countHit();
+        return entry.process;
+      }
+    }
+
+    metrics.countMiss();
+    final var process = metrics.measureLoad(loader);
+
+    synchronized (this) {
+      final var entry = entries.get(key);
+      if (entry != null) {
+        // another partition transformed the same process concurrently; share its copy
+        entry.references++;
+        return entry.process;
+      }
+
+      entries.put(key, new Entry(process, sizeInBytes));
+      this.sizeInBytes += sizeInBytes;
+      evictIfNecessary();
+      return process;
+    }
+  }
+
+  /**
+   * Releases a reference acquired by {@link #acquire(String, long, int, Supplier)}. Releasing a
+   * process which was evicted in the meantime has no effect, even if the same process was cached
+   * again since then, as the reference was acquired for the evicted copy.
+   *
+   * @param tenantId the tenant which owns the process
+   * @param processDefinitionKey the key of the process
+   * @param process the process which was returned when the reference was acquired
+   */
+  public synchronized void release(
+      final String tenantId, final long processDefinitionKey, final ExecutableProcess process) {
+    final var entry =
+        entries.get(new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey));
+    if (entry != null && entry.process == process && entry.references > 0) {
+      entry.references--;
+    }
+  }
+
+  synchronized int references(final String tenantId, final long processDefinitionKey) {
+    final var entry =
+        entries.get(new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey));
+    return entry == null ? 0 : entry.references;
+  }
+
+  synchronized boolean contains(final String tenantId, final long processDefinitionKey) {
+    return entries.containsKey(new TenantIdAndProcessDefinitionKey(tenantId, processDefinitionKey));
+  }
+
+  private void evictIfNecessary() {
+    evictWhile(entry -> entry.references == 0);
+    evictWhile(entry -> true);
+    metrics.setSize(sizeInBytes);
+  }
+
+  private void evictWhile(final Predicate<Entry> isEvictable) {
+    final var iterator = entries.values().iterator();
+    while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+      final var entry = iterator.next();
+      if (isEvictable.test(entry)) {
+        iterator.remove();
+        sizeInBytes -= entry.sizeInBytes;
+        metrics.countEviction();
+      }
+    }
+  }
+
+  private static final class Entry {
+    private final ExecutableProcess process;
+    private final int sizeInBytes;
+    private int references = 1;
+
+    private Entry(final ExecutableProcess process, final int sizeInBytes) {
+      this.process = process;
+      this.sizeInBytes = sizeInBytes;
+    }
+  }
+}
@@ -48,11 +48,36 @@ public interface JobState {
 
   boolean jobDeadlineExists(final long jobKey, final long deadline);
 
+  boolean jobBackoffExists(final long jobKey, final long backoff);
+
   long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback);
 
+  /**
+   * Presents the deadlines of the activated jobs, which are due at or after {@code fromDeadline},
+   * to the {@code visitor} in ascending order, until the visitor returns {@code false}. The jobs
+   * themselves are not read.
+   */
+  void forEachDeadline(long fromDeadline, DueDateVisitor visitor);
+
+  /**
+   * Presents the due dates of the backed off jobs, which are due at or after {@code fromBackoff},
+   * to the {@code visitor} in ascending order, until the visitor returns {@code false}. The jobs
+   * themselves are not read.
+   */
+  void forEachBackoff(long fromBackoff, DueDateVisitor visitor);
+
   /** Index to point to a specific position in the jobs with deadline column family. */
   record DeadlineIndex(long deadline, long key) {}
 
+  @FunctionalInterface
+  interface DueDateVisitor {
+
+    /**
+     * @return {@code true} to continue with the next due date, or {@code false} to stop
+     */
+    boolean visit(long dueDate, long jobKey);
+  }
+
   enum State {
     ACTIVATABLE((byte) 0),
     ACTIVATED((byte) 1),
@@ -19,6 +19,13 @@ public interface TimerInstanceState {
    */
   long processTimersWithDueDateBefore(long timestamp, TimerVisitor consumer);
 
+  /**
+   * Presents the due dates of the timers, which are due at or after {@code fromDueDate}, to the
+   * {@code visitor} in ascending order, until the visitor returns {@code false}. The timer
+   * instances themselves are not read.
+   */
+  void forEachDueDate(long fromDueDate, DueDateVisitor visitor);
+
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
    * iteration.
@@ -36,4 +43,13 @@ public interface TimerInstanceState {
      */
     boolean visit(TimerInstance timer);
   }
+
+  @FunctionalInterface
+  interface DueDateVisitor {
+
+    /**
+     * @return {@code true} to continue with the next due date, or {@code false} to stop
+     */
+    boolean visit(long dueDate, long elementInstanceKey, long timerKey);
+  }
 }
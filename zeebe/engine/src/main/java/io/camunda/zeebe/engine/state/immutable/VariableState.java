@@ -33,6 +33,12 @@ public interface VariableState {
 
   boolean isEmpty();
 
+  /**
+   * @return true if any variable value is stored out-of-line in a blob, which may be shared by the
+   *     variables of several process instances
+   */
+  boolean hasBlobs();
+
   /**
    * Returns a list of all variables at the given scope key.
    *
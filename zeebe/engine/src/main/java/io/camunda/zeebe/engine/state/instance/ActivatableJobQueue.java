@@ -0,0 +1,215 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * The keys of the activatable jobs of a single job type and tenant, in ascending order.
+ *
+ * <p>The keys are stored in a single sorted array, which makes the queue cheap in memory. Since job
+ * keys are increasing, new jobs are appended at the end, and activated jobs are usually removed at
+ * the front, both in constant time. Keys removed from the middle of the queue, e.g. when a job is
+ * canceled, are replaced by a tombstone ({@code ~key}), which keeps the array sorted by the
+ * absolute key. The array is compacted once the removed keys outnumber the live keys.
+ *
+ * <p>Only non-negative keys are supported. This class is not thread safe.
+ */
+final class ActivatableJobQueue {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private long[] keys = new long[INITIAL_CAPACITY];
+  private int head;
+  private int tail;
+  private int size;
+
+  /**
+   * @return true if the key was added, false if it was already in the queue
+   */
+  boolean add(final long key) {
+    if (head == tail || key > keyAt(tail - 1)) {
+      ensureCapacity();
+      keys[tail++] = key;
+      size++;
+      return true;
+    }
+
+    final int index = binarySearch(key);
+    if (index >= 0) {
+      if (keys[index] >= 0) {
+        return false;
+      }
+
+      keys[index] = key;
+      size++;
+      return true;
+    }
+
+    insertAt(-(index + 1), key);
+    return true;
+  }
+
+  /**
+   * @return true if the key was removed, false if it was not in the queue
+   */
+  boolean remove(final long key) {
+    if (size == 0) {
+      return false;
+    }
+
+    final int index = keys[head] == key ? head : binarySearch(key);
+    if (index < 0 || keys[index] < 0) {
+      return false;
+    }
+
+    keys[index] = ~key;
+    size--;
+    trim();
+    return true;
+  }
+
+  boolean contains(final long key) {
+    final int index = binarySearch(key);
+    return index >= 0 && keys[index] >= 0;
+  }
+
+  /**
+   * Visits the keys in ascending order, until the visitor returns false.
+   *
+   * @return false if the visitor stopped the iteration, true otherwise
+   */
+  boolean forEach(final LongPredicate visitor) {
+    for (int i = head; i < tail; i++) {
+      final long key = keys[i];
+      if (key >= 0 && !visitor.test(key)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /** The number of array slots in use, including tombstones; used for merging queues. */
+  int end() {
+    return tail;
+  }
+
+  int start() {
+    return head;
+  }
+
+  /**
+   * @return the key at the given slot, or a negative value if the slot holds a tombstone
+   */
+  long rawKeyAt(final int index) {
+    return keys[index];
+  }
+
+  /**
+   * @return the estimated memory used by the queue, in bytes
+   */
+  long memoryInBytes() {
+    return 16L + (long) keys.length * Long.BYTES;
+  }
+
+  private long keyAt(final int index) {
+    final long key = keys[index];
+    return key < 0 ? ~key : key;
+  }
+
+  private int binarySearch(final long key) {
+    int low = head;
+    int high = tail - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final long midKey = keyAt(mid);
+
+      if (midKey < key) {
+        low = mid + 1;
+      } else if (midKey > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private void insertAt(final int index, final long key) {
+    if (index == head && head > 0) {
+      keys[--head] = key;
+      size++;
+      return;
+    }
+
+    ensureCapacity();
+    // compaction may have moved the slots, so find the insertion point again
+    final int insertionPoint = -(binarySearch(key) + 1);
+    System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, tail - insertionPoint);
+    keys[insertionPoint] = key;
+    tail++;
+    size++;
+  }
+
+  private void trim() {
+    while (head < tail && keys[head] < 0) {
+      head++;
+    }
+    while (tail > head && keys[tail - 1] < 0) {
+      tail--;
+    }
+
+    if (tail > 2 * size) {
+      // more slots are wasted by removed keys than used by live ones
+      compact();
+    }
+  }
+
+  private void ensureCapacity() {
+    if (tail < keys.length) {
+      return;
+    }
+
+    // only compact if it frees enough slots, otherwise appending to a queue which is drained at the
+    // front would compact it on every append
+    if (tail - size >= keys.length / 2) {
+      compact();
+    }
+    if (tail == keys.length) {
+      keys = Arrays.copyOf(keys, keys.length * 2);
+    }
+  }
+
+  /** Moves the live keys to the front of the array, dropping all tombstones. */
+  private void compact() {
+    int target = 0;
+    for (int i = head; i < tail; i++) {
+      if (keys[i] >= 0) {
+        keys[target++] = keys[i];
+      }
+    }
+    head = 0;
+    tail = target;
+
+    // release memory once the queue has been drained to a fraction of its capacity
+    final int capacity = Math.max(INITIAL_CAPACITY, Integer.highestOneBit(Math.max(1, size)) << 1);
+    if (capacity < keys.length / 2) {
+      keys = Arrays.copyOf(keys, capacity);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.engine.metrics.ActivatableJobsIndexMetrics;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * An in-memory index of the activatable jobs, mirroring the {@code JOB_ACTIVATABLE} column family.
+ * It keeps the keys of the activatable jobs per job type and tenant in ascending order, which lets
+ * the job activation find the next jobs without creating a RocksDB iterator, and without skipping
+ * over the tombstones left behind by previously activated jobs.
+ *
+ * <p>The index is only held in memory, and is built from the column family on first use. Every
+ * change is applied right away, so that reads within the same transaction see it; the changes made
+ * in a transaction are undone if it is rolled back.
+ *
+ * <p>This class is not thread safe, and is meant to be used by the stream processor only.
+ */
+final class ActivatableJobsIndex {
+
+  private final Map<String, Map<String, ActivatableJobQueue>> queuesByType = new HashMap<>();
+  private final List<Change> uncommittedChanges = new ArrayList<>();
+  private final TransactionContext transactionContext;
+  private final ActivatableJobsIndexMetrics metrics;
+
+  private boolean isListeningToTransaction;
+  private long size;
+  private long memoryInBytes;
+
+  ActivatableJobsIndex(
+      final TransactionContext transactionContext, final ActivatableJobsIndexMetrics metrics) {
+    this.transactionContext = transactionContext;
+    this.metrics = metrics;
+  }
+
+  void add(final String type, final String tenantId, final long key) {
+    final var queue = queue(type, tenantId);
+    if (update(queue, key, true)) {
+      recordChange(queue, key, true);
+    }
+  }
+
+  /** Adds a key which is already committed to the column family, e.g. when building the index. */
+  void load(final String type, final String tenantId, final long key) {
+    update(queue(type, tenantId), key, true);
+  }
+
+  void remove(final String type, final String tenantId, final long key) {
+    final var queuesByTenant = queuesByType.get(type);
+    if (queuesByTenant == null) {
+      return;
+    }
+
+    final var queue = queuesByTenant.get(tenantId);
+    if (queue != null && update(queue, key, false)) {
+      recordChange(queue, key, false);
+    }
+  }
+
+  /**
+   * Visits the keys of the activatable jobs of the given type and tenants in ascending order, until
+   * the visitor returns false.
+   */
+  void forEach(final String type, final List<String> tenantIds, final LongPredicate visitor) {
+    final var queuesByTenant = queuesByType.get(type);
+    if (queuesByTenant == null) {
+      return;
+    }
+
+    final List<ActivatableJobQueue> queues = new ArrayList<>(tenantIds.size());
+    for (final String tenantId : tenantIds) {
+      final var queue = queuesByTenant.get(tenantId);
+      if (queue != null && !queue.isEmpty()) {
+        queues.add(queue);
+      }
+    }
+
+    if (queues.size() == 1) {
+      queues.getFirst().forEach(visitor);
+    } else if (!queues.isEmpty()) {
+      forEachMerged(queues, visitor);
+    }
+  }
+
+  long size() {
+    return size;
+  }
+
+  long memoryInBytes() {
+    return memoryInBytes;
+  }
+
+  private ActivatableJobQueue queue(final String type, final String tenantId) {
+    return queuesByType
+        .computeIfAbsent(type, t -> new HashMap<>())
+        .computeIfAbsent(tenantId, t -> new ActivatableJobQueue());
+  }
+
+  private boolean update(final ActivatableJobQueue queue, final long key, final boolean isAdd) {
+    final long memoryBefore = queue.memoryInBytes();
+    final boolean updated = isAdd ? queue.add(key) : queue.remove(key);
+    if (updated) {
+      size += isAdd ? 1 : -1;
+      memoryInBytes += queue.memoryInBytes() - memoryBefore;
+      metrics.setIndexedJobs(size);
+      metrics.setMemoryInBytes(memoryInBytes);
+    }
+    return updated;
+  }
+
+  private void recordChange(final ActivatableJobQueue queue, final long key, final boolean isAdd) {
+    if (!isListeningToTransaction) {
+      // without a transaction in progress, every change is committed right away
+      isListeningToTransaction = transactionContext.addTransactionListener(this::onCompleted);
+      if (!isListeningToTransaction) {
+        return;
+      }
+    }
+
+    uncommittedChanges.add(new Change(queue, key, isAdd));
+  }
+
+  private void onCompleted(final boolean committed) {
+    isListeningToTransaction = false;
+    if (!committed) {
+      for (int i = uncommittedChanges.size() - 1; i >= 0; i--) {
+        final var change = uncommittedChanges.get(i);
+        update(change.queue(), change.key(), !change.isAdd());
+      }
+    }
+    uncommittedChanges.clear();
+  }
+
+  /** Visits the keys of several queues in ascending order, as if they were a single queue. */
+  private static void forEachMerged(
+      final List<ActivatableJobQueue> queues, final LongPredicate visitor) {
+    final int[] positions = new int[queues.size()];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = queues.get(i).start();
+    }
+
+    while (true) {
+      int next = -1;
+      long nextKey = Long.MAX_VALUE;
+      for (int i = 0; i < positions.length; i++) {
+        final var queue = queues.get(i);
+        while (positions[i] < queue.end() && queue.rawKeyAt(positions[i]) < 0) {
+          positions[i]++;
+        }
+        if (positions[i] < queue.end() && queue.rawKeyAt(positions[i]) <= nextKey) {
+          next = i;
+          nextKey = queue.rawKeyAt(positions[i]);
+        }
+      }
+
+      if (next < 0 || !visitor.test(nextKey)) {
+        return;
+      }
+      positions[next]++;
+    }
+  }
+
+  private record Change(ActivatableJobQueue queue, long key, boolean isAdd) {}
+}
@@ -18,12 +18,14 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.metrics.ActivatableJobsIndexMetrics;
 import io.camunda.zeebe.engine.processing.identity.AuthorizedTenants;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
@@ -60,6 +62,10 @@ public final class DbJobState implements JobState, MutableJobState {
           DbTenantAwareKey<DbCompositeKey<DbString, DbForeignKey<DbLong>>>, DbNil>
       activatableColumnFamily;
 
+  // in-memory index of the activatable column family, built on first use
+  private final ActivatableJobsIndex activatableJobsIndex;
+  private boolean isActivatableJobsIndexBuilt;
+
   // timeout => key
   private final DbLong deadlineKey;
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> deadlineJobKey;
@@ -72,6 +78,9 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  private DueDateListener deadlineListener = (dueDate, jobKey) -> {};
+  private DueDateListener backoffListener = (dueDate, jobKey) -> {};
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
 
@@ -107,6 +116,10 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    activatableJobsIndex =
+        new ActivatableJobsIndex(
+            transactionContext, new ActivatableJobsIndexMetrics(zeebeDb.getMeterRegistry()));
   }
 
   @Override
@@ -128,7 +141,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     updateJobState(State.ACTIVATED);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(type, key, tenantId);
 
     addJobDeadline(key, deadline);
   }
@@ -163,13 +176,13 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void disable(final long key, final JobRecord record) {
     updateJob(key, record, State.FAILED);
-    makeJobNotActivatable(record.getTypeBuffer(), record.getTenantId());
+    makeJobNotActivatable(record.getTypeBuffer(), key, record.getTenantId());
   }
 
   @Override
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+    makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
   }
 
   @Override
@@ -182,7 +195,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     statesJobColumnFamily.deleteExisting(fkJob);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(type, key, tenantId);
 
     removeJobDeadline(key, record.getDeadline());
     removeJobBackoff(key, record.getRecurringTime());
@@ -194,13 +207,13 @@ public final class DbJobState implements JobState, MutableJobState {
       if (updatedValue.getRetryBackoff() > 0) {
         addJobBackoff(key, updatedValue.getRecurringTime());
         updateJob(key, updatedValue, State.FAILED);
-        makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+        makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
       } else {
         updateJob(key, updatedValue, State.ACTIVATABLE);
       }
     } else {
       updateJob(key, updatedValue, State.FAILED);
-      makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+      makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
     }
   }
 
@@ -406,20 +419,11 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
-
-    activatableColumnFamily.whileEqualPrefix(
-        jobTypeKey,
-        ((tenantAwareCompositeKey, zbNil) -> {
-          final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
-          final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
-
-          if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
-          }
-          // we want to continue with the iteration
-          return true;
-        }));
+    activatableJobs()
+        .forEach(
+            BufferUtil.bufferAsString(type),
+            tenantIds,
+            jobKey -> visitJob(jobKey, callback::apply));
   }
 
   @Override
@@ -445,6 +449,13 @@ public final class DbJobState implements JobState, MutableJobState {
     return deadlinesColumnFamily.exists(deadlineJobKey);
   }
 
+  @Override
+  public boolean jobBackoffExists(final long jobKey, final long backoff) {
+    this.jobKey.wrapLong(jobKey);
+    backoffKey.wrapLong(backoff);
+    return backoffColumnFamily.exists(backoffJobKey);
+  }
+
   @Override
   public long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback) {
     nextBackOffDueDate = -1L;
@@ -464,6 +475,37 @@ public final class DbJobState implements JobState, MutableJobState {
     return nextBackOffDueDate;
   }
 
+  @Override
+  public void forEachDeadline(final long fromDeadline, final DueDateVisitor visitor) {
+    forEachDueDate(deadlinesColumnFamily, deadlineKey, deadlineJobKey, fromDeadline, visitor);
+  }
+
+  @Override
+  public void forEachBackoff(final long fromBackoff, final DueDateVisitor visitor) {
+    forEachDueDate(backoffColumnFamily, backoffKey, backoffJobKey, fromBackoff, visitor);
+  }
+
+  @Override
+  public void setDueDateListeners(
+      final DueDateListener deadlineListener, final DueDateListener backoffListener) {
+    this.deadlineListener = deadlineListener;
+    this.backoffListener = backoffListener;
+  }
+
+  private void forEachDueDate(
+      final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil> columnFamily,
+      final DbLong dueDateKey,
+      final DbCompositeKey<DbLong, DbForeignKey<DbLong>> dueDateJobKey,
+      final long fromDueDate,
+      final DueDateVisitor visitor) {
+    dueDateKey.wrapLong(fromDueDate);
+    jobKey.wrapLong(0);
+
+    columnFamily.whileTrue(
+        dueDateJobKey,
+        (key, nil) -> visitor.visit(key.first().getValue(), key.second().inner().getValue()));
+  }
+
   boolean visitJob(final long jobKey, final BiPredicate<Long, JobRecord> callback) {
     final JobRecord job = getJob(jobKey);
     if (job == null) {
@@ -502,6 +544,9 @@ public final class DbJobState implements JobState, MutableJobState {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantId", tenantId);
 
+    // the index is updated first, so that it is built before the column family is modified
+    activatableJobs().add(BufferUtil.bufferAsString(type), tenantId, key);
+
     jobTypeKey.wrapBuffer(type);
     jobKey.wrapLong(key);
     tenantIdKey.wrapString(tenantId);
@@ -510,20 +555,39 @@ public final class DbJobState implements JobState, MutableJobState {
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
   }
 
-  private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
+  private void makeJobNotActivatable(
+      final DirectBuffer type, final long key, final String tenantId) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantid", tenantId);
 
+    activatableJobs().remove(BufferUtil.bufferAsString(type), tenantId, key);
+
     jobTypeKey.wrapBuffer(type);
+    jobKey.wrapLong(key);
     tenantIdKey.wrapString(tenantId);
     activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
   }
 
+  private ActivatableJobsIndex activatableJobs() {
+    if (!isActivatableJobsIndexBuilt) {
+      isActivatableJobsIndexBuilt = true;
+      activatableColumnFamily.forEach(
+          (key, nil) ->
+              activatableJobsIndex.load(
+                  key.wrappedKey().first().toString(),
+                  key.tenantKey().toString(),
+                  key.wrappedKey().second().inner().getValue()));
+    }
+
+    return activatableJobsIndex;
+  }
+
   private void addJobDeadline(final long job, final long deadline) {
     if (deadline > 0) {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
       deadlinesColumnFamily.insert(deadlineJobKey, DbNil.INSTANCE);
+      deadlineListener.onAdded(deadline, job);
     }
   }
 
@@ -540,6 +604,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
       backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
+      backoffListener.onAdded(backoff, job);
     }
   }
 
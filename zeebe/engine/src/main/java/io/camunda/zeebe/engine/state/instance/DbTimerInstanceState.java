@@ -122,6 +122,21 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  @Override
+  public void forEachDueDate(final long fromDueDate, final DueDateVisitor visitor) {
+    dueDate.wrapLong(fromDueDate);
+    elementInstanceKey.inner().wrapLong(0);
+    timerKey.wrapLong(0);
+
+    dueDateColumnFamily.whileTrue(
+        dueDateCompositeKey,
+        (key, nil) ->
+            visitor.visit(
+                key.first().getValue(),
+                key.second().first().inner().getValue(),
+                key.second().second().getValue()));
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
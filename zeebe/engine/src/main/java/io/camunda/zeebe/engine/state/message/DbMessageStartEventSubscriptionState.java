@@ -16,9 +16,13 @@ import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.FilterResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.SubscriptionType;
+import io.camunda.zeebe.engine.metrics.MessageSubscriptionFilterMetrics;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageStartEventSubscriptionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageStartEventSubscriptionRecord;
+import java.util.function.LongConsumer;
 import org.agrona.DirectBuffer;
 
 public final class DbMessageStartEventSubscriptionState
@@ -45,6 +49,11 @@ public final class DbMessageStartEventSubscriptionState
   private final ColumnFamily<DbCompositeKey<DbLong, DbTenantAwareKey<DbString>>, DbNil>
       subscriptionsOfProcessDefinitionKeyColumnFamily;
 
+  // in-memory filter over the (tenant, messageName) of the subscriptions
+  private final SubscriptionFilter subscriptionFilter;
+  private final MessageSubscriptionFilterMetrics subscriptionFilterMetrics;
+  private boolean hasVisitedSubscription;
+
   public DbMessageStartEventSubscriptionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     tenantIdKey = new DbString();
@@ -68,6 +77,11 @@ public final class DbMessageStartEventSubscriptionState
             transactionContext,
             processDefinitionKeyAndMessageName,
             DbNil.INSTANCE);
+
+    subscriptionFilter = new SubscriptionFilter(transactionContext, this::loadSubscriptionFilter);
+    subscriptionFilterMetrics =
+        new MessageSubscriptionFilterMetrics(
+            zeebeDb.getMeterRegistry(), SubscriptionType.MESSAGE_START_EVENT_SUBSCRIPTION);
   }
 
   @Override
@@ -77,10 +91,17 @@ public final class DbMessageStartEventSubscriptionState
     tenantIdKey.wrapString(subscription.getTenantId());
     messageName.wrapBuffer(subscription.getMessageNameBuffer());
     processDefinitionKey.wrapLong(subscription.getProcessDefinitionKey());
+    final boolean isNew = !subscriptionsColumnFamily.exists(messageNameAndProcessDefinitionKey);
     subscriptionsColumnFamily.upsert(
         messageNameAndProcessDefinitionKey, messageStartEventSubscription);
     subscriptionsOfProcessDefinitionKeyColumnFamily.upsert(
         processDefinitionKeyAndMessageName, DbNil.INSTANCE);
+
+    if (isNew) {
+      subscriptionFilter.add(
+          SubscriptionFilter.hash(
+              subscription.getTenantId(), subscription.getMessageNameBuffer(), null));
+    }
   }
 
   @Override
@@ -93,6 +114,7 @@ public final class DbMessageStartEventSubscriptionState
     subscriptionsColumnFamily.deleteExisting(messageNameAndProcessDefinitionKey);
     subscriptionsOfProcessDefinitionKeyColumnFamily.deleteExisting(
         processDefinitionKeyAndMessageName);
+    subscriptionFilter.remove(SubscriptionFilter.hash(tenantId, messageName, null));
   }
 
   @Override
@@ -110,13 +132,22 @@ public final class DbMessageStartEventSubscriptionState
       final DirectBuffer messageName,
       final MessageStartEventSubscriptionVisitor visitor) {
 
+    if (!subscriptionFilter.mightContain(SubscriptionFilter.hash(tenantId, messageName, null))) {
+      subscriptionFilterMetrics.countLookup(FilterResult.SKIPPED);
+      return;
+    }
+
     tenantIdKey.wrapString(tenantId);
     this.messageName.wrapBuffer(messageName);
+    hasVisitedSubscription = false;
     subscriptionsColumnFamily.whileEqualPrefix(
         tenantAwareMessageName,
         (key, value) -> {
+          hasVisitedSubscription = true;
           visitor.visit(value);
         });
+    subscriptionFilterMetrics.countLookup(
+        hasVisitedSubscription ? FilterResult.MATCHED : FilterResult.FALSE_POSITIVE);
   }
 
   @Override
@@ -136,4 +167,14 @@ public final class DbMessageStartEventSubscriptionState
           }
         });
   }
+
+  private void loadSubscriptionFilter(final LongConsumer consumer) {
+    subscriptionsColumnFamily.forEach(
+        (key, subscription) ->
+            consumer.accept(
+                SubscriptionFilter.hash(
+                    key.first().tenantKey().toString(),
+                    key.first().wrappedKey().getBuffer(),
+                    null)));
+  }
 }
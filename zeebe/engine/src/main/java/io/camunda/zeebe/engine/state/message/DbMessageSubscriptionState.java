@@ -17,6 +17,9 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.FilterResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.SubscriptionType;
+import io.camunda.zeebe.engine.metrics.MessageSubscriptionFilterMetrics;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState.PendingSubscription;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageSubscriptionState;
@@ -26,6 +29,7 @@ import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.InstantSource;
+import java.util.function.LongConsumer;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
@@ -54,6 +58,11 @@ public final class DbMessageSubscriptionState
           DbCompositeKey<DbTenantAwareKey<DbCompositeKey<DbString, DbString>>, DbLong>, DbNil>
       messageNameAndCorrelationKeyColumnFamily;
 
+  // in-memory filter over the (tenant, messageName, correlationKey) of the subscriptions
+  private final SubscriptionFilter subscriptionFilter;
+  private final MessageSubscriptionFilterMetrics subscriptionFilterMetrics;
+  private boolean hasVisitedSubscription;
+
   private final TransientPendingSubscriptionState transientState;
   private final InstantSource clock;
 
@@ -89,6 +98,11 @@ public final class DbMessageSubscriptionState
             tenantAwareNameCorrelationAndElementInstanceKey,
             DbNil.INSTANCE);
     this.transientState = transientState;
+
+    subscriptionFilter = new SubscriptionFilter(transactionContext, this::loadSubscriptionFilter);
+    subscriptionFilterMetrics =
+        new MessageSubscriptionFilterMetrics(
+            zeebeDb.getMeterRegistry(), SubscriptionType.MESSAGE_SUBSCRIPTION);
   }
 
   @Override
@@ -118,15 +132,25 @@ public final class DbMessageSubscriptionState
       final DirectBuffer correlationKey,
       final MessageSubscriptionVisitor visitor) {
 
+    if (!subscriptionFilter.mightContain(
+        SubscriptionFilter.hash(tenantId, messageName, correlationKey))) {
+      subscriptionFilterMetrics.countLookup(FilterResult.SKIPPED);
+      return;
+    }
+
     tenantIdKey.wrapString(tenantId);
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    hasVisitedSubscription = false;
     messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
         tenantAwareNameAndCorrelationKey,
         (compositeKey, nil) -> {
+          hasVisitedSubscription = true;
           return visitMessageSubscription(elementKeyAndMessageName, visitor);
         });
+    subscriptionFilterMetrics.countLookup(
+        hasVisitedSubscription ? FilterResult.MATCHED : FilterResult.FALSE_POSITIVE);
   }
 
   @Override
@@ -150,6 +174,10 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.insert(
         tenantAwareNameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+
+    subscriptionFilter.add(
+        SubscriptionFilter.hash(
+            record.getTenantId(), record.getMessageNameBuffer(), record.getCorrelationKeyBuffer()));
   }
 
   @Override
@@ -216,6 +244,9 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.deleteExisting(
         tenantAwareNameCorrelationAndElementInstanceKey);
+    subscriptionFilter.remove(
+        SubscriptionFilter.hash(
+            record.getTenantId(), record.getMessageNameBuffer(), record.getCorrelationKeyBuffer()));
 
     transientState.remove(
         new PendingSubscription(
@@ -296,6 +327,18 @@ public final class DbMessageSubscriptionState
         new PendingSubscription(elementInstanceKey, messageName, tenantId), timestampMs);
   }
 
+  private void loadSubscriptionFilter(final LongConsumer consumer) {
+    messageNameAndCorrelationKeyColumnFamily.forEach(
+        (key, nil) -> {
+          final var nameAndCorrelationKey = key.first().wrappedKey();
+          consumer.accept(
+              SubscriptionFilter.hash(
+                  key.first().tenantKey().toString(),
+                  nameAndCorrelationKey.first().getBuffer(),
+                  nameAndCorrelationKey.second().getBuffer()));
+        });
+  }
+
   private void wrapSubscriptionKeys(
       final long elementInstanceKey, final DirectBuffer messageName, final String tenantId) {
     this.elementInstanceKey.wrapLong(elementInstanceKey);
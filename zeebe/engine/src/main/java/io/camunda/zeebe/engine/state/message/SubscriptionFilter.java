@@ -0,0 +1,206 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import io.camunda.zeebe.db.TransactionContext;
+import java.util.function.LongConsumer;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * An in-memory counting Bloom filter over the open subscriptions of a column family, used to skip
+ * the lookup of subscriptions which certainly don't exist without accessing RocksDB. It may report
+ * a subscription that doesn't exist (a false positive), but never misses one that does.
+ *
+ * <p>Each subscription is identified by the hash of its lookup key, see {@link #hash(String,
+ * DirectBuffer, DirectBuffer)}, and sets a 4-bit counter in each of its {@link #HASH_FUNCTIONS}
+ * slots. Counters are decremented again when the subscription is removed, unless they overflowed,
+ * in which case they stay saturated; this can only cause false positives.
+ *
+ * <p>The filter is only held in memory, and is built from the column family on first use. When it
+ * holds more subscriptions than it was sized for, it is rebuilt with twice the capacity to keep the
+ * false positive rate low. Every change is applied right away, so that lookups within the same
+ * transaction see it; the changes made in a transaction are undone if it is rolled back.
+ *
+ * <p>This class is not thread safe, and is meant to be used by the stream processor only.
+ */
+final class SubscriptionFilter {
+
+  private static final int HASH_FUNCTIONS = 7;
+  private static final int COUNTERS_PER_SUBSCRIPTION = 10;
+  private static final int COUNTERS_PER_WORD = Long.SIZE / 4;
+  private static final long MAX_COUNT = 0xF;
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final TransactionContext transactionContext;
+  private final Loader loader;
+
+  /** The changes of the current transaction, as pairs of the hash and whether it was added. */
+  private final LongArrayList uncommittedChanges = new LongArrayList();
+
+  private boolean isListeningToTransaction;
+
+  private long[] counters;
+  private int capacity;
+  private long size;
+
+  SubscriptionFilter(final TransactionContext transactionContext, final Loader loader) {
+    this.transactionContext = transactionContext;
+    this.loader = loader;
+  }
+
+  /**
+   * @return false if there is certainly no subscription with this hash, true if there may be one
+   */
+  boolean mightContain(final long hash) {
+    if (counters == null) {
+      rebuild(INITIAL_CAPACITY);
+    }
+
+    final int mask = counters.length * COUNTERS_PER_WORD - 1;
+    final int h1 = (int) hash;
+    final int h2 = (int) (hash >>> 32) | 1;
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      if (counterAt((h1 + i * h2) & mask) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void add(final long hash) {
+    if (counters != null) {
+      update(hash, true);
+      if (size > capacity) {
+        rebuild(capacity * 2);
+      }
+    }
+    recordChange(hash, true);
+  }
+
+  void remove(final long hash) {
+    if (counters != null) {
+      update(hash, false);
+    }
+    recordChange(hash, false);
+  }
+
+  /** The number of subscriptions in the filter, or 0 if it was not built yet. */
+  long size() {
+    return size;
+  }
+
+  /** The hash of the lookup key of a subscription; the correlation key may be null. */
+  static long hash(
+      final String tenantId, final DirectBuffer messageName, final DirectBuffer correlationKey) {
+    long hash = FNV_OFFSET_BASIS;
+    for (int i = 0; i < tenantId.length(); i++) {
+      hash = (hash ^ tenantId.charAt(i)) * FNV_PRIME;
+    }
+    hash = hash(hash, messageName);
+    if (correlationKey != null) {
+      hash = hash(hash, correlationKey);
+    }
+    return mix(hash);
+  }
+
+  private static long hash(long hash, final DirectBuffer buffer) {
+    // separate the parts of the key, and hash their lengths to avoid collisions by concatenation
+    hash = (hash ^ buffer.capacity()) * FNV_PRIME;
+    for (int i = 0; i < buffer.capacity(); i++) {
+      hash = (hash ^ (buffer.getByte(i) & 0xFF)) * FNV_PRIME;
+    }
+    return hash;
+  }
+
+  /** The finalizer of MurmurHash3, which spreads the bits of the hash over both halves. */
+  private static long mix(long hash) {
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  private void rebuild(final int minCapacity) {
+    capacity = minCapacity;
+    while (true) {
+      final int slots = Integer.highestOneBit(capacity * COUNTERS_PER_SUBSCRIPTION - 1) << 1;
+      counters = new long[slots / COUNTERS_PER_WORD];
+      size = 0;
+
+      // the column family already contains the changes of the current transaction, which are
+      // undone on the new counters if it is rolled back
+      loader.load(hash -> update(hash, true));
+      if (size <= capacity) {
+        return;
+      }
+      capacity *= 2;
+    }
+  }
+
+  private void update(final long hash, final boolean isAdd) {
+    final int mask = counters.length * COUNTERS_PER_WORD - 1;
+    final int h1 = (int) hash;
+    final int h2 = (int) (hash >>> 32) | 1;
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      final int slot = (h1 + i * h2) & mask;
+      final long count = counterAt(slot);
+      if (count == MAX_COUNT) {
+        // the counter overflowed, so the number of subscriptions it counts is unknown
+        continue;
+      }
+      setCounterAt(slot, isAdd ? count + 1 : Math.max(0, count - 1));
+    }
+    size += isAdd ? 1 : -1;
+  }
+
+  private long counterAt(final int slot) {
+    final int shift = (slot % COUNTERS_PER_WORD) * 4;
+    return (counters[slot / COUNTERS_PER_WORD] >>> shift) & MAX_COUNT;
+  }
+
+  private void setCounterAt(final int slot, final long count) {
+    final int index = slot / COUNTERS_PER_WORD;
+    final int shift = (slot % COUNTERS_PER_WORD) * 4;
+    counters[index] = (counters[index] & ~(MAX_COUNT << shift)) | (count << shift);
+  }
+
+  private void recordChange(final long hash, final boolean isAdd) {
+    if (!isListeningToTransaction) {
+      // without a transaction in progress, every change is committed right away
+      isListeningToTransaction = transactionContext.addTransactionListener(this::onCompleted);
+      if (!isListeningToTransaction) {
+        return;
+      }
+    }
+
+    uncommittedChanges.addLong(hash);
+    uncommittedChanges.addLong(isAdd ? 1 : 0);
+  }
+
+  private void onCompleted(final boolean committed) {
+    isListeningToTransaction = false;
+    if (!committed && counters != null) {
+      for (int i = uncommittedChanges.size() - 2; i >= 0; i -= 2) {
+        final boolean wasAdded = uncommittedChanges.getLong(i + 1) == 1;
+        update(uncommittedChanges.getLong(i), !wasAdded);
+      }
+    }
+    uncommittedChanges.clear();
+  }
+
+  /** Loads the hashes of all subscriptions from the column family. */
+  @FunctionalInterface
+  interface Loader {
+    void load(LongConsumer consumer);
+  }
+}
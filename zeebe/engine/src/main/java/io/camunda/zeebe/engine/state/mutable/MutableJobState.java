@@ -47,4 +47,18 @@ public interface MutableJobState extends JobState {
   void migrate(long key, JobRecord record);
 
   void restoreBackoff();
+
+  /**
+   * Sets the listeners which are notified whenever a deadline or a backoff of a job is added, e.g.
+   * to keep the due dates in memory instead of scanning the column families for them. A listener is
+   * notified before the transaction is committed, so it must expect due dates which are rolled back
+   * again.
+   */
+  void setDueDateListeners(DueDateListener deadlineListener, DueDateListener backoffListener);
+
+  @FunctionalInterface
+  interface DueDateListener {
+
+    void onAdded(long dueDate, long jobKey);
+  }
 }
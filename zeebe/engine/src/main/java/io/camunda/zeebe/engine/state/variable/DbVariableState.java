@@ -36,6 +36,15 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  /**
+   * Values of at least this size are stored out-of-line in a blob, which is shared by all variables
+   * with the same value. This avoids rewriting large values when a variable is propagated or copied
+   * to another scope.
+   */
+  public static final int BLOB_THRESHOLD = 16 * 1024;
+
+  private static final DirectBuffer EMPTY_VALUE = new UnsafeBuffer(0, 0);
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -61,12 +70,16 @@ public class DbVariableState implements MutableVariableState {
       variableDocumentStateByScopeKeyColumnFamily;
 
   private final VariableInstance newVariable = new VariableInstance();
+  private final MutableDirectBuffer previousBlob =
+      new UnsafeBuffer(new byte[VariableBlobStore.DIGEST_LENGTH]);
   private final DirectBuffer variableNameView = new UnsafeBuffer(0, 0);
 
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  private final VariableBlobStore blobStore;
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -93,6 +106,8 @@ public class DbVariableState implements MutableVariableState {
             transactionContext,
             scopeKey,
             variableDocumentStateToRead);
+
+    blobStore = new VariableBlobStore(zeebeDb, transactionContext);
   }
 
   @Override
@@ -118,15 +133,16 @@ public class DbVariableState implements MutableVariableState {
       final int valueOffset,
       final int valueLength) {
 
-    newVariable.reset();
-    newVariable.setValue(value, valueOffset, valueLength);
-    newVariable.setKey(key);
+    wrapVariableKey(scopeKey, name, nameOffset, nameLength);
 
-    this.scopeKey.wrapLong(scopeKey);
-    variableNameView.wrap(name, nameOffset, nameLength);
-    variableName.wrapBuffer(variableNameView);
-
-    variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    // a large previous value is stored in a blob, so reading the previous instance stays cheap
+    final VariableInstance previousVariable = variablesColumnFamily.get(scopeKeyVariableNameKey);
+    if (previousVariable != null && previousVariable.hasBlob()) {
+      previousBlob.putBytes(0, previousVariable.getBlob(), 0, VariableBlobStore.DIGEST_LENGTH);
+      writeVariable(key, value, valueOffset, valueLength, previousBlob);
+    } else {
+      writeVariable(key, value, valueOffset, valueLength, null);
+    }
   }
 
   @Override
@@ -153,7 +169,12 @@ public class DbVariableState implements MutableVariableState {
     visitVariablesLocal(
         scopeKey,
         dbString -> true,
-        (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
+        (dbString, variable) -> {
+          if (variable.hasBlob()) {
+            blobStore.release(variable.getBlob());
+          }
+          variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey);
+        },
         () -> false);
   }
 
@@ -224,7 +245,7 @@ public class DbVariableState implements MutableVariableState {
         (name, value) -> {
           final DirectBuffer variableNameBuffer = name.getBuffer();
           writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(getValue(value));
 
           // must create a new name wrapper, because we keep them all in the hashset at the same
           // time
@@ -255,7 +276,7 @@ public class DbVariableState implements MutableVariableState {
         name -> variablesToCollect.contains(name.getBuffer()),
         (name, value) -> {
           writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(getValue(value));
 
           variablesToCollect.remove(name.getBuffer());
         },
@@ -278,7 +299,7 @@ public class DbVariableState implements MutableVariableState {
         name -> true,
         (name, value) -> {
           writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+          writer.writeRaw(getValue(value));
 
           variableCount.addAndGet(1);
         },
@@ -292,7 +313,14 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public boolean isEmpty() {
-    return variablesColumnFamily.isEmpty() && childParentColumnFamily.isEmpty();
+    return variablesColumnFamily.isEmpty()
+        && childParentColumnFamily.isEmpty()
+        && blobStore.isEmpty();
+  }
+
+  @Override
+  public boolean hasBlobs() {
+    return !blobStore.isEmpty();
   }
 
   @Override
@@ -307,7 +335,7 @@ public class DbVariableState implements MutableVariableState {
                     variable.getKey(),
                     scopeKey,
                     BufferUtil.cloneBuffer(name.getBuffer()),
-                    BufferUtil.cloneBuffer(variable.getValue()))),
+                    BufferUtil.cloneBuffer(getValue(variable)))),
         () -> false);
     return variables;
   }
@@ -346,11 +374,57 @@ public class DbVariableState implements MutableVariableState {
 
   private VariableInstance getVariableLocal(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    wrapVariableKey(scopeKey, name, nameOffset, nameLength);
+
+    final VariableInstance variable = variablesColumnFamily.get(scopeKeyVariableNameKey);
+    if (variable != null && variable.hasBlob()) {
+      // materialize the value, so that the variable can be used like any other
+      final DirectBuffer value = blobStore.getValue(variable.getBlob());
+      variable.setValue(value, 0, value.capacity());
+    }
+    return variable;
+  }
+
+  private DirectBuffer getValue(final VariableInstance variable) {
+    return variable.hasBlob() ? blobStore.getValue(variable.getBlob()) : variable.getValue();
+  }
+
+  private void wrapVariableKey(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
     this.scopeKey.wrapLong(scopeKey);
     variableNameView.wrap(name, nameOffset, nameLength);
     variableName.wrapBuffer(variableNameView);
+  }
 
-    return variablesColumnFamily.get(scopeKeyVariableNameKey);
+  /**
+   * Writes the variable of the wrapped scope key and name. A large value is stored in a blob, and
+   * the blob of the previous value is released, unless the value didn't change.
+   */
+  private void writeVariable(
+      final long key,
+      final DirectBuffer value,
+      final int valueOffset,
+      final int valueLength,
+      final DirectBuffer previousBlob) {
+    newVariable.reset();
+    newVariable.setKey(key);
+
+    if (valueLength >= BLOB_THRESHOLD) {
+      final DirectBuffer blob = blobStore.digest(value, valueOffset, valueLength);
+      newVariable.setBlob(blob).setValue(EMPTY_VALUE, 0, 0);
+      if (blob.equals(previousBlob)) {
+        variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+        return;
+      }
+      blobStore.acquire(blob, value, valueOffset, valueLength);
+    } else {
+      newVariable.setValue(value, valueOffset, valueLength);
+    }
+
+    if (previousBlob != null) {
+      blobStore.release(previousBlob);
+    }
+    variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
   }
 
   /**
@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.BinaryProperty;
+import org.agrona.DirectBuffer;
+
+/** A variable value which is stored out-of-line, and shared by all variables with this value. */
+public final class VariableBlob extends UnpackedObject implements DbValue {
+
+  private final BinaryProperty valueProp = new BinaryProperty("value");
+
+  public VariableBlob() {
+    super(1);
+    declareProperty(valueProp);
+  }
+
+  public DirectBuffer getValue() {
+    return valueProp.getValue();
+  }
+
+  public VariableBlob setValue(final DirectBuffer value, final int offset, final int length) {
+    valueProp.setValue(value, offset, length);
+    return this;
+  }
+}
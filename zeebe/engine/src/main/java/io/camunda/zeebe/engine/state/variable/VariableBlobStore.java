@@ -0,0 +1,148 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbBytes;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Stores large variable values out-of-line, addressed by the SHA-256 digest of their content.
+ * Variables with the same value share one blob, e.g. when a variable is propagated to or copied
+ * into another scope, and the blob is deleted when the last variable which references it is
+ * removed.
+ *
+ * <p>The digest is collision resistant, so a blob is shared without comparing its content, and
+ * sharing it only reads and updates its reference count. The reference counts are kept in a
+ * separate column family, to not rewrite the value of a blob when it's shared.
+ */
+final class VariableBlobStore {
+
+  static final int DIGEST_LENGTH = 32;
+
+  private static final int COPY_CHUNK_LENGTH = 4 * 1024;
+
+  private final MessageDigest sha256;
+  private final byte[] digestBytes = new byte[DIGEST_LENGTH];
+  private final DirectBuffer digestView = new UnsafeBuffer(digestBytes);
+  private final byte[] copyBuffer = new byte[COPY_CHUNK_LENGTH];
+
+  // (digest) => (value)
+  private final ColumnFamily<DbBytes, VariableBlob> blobsColumnFamily;
+  private final VariableBlob blob = new VariableBlob();
+
+  // (digest) => (number of variables which reference the blob)
+  private final ColumnFamily<DbBytes, DbLong> referencesColumnFamily;
+  private final DbBytes blobKey = new DbBytes();
+  private final byte[] blobKeyBytes = new byte[DIGEST_LENGTH];
+  private final DbLong referenceCount = new DbLong();
+
+  {
+    try {
+      sha256 = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  VariableBlobStore(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    blobsColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_BLOBS, transactionContext, blobKey, new VariableBlob());
+    referencesColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.VARIABLE_BLOB_REFERENCES, transactionContext, blobKey, new DbLong());
+  }
+
+  /**
+   * @return a view of the digest of the given value, which is only valid until the next call
+   */
+  DirectBuffer digest(final DirectBuffer value, final int offset, final int length) {
+    final byte[] array = value.byteArray();
+    if (array != null) {
+      sha256.update(array, value.wrapAdjustment() + offset, length);
+    } else {
+      for (int index = 0; index < length; index += COPY_CHUNK_LENGTH) {
+        final int chunkLength = Math.min(COPY_CHUNK_LENGTH, length - index);
+        value.getBytes(offset + index, copyBuffer, 0, chunkLength);
+        sha256.update(copyBuffer, 0, chunkLength);
+      }
+    }
+
+    try {
+      sha256.digest(digestBytes, 0, DIGEST_LENGTH);
+    } catch (final DigestException e) {
+      throw new IllegalStateException("Expected to compute the digest of a variable value", e);
+    }
+    return digestView;
+  }
+
+  /**
+   * Adds a reference to the blob with the given digest, and creates the blob with the given value
+   * if it doesn't exist yet.
+   *
+   * @param digest the digest of the value, see {@link #digest(DirectBuffer, int, int)}
+   */
+  void acquire(
+      final DirectBuffer digest, final DirectBuffer value, final int offset, final int length) {
+    wrapBlobKey(digest);
+    final DbLong count = referencesColumnFamily.get(blobKey);
+    if (count == null) {
+      blob.setValue(value, offset, length);
+      blobsColumnFamily.upsert(blobKey, blob);
+      referenceCount.wrapLong(1);
+    } else {
+      referenceCount.wrapLong(count.getValue() + 1);
+    }
+    referencesColumnFamily.upsert(blobKey, referenceCount);
+  }
+
+  /** Removes a reference to the blob, and deletes it if it was the last one. */
+  void release(final DirectBuffer digest) {
+    wrapBlobKey(digest);
+    final DbLong count = referencesColumnFamily.get(blobKey);
+    if (count.getValue() > 1) {
+      referenceCount.wrapLong(count.getValue() - 1);
+      referencesColumnFamily.update(blobKey, referenceCount);
+    } else {
+      referencesColumnFamily.deleteExisting(blobKey);
+      blobsColumnFamily.deleteExisting(blobKey);
+    }
+  }
+
+  /**
+   * @return a view of the value of the blob, which is only valid until the next access of a blob
+   */
+  DirectBuffer getValue(final DirectBuffer digest) {
+    wrapBlobKey(digest);
+    final VariableBlob existingBlob = blobsColumnFamily.get(blobKey);
+    if (existingBlob == null) {
+      throw new IllegalStateException(
+          "Expected to find the blob of a variable, but it doesn't exist");
+    }
+    return existingBlob.getValue();
+  }
+
+  boolean isEmpty() {
+    return blobsColumnFamily.isEmpty() && referencesColumnFamily.isEmpty();
+  }
+
+  private void wrapBlobKey(final DirectBuffer digest) {
+    digest.getBytes(0, blobKeyBytes, 0, DIGEST_LENGTH);
+    blobKey.wrapBytes(blobKeyBytes);
+  }
+}
@@ -11,16 +11,21 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.msgpack.UnpackedObject;
 import io.camunda.zeebe.msgpack.property.BinaryProperty;
 import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class VariableInstance extends UnpackedObject implements DbValue {
 
   private final LongProperty keyProp = new LongProperty("key");
   private final BinaryProperty valueProp = new BinaryProperty("value");
+  // the digest of the blob which contains the value, if it's stored out-of-line; it's only written
+  // for such variables, to not grow the state of all others
+  private final BinaryProperty blobProp = new BinaryProperty("blob", new UnsafeBuffer());
 
   public VariableInstance() {
-    super(2);
-    declareProperty(keyProp).declareProperty(valueProp);
+    super(3);
+    declareProperty(keyProp).declareProperty(valueProp).declareProperty(blobProp);
   }
 
   public long getKey() {
@@ -40,4 +45,38 @@ public final class VariableInstance extends UnpackedObject implements DbValue {
   public DirectBuffer getValue() {
     return valueProp.getValue();
   }
+
+  public DirectBuffer getBlob() {
+    return blobProp.getValue();
+  }
+
+  public VariableInstance setBlob(final DirectBuffer digest) {
+    blobProp.setValue(digest, 0, digest.capacity());
+    return this;
+  }
+
+  public boolean hasBlob() {
+    return getBlob().capacity() > 0;
+  }
+
+  @Override
+  public void write(final MsgPackWriter writer) {
+    if (hasBlob()) {
+      super.write(writer);
+    } else {
+      writer.writeMapHeader(2);
+      keyProp.write(writer);
+      valueProp.write(writer);
+    }
+  }
+
+  @Override
+  public int getEncodedLength() {
+    if (hasBlob()) {
+      return super.getEncodedLength();
+    }
+    return MsgPackWriter.getEncodedMapHeaderLenght(2)
+        + keyProp.getEncodedLength()
+        + valueProp.getEncodedLength();
+  }
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures the latency of processing a process instance which passes a single element of the given
+ * type, from the creation of the instance until it completes. An instance which waits at the
+ * element is canceled in the same operation, such that the state doesn't grow over the iterations.
+ * The processing runs on the benchmark thread, see {@link SynchronousTestEngine}, so the score
+ * contains the processing of all commands of the instance and the state access, but no log stream.
+ *
+ * <p>The processes start and end with a none event, see {@link Element#NONE} for the cost of this
+ * baseline. Run with the GC profiler ({@code -prof gc}) to see the allocations per instance, as
+ * {@code gc.alloc.rate.norm}.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class BpmnElementProcessingPerformanceTest {
+  private static final String PROCESS_ID = "process";
+  private static final String CHILD_PROCESS_ID = "child";
+  private static final int PARALLEL_BRANCHES = 10;
+  private static final int MULTI_INSTANCE_ITEMS = 1_000;
+
+  @Param({
+    "NONE",
+    "SERVICE_TASK",
+    "EXCLUSIVE_GATEWAY",
+    "PARALLEL_GATEWAY",
+    "MULTI_INSTANCE",
+    "MESSAGE_CATCH_EVENT",
+    "CALL_ACTIVITY"
+  })
+  public Element element;
+
+  private final ProcessInstanceCreationRecord processInstanceCreation =
+      new ProcessInstanceCreationRecord();
+  private final ProcessInstanceRecord processInstanceCancellation = new ProcessInstanceRecord();
+  private SynchronousTestEngine engine;
+
+  @Setup
+  public void setup() throws Exception {
+    engine = new SynchronousTestEngine();
+
+    final var deployment = new DeploymentRecord();
+    deployment
+        .resources()
+        .add()
+        .setResourceName("process.bpmn")
+        .setResource(Bpmn.convertToString(element.createProcess()).getBytes());
+    deployment
+        .resources()
+        .add()
+        .setResourceName("child.bpmn")
+        .setResource(
+            Bpmn.convertToString(
+                    Bpmn.createExecutableProcess(CHILD_PROCESS_ID).startEvent().endEvent().done())
+                .getBytes());
+    engine.process(ValueType.DEPLOYMENT, DeploymentIntent.CREATE, deployment);
+
+    processInstanceCreation.setBpmnProcessId(PROCESS_ID).setVariables(element.variables());
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    engine.close();
+  }
+
+  @Benchmark
+  public int measureElementProcessing() {
+    var processedCommands =
+        engine.process(
+            ValueType.PROCESS_INSTANCE_CREATION,
+            ProcessInstanceCreationIntent.CREATE,
+            processInstanceCreation);
+
+    if (element.isWaiting()) {
+      processedCommands +=
+          engine.process(
+              engine.getLastCreatedProcessInstanceKey(),
+              ValueType.PROCESS_INSTANCE,
+              ProcessInstanceIntent.CANCEL,
+              processInstanceCancellation);
+    }
+
+    return processedCommands;
+  }
+
+  @JMHTest("measureElementProcessing")
+  void shouldAllocateForServiceTaskWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - the expected bytes allocated per instance, as measured in a local run; unlike the
+    // latency, which varies a lot between runs and machines, the allocations are stable enough to
+    // catch regressions of the processing itself
+    final var referenceAllocations = 517_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options -> options.param("element", "SERVICE_TASK").addProfiler(GCProfiler.class))
+            .run();
+
+    // then
+    assertResult.isSecondaryWithinDeviation("gc.alloc.rate.norm", referenceAllocations, 0.1);
+  }
+
+  public enum Element {
+    /** Only the start and end event of the process, which all other processes contain as well. */
+    NONE {
+      @Override
+      AbstractFlowNodeBuilder<?, ?> addElement(final AbstractFlowNodeBuilder<?, ?> builder) {
+        return builder;
+      }
+    },
+
+    /** Waits at the created job, with input and output mappings, until it's canceled. */
+    SERVICE_TASK {
+      @Override
+      boolean isWaiting() {
+        return true;
+      }
+
+      @Override
+      AbstractFlowNodeBuilder<?, ?> addElement(final AbstractFlowNodeBuilder<?, ?> builder) {
+        return builder.serviceTask(
+            "task",
+            t ->
+                t.zeebeJobType("task")
+                    .zeebeInputExpression("x + 1", "y")
+                    .zeebeOutputExpression("result", "z"));
+      }
+    },
+
+    /** Takes the conditional flow instead of the default flow. */
+    EXCLUSIVE_GATEWAY {
+      @Override
+      AbstractFlowNodeBuilder<?, ?> addElement(final AbstractFlowNodeBuilder<?, ?> builder) {
+        return builder
+            .exclusiveGateway("gateway")
+            .defaultFlow()
+            .endEvent("end-default")
+            .moveToNode("gateway")
+            .conditionExpression("x > 5");
+      }
+    },
+
+    /** Forks into {@link #PARALLEL_BRANCHES} branches, which end right away. */
+    PARALLEL_GATEWAY {
+      @Override
+      AbstractFlowNodeBuilder<?, ?> addElement(final AbstractFlowNodeBuilder<?, ?> builder) {
+        AbstractFlowNodeBuilder<?, ?> fork = builder.parallelGateway("fork");
+        for (int i = 1; i < PARALLEL_BRANCHES; i++) {
+          fork = fork.endEvent("end-" + i).moveToNode("fork");
+        }
+        return fork;
+      }
+    },
+
+    /** A parallel multi-instance manual task over {@link #MULTI_INSTANCE_ITEMS} items. */
+    MULTI_INSTANCE {
+      @Override
+      AbstractFlowNodeBuilder<?, ?> addElement(final AbstractFlowNodeBuilder<?, ?> builder) {
+        return builder
+            .manualTask("task")
+            .multiInstance(
+                m ->
+                    m.parallel().zeebeInputCollectionExpression("items").zeebeInputElement("item"));
+      }
+
+      @Override
+      DirectBuffer variables() {
+        return asMsgPack(
+            Map.of("x", 10, "items", IntStream.range(0, MULTI_INSTANCE_ITEMS).boxed().toList()));
+      }
+    },
+
+    /** Waits at the message subscription until it's canceled. */
+    MESSAGE_CATCH_EVENT {
+      @Override
+      boolean isWaiting() {
+        return true;
+      }
+
+      @Override
+      AbstractFlowNodeBuilder<?, ?> addElement(final AbstractFlowNodeBuilder<?, ?> builder) {
+        return builder
+            .intermediateCatchEvent("catch")
+            .message(m -> m.name("message").zeebeCorrelationKeyExpression("key"));
+      }
+    },
+
+    /** Calls a child process with only a start and end event. */
+    CALL_ACTIVITY {
+      @Override
+      AbstractFlowNodeBuilder<?, ?> addElement(final AbstractFlowNodeBuilder<?, ?> builder) {
+        return builder.callActivity("call", c -> c.zeebeProcessId(CHILD_PROCESS_ID));
+      }
+    };
+
+    abstract AbstractFlowNodeBuilder<?, ?> addElement(AbstractFlowNodeBuilder<?, ?> builder);
+
+    /** Whether an instance waits at the element, and needs to be canceled to end. */
+    boolean isWaiting() {
+      return false;
+    }
+
+    DirectBuffer variables() {
+      return asMsgPack(Map.of("x", 10, "key", "correlation-key"));
+    }
+
+    BpmnModelInstance createProcess() {
+      return addElement(Bpmn.createExecutableProcess(PROCESS_ID).startEvent()).endEvent().done();
+    }
+  }
+}
@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionKind;
 import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.protocol.record.Record;
@@ -28,6 +30,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
@@ -47,6 +50,9 @@ public class EngineLargeStatePerformanceTest {
   public static final Logger LOG =
       LoggerFactory.getLogger(EngineLargeStatePerformanceTest.class.getName());
 
+  @Param({"OPTIMISTIC", "WRITE_BATCH"})
+  public TransactionKind transactionKind;
+
   private long count;
   private ProcessInstanceClient processInstanceClient;
   private TestEngine.TestContext testContext;
@@ -56,7 +62,9 @@ public class EngineLargeStatePerformanceTest {
   public void setup() throws Throwable {
     testContext = createTestContext();
 
-    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext);
+    singlePartitionEngine =
+        TestEngine.createSinglePartitionEngine(
+            testContext, DefaultZeebeDbFactory.defaultFactory(transactionKind));
 
     setupState(singlePartitionEngine);
   }
@@ -138,7 +146,11 @@ public class EngineLargeStatePerformanceTest {
     final var referenceScore = 1000;
 
     // when
-    final var assertResult = testCase.run();
+    final var assertResult =
+        testCase
+            .withOptions(
+                options -> options.param("transactionKind", TransactionKind.OPTIMISTIC.name()))
+            .run();
 
     // then
     assertResult.isAtLeast(referenceScore, 0.25);
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableJobState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.File;
+import java.nio.file.Files;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.collections.LongArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of collecting a batch of activatable jobs of a job type with a deep
+ * backlog, i.e. the lookup done by the job batch activation. Part of the backlog was activated
+ * before, which leaves behind deleted entries in front of the remaining activatable jobs.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JobActivationPerformanceTest {
+  private static final int QUEUED_JOBS = 1_000_000;
+  private static final int ACTIVATED_JOBS = 500_000;
+  private static final int BATCH_SIZE = 32;
+  private static final String JOB_TYPE = "task";
+  private static final List<String> TENANTS = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+  private final JobRecord job =
+      new JobRecord()
+          .setType(JOB_TYPE)
+          .setRetries(3)
+          .setDeadline(Long.MAX_VALUE)
+          .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  private final LongArrayList activatedKeys = new LongArrayList();
+
+  private File tempFolder;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private DbKeyGenerator keyGenerator;
+  private MutableJobState jobState;
+
+  @Setup
+  public void setup() throws Exception {
+    tempFolder = Files.createTempDirectory("job-activation").toFile();
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(tempFolder);
+    transactionContext = zeebeDb.createContext();
+    keyGenerator = new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext);
+    final var processingState =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            keyGenerator,
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new EngineConfiguration(),
+            InstantSource.system());
+    jobState = processingState.getJobState();
+
+    for (int i = 0; i < QUEUED_JOBS + ACTIVATED_JOBS; i += BATCH_SIZE) {
+      final var transaction = transactionContext.getCurrentTransaction();
+      transaction.run(this::createJobs);
+      transaction.commit();
+    }
+    for (int i = 0; i < ACTIVATED_JOBS; i += BATCH_SIZE) {
+      final var transaction = transactionContext.getCurrentTransaction();
+      transaction.run(this::activateJobs);
+      transaction.commit();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(tempFolder.toPath());
+  }
+
+  @Benchmark
+  public int collectJobs() {
+    activatedKeys.clear();
+    jobState.forEachActivatableJobs(
+        job.getTypeBuffer(),
+        TENANTS,
+        (key, record) -> {
+          activatedKeys.addLong(key);
+          return activatedKeys.size() < BATCH_SIZE;
+        });
+
+    return activatedKeys.size();
+  }
+
+  @JMHTest("collectJobs")
+  void shouldCollectJobsWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI; when running this test locally, you're
+    // likely to have a different score
+    final var referenceScore = 3_000;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.5);
+  }
+
+  private void activateJobs() {
+    collectJobs();
+    for (int i = 0; i < activatedKeys.size(); i++) {
+      jobState.activate(activatedKeys.getLong(i), job);
+    }
+  }
+
+  private void createJobs() {
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      jobState.create(keyGenerator.nextKey(), job);
+    }
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the throughput of the processing state machine with and without pipelined processing, by
+ * running process instances which pass through a chain of tasks without any wait state. Each
+ * instance is a sequence of commands, which are processed one after the other.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class PipelinedProcessingPerformanceTest {
+  private static final String PROCESS_ID = "process";
+  private static final int TASKS = 10;
+
+  @Param({"false", "true"})
+  public boolean pipelinedProcessing;
+
+  /** With a single command per batch, every follow-up command passes through all steps. */
+  @Param({"1", "100"})
+  public int maxCommandsInBatch;
+
+  private TestContext testContext;
+  private TestEngine engine;
+  private ProcessInstanceClient processInstanceClient;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+    engine =
+        TestEngine.createSinglePartitionEngine(
+            testContext,
+            DefaultZeebeDbFactory.defaultFactory(),
+            builder ->
+                builder
+                    .maxCommandsInBatch(maxCommandsInBatch)
+                    .setEnablePipelinedProcessing(pipelinedProcessing));
+
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess(PROCESS_ID).startEvent();
+    for (int i = 0; i < TASKS; i++) {
+      builder = builder.manualTask("task-" + i);
+    }
+    engine.createDeploymentClient().withXmlResource(builder.endEvent().done()).deploy();
+    processInstanceClient = engine.createProcessInstanceClient();
+  }
+
+  private TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    final var actorScheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock())
+            .build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<ProcessInstanceRecordValue> measureProcessInstanceThroughput() {
+    final long processInstanceKey = processInstanceClient.ofBpmnProcessId(PROCESS_ID).create();
+
+    final var completed =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.PROCESS)
+            .getFirst();
+
+    // only the exported records are cleared, since the log can't be reset while it's processed
+    RecordingExporter.reset();
+    return completed;
+  }
+
+  @JMHTest("measureProcessInstanceThroughput")
+  void shouldNotBeSlowerWhenPipelined(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured locally on a single core, where the same
+    // benchmark without pipelined processing scored 72 ops/s
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 90;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options.param("pipelinedProcessing", "true").param("maxCommandsInBatch", "100"))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.File;
+import java.nio.file.Files;
+import java.time.InstantSource;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of loading a deployed process which is not in the process cache, i.e. the
+ * time it takes to read the persisted resource and transform it into an executable process again.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProcessCacheMissPerformanceTest {
+  private static final String PROCESS_ID = "process";
+
+  @Param({"10", "100"})
+  public int tasks;
+
+  private File tempFolder;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private MutableProcessState processState;
+  private long processDefinitionKey;
+
+  @Setup
+  public void setup() throws Exception {
+    tempFolder = Files.createTempDirectory("process-cache").toFile();
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(tempFolder);
+    final TransactionContext transactionContext = zeebeDb.createContext();
+    final var keyGenerator =
+        new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext);
+    final var processingState =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            keyGenerator,
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new EngineConfiguration(),
+            InstantSource.system());
+    processState = processingState.getProcessState();
+
+    processDefinitionKey = keyGenerator.nextKey();
+    processState.putProcess(processDefinitionKey, createProcessRecord(processDefinitionKey));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(tempFolder.toPath());
+  }
+
+  @Benchmark
+  public DeployedProcess measureColdLoadLatency() {
+    processState.clearCache();
+    return processState.getProcessByKeyAndTenant(
+        processDefinitionKey, TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  }
+
+  @JMHTest("measureColdLoadLatency")
+  void shouldLoadProcessWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected average latency in microseconds for a process with 100 tasks, as
+    // measured in CI; when running this test locally, you're likely to have a different score
+    final var referenceScore = 13_000;
+
+    // when
+    final var assertResult = testCase.withOptions(options -> options.param("tasks", "100")).run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.5);
+  }
+
+  private ProcessRecord createProcessRecord(final long key) {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess(PROCESS_ID).startEvent();
+    for (int i = 0; i < tasks; i++) {
+      builder =
+          builder.serviceTask(
+              "task-" + i,
+              t ->
+                  t.zeebeJobTypeExpression("\"task-\" + type")
+                      .zeebeInputExpression("x + 1", "y")
+                      .zeebeOutputExpression("result", "z"));
+    }
+    final var resource = Bpmn.convertToString(builder.endEvent().done());
+
+    return new ProcessRecord()
+        .setResourceName(wrapString("process.bpmn"))
+        .setResource(wrapString(resource))
+        .setBpmnProcessId(wrapString(PROCESS_ID))
+        .setVersion(1)
+        .setKey(key)
+        .setChecksum(wrapString("checksum"))
+        .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER)
+        .setDeploymentKey(key);
+  }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.search.clients.SearchClientsProxy;
+import io.camunda.security.auth.BrokerRequestAuthorizationConverter;
+import io.camunda.security.configuration.SecurityConfiguration;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.engine.Engine;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.EngineProcessors;
+import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
+import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.util.MockTypedRecord;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
+import io.camunda.zeebe.stream.api.PostCommitTask;
+import io.camunda.zeebe.stream.api.ProcessingResult;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.StreamClock;
+import io.camunda.zeebe.stream.api.scheduling.AsyncTaskGroup;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
+import io.camunda.zeebe.stream.api.scheduling.Task;
+import io.camunda.zeebe.stream.impl.RecordProcessorContextImpl;
+import io.camunda.zeebe.stream.impl.TypedEventRegistry;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.FeatureFlags;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.ReflectUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Runs the engine on the calling thread, without a log stream or an actor, so that a benchmark
+ * measures the processing of the commands only.
+ *
+ * <p>The follow-up commands which a command writes are processed afterward, in the order they were
+ * written, until no command is left. Like with batch processing, all of them are processed in the
+ * same transaction, which is committed at the end. Scheduled tasks are never run, and commands sent
+ * to other partitions are dropped; the engine runs as the only partition. A rejected command fails
+ * the processing, since benchmarks shouldn't measure them.
+ */
+public final class SynchronousTestEngine implements AutoCloseable {
+
+  private static final int PARTITION_ID = Protocol.DEPLOYMENT_PARTITION;
+
+  private final Queue<MockTypedRecord<UnifiedRecordValue>> commands = new ArrayDeque<>();
+  private final RecordingResultBuilder resultBuilder = new RecordingResultBuilder();
+
+  private final File tempFolder;
+  private final ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private final TransactionContext transactionContext;
+  private final Engine engine;
+
+  public SynchronousTestEngine() throws Exception {
+    tempFolder = Files.createTempDirectory("synchronous-engine").toFile();
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(tempFolder);
+    transactionContext = zeebeDb.createContext();
+
+    final InterPartitionCommandSender interPartitionCommandSender =
+        (receiverPartitionId, valueType, intent, recordKey, command, authInfo) -> {};
+    engine =
+        new Engine(
+            context ->
+                EngineProcessors.createEngineProcessors(
+                    context,
+                    1,
+                    new SubscriptionCommandSender(PARTITION_ID, interPartitionCommandSender),
+                    interPartitionCommandSender,
+                    FeatureFlags.createDefaultForTests(),
+                    JobStreamer.noop(),
+                    SearchClientsProxy.noop(),
+                    new BrokerRequestAuthorizationConverter(new SecurityConfiguration())),
+            new EngineConfiguration(),
+            new SecurityConfiguration());
+    engine.init(
+        new RecordProcessorContextImpl(
+            PARTITION_ID,
+            new NoopScheduleService(),
+            zeebeDb,
+            transactionContext,
+            interPartitionCommandSender,
+            new DbKeyGenerator(PARTITION_ID, zeebeDb, transactionContext),
+            StreamClock.controllable(InstantSource.system()),
+            new SimpleMeterRegistry()));
+  }
+
+  /**
+   * Processes the given command and all follow-up commands.
+   *
+   * @return the number of processed commands
+   */
+  public int process(final ValueType valueType, final Intent intent, final RecordValue value) {
+    return process(-1, valueType, intent, value);
+  }
+
+  /**
+   * Processes the given command with the given key, e.g. of the element instance to cancel, and all
+   * follow-up commands.
+   *
+   * @return the number of processed commands
+   */
+  public int process(
+      final long key, final ValueType valueType, final Intent intent, final RecordValue value) {
+    final var metadata =
+        new RecordMetadata().recordType(RecordType.COMMAND).valueType(valueType).intent(intent);
+    commands.add(copyOf(key, metadata, value));
+
+    int processedCommands = 0;
+    final var transaction = transactionContext.getCurrentTransaction();
+    try {
+      while (!commands.isEmpty()) {
+        final var command = commands.poll();
+        transaction.run(() -> engine.process(command, resultBuilder));
+        processedCommands++;
+      }
+      transaction.commit();
+    } catch (final Exception e) {
+      commands.clear();
+      rollback(transaction);
+      throw new IllegalStateException("Expected to process command " + intent, e);
+    }
+
+    resultBuilder.postCommitTasks.forEach(PostCommitTask::flush);
+    resultBuilder.postCommitTasks.clear();
+    return processedCommands;
+  }
+
+  /**
+   * @return the key of the process instance which was created last, or -1 if none was created yet
+   */
+  public long getLastCreatedProcessInstanceKey() {
+    return resultBuilder.lastCreatedProcessInstanceKey;
+  }
+
+  @Override
+  public void close() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(tempFolder.toPath());
+  }
+
+  private static void rollback(final ZeebeDbTransaction transaction) {
+    try {
+      transaction.rollback();
+    } catch (final Exception e) {
+      throw new IllegalStateException("Expected to roll back the transaction", e);
+    }
+  }
+
+  private MockTypedRecord<UnifiedRecordValue> copyOf(
+      final long key, final RecordMetadata metadata, final RecordValue value) {
+    // the engine reuses the appended metadata and values, so a follow-up command is copied before
+    // it's processed, like it would be written to and read from the log
+    final var metadataCopy = new RecordMetadata();
+    copy(metadata, metadataCopy);
+
+    final UnifiedRecordValue valueCopy =
+        (UnifiedRecordValue) ReflectUtil.newInstance(value.getClass());
+    copy((UnpackedObject) value, valueCopy);
+
+    return new MockTypedRecord<>(key, metadataCopy, valueCopy);
+  }
+
+  private static void copy(final RecordMetadata source, final RecordMetadata target) {
+    final var buffer = new UnsafeBuffer(new byte[source.getLength()]);
+    source.write(buffer, 0);
+    target.wrap(buffer, 0, buffer.capacity());
+  }
+
+  private static void copy(final UnpackedObject source, final UnpackedObject target) {
+    final var buffer = new UnsafeBuffer(new byte[source.getLength()]);
+    source.write(buffer, 0);
+    target.wrap(buffer, 0, buffer.capacity());
+  }
+
+  /** Queues the follow-up commands, and drops the events and responses. */
+  private final class RecordingResultBuilder implements ProcessingResultBuilder {
+
+    private final List<PostCommitTask> postCommitTasks = new ArrayList<>();
+    private long lastCreatedProcessInstanceKey = -1;
+
+    @Override
+    public Either<RuntimeException, ProcessingResultBuilder> appendRecordReturnEither(
+        final long key, final RecordValue value, final RecordMetadata metadata) {
+      if (metadata.getRecordType() == RecordType.COMMAND_REJECTION) {
+        return Either.left(
+            new IllegalStateException(
+                "Expected command %s to be processed, but it was rejected with %s: %s"
+                    .formatted(
+                        metadata.getIntent(),
+                        metadata.getRejectionType(),
+                        metadata.getRejectionReason())));
+      }
+
+      if (metadata.getRecordType() == RecordType.COMMAND) {
+        metadata.valueType(TypedEventRegistry.TYPE_REGISTRY.get(value.getClass()));
+        commands.add(copyOf(key, metadata, value));
+      } else if (metadata.getIntent() == ProcessInstanceCreationIntent.CREATED) {
+        lastCreatedProcessInstanceKey =
+            ((ProcessInstanceCreationRecord) value).getProcessInstanceKey();
+      }
+      return Either.right(this);
+    }
+
+    @Override
+    public ProcessingResultBuilder withResponse(
+        final RecordType type,
+        final long key,
+        final Intent intent,
+        final UnpackedObject value,
+        final ValueType valueType,
+        final RejectionType rejectionType,
+        final String rejectionReason,
+        final long requestId,
+        final int requestStreamId) {
+      return this;
+    }
+
+    @Override
+    public ProcessingResultBuilder appendPostCommitTask(final PostCommitTask task) {
+      postCommitTasks.add(task);
+      return this;
+    }
+
+    @Override
+    public ProcessingResultBuilder resetPostCommitTasks() {
+      postCommitTasks.clear();
+      return this;
+    }
+
+    @Override
+    public ProcessingResult build() {
+      return null;
+    }
+
+    @Override
+    public boolean canWriteEventOfLength(final int eventLength) {
+      return true;
+    }
+  }
+
+  private static final class NoopScheduleService implements ProcessingScheduleService {
+
+    private static final ScheduledTask NOOP_TASK = () -> {};
+
+    @Override
+    public void runAtFixedRateAsync(final Duration delay, final Task task) {}
+
+    @Override
+    public ScheduledTask runDelayedAsync(final Duration delay, final Task task) {
+      return NOOP_TASK;
+    }
+
+    @Override
+    public ScheduledTask runAtAsync(final long timestamp, final Task task) {
+      return NOOP_TASK;
+    }
+
+    @Override
+    public void runAtFixedRateAsync(
+        final Duration delay, final Task task, final AsyncTaskGroup taskGroup) {}
+
+    @Override
+    public ScheduledTask runDelayedAsync(
+        final Duration delay, final Task task, final AsyncTaskGroup taskGroup) {
+      return NOOP_TASK;
+    }
+
+    @Override
+    public ScheduledTask runAtAsync(
+        final long timestamp, final Task task, final AsyncTaskGroup taskGroup) {
+      return NOOP_TASK;
+    }
+
+    @Override
+    public ScheduledTask runDelayed(final Duration delay, final Runnable task) {
+      return NOOP_TASK;
+    }
+
+    @Override
+    public ScheduledTask runDelayed(final Duration delay, final Task task) {
+      return NOOP_TASK;
+    }
+
+    @Override
+    public ScheduledTask runAt(final long timestamp, final Task task) {
+      return NOOP_TASK;
+    }
+
+    @Override
+    public ScheduledTask runAt(final long timestamp, final Runnable task) {
+      return NOOP_TASK;
+    }
+
+    @Override
+    public void runAtFixedRate(final Duration delay, final Task task) {}
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.engine.perf;
 import io.camunda.search.clients.SearchClientsProxy;
 import io.camunda.security.auth.BrokerRequestAuthorizationConverter;
 import io.camunda.security.configuration.SecurityConfiguration;
+import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -43,6 +44,7 @@ public final class TestEngine {
       final int partitionId,
       final int partitionCount,
       final TestContext testContext,
+      final ZeebeDbFactory<?> zeebeDbFactory,
       final Consumer<StreamProcessorBuilder> processorConfiguration) {
     this.partitionCount = partitionCount;
 
@@ -64,10 +66,7 @@ public final class TestEngine {
 
     streamProcessingComposite =
         new StreamProcessingComposite(
-            testStreams,
-            partitionId,
-            DefaultZeebeDbFactory.defaultFactory(),
-            testContext.actorScheduler());
+            testStreams, partitionId, zeebeDbFactory, testContext.actorScheduler());
 
     final var interPartitionCommandSenders = new ArrayList<TestInterPartitionCommandSender>();
     final var featureFlags = FeatureFlags.createDefaultForTests();
@@ -109,7 +108,19 @@ public final class TestEngine {
   }
 
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
-    return new TestEngine(1, 1, testContext, cfg -> {});
+    return createSinglePartitionEngine(testContext, DefaultZeebeDbFactory.defaultFactory());
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext, final ZeebeDbFactory<?> zeebeDbFactory) {
+    return createSinglePartitionEngine(testContext, zeebeDbFactory, cfg -> {});
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext,
+      final ZeebeDbFactory<?> zeebeDbFactory,
+      final Consumer<StreamProcessorBuilder> processorConfiguration) {
+    return new TestEngine(1, 1, testContext, zeebeDbFactory, processorConfiguration);
   }
 
   public void reset() {
@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.File;
+import java.nio.file.Files;
+import java.time.InstantSource;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of setting a variable with a value of the given size in a chain of nested
+ * scopes, like a variable which is propagated from a child scope up to the process instance, and of
+ * removing the scopes again. Values of at least {@link
+ * io.camunda.zeebe.engine.state.variable.DbVariableState#BLOB_THRESHOLD} bytes are stored in a blob
+ * which all scopes share.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class VariableStatePerformanceTest {
+  private static final int SCOPES = 10;
+  private static final DirectBuffer NAME = wrapString("x");
+
+  @Param({"1024", "65536"})
+  public int valueSize;
+
+  private File tempFolder;
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private MutableVariableState variableState;
+  private DirectBuffer value;
+  private long nextScopeKey = 1;
+
+  @Setup
+  public void setup() throws Exception {
+    tempFolder = Files.createTempDirectory("variable-state").toFile();
+    zeebeDb = DefaultZeebeDbFactory.defaultFactory().createDb(tempFolder);
+    transactionContext = zeebeDb.createContext();
+    final var processingState =
+        new ProcessingDbState(
+            Protocol.DEPLOYMENT_PARTITION,
+            zeebeDb,
+            transactionContext,
+            new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext),
+            new TransientPendingSubscriptionState(),
+            new TransientPendingSubscriptionState(),
+            new EngineConfiguration(),
+            InstantSource.system());
+    variableState = processingState.getVariableState();
+    value = asMsgPack("value", "a".repeat(valueSize));
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolder(tempFolder.toPath());
+  }
+
+  @Benchmark
+  public long measureSetVariableInNestedScopes() throws Exception {
+    final long rootScopeKey = nextScopeKey;
+    nextScopeKey += SCOPES;
+
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          long parentScopeKey = -1;
+          for (long scopeKey = rootScopeKey; scopeKey < rootScopeKey + SCOPES; scopeKey++) {
+            variableState.createScope(scopeKey, parentScopeKey);
+            variableState.setVariableLocal(scopeKey, scopeKey, 1, NAME, value);
+            parentScopeKey = scopeKey;
+          }
+          for (long scopeKey = rootScopeKey + SCOPES - 1; scopeKey >= rootScopeKey; scopeKey--) {
+            variableState.removeScope(scopeKey);
+          }
+        });
+    transaction.commit();
+
+    return rootScopeKey;
+  }
+
+  @JMHTest("measureSetVariableInNestedScopes")
+  void shouldSetLargeVariableWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected average latency in microseconds for a value of 64 KiB, as measured in a
+    // local run; when running this test on another machine, you're likely to have a different score
+    final var referenceScore = 1_300;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("valueSize", "65536")).run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.5);
+  }
+}
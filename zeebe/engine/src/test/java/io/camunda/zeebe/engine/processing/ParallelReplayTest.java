@@ -0,0 +1,237 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.TimerIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.stream.impl.StreamProcessorMode;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.assertj.core.api.SoftAssertions;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class ParallelReplayTest {
+
+  private static final int PROCESS_INSTANCES = 20;
+  private static final int REPLAY_THREADS = 4;
+
+  private static final BpmnModelInstance PARALLEL_TASKS =
+      Bpmn.createExecutableProcess("parallel-tasks")
+          .startEvent()
+          .parallelGateway("fork")
+          .serviceTask("a", t -> t.zeebeJobType("a").zeebeOutputExpression("x + 1", "y"))
+          .parallelGateway("join")
+          .endEvent()
+          .moveToNode("fork")
+          .serviceTask("b", t -> t.zeebeJobType("b"))
+          .connectTo("join")
+          .done();
+
+  private final ListLogStorage sharedStorage = new ListLogStorage();
+
+  @Rule
+  public final EngineRule sequentialReplay =
+      EngineRule.withSharedStorage(sharedStorage)
+          .withStreamProcessorMode(StreamProcessorMode.REPLAY);
+
+  @Rule
+  public final EngineRule parallelReplay =
+      EngineRule.withSharedStorage(sharedStorage)
+          .withStreamProcessorMode(StreamProcessorMode.REPLAY)
+          .replayThreads(REPLAY_THREADS);
+
+  @Rule public final EngineRule processing = EngineRule.withSharedStorage(sharedStorage);
+
+  @Test
+  public void shouldBuildTheSameStateOnParallelAndSequentialReplay() {
+    // given
+    processing.deployment().withXmlResource(PARALLEL_TASKS).deploy();
+
+    // when
+    final List<Long> processInstanceKeys = new ArrayList<>();
+    for (int i = 0; i < PROCESS_INSTANCES; i++) {
+      processInstanceKeys.add(
+          processing
+              .processInstance()
+              .ofBpmnProcessId("parallel-tasks")
+              .withVariables(Map.of("x", i))
+              .create());
+    }
+    for (final long processInstanceKey : processInstanceKeys) {
+      processing.job().ofInstance(processInstanceKey).withType("a").complete();
+    }
+    for (final long processInstanceKey : processInstanceKeys) {
+      processing.job().ofInstance(processInstanceKey).withType("b").complete();
+    }
+
+    // then
+    processInstanceKeys.forEach(this::awaitCompleted);
+    assertStates();
+  }
+
+  @Test
+  public void shouldReplayEventsAcrossProcessInstancesInOrder() {
+    // given
+    processing
+        .deployment()
+        .withXmlResource(PARALLEL_TASKS)
+        .withXmlResource(
+            Bpmn.createExecutableProcess("parent")
+                .startEvent()
+                .callActivity("call", c -> c.zeebeProcessId("parallel-tasks"))
+                .endEvent()
+                .done())
+        .withXmlResource(
+            Bpmn.createExecutableProcess("message")
+                .startEvent()
+                .intermediateCatchEvent("catch")
+                .message(m -> m.name("message").zeebeCorrelationKeyExpression("key"))
+                .endEvent()
+                .done())
+        .withXmlResource(
+            Bpmn.createExecutableProcess("timer-process")
+                .startEvent()
+                .intermediateCatchEvent("wait", e -> e.timerWithDuration("PT1M"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    // when - a called process, a correlated message and a triggered timer
+    final long parentKey = processing.processInstance().ofBpmnProcessId("parent").create();
+    final long childKey =
+        RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_ACTIVATED)
+            .withParentProcessInstanceKey(parentKey)
+            .withElementType(BpmnElementType.PROCESS)
+            .getFirst()
+            .getKey();
+    final long messageKey =
+        processing
+            .processInstance()
+            .ofBpmnProcessId("message")
+            .withVariables(Map.of("key", "key-1"))
+            .create();
+    final long timerKey = processing.processInstance().ofBpmnProcessId("timer-process").create();
+
+    processing.job().ofInstance(childKey).withType("a").complete();
+    processing.job().ofInstance(childKey).withType("b").complete();
+    processing.message().withName("message").withCorrelationKey("key-1").publish();
+    RecordingExporter.timerRecords(TimerIntent.CREATED).withProcessInstanceKey(timerKey).await();
+    processing.increaseTime(Duration.ofMinutes(1));
+
+    // and - an incident, and a large variable which is stored in a blob
+    final long incidentKey =
+        processing
+            .processInstance()
+            .ofBpmnProcessId("parallel-tasks")
+            .withVariables(Map.of("x", 1, "large", "v".repeat(20_000)))
+            .create();
+    processing.job().ofInstance(incidentKey).withType("a").withRetries(0).fail();
+
+    // then
+    awaitCompleted(parentKey);
+    awaitCompleted(messageKey);
+    awaitCompleted(timerKey);
+    RecordingExporter.incidentRecords(IncidentIntent.CREATED)
+        .withProcessInstanceKey(incidentKey)
+        .await();
+    assertStates();
+  }
+
+  @Test
+  public void shouldReleaseSharedBlobOfElementsCompletedInTheSameWindow() {
+    // given - a large variable of each task, which all instances share in one blob
+    processing
+        .deployment()
+        .withXmlResource(
+            Bpmn.createExecutableProcess("shared-blob")
+                .startEvent()
+                .serviceTask("a", t -> t.zeebeJobType("a").zeebeInputExpression("large", "local"))
+                .serviceTask("b", t -> t.zeebeJobType("b"))
+                .endEvent()
+                .done())
+        .deploy();
+
+    final List<Long> processInstanceKeys = new ArrayList<>();
+    for (int i = 0; i < PROCESS_INSTANCES; i++) {
+      processInstanceKeys.add(
+          processing
+              .processInstance()
+              .ofBpmnProcessId("shared-blob")
+              .withVariables(Map.of("large", "v".repeat(20_000)))
+              .create());
+    }
+
+    // when - the tasks are completed one after the other, without a barrier in between
+    for (final long processInstanceKey : processInstanceKeys) {
+      processing.job().ofInstance(processInstanceKey).withType("a").complete();
+    }
+
+    // then
+    RecordingExporter.jobRecords(JobIntent.CREATED).withType("b").limit(PROCESS_INSTANCES).await();
+    // replays all events again at once, such that the completed tasks are in the same window
+    parallelReplay.stop();
+    parallelReplay.start();
+    assertStates();
+  }
+
+  private void awaitCompleted(final long processInstanceKey) {
+    RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+        .withProcessInstanceKey(processInstanceKey)
+        .withElementType(BpmnElementType.PROCESS)
+        .await();
+  }
+
+  private void assertStates() {
+    Awaitility.await("await that the parallel replay state is equal to the sequential replay state")
+        .untilAsserted(
+            () -> {
+              final var processingState = processing.collectState();
+              final var sequentialState = sequentialReplay.collectState();
+              final var parallelState = parallelReplay.collectState();
+
+              final var softly = new SoftAssertions();
+
+              processingState.keySet().stream()
+                  // ignores transient states
+                  // this will happen anyway then on leader replay
+                  .filter(column -> column != ZbColumnFamilies.DEFAULT)
+                  // Migrations ColumnFamily is not filled using events, but on broker start
+                  .filter(column -> column != ZbColumnFamilies.MIGRATIONS_STATE)
+                  .forEach(
+                      column -> {
+                        // the sequential replay must have caught up with the processing
+                        softly
+                            .assertThat(sequentialState.get(column))
+                            .describedAs(
+                                "The state column '%s' has different entries after replay", column)
+                            .containsExactlyInAnyOrderEntriesOf(processingState.get(column));
+                        softly
+                            .assertThat(parallelState.get(column))
+                            .describedAs(
+                                "The state column '%s' has different entries after parallel replay",
+                                column)
+                            .containsExactlyInAnyOrderEntriesOf(sequentialState.get(column));
+                      });
+
+              softly.assertAll();
+            });
+  }
+}
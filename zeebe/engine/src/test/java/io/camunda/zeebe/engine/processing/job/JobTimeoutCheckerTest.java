@@ -183,4 +183,31 @@ public class JobTimeoutCheckerTest {
         .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
     assertThat(timestampCaptor.getValue()).isLessThanOrEqualTo(ActorClock.currentTimeMillis());
   }
+
+  @Test
+  public void shouldTimeOutJobWithDeadlineAddedAfterFirstRun() {
+    // given
+    when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+    final var task =
+        new JobTimeoutChecker(
+            jobState,
+            EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL,
+            Integer.MAX_VALUE,
+            InstantSource.system());
+    task.setProcessingContext(mockContext);
+    jobState.setDueDateListeners(task::addDeadline, (backoff, jobKey) -> {});
+    task.execute(mockTaskResultBuilder);
+    clearInvocations(mockTaskResultBuilder);
+
+    // when
+    createAndActivateJobRecord(11, newJobRecord().setDeadline(5));
+    createAndActivateJobRecord(12, newJobRecord().setDeadline(5));
+    jobState.complete(12, newJobRecord().setDeadline(5));
+    task.execute(mockTaskResultBuilder);
+
+    // then
+    verify(mockTaskResultBuilder).appendCommandRecord(eq(11L), eq(TIME_OUT), any());
+    verify(mockTaskResultBuilder).build();
+    verifyNoMoreInteractions(mockTaskResultBuilder);
+  }
 }
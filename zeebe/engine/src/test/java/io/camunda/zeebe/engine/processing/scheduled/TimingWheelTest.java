@@ -0,0 +1,255 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.scheduled;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.scheduled.TimingWheel.EntryVisitor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+final class TimingWheelTest {
+
+  private static final long TICK = 100;
+
+  /** The persisted entries, by due date and key, which are used to refill the wheel. */
+  private final TreeMap<Long, List<Long>> persisted = new TreeMap<>();
+
+  @Test
+  void shouldExpireEntriesInOrderOfDueDate() {
+    // given
+    final var wheel = loadedWheel(10, 1_000);
+    add(wheel, 2_000_000, 4);
+    add(wheel, 50, 1);
+    add(wheel, 7_000, 3);
+    add(wheel, 150, 2);
+
+    // when
+    final var expired = expire(wheel, 3_000_000);
+
+    // then
+    assertThat(expired).containsExactly(1L, 2L, 3L, 4L);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldNotExpireEntriesBeforeTheirDueDate() {
+    // given
+    final var wheel = loadedWheel(10, 1_000);
+    add(wheel, 120, 1);
+    add(wheel, 180, 2);
+
+    // when - the tick of both entries is only partially over
+    final var expired = expire(wheel, 150);
+
+    // then
+    assertThat(expired).containsExactly(1L);
+    assertThat(wheel.nextDueDate()).isEqualTo(180);
+  }
+
+  @Test
+  void shouldKeepEntryIfVisitorStops() {
+    // given
+    final var wheel = loadedWheel(10, 1_000);
+    add(wheel, 10, 1);
+    add(wheel, 20, 2);
+
+    // when
+    final var isCompleted = wheel.expire(100, (dueDate, key, value) -> key != 2);
+
+    // then
+    assertThat(isCompleted).isFalse();
+    assertThat(wheel.size()).isOne();
+    assertThat(expire(wheel, 100)).containsExactly(2L);
+  }
+
+  @Test
+  void shouldExpireOverdueEntries() {
+    // given
+    final var wheel = loadedWheel(1_000, 1_000);
+
+    // when
+    add(wheel, 10, 1);
+
+    // then
+    assertThat(wheel.nextDueDate()).isEqualTo(10);
+    assertThat(expire(wheel, 1_000)).containsExactly(1L);
+  }
+
+  @Test
+  void shouldReturnNoNextDueDateIfEmpty() {
+    // given
+    final var wheel = loadedWheel(0, 1_000);
+
+    // when
+    final var nextDueDate = wheel.nextDueDate();
+
+    // then
+    assertThat(nextDueDate).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldSpillEntriesBeyondTheSpanOfTheWheel() {
+    // given - two levels span 64 * 64 ticks
+    final var wheel = new TimingWheel(TICK, 2, 1_000, 0);
+    wheel.refill(this::forEachPersisted);
+
+    // when
+    final var isAdded = add(wheel, 64 * 64 * TICK + 1, 1);
+
+    // then
+    assertThat(isAdded).isFalse();
+    assertThat(wheel.size()).isZero();
+    assertThat(wheel.nextDueDate()).isEqualTo(64 * 64 * TICK + 1);
+  }
+
+  @Test
+  void shouldRefillSpilledEntriesOnceTheWheelReachesThem() {
+    // given
+    final var wheel = new TimingWheel(TICK, 2, 1_000, 0);
+    wheel.refill(this::forEachPersisted);
+    add(wheel, 64 * 64 * TICK + 1, 1);
+
+    // when
+    assertThat(expire(wheel, 64 * 64 * TICK)).isEmpty();
+    assertThat(wheel.needsRefill()).isTrue();
+    wheel.refill(this::forEachPersisted);
+
+    // then
+    assertThat(wheel.size()).isOne();
+    assertThat(expire(wheel, 64 * 64 * TICK + 1)).containsExactly(1L);
+  }
+
+  @Test
+  void shouldLoadEntriesUpToTheMaximumOnRefill() {
+    // given
+    persist(10, 1);
+    persist(20, 2);
+    persist(20, 3);
+    persist(30, 4);
+    final var wheel = new TimingWheel(TICK, 2, 2, 0);
+
+    // when
+    wheel.refill(this::forEachPersisted);
+
+    // then - entries with the same due date are loaded together
+    assertThat(wheel.size()).isEqualTo(3);
+    assertThat(wheel.coverage()).isEqualTo(30);
+    assertThat(wheel.nextDueDate()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldSpillFurthestEntriesIfFull() {
+    // given
+    final var wheel = loadedWheel(0, 4);
+    add(wheel, 100, 1);
+    add(wheel, 200, 2);
+    add(wheel, 300_000, 3);
+    add(wheel, 400_000, 4);
+
+    // when
+    final var isAdded = add(wheel, 300, 5);
+
+    // then
+    assertThat(isAdded).isTrue();
+    assertThat(wheel.size()).isEqualTo(4);
+    assertThat(wheel.coverage()).isBetween(300_001L, 400_000L);
+    assertThat(expire(wheel, 1_000)).containsExactly(1L, 2L, 5L);
+
+    // and the spilled entries are loaded again once there is room
+    assertThat(wheel.needsRefill()).isTrue();
+    wheel.refill(this::forEachPersisted);
+    assertThat(expire(wheel, 1_000_000)).containsExactly(3L, 4L);
+  }
+
+  @Test
+  void shouldExpireLikeSortedMap() {
+    // given
+    final var random = new Random(42);
+    final var wheel = loadedWheel(0, 200);
+    final var expected = new TreeMap<Long, List<Long>>();
+    final List<Long> expired = new ArrayList<>();
+    final List<Long> expectedExpired = new ArrayList<>();
+    long now = 0;
+    long key = 0;
+
+    // when
+    for (int i = 0; i < 10_000; i++) {
+      if (random.nextInt(3) > 0) {
+        final long dueDate = now + random.nextLong(10_000_000);
+        expected.computeIfAbsent(dueDate, d -> new ArrayList<>()).add(key);
+        add(wheel, dueDate, key++);
+      } else {
+        now += random.nextLong(1_000_000);
+        expired.addAll(refillAndExpire(wheel, now));
+
+        final var due = expected.headMap(now, true);
+        due.values().forEach(expectedExpired::addAll);
+        due.clear();
+      }
+    }
+
+    // then
+    assertThat(expired).containsExactlyInAnyOrderElementsOf(expectedExpired);
+  }
+
+  /** Expires the entries like the timer checker does, loading spilled entries as needed. */
+  private List<Long> refillAndExpire(final TimingWheel wheel, final long now) {
+    final List<Long> expired = new ArrayList<>();
+    do {
+      if (wheel.needsRefill()) {
+        wheel.refill(this::forEachPersisted);
+      }
+      expired.addAll(expire(wheel, now));
+    } while (wheel.needsRefill());
+    return expired;
+  }
+
+  private TimingWheel loadedWheel(final long now, final int maxEntries) {
+    final var wheel = new TimingWheel(TICK, 4, maxEntries, now);
+    wheel.refill(this::forEachPersisted);
+    return wheel;
+  }
+
+  private boolean add(final TimingWheel wheel, final long dueDate, final long key) {
+    persist(dueDate, key);
+    return wheel.add(dueDate, key, -key);
+  }
+
+  private void persist(final long dueDate, final long key) {
+    persisted.computeIfAbsent(dueDate, d -> new ArrayList<>()).add(key);
+  }
+
+  private List<Long> expire(final TimingWheel wheel, final long now) {
+    final List<Long> expired = new ArrayList<>();
+    wheel.expire(
+        now,
+        (dueDate, key, value) -> {
+          assertThat(dueDate).isLessThanOrEqualTo(now);
+          assertThat(value).isEqualTo(-key);
+          expired.add(key);
+          persisted.computeIfPresent(
+              dueDate, (d, keys) -> keys.remove(key) && keys.isEmpty() ? null : keys);
+          return true;
+        });
+    return expired;
+  }
+
+  private void forEachPersisted(final long fromDueDate, final EntryVisitor visitor) {
+    for (final var entry : persisted.tailMap(fromDueDate, true).entrySet()) {
+      for (final long key : List.copyOf(entry.getValue())) {
+        if (!visitor.visit(entry.getKey(), key, -key)) {
+          return;
+        }
+      }
+    }
+  }
+}
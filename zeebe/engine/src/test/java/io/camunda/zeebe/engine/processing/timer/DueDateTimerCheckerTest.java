@@ -17,6 +17,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.processing.scheduled.TimingWheel;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.TriggerTimersSideEffect;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.YieldingDecorator;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
@@ -61,7 +62,9 @@ class DueDateTimerCheckerTest {
           new TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers(
               mockTimer, testActorClock);
 
-      final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, true);
+      final var sut =
+          new TriggerTimersSideEffect(
+              testTimerInstanceState, new TimingWheel(100, 4, 100, 0), testActorClock, true);
 
       // when
       sut.apply(mockTaskResultBuilder);
@@ -103,7 +106,9 @@ class DueDateTimerCheckerTest {
           new TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers(
               mockTimer, testActorClock);
 
-      final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, true);
+      final var sut =
+          new TriggerTimersSideEffect(
+              testTimerInstanceState, new TimingWheel(100, 4, 100, 0), testActorClock, true);
 
       // when
       sut.apply(mockTaskResultBuilder);
@@ -225,13 +230,24 @@ class DueDateTimerCheckerTest {
       return 0;
     }
 
+    @Override
+    public void forEachDueDate(final long fromDueDate, final DueDateVisitor visitor) {
+      // timers with the same due date are loaded together, so the list can't be endless here
+      for (long timerKey = 0; timerKey < 1_000; timerKey++) {
+        if (!visitor.visit(0, 1, timerKey)) {
+          return;
+        }
+      }
+    }
+
     @Override
     public void forEachTimerForElementInstance(
         final long elementInstanceKey, final Consumer<TimerInstance> action) {}
 
     @Override
     public TimerInstance get(final long elementInstanceKey, final long timerKey) {
-      return null;
+      testActorClock.update();
+      return timer;
     }
   }
 }
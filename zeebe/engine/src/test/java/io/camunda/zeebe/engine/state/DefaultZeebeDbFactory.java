@@ -12,6 +12,7 @@ import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionKind;
 import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -19,10 +20,15 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 public final class DefaultZeebeDbFactory {
 
   public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory() {
+    return defaultFactory(RocksDbConfiguration.DEFAULT_TRANSACTION_KIND);
+  }
+
+  public static ZeebeDbFactory<ZbColumnFamilies> defaultFactory(
+      final TransactionKind transactionKind) {
     // enable consistency checks for tests
     final var consistencyChecks = new ConsistencyChecksSettings(true, true);
     return new ZeebeRocksDbFactory<>(
-        new RocksDbConfiguration(),
+        new RocksDbConfiguration().setTransactionKind(transactionKind),
         consistencyChecks,
         new AccessMetricsConfiguration(Kind.NONE, 1),
         SimpleMeterRegistry::new);
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.metrics.SharedProcessCacheMetricsDoc;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+final class SharedProcessCacheTest {
+  private static final String TENANT = TenantOwned.DEFAULT_TENANT_IDENTIFIER;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final SharedProcessCache cache = new SharedProcessCache(100, meterRegistry);
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  void shouldShareProcessBetweenAcquirers() {
+    // given
+    final var first = cache.acquire(TENANT, 1L, 10, loader("process"));
+
+    // when
+    final var second = cache.acquire(TENANT, 1L, 10, loader("process"));
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(loads).hasValue(1);
+    assertThat(cache.references(TENANT, 1L)).isEqualTo(2);
+    assertThat(counter(SharedProcessCacheMetricsDoc.HITS)).isOne();
+    assertThat(counter(SharedProcessCacheMetricsDoc.MISSES)).isOne();
+  }
+
+  @Test
+  void shouldNotShareProcessBetweenTenants() {
+    // given
+    final var first = cache.acquire(TENANT, 1L, 10, loader("process"));
+
+    // when
+    final var second = cache.acquire("other-tenant", 1L, 10, loader("process"));
+
+    // then
+    assertThat(second).isNotSameAs(first);
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void shouldReleaseReference() {
+    // given
+    final var process = cache.acquire(TENANT, 1L, 10, loader("process"));
+    cache.acquire(TENANT, 1L, 10, loader("process"));
+
+    // when
+    cache.release(TENANT, 1L, process);
+
+    // then
+    assertThat(cache.references(TENANT, 1L)).isOne();
+  }
+
+  @Test
+  void shouldEvictUnreferencedProcessesFirst() {
+    // given
+    cache.acquire(TENANT, 1L, 40, loader("a"));
+    final var process = cache.acquire(TENANT, 2L, 40, loader("b"));
+    cache.release(TENANT, 2L, process);
+
+    // when
+    cache.acquire(TENANT, 3L, 40, loader("c"));
+
+    // then
+    assertThat(cache.contains(TENANT, 1L)).isTrue();
+    assertThat(cache.contains(TENANT, 2L)).isFalse();
+    assertThat(cache.contains(TENANT, 3L)).isTrue();
+    assertThat(counter(SharedProcessCacheMetricsDoc.EVICTIONS)).isOne();
+    assertThat(meterRegistry.get(SharedProcessCacheMetricsDoc.SIZE.getName()).gauge().value())
+        .isEqualTo(80);
+  }
+
+  @Test
+  void shouldEvictReferencedProcessesIfLimitIsExceeded() {
+    // given
+    cache.acquire(TENANT, 1L, 60, loader("a"));
+
+    // when
+    final var process = cache.acquire(TENANT, 2L, 60, loader("b"));
+
+    // then
+    assertThat(process.getId()).isNotNull();
+    assertThat(cache.contains(TENANT, 1L)).isFalse();
+    assertThat(cache.contains(TENANT, 2L)).isTrue();
+  }
+
+  @Test
+  void shouldIgnoreReleaseOfEvictedProcess() {
+    // given
+    final var process = cache.acquire(TENANT, 1L, 200, loader("a"));
+
+    // when
+    cache.release(TENANT, 1L, process);
+
+    // then
+    assertThat(cache.contains(TENANT, 1L)).isFalse();
+    assertThat(cache.references(TENANT, 1L)).isZero();
+  }
+
+  @Test
+  void shouldIgnoreReleaseOfEvictedProcessWhichWasCachedAgain() {
+    // given
+    final var evicted = cache.acquire(TENANT, 1L, 60, loader("a"));
+    cache.acquire(TENANT, 2L, 60, loader("b"));
+    cache.acquire(TENANT, 1L, 10, loader("a"));
+
+    // when
+    cache.release(TENANT, 1L, evicted);
+
+    // then
+    assertThat(cache.contains(TENANT, 1L)).isTrue();
+    assertThat(cache.references(TENANT, 1L)).isOne();
+  }
+
+  private Supplier<ExecutableProcess> loader(final String id) {
+    return () -> {
+      loads.incrementAndGet();
+      return new ExecutableProcess(id);
+    };
+  }
+
+  private double counter(final SharedProcessCacheMetricsDoc doc) {
+    return meterRegistry.get(doc.getName()).counter().count();
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+final class ActivatableJobQueueTest {
+
+  private final ActivatableJobQueue queue = new ActivatableJobQueue();
+
+  @Test
+  void shouldVisitKeysInAscendingOrder() {
+    // given
+    queue.add(5);
+    queue.add(1);
+    queue.add(3);
+    queue.add(0);
+
+    // when
+    final var keys = keys();
+
+    // then
+    assertThat(keys).containsExactly(0L, 1L, 3L, 5L);
+    assertThat(queue.size()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldNotAddKeyTwice() {
+    // given
+    queue.add(1);
+
+    // when
+    final var added = queue.add(1);
+
+    // then
+    assertThat(added).isFalse();
+    assertThat(queue.size()).isOne();
+  }
+
+  @Test
+  void shouldRemoveKeys() {
+    // given
+    queue.add(1);
+    queue.add(2);
+    queue.add(3);
+
+    // when
+    queue.remove(1);
+    queue.remove(2);
+
+    // then
+    assertThat(keys()).containsExactly(3L);
+    assertThat(queue.remove(2)).isFalse();
+    assertThat(queue.contains(2)).isFalse();
+  }
+
+  @Test
+  void shouldReAddRemovedKey() {
+    // given
+    queue.add(1);
+    queue.add(2);
+    queue.add(3);
+    queue.remove(2);
+
+    // when
+    queue.add(2);
+
+    // then
+    assertThat(keys()).containsExactly(1L, 2L, 3L);
+    assertThat(queue.contains(2)).isTrue();
+  }
+
+  @Test
+  void shouldStopVisitingWhenVisitorReturnsFalse() {
+    // given
+    queue.add(1);
+    queue.add(2);
+    queue.add(3);
+    final List<Long> visited = new ArrayList<>();
+
+    // when
+    queue.forEach(
+        key -> {
+          visited.add(key);
+          return visited.size() < 2;
+        });
+
+    // then
+    assertThat(visited).containsExactly(1L, 2L);
+  }
+
+  @Test
+  void shouldBehaveLikeSortedSet() {
+    // given
+    final var random = new Random(42);
+    final var expected = new TreeSet<Long>();
+
+    // when
+    for (int i = 0; i < 100_000; i++) {
+      final long key = random.nextInt(1_000);
+      if (random.nextBoolean()) {
+        assertThat(queue.add(key)).isEqualTo(expected.add(key));
+      } else {
+        assertThat(queue.remove(key)).isEqualTo(expected.remove(key));
+      }
+    }
+
+    // then
+    assertThat(keys()).containsExactlyElementsOf(expected);
+    assertThat(queue.size()).isEqualTo(expected.size());
+  }
+
+  @Test
+  void shouldUseEightBytesPerQueuedKey() {
+    // given
+    final int jobs = 1_000_000;
+
+    // when
+    for (long key = 0; key < jobs; key++) {
+      queue.add(key);
+    }
+
+    // then - the array grows in powers of two
+    assertThat(queue.memoryInBytes()).isBetween((long) jobs * Long.BYTES, 2L * jobs * Long.BYTES);
+  }
+
+  @Test
+  void shouldReleaseMemoryWhenDrained() {
+    // given
+    for (long key = 0; key < 100_000; key++) {
+      queue.add(key);
+    }
+    final var memoryWhenFull = queue.memoryInBytes();
+
+    // when
+    for (long key = 0; key < 99_000; key++) {
+      queue.remove(key);
+    }
+    queue.add(100_000);
+
+    // then
+    assertThat(queue.memoryInBytes()).isLessThan(memoryWhenFull / 2);
+    assertThat(queue.size()).isEqualTo(1_001);
+  }
+
+  private List<Long> keys() {
+    final List<Long> keys = new ArrayList<>();
+    queue.forEach(keys::add);
+    return keys;
+  }
+}
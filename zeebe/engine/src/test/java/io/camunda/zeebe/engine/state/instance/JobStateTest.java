@@ -374,6 +374,48 @@ public final class JobStateTest {
     assertThat(jobState.jobDeadlineExists(jobKey, newDeadline)).isTrue();
   }
 
+  @Test
+  public void shouldListDeadlinesFromGivenDeadline() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(1000L));
+    createAndActivateJobRecord(2, newJobRecord().setDeadline(2000L));
+    createAndActivateJobRecord(3, newJobRecord().setDeadline(3000L));
+
+    // when
+    final List<Long> jobKeys = new ArrayList<>();
+    jobState.forEachDeadline(
+        2000L,
+        (deadline, jobKey) -> {
+          assertThat(deadline).isEqualTo(jobKey * 1000L);
+          return jobKeys.add(jobKey);
+        });
+
+    // then
+    assertThat(jobKeys).containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void shouldNotifyListenersAboutAddedDeadlinesAndBackoffs() {
+    // given
+    final List<Long> deadlines = new ArrayList<>();
+    final List<Long> backoffs = new ArrayList<>();
+    jobState.setDueDateListeners(
+        (deadline, jobKey) -> deadlines.add(deadline), (backoff, jobKey) -> backoffs.add(backoff));
+    final JobRecord jobRecord =
+        newJobRecord().setDeadline(1000L).setRetries(1).setRetryBackoff(10).setRecurringTime(2000L);
+
+    // when
+    jobState.create(1, jobRecord);
+    jobState.activate(1, jobRecord);
+    jobState.updateJobDeadline(1, 1500L);
+    jobState.fail(1, jobRecord);
+
+    // then
+    assertThat(deadlines).containsExactly(1000L, 1500L);
+    assertThat(backoffs).containsExactly(2000L);
+    assertThat(jobState.jobBackoffExists(1, 2000L)).isTrue();
+  }
+
   @Test
   public void shouldFailJobWithRetriesLeft() {
     // given
@@ -775,6 +817,85 @@ public final class JobStateTest {
     jobState.activate(key, record);
   }
 
+  @Test
+  public void shouldListActivatableJobsInKeyOrder() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, jobRecord);
+    jobState.create(3L, jobRecord);
+    jobState.activate(1L, jobRecord);
+
+    // when
+    jobState.fail(1L, jobRecord.setRetryBackoff(0));
+
+    // then
+    assertThat(getActivatableKeys(jobRecord.getTypeBuffer(), jobRecord.getTenantId()))
+        .containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldListActivatableJobsOfMultipleTenantsInKeyOrder() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, newJobRecord("tenant-a"));
+    jobState.create(2L, newJobRecord("tenant-b"));
+    jobState.create(3L, newJobRecord("tenant-a"));
+    jobState.create(4L, newJobRecord("tenant-c"));
+
+    // when
+    final var activatableKeys =
+        getActivatableKeys(jobRecord.getTypeBuffer(), "tenant-b", "tenant-a");
+
+    // then
+    assertThat(activatableKeys).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldNotListActivatableJobOfRolledBackTransaction() throws Exception {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> jobState.create(1L, jobRecord));
+
+    // when
+    transaction.rollback();
+
+    // then
+    refuteListedAsActivatable(1L, jobRecord.getTypeBuffer());
+  }
+
+  @Test
+  public void shouldListActivatableJobDeactivatedInRolledBackTransaction() throws Exception {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> jobState.activate(1L, jobRecord));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertListedAsActivatable(1L, jobRecord.getTypeBuffer(), jobRecord.getTenantId());
+  }
+
+  @Test
+  public void shouldListActivatableJobsOfExistingState() {
+    // given
+    final JobRecord jobRecord = newJobRecord();
+    jobState.create(1L, jobRecord);
+    jobState.create(2L, jobRecord);
+    jobState.activate(1L, jobRecord);
+
+    // when
+    jobState = new DbJobState(stateRule.getDb(), stateRule.getTransactionContext());
+
+    // then
+    assertThat(getActivatableKeys(jobRecord.getTypeBuffer(), jobRecord.getTenantId()))
+        .containsExactly(2L);
+  }
+
   private JobRecord newJobRecord() {
     return newJobRecord(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
   }
@@ -170,6 +170,46 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldListDueDatesFromGivenDueDate() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 3000L);
+
+    // when
+    final List<Long> timerKeys = new ArrayList<>();
+    state.forEachDueDate(
+        2000L,
+        (dueDate, elementInstanceKey, timerKey) -> {
+          assertThat(elementInstanceKey).isEqualTo(timerKey);
+          assertThat(dueDate).isEqualTo(timerKey * 1000L);
+          return timerKeys.add(timerKey);
+        });
+
+    // then
+    assertThat(timerKeys).containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void shouldStopListingDueDatesWhenVisitorReturnsFalse() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+
+    // when
+    final List<Long> timerKeys = new ArrayList<>();
+    state.forEachDueDate(
+        0L,
+        (dueDate, elementInstanceKey, timerKey) -> {
+          timerKeys.add(timerKey);
+          return false;
+        });
+
+    // then
+    assertThat(timerKeys).containsExactly(1L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
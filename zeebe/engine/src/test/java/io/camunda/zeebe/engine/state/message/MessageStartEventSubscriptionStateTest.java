@@ -207,6 +207,79 @@ public final class MessageStartEventSubscriptionStateTest {
         .isEqualTo(BufferUtil.wrapString("foo"));
   }
 
+  @Test
+  public void shouldNotVisitSubscriptionOfRolledBackTransaction() throws Exception {
+    // given
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> state.put(1L, createSubscription("message", "startEvent", 1)));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(visitSubscriptionKeys("message")).isEmpty();
+  }
+
+  @Test
+  public void shouldVisitSubscriptionRemovedInRolledBackTransaction() throws Exception {
+    // given
+    state.put(1L, createSubscription("message", "startEvent", 1));
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          state.remove(1L, wrapString("message"), DEFAULT_TENANT);
+          assertThat(visitSubscriptionKeys("message")).isEmpty();
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(visitSubscriptionKeys("message")).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldVisitSubscriptionsOfExistingState() {
+    // given
+    state.put(1L, createSubscription("message", "startEvent", 1));
+    state.put(2L, createSubscription("otherMessage", "startEvent", 2));
+    state.remove(2L, wrapString("otherMessage"), DEFAULT_TENANT);
+
+    // when
+    state =
+        new DbMessageStartEventSubscriptionState(
+            stateRule.getDb(), stateRule.getTransactionContext());
+
+    // then
+    assertThat(visitSubscriptionKeys("message")).containsExactly(1L);
+    assertThat(visitSubscriptionKeys("otherMessage")).isEmpty();
+  }
+
+  @Test
+  public void shouldVisitSubscriptionAfterItWasReplaced() {
+    // given
+    assertThat(visitSubscriptionKeys("message")).isEmpty();
+    final var subscription = createSubscription("message", "startEvent", 1);
+    state.put(1L, subscription);
+    state.put(1L, subscription);
+
+    // when
+    state.remove(1L, wrapString("message"), DEFAULT_TENANT);
+    state.put(2L, createSubscription("message", "startEvent", 2));
+
+    // then
+    assertThat(visitSubscriptionKeys("message")).containsExactly(2L);
+  }
+
+  private List<Long> visitSubscriptionKeys(final String messageName) {
+    final List<Long> keys = new ArrayList<>();
+    state.visitSubscriptionsByMessageName(
+        DEFAULT_TENANT,
+        wrapString(messageName),
+        subscription -> keys.add(subscription.getRecord().getProcessDefinitionKey()));
+    return keys;
+  }
+
   private MessageStartEventSubscriptionRecord createSubscription(
       final String messageName, final String startEventId, final long key) {
     return new MessageStartEventSubscriptionRecord()
@@ -15,6 +15,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageSubscriptionRecord;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.List;
 import org.junit.Before;
@@ -184,6 +185,67 @@ public final class MessageSubscriptionStateTest {
     assertThat(keys).hasSize(1).contains(1L);
   }
 
+  @Test
+  public void shouldNotVisitSubscriptionOfRolledBackTransaction() throws Exception {
+    // given
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> state.put(1L, subscription("messageName", "correlationKey", 1L)));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(visitSubscriptionKeys("messageName", "correlationKey")).isEmpty();
+  }
+
+  @Test
+  public void shouldVisitSubscriptionRemovedInRolledBackTransaction() throws Exception {
+    // given
+    state.put(1L, subscription("messageName", "correlationKey", 1L));
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          state.remove(1L, wrapString("messageName"));
+          assertThat(visitSubscriptionKeys("messageName", "correlationKey")).isEmpty();
+        });
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(visitSubscriptionKeys("messageName", "correlationKey")).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldVisitSubscriptionsOfExistingState() {
+    // given
+    state.put(1L, subscription("messageName", "correlationKey", 1L));
+    state.put(2L, subscription("messageName", "otherCorrelationKey", 2L));
+    state.remove(2L, wrapString("messageName"));
+
+    // when
+    state =
+        new DbMessageSubscriptionState(
+            stateRule.getDb(),
+            stateRule.getTransactionContext(),
+            new TransientPendingSubscriptionState(),
+            InstantSource.system());
+
+    // then
+    assertThat(visitSubscriptionKeys("messageName", "correlationKey")).containsExactly(1L);
+    assertThat(visitSubscriptionKeys("messageName", "otherCorrelationKey")).isEmpty();
+  }
+
+  private List<Long> visitSubscriptionKeys(final String name, final String correlationKey) {
+    final List<Long> keys = new ArrayList<>();
+    state.visitSubscriptions(
+        DEFAULT_TENANT,
+        wrapString(name),
+        wrapString(correlationKey),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+    return keys;
+  }
+
   private MessageSubscriptionRecord subscriptionWithElementInstanceKey(
       final long elementInstanceKey) {
     return subscription("messageName", "correlationKey", elementInstanceKey);
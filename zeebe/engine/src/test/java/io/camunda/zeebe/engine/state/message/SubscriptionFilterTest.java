@@ -0,0 +1,198 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
+import io.camunda.zeebe.db.TransactionOperation;
+import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.stream.LongStream;
+import org.agrona.collections.LongHashSet;
+import org.junit.jupiter.api.Test;
+
+final class SubscriptionFilterTest {
+
+  private final LongHashSet persisted = new LongHashSet();
+  private final FakeTransactionContext transactionContext = new FakeTransactionContext();
+  private final SubscriptionFilter filter =
+      new SubscriptionFilter(transactionContext, consumer -> persisted.forEach(consumer::accept));
+
+  @Test
+  void shouldContainAddedSubscriptions() {
+    // given - more subscriptions than the initial capacity of the filter
+    filter.mightContain(0);
+
+    // when
+    LongStream.range(0, 10_000).map(this::hash).forEach(this::add);
+
+    // then
+    assertThat(LongStream.range(0, 10_000).map(this::hash).allMatch(filter::mightContain)).isTrue();
+    assertThat(filter.size()).isEqualTo(10_000);
+  }
+
+  @Test
+  void shouldRarelyContainOtherSubscriptions() {
+    // given
+    LongStream.range(0, 10_000).map(this::hash).forEach(this::add);
+
+    // when
+    final long falsePositives =
+        LongStream.range(10_000, 20_000).map(this::hash).filter(filter::mightContain).count();
+
+    // then
+    assertThat(falsePositives).isLessThan(200);
+  }
+
+  @Test
+  void shouldNotContainRemovedSubscription() {
+    // given
+    final long hash = hash(1);
+    add(hash);
+    filter.mightContain(hash);
+
+    // when
+    remove(hash);
+
+    // then
+    assertThat(filter.mightContain(hash)).isFalse();
+  }
+
+  @Test
+  void shouldLoadSubscriptionsOnFirstUse() {
+    // given
+    persisted.add(hash(1));
+    persisted.add(hash(2));
+
+    // when
+    final var containsFirst = filter.mightContain(hash(1));
+
+    // then
+    assertThat(containsFirst).isTrue();
+    assertThat(filter.mightContain(hash(2))).isTrue();
+    assertThat(filter.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldUndoChangesOfRolledBackTransaction() {
+    // given
+    add(hash(1));
+    filter.mightContain(hash(1));
+
+    // when
+    transactionContext.begin();
+    remove(hash(1));
+    add(hash(2));
+    transactionContext.complete(false);
+    persisted.add(hash(1));
+    persisted.remove(hash(2));
+
+    // then
+    assertThat(filter.mightContain(hash(1))).isTrue();
+    assertThat(filter.mightContain(hash(2))).isFalse();
+  }
+
+  @Test
+  void shouldUndoChangesOfRolledBackTransactionIfBuiltWithinIt() {
+    // given
+    add(hash(1));
+
+    // when - the filter is built from the state of the transaction, without the subscription
+    transactionContext.begin();
+    remove(hash(1));
+    assertThat(filter.mightContain(hash(1))).isFalse();
+    transactionContext.complete(false);
+    persisted.add(hash(1));
+
+    // then
+    assertThat(filter.mightContain(hash(1))).isTrue();
+  }
+
+  @Test
+  void shouldKeepChangesOfCommittedTransaction() {
+    // given
+    add(hash(1));
+    filter.mightContain(hash(1));
+
+    // when
+    transactionContext.begin();
+    remove(hash(1));
+    add(hash(2));
+    transactionContext.complete(true);
+
+    // then
+    assertThat(filter.mightContain(hash(1))).isFalse();
+    assertThat(filter.mightContain(hash(2))).isTrue();
+  }
+
+  @Test
+  void shouldHashPartsOfTheKeySeparately() {
+    // when
+    final long hash = SubscriptionFilter.hash("tenant", wrapString("ab"), wrapString("c"));
+
+    // then
+    assertThat(hash)
+        .isNotEqualTo(SubscriptionFilter.hash("tenant", wrapString("a"), wrapString("bc")))
+        .isNotEqualTo(SubscriptionFilter.hash("tenant", wrapString("ab"), null))
+        .isEqualTo(SubscriptionFilter.hash("tenant", wrapString("ab"), wrapString("c")));
+  }
+
+  private long hash(final long subscription) {
+    return SubscriptionFilter.hash(
+        "tenant", wrapString("message"), wrapString(Long.toString(subscription)));
+  }
+
+  private void add(final long hash) {
+    persisted.add(hash);
+    filter.add(hash);
+  }
+
+  private void remove(final long hash) {
+    persisted.remove(hash);
+    filter.remove(hash);
+  }
+
+  private static final class FakeTransactionContext implements TransactionContext {
+
+    private boolean isInTransaction;
+    private TransactionListener listener;
+
+    void begin() {
+      isInTransaction = true;
+    }
+
+    void complete(final boolean committed) {
+      isInTransaction = false;
+      if (listener != null) {
+        listener.onTransactionCompleted(committed);
+        listener = null;
+      }
+    }
+
+    @Override
+    public void runInTransaction(final TransactionOperation operations) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ZeebeDbTransaction getCurrentTransaction() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addTransactionListener(final TransactionListener listener) {
+      if (!isInTransaction) {
+        return false;
+      }
+      this.listener = listener;
+      return true;
+    }
+  }
+}
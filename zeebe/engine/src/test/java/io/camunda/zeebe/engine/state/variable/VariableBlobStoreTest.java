@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class VariableBlobStoreTest {
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private MutableProcessingState processingState;
+  private VariableBlobStore blobStore;
+
+  @BeforeEach
+  void setup() {
+    blobStore = new VariableBlobStore(zeebeDb, transactionContext);
+  }
+
+  @Test
+  void shouldShareBlobOfEqualValues() {
+    // given
+    final DirectBuffer digest = digest("value");
+    blobStore.acquire(digest, wrapString("value"), 0, 5);
+
+    // when
+    final DirectBuffer sharedDigest = digest("value");
+    blobStore.acquire(sharedDigest, wrapString("value"), 0, 5);
+
+    // then
+    assertThat(sharedDigest).isEqualTo(digest);
+    assertThat(blobStore.getValue(digest)).isEqualTo(wrapString("value"));
+  }
+
+  @Test
+  void shouldStoreDifferentValuesSeparately() {
+    // when
+    final DirectBuffer digest = digest("value");
+    blobStore.acquire(digest, wrapString("value"), 0, 5);
+    final DirectBuffer otherDigest = digest("other");
+    blobStore.acquire(otherDigest, wrapString("other"), 0, 5);
+
+    // then
+    assertThat(otherDigest).isNotEqualTo(digest);
+    assertThat(blobStore.getValue(digest)).isEqualTo(wrapString("value"));
+    assertThat(blobStore.getValue(otherDigest)).isEqualTo(wrapString("other"));
+  }
+
+  @Test
+  void shouldDigestPartOfBuffer() {
+    // when
+    final DirectBuffer digest =
+        cloneBuffer(blobStore.digest(wrapString("a value of a buffer"), 2, 5));
+
+    // then
+    assertThat(digest).isEqualTo(digest("value"));
+  }
+
+  @Test
+  void shouldDeleteBlobWhenLastReferenceIsReleased() {
+    // given
+    final DirectBuffer digest = digest("value");
+    blobStore.acquire(digest, wrapString("value"), 0, 5);
+    blobStore.acquire(digest, wrapString("value"), 0, 5);
+
+    // when
+    blobStore.release(digest);
+
+    // then
+    assertThat(blobStore.getValue(digest)).isEqualTo(wrapString("value"));
+    assertThat(blobStore.isEmpty()).isFalse();
+
+    // when
+    blobStore.release(digest);
+
+    // then
+    assertThat(blobStore.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldShareBlobOfPropagatedVariable() {
+    // given
+    final var variableState = processingState.getVariableState();
+    final DirectBuffer value = largeValue();
+    variableState.setVariableLocal(1, 10, 100, wrapString("x"), value);
+
+    // when
+    variableState.setVariableLocal(2, 11, 100, wrapString("x"), value);
+
+    // then - the blob is referenced by both variables
+    final DirectBuffer digest = cloneBuffer(blobStore.digest(value, 0, value.capacity()));
+    assertThat(cloneBuffer(blobStore.getValue(digest))).isEqualTo(value);
+    blobStore.release(digest);
+    assertThat(blobStore.getValue(digest)).isEqualTo(value);
+  }
+
+  @Test
+  void shouldKeepReferenceWhenValueIsUnchanged() {
+    // given
+    final var variableState = processingState.getVariableState();
+    final DirectBuffer value = largeValue();
+    variableState.setVariableLocal(1, 10, 100, wrapString("x"), value);
+
+    // when
+    variableState.setVariableLocal(1, 10, 100, wrapString("x"), value);
+
+    // then - the variable still holds the only reference
+    final DirectBuffer digest = cloneBuffer(blobStore.digest(value, 0, value.capacity()));
+    blobStore.release(digest);
+    assertThat(blobStore.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldReleaseBlobsOfRemovedVariables() {
+    // given
+    final var variableState = processingState.getVariableState();
+    variableState.createScope(11, 10);
+    variableState.setVariableLocal(1, 10, 100, wrapString("x"), largeValue());
+    variableState.setVariableLocal(2, 11, 100, wrapString("x"), largeValue());
+    variableState.setVariableLocal(3, 11, 100, wrapString("y"), largeValue());
+
+    // when
+    variableState.setVariableLocal(3, 11, 100, wrapString("y"), wrapString("small"));
+    variableState.removeScope(11);
+    variableState.removeScope(10);
+
+    // then
+    assertThat(blobStore.isEmpty()).isTrue();
+    assertThat(variableState.isEmpty()).isTrue();
+  }
+
+  @Test
+  void shouldOnlyWriteBlobOfVariablesWithBlob() {
+    // given
+    final var inlineVariable = new VariableInstance().setKey(1);
+    inlineVariable.setValue(wrapString("value"), 0, 5);
+    final var blobVariable = new VariableInstance().setKey(1).setBlob(digest("value"));
+    blobVariable.setValue(new UnsafeBuffer(), 0, 0);
+
+    // when
+    final var inlineVariableBuffer = new UnsafeBuffer(new byte[inlineVariable.getLength()]);
+    inlineVariable.write(inlineVariableBuffer, 0);
+    final var blobVariableBuffer = new UnsafeBuffer(new byte[blobVariable.getLength()]);
+    blobVariable.write(blobVariableBuffer, 0);
+
+    // then
+    assertThat(bufferAsString(inlineVariableBuffer)).doesNotContain("blob");
+    final var readInlineVariable = new VariableInstance();
+    readInlineVariable.wrap(inlineVariableBuffer);
+    assertThat(readInlineVariable.hasBlob()).isFalse();
+    assertThat(readInlineVariable.getValue()).isEqualTo(wrapString("value"));
+
+    final var readBlobVariable = new VariableInstance();
+    readBlobVariable.wrap(blobVariableBuffer);
+    assertThat(readBlobVariable.hasBlob()).isTrue();
+    assertThat(readBlobVariable.getBlob()).isEqualTo(digest("value"));
+  }
+
+  private DirectBuffer digest(final String value) {
+    return cloneBuffer(blobStore.digest(wrapString(value), 0, value.length()));
+  }
+
+  private static DirectBuffer largeValue() {
+    final var value = new UnsafeBuffer(new byte[DbVariableState.BLOB_THRESHOLD]);
+    value.setMemory(0, value.capacity(), (byte) 'a');
+    return value;
+  }
+}
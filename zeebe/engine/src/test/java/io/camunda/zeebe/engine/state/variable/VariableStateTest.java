@@ -44,6 +44,7 @@ public final class VariableStateTest {
   private static final AtomicLong CHILD_KEY = new AtomicLong(1);
   private static final AtomicLong SECOND_CHILD_KEY = new AtomicLong(2);
   private static final AtomicLong KEY_GENERATOR = new AtomicLong();
+  private static final int LARGE_VALUE_LENGTH = DbVariableState.BLOB_THRESHOLD;
   private static MutableElementInstanceState elementInstanceState;
   private static MutableVariableState variableState;
   private long parent;
@@ -462,6 +463,75 @@ public final class VariableStateTest {
             tuple(keyVariableC, child, wrapString("c"), wrapString("3")));
   }
 
+  @Test
+  public void shouldGetLargeVariable() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    final DirectBuffer largeValue = largeValue("a");
+    final long key = setVariableLocal(parent, wrapString("x"), largeValue);
+
+    // when
+    final DirectBuffer value = cloneBuffer(variableState.getVariable(child, wrapString("x")));
+    final VariableInstance variableInstance =
+        variableState.getVariableInstanceLocal(parent, wrapString("x"));
+
+    // then
+    assertThat(value).isEqualTo(largeValue);
+    assertThat(variableInstance.getKey()).isEqualTo(key);
+    assertThat(variableInstance.getValue()).isEqualTo(largeValue);
+    assertThat(variableState.getVariableLocal(parent, wrapString("x"))).isEqualTo(largeValue);
+    assertThat(variableState.getVariablesLocal(parent))
+        .extracting(Variable::value)
+        .containsExactly(largeValue);
+  }
+
+  @Test
+  public void shouldCollectLargeVariablesAsDocument() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("x"), largeValue("a"));
+    setVariableLocal(child, wrapString("y"), largeValue("b"));
+    setVariableLocal(child, wrapString("z"), asMsgPack("1"));
+
+    // when
+    final DirectBuffer document = variableState.getVariablesAsDocument(child);
+
+    // then
+    final String a = "a".repeat(LARGE_VALUE_LENGTH);
+    final String b = "b".repeat(LARGE_VALUE_LENGTH);
+    assertEquality(
+        document, "{'x': {'value': '%s'}, 'y': {'value': '%s'}, 'z': 1}".formatted(a, b));
+    assertEquality(
+        variableState.getVariablesAsDocument(child, List.of(wrapString("x"))),
+        "{'x': {'value': '%s'}}".formatted(a));
+    assertEquality(
+        variableState.getVariablesLocalAsDocument(child),
+        "{'y': {'value': '%s'}, 'z': 1}".formatted(b));
+  }
+
+  @Test
+  public void shouldUpdateLargeVariable() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("x"), largeValue("a"));
+    setVariableLocal(child, wrapString("x"), largeValue("a"));
+
+    // when
+    setVariableLocal(parent, wrapString("x"), largeValue("b"));
+    setVariableLocal(child, wrapString("x"), asMsgPack("1"));
+
+    // then
+    assertThat(variableState.getVariableLocal(parent, wrapString("x"))).isEqualTo(largeValue("b"));
+    assertThat(variableState.getVariableLocal(child, wrapString("x"))).isEqualTo(asMsgPack("1"));
+  }
+
+  private static DirectBuffer largeValue(final String character) {
+    return asMsgPack("value", character.repeat(LARGE_VALUE_LENGTH));
+  }
+
   private void declareScope(final long key) {
     declareScope(-1, key);
   }
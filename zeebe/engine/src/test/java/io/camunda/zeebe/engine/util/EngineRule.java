@@ -693,6 +693,11 @@ public final class EngineRule extends ExternalResource {
     return this;
   }
 
+  public EngineRule replayThreads(final int replayThreads) {
+    environmentRule.replayThreads(replayThreads);
+    return this;
+  }
+
   public void interceptInterPartitionIntent(final int partitionId, final Intent targetIntent) {
     final var hasInterceptedPartition = new AtomicBoolean(false);
     interceptInterPartitionCommands(
@@ -71,6 +71,7 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
   private ListLogStorage sharedStorage = null;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int replayThreads = 1;
 
   public StreamProcessorRule() {
     this(new TemporaryFolder());
@@ -399,6 +400,10 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void replayThreads(final int replayThreads) {
+    this.replayThreads = replayThreads;
+  }
+
   public ActorScheduler getActorScheduler() {
     return actorSchedulerRule.get();
   }
@@ -418,6 +423,7 @@ public final class StreamProcessorRule implements TestRule, CommandWriter {
       streams = new TestStreams(tempFolder, closeables, actorSchedulerRule.get(), clock);
       streams.withStreamProcessorMode(streamProcessorMode);
       streams.maxCommandsInBatch(maxCommandsInBatch);
+      streams.replayThreads(replayThreads);
 
       int partitionId = startPartitionId;
       for (int i = 0; i < partitionCount; i++) {
@@ -103,6 +103,7 @@ public final class TestStreams {
   private boolean snapshotWasTaken = false;
   private StreamProcessorMode streamProcessorMode = StreamProcessorMode.PROCESSING;
   private int maxCommandsInBatch = StreamProcessorContext.DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int replayThreads = 1;
   private ListLogStorage listLogStorage;
 
   public TestStreams(
@@ -305,6 +306,12 @@ public final class TestStreams {
                         wrappedFactory, new EngineConfiguration(), new SecurityConfiguration())))
             .streamProcessorMode(streamProcessorMode)
             .maxCommandsInBatch(maxCommandsInBatch)
+            .parallelReplay(
+                replayThreads,
+                () ->
+                    List.of(
+                        new Engine(
+                            factory, new EngineConfiguration(), new SecurityConfiguration())))
             .partitionCommandSender(isReplay ? null : mock(InterPartitionCommandSender.class))
             .meterRegistry(meterRegistry)
             .clock(StreamClock.controllable(clock));
@@ -391,6 +398,10 @@ public final class TestStreams {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public void replayThreads(final int replayThreads) {
+    this.replayThreads = replayThreads;
+  }
+
   public MutableProcessingState getProcessingState(final String streamName) {
     return Optional.ofNullable(streamContextMap.get(streamName))
         .map(c -> c.processingState)
@@ -17,9 +17,11 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final String referencedVariable;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    referencedVariable = extractReferencedVariable(expression.expression());
   }
 
   @Override
@@ -59,6 +61,24 @@ public final class FeelExpression implements Expression {
     return Optional.empty();
   }
 
+  private static String extractReferencedVariable(final Exp expression) {
+    if (expression instanceof Ref) {
+      final var ref = (Ref) expression;
+      if (ref.names().size() == 1) {
+        return ref.names().head();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the name of the variable if the expression is only a reference to it (e.g. {@code
+   *     =orderId}), otherwise {@code null}
+   */
+  String getReferencedVariable() {
+    return referencedVariable;
+  }
+
   public ParsedExpression getParsedExpression() {
     return expression;
   }
@@ -9,6 +9,8 @@ package io.camunda.zeebe.el.impl;
 
 import static io.camunda.zeebe.util.EnsureUtil.ensureNotNull;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.camunda.zeebe.el.EvaluationContext;
 import io.camunda.zeebe.el.EvaluationResult;
 import io.camunda.zeebe.el.EvaluationWarning;
@@ -38,15 +40,29 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\=(.+)", Pattern.DOTALL);
 
+  /**
+   * The maximum number of parsed expressions that are cached. If the cache is full, the least
+   * recently used expressions are evicted first.
+   */
+  private static final int MAX_CACHED_EXPRESSIONS = 10_000;
+
+  /**
+   * The parsed expressions by their text, shared by all instances. Parsing an expression doesn't
+   * depend on the configuration of the engine, and the parsed expressions are immutable.
+   */
+  private static final Cache<String, Expression> PARSED_EXPRESSIONS =
+      Caffeine.newBuilder().maximumSize(MAX_CACHED_EXPRESSIONS).build();
+
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
+  private final MessagePackValueMapper valueMapper = new MessagePackValueMapper();
 
   private final FeelEngine feelEngine;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
     feelEngine =
         new FeelEngine.Builder()
-            .customValueMapper(new MessagePackValueMapper())
+            .customValueMapper(valueMapper)
             .functionProvider(new FeelFunctionProvider())
             .clock(clock)
             .build();
@@ -60,7 +76,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return parseCachedFeelExpression(unpackedExpression);
     } else {
       return new StaticExpression(expression);
     }
@@ -89,6 +105,10 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
         String.format("Expected FEEL expression or static value but found '%s'", expression));
   }
 
+  private Expression parseCachedFeelExpression(final String expression) {
+    return PARSED_EXPRESSIONS.get(expression, this::parseFeelExpression);
+  }
+
   private Expression parseFeelExpression(final String expression) {
     final Either<Failure, ParsedExpression> parseResult = feelEngine.parseExpression(expression);
 
@@ -107,8 +127,25 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    var evaluationContext = context;
+    final var referencedVariable = feelExpression.getReferencedVariable();
+    if (referencedVariable != null) {
+      final var variable = context.getVariable(referencedVariable);
+      if (variable != null && variable.capacity() > 0) {
+        // resolve the variable directly, without the overhead of the engine
+        final Val result = valueMapper.toVal(variable, null).get();
+        return new FeelEvaluationResult(
+            expression, result, List.of(), messagePackTransformer::toMessagePack);
+      }
+
+      // a missing variable is still evaluated by the engine to report the same result and warnings
+      // as before, but without looking it up a second time
+      evaluationContext =
+          name -> referencedVariable.equals(name) ? null : context.getVariable(name);
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
-    final var feelContext = new FeelVariableContext(context);
+    final var feelContext = new FeelVariableContext(evaluationContext);
 
     final var evaluationResult = feelEngine.evaluate(parsedExpression, feelContext);
 
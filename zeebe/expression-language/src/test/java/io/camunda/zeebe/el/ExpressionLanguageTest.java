@@ -14,7 +14,11 @@ import static org.assertj.core.api.Assertions.tuple;
 import io.camunda.zeebe.el.impl.StaticExpression;
 import io.camunda.zeebe.el.util.TestFeelEngineClock;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class ExpressionLanguageTest {
 
@@ -234,4 +238,85 @@ public class ExpressionLanguageTest {
     assertThat(evaluationResult).isNotNull();
     assertThat(evaluationResult.getString()).isEqualTo("Hello \"Zee\"!");
   }
+
+  @Test
+  public void shouldReuseParsedExpression() {
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+
+    final var otherExpressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(new TestFeelEngineClock());
+
+    assertThat(expressionLanguage.parseExpression("=x + 1")).isSameAs(expression);
+    assertThat(otherExpressionLanguage.parseExpression("=x + 1")).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldReuseInvalidExpression() {
+    final var expression = expressionLanguage.parseExpression("=x ?! 5");
+
+    assertThat(expressionLanguage.parseExpression("=x ?! 5")).isSameAs(expression);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "\"x\"",
+        "1",
+        "2.5",
+        "true",
+        "null",
+        "[1, \"a\", {\"b\": false}]",
+        "{\"a\": {\"b\": [1, 2]}, \"c\": null}"
+      })
+  public void shouldEvaluateVariableReferenceLikeOtherExpressions(final String variable) {
+    // given
+    final EvaluationContext context = Map.of("x", asMsgPack(variable))::get;
+    final var variableReference = expressionLanguage.parseExpression("=x");
+    final var otherExpression = expressionLanguage.parseExpression("=if true then x else null");
+
+    // when
+    final var evaluationResult = expressionLanguage.evaluateExpression(variableReference, context);
+    final var otherResult = expressionLanguage.evaluateExpression(otherExpression, context);
+
+    // then
+    assertThat(evaluationResult.isFailure()).isFalse();
+    assertThat(evaluationResult.getType()).isEqualTo(otherResult.getType());
+    assertThat(evaluationResult.toBuffer()).isEqualTo(otherResult.toBuffer());
+    assertThat(evaluationResult.getWarnings()).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnEvaluationWarningsForMissingVariableReference() {
+    final var expression = expressionLanguage.parseExpression("=x");
+
+    final var missingResult = expressionLanguage.evaluateExpression(expression, EMPTY_CONTEXT);
+    final var emptyResult =
+        expressionLanguage.evaluateExpression(expression, name -> new UnsafeBuffer());
+
+    assertThat(missingResult.getType()).isEqualTo(ResultType.NULL);
+    assertThat(missingResult.getWarnings())
+        .extracting(EvaluationWarning::getType, EvaluationWarning::getMessage)
+        .containsExactly(tuple("NO_VARIABLE_FOUND", "No variable found with name 'x'"));
+    assertThat(emptyResult.getType()).isEqualTo(ResultType.NULL);
+    assertThat(emptyResult.getWarnings())
+        .extracting(EvaluationWarning::getType)
+        .containsExactly("NO_VARIABLE_FOUND");
+  }
+
+  @Test
+  public void shouldLookUpMissingVariableReferenceOnlyOnce() {
+    final var expression = expressionLanguage.parseExpression("=x");
+    final var lookups = new AtomicInteger();
+
+    final var result =
+        expressionLanguage.evaluateExpression(
+            expression,
+            name -> {
+              lookups.incrementAndGet();
+              return null;
+            });
+
+    assertThat(result.getType()).isEqualTo(ResultType.NULL);
+    assertThat(lookups).hasValue(1);
+  }
 }
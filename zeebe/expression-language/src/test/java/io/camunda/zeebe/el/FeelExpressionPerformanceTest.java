@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing and evaluating an expression which only references a variable, which is resolved
+ * without the FEEL engine, against an equivalent expression which has to be evaluated by the
+ * engine, and against a reference to a missing variable.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FeelExpressionPerformanceTest {
+
+  @Param({"=orderId", "=if true then orderId else null", "=missing"})
+  public String expression;
+
+  private ExpressionLanguage expressionLanguage;
+  private EvaluationContext context;
+
+  @Setup
+  public void setup() {
+    expressionLanguage =
+        ExpressionLanguageFactory.createExpressionLanguage(new TestFeelEngineClock());
+    context = Map.of("orderId", asMsgPack("\"order-123\""))::get;
+  }
+
+  @Benchmark
+  public Expression measureParse() {
+    return expressionLanguage.parseExpression(expression);
+  }
+
+  @Benchmark
+  public EvaluationResult measureEvaluate() {
+    final var result =
+        expressionLanguage.evaluateExpression(
+            expressionLanguage.parseExpression(expression), context);
+    result.toBuffer();
+    return result;
+  }
+
+  @JMHTest("measureEvaluate")
+  void shouldEvaluateVariableReferenceWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ns/op score, as measured locally
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 180;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("expression", "=orderId")).run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.5);
+  }
+}
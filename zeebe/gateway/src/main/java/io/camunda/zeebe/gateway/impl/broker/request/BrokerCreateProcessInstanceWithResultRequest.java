@@ -25,6 +25,8 @@ public final class BrokerCreateProcessInstanceWithResultRequest
     super(
         ValueType.PROCESS_INSTANCE_CREATION,
         ProcessInstanceCreationIntent.CREATE_WITH_AWAITING_RESULT);
+    // the response is only sent once the process instance is completed
+    setCoalescingAllowed(false);
   }
 
   public BrokerCreateProcessInstanceWithResultRequest setBpmnProcessId(final String bpmnProcessId) {
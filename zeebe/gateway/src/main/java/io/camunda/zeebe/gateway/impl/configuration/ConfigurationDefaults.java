@@ -20,6 +20,9 @@ public final class ConfigurationDefaults {
   public static final String DEFAULT_MAX_MESSAGE_SIZE = "4M";
   public static final int DEFAULT_MAX_MESSAGE_COUNT = 16;
   public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(15);
+  public static final boolean DEFAULT_REQUEST_COALESCING_ENABLED = false;
+  public static final Duration DEFAULT_REQUEST_COALESCING_WINDOW = Duration.ofMillis(1);
+  public static final int DEFAULT_REQUEST_COALESCING_MAX_BATCH_SIZE = 32;
   public static final boolean DEFAULT_LONG_POLLING_ENABLED = true;
   public static final long DEFAULT_LONG_POLLING_TIMEOUT = 10_000;
   public static final int DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD = 3;
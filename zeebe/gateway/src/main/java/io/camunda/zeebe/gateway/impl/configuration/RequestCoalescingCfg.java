@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.configuration;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public final class RequestCoalescingCfg {
+
+  private boolean enabled = ConfigurationDefaults.DEFAULT_REQUEST_COALESCING_ENABLED;
+  private Duration window = ConfigurationDefaults.DEFAULT_REQUEST_COALESCING_WINDOW;
+  private int maxBatchSize = ConfigurationDefaults.DEFAULT_REQUEST_COALESCING_MAX_BATCH_SIZE;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public RequestCoalescingCfg setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+    return this;
+  }
+
+  public Duration getWindow() {
+    return window;
+  }
+
+  public RequestCoalescingCfg setWindow(final Duration window) {
+    this.window = window;
+    return this;
+  }
+
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public RequestCoalescingCfg setMaxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(enabled, window, maxBatchSize);
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final RequestCoalescingCfg that = (RequestCoalescingCfg) o;
+    return enabled == that.enabled
+        && maxBatchSize == that.maxBatchSize
+        && Objects.equals(window, that.window);
+  }
+
+  @Override
+  public String toString() {
+    return "RequestCoalescingCfg{"
+        + "enabled="
+        + enabled
+        + ", window="
+        + window
+        + ", maxBatchSize="
+        + maxBatchSize
+        + '}';
+  }
+}
@@ -148,6 +148,9 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.cluster.memberId", "envMember");
     setEnv("zeebe.gateway.cluster.host", "envHost");
     setEnv("zeebe.gateway.cluster.port", "12345");
+    setEnv("zeebe.gateway.cluster.requestCoalescing.enabled", "true");
+    setEnv("zeebe.gateway.cluster.requestCoalescing.window", "5ms");
+    setEnv("zeebe.gateway.cluster.requestCoalescing.maxBatchSize", "16");
     setEnv("zeebe.gateway.cluster.configManager.gossip.enableSync", "false");
     setEnv("zeebe.gateway.cluster.configManager.gossip.syncDelay", "5s");
     setEnv("zeebe.gateway.cluster.configManager.gossip.syncRequestTimeout", "5s");
@@ -190,7 +193,12 @@ public final class GatewayCfgTest {
         .setClusterName("envCluster")
         .setMemberId("envMember")
         .setHost("envHost")
-        .setPort(12345);
+        .setPort(12345)
+        .setRequestCoalescing(
+            new RequestCoalescingCfg()
+                .setEnabled(true)
+                .setWindow(Duration.ofMillis(5))
+                .setMaxBatchSize(16));
     expected
         .getCluster()
         .setSocketReceiveBuffer(DataSize.ofMegabytes(3))
@@ -17,15 +17,18 @@ package io.camunda.zeebe.journal.file;
 
 import static io.camunda.zeebe.journal.file.JournalMetricsDoc.*;
 
+import io.camunda.zeebe.journal.record.CompressionListener;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
-final class JournalMetrics {
+final class JournalMetrics implements CompressionListener {
   private final Timer segmentCreationTime;
   private final Timer segmentTruncateTime;
   private final Timer segmentFlushTime;
@@ -37,6 +40,9 @@ final class JournalMetrics {
   private final Counter appendRate;
   private final Counter appendDataRate;
   private final Timer seekLatency;
+  private final DistributionSummary compressionRatio;
+  private final Timer compressionTime;
+  private final Timer decompressionTime;
   private final MeterRegistry registry;
 
   JournalMetrics(final MeterRegistry registry) {
@@ -67,6 +73,13 @@ final class JournalMetrics {
             .description(APPEND_DATA_RATE.getDescription())
             .register(registry);
     seekLatency = makeTimer(SEEK_LATENCY);
+    compressionRatio =
+        DistributionSummary.builder(COMPRESSION_RATIO.getName())
+            .description(COMPRESSION_RATIO.getDescription())
+            .serviceLevelObjectives(COMPRESSION_RATIO.getDistributionSLOs())
+            .register(registry);
+    compressionTime = makeTimer(COMPRESSION_TIME);
+    decompressionTime = makeTimer(DECOMPRESSION_TIME);
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -118,6 +131,19 @@ final class JournalMetrics {
     return MicrometerUtil.timer(seekLatency, Timer.start(registry));
   }
 
+  @Override
+  public void onCompressed(
+      final int uncompressedLength, final int compressedLength, final long durationNanos) {
+    compressionRatio.record((double) compressedLength / uncompressedLength);
+    compressionTime.record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void onDecompressed(
+      final int compressedLength, final int uncompressedLength, final long durationNanos) {
+    decompressionTime.record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
   private Timer makeTimer(final JournalMetricsDoc meter) {
     return Timer.builder(meter.getName())
         .description(meter.getDescription())
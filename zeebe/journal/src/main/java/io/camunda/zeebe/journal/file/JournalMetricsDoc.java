@@ -303,9 +303,98 @@ public enum JournalMetricsDoc implements ExtendedMeterDocumentation {
       return buckets;
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Ratio of the compressed to the uncompressed length of compressed records; lower is better */
+  COMPRESSION_RATIO {
+    private final double[] buckets = {0.05, 0.1, 0.2, 0.3, 0.4, 0.5, 0.6, 0.7, 0.8, 0.9, 1.0};
+
+    @Override
+    public String getName() {
+      return "atomix.journal.compression.ratio";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Ratio of the compressed to the uncompressed length of compressed records; lower is"
+          + " better";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return buckets;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Distribution of CPU time spent compressing the data of appended records */
+  COMPRESSION_TIME {
+    @Override
+    public String getName() {
+      return "atomix.journal.compression.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Distribution of CPU time spent compressing the data of appended records";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return COMPRESSION_BUCKETS;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Distribution of CPU time spent decompressing the data of read records */
+  DECOMPRESSION_TIME {
+    @Override
+    public String getName() {
+      return "atomix.journal.decompression.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Distribution of CPU time spent decompressing the data of read records";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return COMPRESSION_BUCKETS;
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION};
     }
   };
+
+  private static final Duration[] COMPRESSION_BUCKETS =
+      Stream.of(1, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000)
+          .map(micros -> Duration.of(micros, ChronoUnit.MICROS))
+          .toArray(Duration[]::new);
 }
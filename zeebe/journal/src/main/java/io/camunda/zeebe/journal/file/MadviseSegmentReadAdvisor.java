@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.MappedByteBuffer;
+import jnr.ffi.LibraryLoader;
+import jnr.ffi.Platform;
+import jnr.ffi.Platform.OS;
+import jnr.ffi.Pointer;
+import jnr.ffi.Runtime;
+import jnr.ffi.annotations.In;
+import jnr.ffi.types.size_t;
+import org.agrona.BufferUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link SegmentReadAdvisor} which calls {@code madvise} with {@code MADV_SEQUENTIAL}, to
+ * increase the readahead window and free pages behind the reader sooner, and with {@code
+ * MADV_WILLNEED}, to start reading the segment asynchronously before the reader faults on it.
+ *
+ * <p>The advice values are the same on Linux and macOS. On other platforms, or if libc cannot be
+ * loaded, {@link #create()} returns a no-op advisor.
+ */
+final class MadviseSegmentReadAdvisor implements SegmentReadAdvisor {
+  private static final Logger LOG = LoggerFactory.getLogger(MadviseSegmentReadAdvisor.class);
+
+  private static final int MADV_SEQUENTIAL = 2;
+  private static final int MADV_WILLNEED = 3;
+
+  private final LibC libC;
+  private final Runtime runtime;
+
+  private MadviseSegmentReadAdvisor(final LibC libC) {
+    this.libC = libC;
+    runtime = Runtime.getRuntime(libC);
+  }
+
+  static SegmentReadAdvisor create() {
+    final var os = Platform.getNativePlatform().getOS();
+    if (os != OS.LINUX && os != OS.DARWIN) {
+      LOG.debug("madvise is not supported on {}, segment readahead will not be advised", os);
+      return SegmentReadAdvisor.noop();
+    }
+
+    try {
+      return new MadviseSegmentReadAdvisor(LibraryLoader.create(LibC.class).load("c"));
+    } catch (final Throwable e) {
+      LOG.warn("Failed to load libc, segment readahead will not be advised", e);
+      return SegmentReadAdvisor.noop();
+    }
+  }
+
+  @Override
+  public void adviseSequentialRead(final MappedByteBuffer buffer, final long length) {
+    final var address = Pointer.wrap(runtime, BufferUtil.address(buffer));
+    final var advisedLength = Math.min(length, buffer.capacity());
+    if (libC.madvise(address, advisedLength, MADV_SEQUENTIAL) != 0
+        || libC.madvise(address, advisedLength, MADV_WILLNEED) != 0) {
+      LOG.debug(
+          "Failed to advise sequential read of {} bytes (errno {})",
+          advisedLength,
+          runtime.getLastError());
+    }
+  }
+
+  /** Interface to access libc functions via JNR-FFI. */
+  public interface LibC {
+    int madvise(@In Pointer address, @size_t long length, int advice);
+  }
+}
@@ -22,6 +22,7 @@ import static com.google.common.base.Preconditions.checkState;
 import com.google.common.collect.Sets;
 import io.camunda.zeebe.journal.CheckedJournalException.FlushException;
 import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -65,7 +66,8 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final MappedByteBuffer buffer,
       final long lastWrittenAsqn,
       final JournalIndex index,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final RecordCompression compression) {
     this.file = file;
     this.descriptor = descriptor;
     this.descriptorSerializer = descriptorSerializer;
@@ -73,7 +75,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     this.index = index;
     this.metrics = metrics;
 
-    writer = createWriter(lastWrittenAsqn, metrics);
+    writer = createWriter(lastWrittenAsqn, metrics, compression);
   }
 
   /**
@@ -188,13 +190,29 @@ final class Segment implements AutoCloseable, FlushableSegment {
   SegmentReader createReader() {
     checkOpen();
     final SegmentReader reader =
-        new SegmentReader(buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index);
+        new SegmentReader(
+            buffer.asReadOnlyBuffer().position(0).order(ENDIANNESS), this, index, metrics);
     readers.add(reader);
     return reader;
   }
 
-  private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
-    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
+  /**
+   * Hints the OS that the whole segment is about to be read sequentially. Should only be used for
+   * sealed segments, i.e. segments which are not written to anymore.
+   *
+   * @param advisor the strategy used to give the hint
+   */
+  void adviseSequentialRead(final SegmentReadAdvisor advisor) {
+    if (open) {
+      advisor.adviseSequentialRead(buffer, buffer.capacity());
+    }
+  }
+
+  private SegmentWriter createWriter(
+      final long lastWrittenAsqn,
+      final JournalMetrics metrics,
+      final RecordCompression compression) {
+    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics, compression);
   }
 
   /**
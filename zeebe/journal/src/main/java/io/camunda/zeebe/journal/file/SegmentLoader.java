@@ -9,6 +9,7 @@ package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -32,6 +33,7 @@ final class SegmentLoader {
   private final SegmentAllocator allocator;
   private final long minFreeDiskSpace;
   private final JournalMetrics metrics;
+  private final RecordCompression compression;
 
   SegmentLoader(final int minFreeDiskSpace, final JournalMetrics metrics) {
     this(minFreeDiskSpace, metrics, SegmentAllocator.fill());
@@ -39,9 +41,18 @@ final class SegmentLoader {
 
   SegmentLoader(
       final long minFreeDiskSpace, final JournalMetrics metrics, final SegmentAllocator allocator) {
+    this(minFreeDiskSpace, metrics, allocator, RecordCompression.NONE);
+  }
+
+  SegmentLoader(
+      final long minFreeDiskSpace,
+      final JournalMetrics metrics,
+      final SegmentAllocator allocator,
+      final RecordCompression compression) {
     this.minFreeDiskSpace = minFreeDiskSpace;
     this.metrics = metrics;
     this.allocator = allocator;
+    this.compression = compression;
   }
 
   Segment createSegment(
@@ -116,7 +127,8 @@ final class SegmentLoader {
         descriptor.id(),
         descriptor.maxSegmentSize(),
         mappedSegment,
-        journalIndex);
+        journalIndex,
+        compression);
   }
 
   Segment loadExistingSegment(
@@ -165,7 +177,8 @@ final class SegmentLoader {
         buffer,
         lastWrittenAsqn,
         journalIndex,
-        metrics);
+        metrics,
+        compression);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
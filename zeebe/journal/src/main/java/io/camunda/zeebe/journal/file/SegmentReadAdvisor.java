@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * Defines the strategy when it comes to hinting the operating system that a sealed segment is about
+ * to be read sequentially, e.g. by replay, an exporter, or a follower catching up.
+ */
+@FunctionalInterface
+interface SegmentReadAdvisor {
+
+  /**
+   * Advises that the first {@code length} bytes of the given mapped segment buffer will be read
+   * sequentially and soon. This is only a hint, and implementations must not fail if it cannot be
+   * applied.
+   *
+   * @param buffer the mapped buffer of the segment; the mapping must start at a page boundary
+   * @param length the number of bytes, starting from the beginning of the buffer, to be read
+   */
+  void adviseSequentialRead(MappedByteBuffer buffer, long length);
+
+  /** Returns an advisor which does nothing, i.e. leaves readahead to the operating system. */
+  static SegmentReadAdvisor noop() {
+    return (buffer, length) -> {};
+  }
+
+  /**
+   * Returns an advisor which uses {@code madvise} to request aggressive, asynchronous readahead of
+   * the segment. Falls back to {@link #noop()} if {@code madvise} is not available on this
+   * platform.
+   */
+  static SegmentReadAdvisor madvise() {
+    return MadviseSegmentReadAdvisor.create();
+  }
+}
@@ -18,6 +18,7 @@ package io.camunda.zeebe.journal.file;
 
 import com.google.common.base.Preconditions;
 import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.record.CompressionListener;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import java.nio.ByteBuffer;
@@ -34,11 +35,15 @@ final class SegmentReader implements Iterator<JournalRecord> {
   private final JournalRecordReaderUtil recordReader;
   private final int descriptorLength;
 
-  SegmentReader(final ByteBuffer buffer, final Segment segment, final JournalIndex index) {
+  SegmentReader(
+      final ByteBuffer buffer,
+      final Segment segment,
+      final JournalIndex index,
+      final CompressionListener compressionListener) {
     this.index = index;
     this.segment = segment;
     descriptorLength = segment.descriptor().encodingLength();
-    recordReader = new JournalRecordReaderUtil(new SBESerializer());
+    recordReader = new JournalRecordReaderUtil(new SBESerializer(compressionListener));
     this.buffer = buffer;
     reset();
   }
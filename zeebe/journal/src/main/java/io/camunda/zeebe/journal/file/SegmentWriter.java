@@ -27,6 +27,7 @@ import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.JournalRecordSerializer;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.record.RecordMetadata;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
@@ -55,7 +56,7 @@ final class SegmentWriter {
   private int lastEntryPosition;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
-  private final JournalRecordSerializer serializer = new SBESerializer();
+  private final JournalRecordSerializer serializer;
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
@@ -65,8 +66,10 @@ final class SegmentWriter {
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final RecordCompression compression) {
     this.segment = segment;
+    serializer = new SBESerializer(compression, metrics);
     descriptorLength = segment.descriptor().encodingLength();
     recordUtil = new JournalRecordReaderUtil(serializer);
     this.index = index;
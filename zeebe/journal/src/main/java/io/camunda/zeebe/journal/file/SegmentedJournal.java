@@ -49,12 +49,23 @@ public final class SegmentedJournal implements Journal {
   private final SegmentedJournalWriter writer;
   private final StampedLock rwlock = new StampedLock();
   private final SegmentsManager segments;
+  private final SegmentReadAdvisor readAdvisor;
 
   SegmentedJournal(
       final JournalIndex journalIndex,
       final SegmentsManager segments,
       final JournalMetrics journalMetrics,
       final SegmentsFlusher segmentsFlusher) {
+    this(journalIndex, segments, journalMetrics, segmentsFlusher, SegmentReadAdvisor.noop());
+  }
+
+  SegmentedJournal(
+      final JournalIndex journalIndex,
+      final SegmentsManager segments,
+      final JournalMetrics journalMetrics,
+      final SegmentsFlusher segmentsFlusher,
+      final SegmentReadAdvisor readAdvisor) {
+    this.readAdvisor = Objects.requireNonNull(readAdvisor, "must specify a segment read advisor");
     this.journalMetrics = Objects.requireNonNull(journalMetrics, "must specify journal metrics");
     this.journalIndex = Objects.requireNonNull(journalIndex, "must specify a journal index");
     this.segments = Objects.requireNonNull(segments, "must specify a journal segments manager");
@@ -182,7 +193,7 @@ public final class SegmentedJournal implements Journal {
   public JournalReader openReader() {
     final var stamped = acquireReadlock();
     try {
-      final var reader = new SegmentedJournalReader(this, journalMetrics);
+      final var reader = new SegmentedJournalReader(this, journalMetrics, readAdvisor);
       readers.add(reader);
       return reader;
     } finally {
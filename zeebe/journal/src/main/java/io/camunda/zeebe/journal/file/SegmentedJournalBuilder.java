@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
 
@@ -33,6 +34,9 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_SORTED_ARRAY_JOURNAL_INDEX = false;
+  private static final RecordCompression DEFAULT_RECORD_COMPRESSION = RecordCompression.NONE;
+  private static final boolean DEFAULT_ADVISE_SEQUENTIAL_READS = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -44,6 +48,9 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean sortedArrayJournalIndex = DEFAULT_SORTED_ARRAY_JOURNAL_INDEX;
+  private RecordCompression recordCompression = DEFAULT_RECORD_COMPRESSION;
+  private boolean adviseSequentialReads = DEFAULT_ADVISE_SEQUENTIAL_READS;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -131,6 +138,23 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays instead of concurrent skip
+   * list maps. The array based index avoids boxing every indexed entry, which reduces the heap
+   * footprint and GC pressure of journals with many indexed entries, and makes seeking a binary
+   * search over contiguous memory.
+   *
+   * <p>By default, the skip list based index is used.
+   *
+   * @param sortedArrayJournalIndex true to use the sorted array index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withSortedArrayJournalIndex(
+      final boolean sortedArrayJournalIndex) {
+    this.sortedArrayJournalIndex = sortedArrayJournalIndex;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -145,6 +169,42 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets the compression applied to the data of newly appended records. Compressed records are
+   * replicated as they are, which reduces the disk I/O of both the leader and its followers, as
+   * well as the replication bandwidth, at the cost of CPU time.
+   *
+   * <p>Existing records remain readable regardless of this setting. However, compressed records
+   * cannot be read by older versions, so this must only be enabled once all members were updated.
+   *
+   * <p>By default, records are not compressed.
+   *
+   * @param recordCompression the compression of new records
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withRecordCompression(final RecordCompression recordCompression) {
+    this.recordCompression = checkNotNull(recordCompression, "recordCompression cannot be null");
+    return this;
+  }
+
+  /**
+   * Sets whether readers hint the OS, via {@code madvise}, to read sealed segments ahead when they
+   * start scanning them sequentially, e.g. on replay, when exporting, or when a follower catches
+   * up. Segments are always memory mapped, and records are always read as views on the mapped
+   * segment; this only makes it less likely that a sequential scan blocks on page faults when the
+   * segment is not in the page cache anymore.
+   *
+   * <p>This is a no-op on platforms without {@code madvise}. By default, readahead is left to the
+   * OS.
+   *
+   * @param adviseSequentialReads true to advise sequential reads of sealed segments
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withAdviseSequentialReads(final boolean adviseSequentialReads) {
+    this.adviseSequentialReads = adviseSequentialReads;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -167,11 +227,15 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        sortedArrayJournalIndex
+            ? new SortedArrayJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(meterRegistry);
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, recordCompression);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
@@ -182,7 +246,10 @@ public class SegmentedJournalBuilder {
             journalMetrics,
             journalMetaStore);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
+    final var readAdvisor =
+        adviseSequentialReads ? SegmentReadAdvisor.madvise() : SegmentReadAdvisor.noop();
 
-    return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
+    return new SegmentedJournal(
+        journalIndex, segmentsManager, journalMetrics, segmentsFlusher, readAdvisor);
   }
 }
@@ -28,10 +28,19 @@ class SegmentedJournalReader implements JournalReader {
   private Segment currentSegment;
   private SegmentReader currentReader;
   private final JournalMetrics metrics;
+  private final SegmentReadAdvisor readAdvisor;
 
   SegmentedJournalReader(final SegmentedJournal journal, final JournalMetrics journalMetrics) {
+    this(journal, journalMetrics, SegmentReadAdvisor.noop());
+  }
+
+  SegmentedJournalReader(
+      final SegmentedJournal journal,
+      final JournalMetrics journalMetrics,
+      final SegmentReadAdvisor readAdvisor) {
     this.journal = journal;
     metrics = journalMetrics;
+    this.readAdvisor = readAdvisor;
     initialize();
   }
 
@@ -45,7 +54,7 @@ class SegmentedJournalReader implements JournalReader {
   public boolean hasNext() {
     final var stamp = journal.acquireReadlock();
     try {
-      return unsafeHasNext();
+      return unsafeHasNext(true);
     } finally {
       journal.releaseReadlock(stamp);
     }
@@ -62,7 +71,7 @@ class SegmentedJournalReader implements JournalReader {
   }
 
   private JournalRecord unsafeNext() throws NoSuchElementException {
-    if (!unsafeHasNext()) {
+    if (!unsafeHasNext(true)) {
       throw new NoSuchElementException();
     }
 
@@ -130,8 +139,9 @@ class SegmentedJournalReader implements JournalReader {
         // potential beneficiary of a peek() call, which would avoid the duplicate seek or
         // being at the second position if the first entry has a greater ASQN
         JournalRecord record = null;
-        while (unsafeHasNext()) {
-          final var currentRecord = next();
+        // scanning for the asqn only passes through the segments, so don't advise reading them
+        while (unsafeHasNext(false)) {
+          final var currentRecord = currentReader.next();
           if (currentRecord.index() > indexUpperBound) {
             break;
           }
@@ -223,7 +233,11 @@ class SegmentedJournalReader implements JournalReader {
     currentReader.seek(index);
   }
 
-  private boolean unsafeHasNext() {
+  /**
+   * @param sequential true if the caller reads sequentially, in which case moving on to the next
+   *     segment advises reading it ahead
+   */
+  private boolean unsafeHasNext(final boolean sequential) {
     if (!currentReader.hasNext()) {
       if (!currentSegment.isOpen()) {
         // When the segment has been deleted concurrently, we do not want to allow the readers to
@@ -234,6 +248,9 @@ class SegmentedJournalReader implements JournalReader {
       final Segment nextSegment = journal.getNextSegment(currentSegment.index());
       if (nextSegment != null && nextSegment.index() == getNextIndex()) {
         replaceCurrentSegment(nextSegment);
+        if (sequential) {
+          adviseSequentialReadIfSealed();
+        }
         return currentReader.hasNext();
       }
       return false;
@@ -251,4 +268,17 @@ class SegmentedJournalReader implements JournalReader {
     currentSegment = nextSegment;
     currentReader = currentSegment.createReader();
   }
+
+  /**
+   * Called whenever the reader moves on from one segment to the next while reading sequentially.
+   * Sealed segments are not written to anymore, so it's safe to assume the reader will go through
+   * all of it, and we can let the OS read it ahead. Seeks are not advised, as seeking to an asqn or
+   * an index often only passes through a segment. The last segment is still written to, and is most
+   * likely still in the page cache anyway.
+   */
+  private void adviseSequentialReadIfSealed() {
+    if (!currentSegment.equals(journal.getLastSegment())) {
+      currentSegment.adviseSequentialRead(readAdvisor);
+    }
+  }
 }
@@ -0,0 +1,362 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import java.util.Arrays;
+
+/**
+ * A sparse {@link JournalIndex} which keeps its entries in sorted primitive arrays instead of boxed
+ * skip list nodes. Lookups are binary searches, and truncating either end of the index only moves a
+ * bound.
+ *
+ * <p>Mutations are serialized, while lookups are lock-free: every mutation publishes an immutable
+ * snapshot of the arrays, and slots which may still be visible through a previously published
+ * snapshot are never overwritten in place. Whenever that would be necessary (e.g. appending after a
+ * truncation), the arrays are copied first.
+ *
+ * <p>Entries which are indexed out of order, e.g. when a reader lazily indexes an older segment
+ * after a restart, are appended to a second sorted run instead of being inserted into the first
+ * one, which would copy the whole array for every entry. Lookups search both runs, and the second
+ * run is only merged into the first one when an entry cannot be appended to it either, i.e. once
+ * per lazily indexed segment at most.
+ */
+final class SortedArrayJournalIndex implements JournalIndex {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int density;
+  // keys are record indexes, values their position within their segment
+  private final Column indexToPosition = new Column();
+  // keys are record indexes, values their asqn; since asqns are strictly increasing with the
+  // index, the values are sorted as well, which is what allows looking up an index by asqn
+  private final Column indexToAsqn = new Column();
+
+  SortedArrayJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public synchronized void index(final JournalRecord indexedEntry, final int position) {
+    final long index = indexedEntry.index();
+    if (index % density == 0) {
+      indexToPosition.put(index, position);
+      final long asqn = indexedEntry.asqn();
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        indexToAsqn.put(index, asqn);
+      }
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    final var snapshot = indexToPosition.snapshot;
+    final var view = snapshot.runContainingFloor(index);
+    final int slot = view.floorByKey(index);
+    return slot >= view.from ? new IndexInfo(view.keys[slot], (int) view.values[slot]) : null;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    final var snapshot = indexToAsqn.snapshot;
+    final Long sorted = lookupAsqn(snapshot.sorted, asqn, indexUpperBound);
+    final Long pending = lookupAsqn(snapshot.pending, asqn, indexUpperBound);
+    if (sorted == null) {
+      return pending;
+    }
+    return pending == null ? sorted : Math.max(sorted, pending);
+  }
+
+  private static Long lookupAsqn(final View view, final long asqn, final long indexUpperBound) {
+    final int slot = view.floorByValue(asqn);
+    if (slot < view.from) {
+      return null;
+    }
+
+    if (view.keys[slot] <= indexUpperBound) {
+      return view.keys[slot];
+    }
+
+    final int boundedSlot = view.floorByKey(indexUpperBound);
+    return boundedSlot >= view.from ? view.keys[boundedSlot] : null;
+  }
+
+  @Override
+  public synchronized void deleteAfter(final long indexExclusive) {
+    indexToPosition.truncateAfter(indexExclusive);
+    indexToAsqn.truncateAfter(indexExclusive);
+  }
+
+  @Override
+  public synchronized void deleteUntil(final long indexExclusive) {
+    indexToPosition.truncateBefore(indexExclusive);
+    indexToAsqn.truncateBefore(indexExclusive);
+  }
+
+  @Override
+  public synchronized void clear() {
+    indexToPosition.clear();
+    indexToAsqn.clear();
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  /**
+   * Key/value pairs sorted by key, kept in up to two sorted runs. Not thread-safe for writers;
+   * readers must only access it through a single read of {@link #snapshot}.
+   */
+  private static final class Column {
+    private final Run sorted = new Run();
+    // entries indexed below the last entry of the sorted run; never overlaps with a key of it
+    private final Run pending = new Run();
+    private volatile Snapshot snapshot = new Snapshot(sorted.view, pending.view);
+
+    private void put(final long key, final long value) {
+      if (sorted.isEmpty() || key > sorted.lastKey()) {
+        sorted.append(key, value);
+      } else if (sorted.contains(key)) {
+        sorted.replace(key, value);
+      } else if (pending.isEmpty() || key > pending.lastKey()) {
+        pending.append(key, value);
+      } else {
+        merge();
+        put(key, value);
+        return;
+      }
+
+      publish();
+    }
+
+    private void merge() {
+      sorted.mergeFrom(pending.view);
+      pending.clear();
+      publish();
+    }
+
+    /** Removes all entries with a key greater than the given one. */
+    private void truncateAfter(final long key) {
+      sorted.truncateAfter(key);
+      pending.truncateAfter(key);
+      if (sorted.isEmpty() && !pending.isEmpty()) {
+        // keep the pending entries below the sorted ones, such that both runs stay disjoint
+        merge();
+      } else {
+        publish();
+      }
+    }
+
+    /** Removes all entries with a key lower than the given one. */
+    private void truncateBefore(final long key) {
+      sorted.truncateBefore(key);
+      pending.truncateBefore(key);
+      publish();
+    }
+
+    private void clear() {
+      sorted.clear();
+      pending.clear();
+      publish();
+    }
+
+    private void publish() {
+      snapshot = new Snapshot(sorted.view, pending.view);
+    }
+  }
+
+  /** A growable array of key/value pairs sorted by key, owned by a single {@link Column}. */
+  private static final class Run {
+    private View view = View.empty();
+
+    // exclusive upper bound of the slots of the current arrays which were ever published to
+    // readers; anything below may be visible to a reader holding an older view
+    private int publishedLimit;
+
+    private boolean isEmpty() {
+      return view.isEmpty();
+    }
+
+    private long lastKey() {
+      return view.keys[view.to - 1];
+    }
+
+    private boolean contains(final long key) {
+      final int floor = view.floorByKey(key);
+      return floor >= view.from && view.keys[floor] == key;
+    }
+
+    private void append(final long key, final long value) {
+      final var current = view;
+      long[] keys = current.keys;
+      long[] values = current.values;
+      int from = current.from;
+      int to = current.to;
+
+      if (to == keys.length || to < publishedLimit) {
+        final int size = to - from;
+        final int capacity = Math.max(INITIAL_CAPACITY, (size + 1) * 2);
+        keys = Arrays.copyOfRange(keys, from, from + capacity);
+        values = Arrays.copyOfRange(values, from, from + capacity);
+        from = 0;
+        to = size;
+      }
+
+      keys[to] = key;
+      values[to] = value;
+      publishedLimit = to + 1;
+      view = new View(keys, values, from, to + 1);
+    }
+
+    /** Replaces the value of an existing key, which is rare enough to simply copy the arrays. */
+    private void replace(final long key, final long value) {
+      final var current = view;
+      final int slot = current.floorByKey(key);
+      if (current.values[slot] == value) {
+        return;
+      }
+
+      final long[] keys = Arrays.copyOfRange(current.keys, current.from, current.to);
+      final long[] values = Arrays.copyOfRange(current.values, current.from, current.to);
+      values[slot - current.from] = value;
+      publishedLimit = keys.length;
+      view = new View(keys, values, 0, keys.length);
+    }
+
+    /** Merges the given disjoint run into this one, in a single pass over both. */
+    private void mergeFrom(final View other) {
+      final var current = view;
+      final int size = current.to - current.from + other.to - other.from;
+      final int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+      final long[] keys = new long[capacity];
+      final long[] values = new long[capacity];
+
+      int left = current.from;
+      int right = other.from;
+      for (int slot = 0; slot < size; slot++) {
+        if (right == other.to || (left < current.to && current.keys[left] < other.keys[right])) {
+          keys[slot] = current.keys[left];
+          values[slot] = current.values[left++];
+        } else {
+          keys[slot] = other.keys[right];
+          values[slot] = other.values[right++];
+        }
+      }
+
+      publishedLimit = size;
+      view = new View(keys, values, 0, size);
+    }
+
+    private void truncateAfter(final long key) {
+      final var current = view;
+      final int floor = current.floorByKey(key);
+      view =
+          new View(current.keys, current.values, current.from, Math.max(current.from, floor + 1));
+    }
+
+    private void truncateBefore(final long key) {
+      final var current = view;
+      if (key == Long.MIN_VALUE) {
+        return;
+      }
+
+      final int floor = current.floorByKey(key - 1);
+      view = new View(current.keys, current.values, Math.max(current.from, floor + 1), current.to);
+    }
+
+    private void clear() {
+      publishedLimit = 0;
+      view = View.empty();
+    }
+  }
+
+  /** The runs of a {@link Column} as published to readers at one point in time. */
+  private record Snapshot(View sorted, View pending) {
+
+    /**
+     * @return the run which holds the greatest key lower than or equal to the given one, if any
+     */
+    private View runContainingFloor(final long key) {
+      final int pendingFloor = pending.floorByKey(key);
+      if (pendingFloor < pending.from) {
+        return sorted;
+      }
+
+      final int sortedFloor = sorted.floorByKey(key);
+      return sortedFloor >= sorted.from && sorted.keys[sortedFloor] > pending.keys[pendingFloor]
+          ? sorted
+          : pending;
+    }
+  }
+
+  /**
+   * An immutable window {@code [from, to)} over the arrays of a {@link Column}. Both keys and
+   * values within the window are sorted in ascending order.
+   */
+  private record View(long[] keys, long[] values, int from, int to) {
+
+    private static View empty() {
+      return new View(new long[INITIAL_CAPACITY], new long[INITIAL_CAPACITY], 0, 0);
+    }
+
+    private boolean isEmpty() {
+      return from == to;
+    }
+
+    /**
+     * @return the slot of the greatest key lower than or equal to the given key, or a slot lower
+     *     than {@link #from} if there is none
+     */
+    private int floorByKey(final long key) {
+      return floor(keys, key);
+    }
+
+    /**
+     * @return the slot of the greatest value lower than or equal to the given value, or a slot
+     *     lower than {@link #from} if there is none
+     */
+    private int floorByValue(final long value) {
+      return floor(values, value);
+    }
+
+    private int floor(final long[] sorted, final long needle) {
+      int low = from;
+      int high = to - 1;
+
+      while (low <= high) {
+        final int mid = (low + high) >>> 1;
+        if (sorted[mid] <= needle) {
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+
+      return high;
+    }
+  }
+}
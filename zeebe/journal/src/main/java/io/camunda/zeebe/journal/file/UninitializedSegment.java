@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.nio.MappedByteBuffer;
 
 /**
@@ -18,7 +19,8 @@ record UninitializedSegment(
     long segmentId,
     int maxSegmentSize,
     MappedByteBuffer buffer,
-    JournalIndex journalIndex) {
+    JournalIndex journalIndex,
+    RecordCompression compression) {
 
   /**
    * Creates a proper, initialized segment by writing a {@link SegmentDescriptor } with the given
@@ -41,6 +43,7 @@ record UninitializedSegment(
         buffer,
         lastWrittenAsqn,
         journalIndex,
-        metrics);
+        metrics,
+        compression);
   }
 }
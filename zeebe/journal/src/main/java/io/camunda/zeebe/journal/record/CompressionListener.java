@@ -0,0 +1,35 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.record;
+
+/** Observes the compression and decompression of record data, e.g. to expose metrics. */
+public interface CompressionListener {
+
+  CompressionListener NOOP = new CompressionListener() {};
+
+  /**
+   * Called after the data of a record was compressed, regardless of whether the compressed data was
+   * written or discarded because it was not smaller than the original data.
+   *
+   * @param uncompressedLength the length of the original data
+   * @param compressedLength the length of the compressed data
+   * @param durationNanos the time spent compressing, in nanoseconds
+   */
+  default void onCompressed(
+      final int uncompressedLength, final int compressedLength, final long durationNanos) {}
+
+  /**
+   * Called after the data of a compressed record was decompressed.
+   *
+   * @param compressedLength the length of the compressed data
+   * @param uncompressedLength the length of the decompressed data
+   * @param durationNanos the time spent decompressing, in nanoseconds
+   */
+  default void onDecompressed(
+      final int compressedLength, final int uncompressedLength, final long durationNanos) {}
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.record;
+
+/**
+ * The compression applied to the data of newly written journal records. Records are always
+ * readable, regardless of the configured compression, as each compressed record carries the
+ * algorithm it was compressed with.
+ */
+public enum RecordCompression {
+  /** Records are written uncompressed. */
+  NONE,
+
+  /**
+   * Records are compressed with Zstandard, unless they are too small to benefit from it, or the
+   * compressed data would not be smaller than the original.
+   */
+  ZSTD
+}
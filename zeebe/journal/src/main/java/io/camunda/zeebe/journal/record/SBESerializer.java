@@ -7,7 +7,11 @@
  */
 package io.camunda.zeebe.journal.record;
 
+import com.github.luben.zstd.Zstd;
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.file.CompressedRecordDataDecoder;
+import io.camunda.zeebe.journal.file.CompressedRecordDataEncoder;
+import io.camunda.zeebe.journal.file.CompressionAlgorithm;
 import io.camunda.zeebe.journal.file.MessageHeaderDecoder;
 import io.camunda.zeebe.journal.file.MessageHeaderEncoder;
 import io.camunda.zeebe.journal.file.RecordDataDecoder;
@@ -16,20 +20,65 @@ import io.camunda.zeebe.journal.file.RecordMetadataDecoder;
 import io.camunda.zeebe.journal.file.RecordMetadataEncoder;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferOverflowException;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
-/** The serializer that writes and reads a journal record according to the SBE schema defined. */
+/**
+ * The serializer that writes and reads a journal record according to the SBE schema defined.
+ *
+ * <p>If configured with a {@link RecordCompression}, the data of new records is compressed and
+ * written as a {@code CompressedRecordData} message instead of a {@code RecordData} message.
+ * Records of both kinds can always be read, and are transparently decompressed when read. The
+ * serialized form, and thus the checksum, covers the compressed data, so that compressed records
+ * are replicated as they are.
+ */
 public final class SBESerializer implements JournalRecordSerializer {
+  // below this length, the compression overhead outweighs what little we would save
+  static final int MIN_COMPRESSIBLE_LENGTH = 256;
+  // favor speed over ratio, as compression happens on the append path
+  private static final int ZSTD_LEVEL = 1;
+  // decompressed records are carved out of slabs of this size, such that reading many small
+  // records does not allocate an array for each of them
+  private static final int DECOMPRESSED_SLAB_SIZE = 64 * 1024;
+
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final RecordMetadataEncoder metadataEncoder = new RecordMetadataEncoder();
   private final RecordDataEncoder recordEncoder = new RecordDataEncoder();
+  private final CompressedRecordDataEncoder compressedRecordEncoder =
+      new CompressedRecordDataEncoder();
 
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
   private final RecordMetadataDecoder metadataDecoder = new RecordMetadataDecoder();
   private final RecordDataDecoder recordDecoder = new RecordDataDecoder();
+  private final CompressedRecordDataDecoder compressedRecordDecoder =
+      new CompressedRecordDataDecoder();
+
+  private final RecordCompression compression;
+  private final CompressionListener compressionListener;
+  private final ExpandableArrayBuffer uncompressedBuffer = new ExpandableArrayBuffer();
+  private final DirectBufferWriter uncompressedWriter = new DirectBufferWriter();
+  private byte[] compressedBuffer = new byte[0];
+  private byte[] decompressedSlab = new byte[0];
+  private int decompressedSlabOffset;
+
+  public SBESerializer() {
+    this(CompressionListener.NOOP);
+  }
+
+  /** Creates a serializer which writes uncompressed records, but can read compressed ones. */
+  public SBESerializer(final CompressionListener compressionListener) {
+    this(RecordCompression.NONE, compressionListener);
+  }
+
+  public SBESerializer(
+      final RecordCompression compression, final CompressionListener compressionListener) {
+    this.compression = compression;
+    this.compressionListener = compressionListener;
+  }
 
   @Override
   public Either<BufferOverflowException, Integer> writeData(
@@ -38,6 +87,19 @@ public final class SBESerializer implements JournalRecordSerializer {
       final BufferWriter recordDataWriter,
       final MutableDirectBuffer writeBuffer,
       final int offset) {
+    final int entryLength = recordDataWriter.getLength();
+    if (compression == RecordCompression.ZSTD && entryLength >= MIN_COMPRESSIBLE_LENGTH) {
+      final int compressedLength = compress(recordDataWriter);
+      if (compressedLength < entryLength) {
+        return writeCompressedData(index, asqn, entryLength, compressedLength, writeBuffer, offset);
+      }
+
+      // the data is already serialized, so there is no need to serialize it a second time
+      uncompressedWriter.wrap(uncompressedBuffer, 0, entryLength);
+      return writeDataAtVersion(
+          recordEncoder.sbeSchemaVersion(), index, asqn, uncompressedWriter, writeBuffer, offset);
+    }
+
     return writeDataAtVersion(
         recordEncoder.sbeSchemaVersion(), index, asqn, recordDataWriter, writeBuffer, offset);
   }
@@ -116,6 +178,11 @@ public final class SBESerializer implements JournalRecordSerializer {
   @Override
   public RecordData readData(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
+    if (headerDecoder.schemaId() == compressedRecordDecoder.sbeSchemaId()
+        && headerDecoder.templateId() == compressedRecordDecoder.sbeTemplateId()) {
+      return readCompressedData(buffer, offset);
+    }
+
     if (headerDecoder.schemaId() != recordDecoder.sbeSchemaId()
         || headerDecoder.templateId() != recordDecoder.sbeTemplateId()) {
       throw new CorruptedJournalException("Cannot read record. Header does not match.");
@@ -143,6 +210,131 @@ public final class SBESerializer implements JournalRecordSerializer {
         && headerDecoder.templateId() == metadataDecoder.sbeTemplateId());
   }
 
+  /**
+   * Serializes the record data into the uncompressed buffer and compresses it into the compressed
+   * buffer.
+   *
+   * @return the length of the compressed data
+   */
+  private int compress(final BufferWriter recordDataWriter) {
+    final int entryLength = recordDataWriter.getLength();
+    recordDataWriter.write(uncompressedBuffer, 0);
+
+    final int maxCompressedLength = (int) Zstd.compressBound(entryLength);
+    ensureCompressedBufferCapacity(maxCompressedLength);
+
+    final long startNanos = System.nanoTime();
+    final long result =
+        Zstd.compressByteArray(
+            compressedBuffer,
+            0,
+            maxCompressedLength,
+            uncompressedBuffer.byteArray(),
+            0,
+            entryLength,
+            ZSTD_LEVEL);
+    final long durationNanos = System.nanoTime() - startNanos;
+    if (Zstd.isError(result)) {
+      throw new IllegalStateException(
+          "Failed to compress record data of length %d: %s"
+              .formatted(entryLength, Zstd.getErrorName(result)));
+    }
+
+    compressionListener.onCompressed(entryLength, (int) result, durationNanos);
+    return (int) result;
+  }
+
+  private Either<BufferOverflowException, Integer> writeCompressedData(
+      final long index,
+      final long asqn,
+      final int uncompressedLength,
+      final int compressedLength,
+      final MutableDirectBuffer writeBuffer,
+      final int offset) {
+    final int serializedLength =
+        headerEncoder.encodedLength()
+            + compressedRecordEncoder.sbeBlockLength()
+            + CompressedRecordDataEncoder.dataHeaderLength()
+            + compressedLength;
+    if (offset + serializedLength > writeBuffer.capacity()) {
+      return Either.left(new BufferOverflowException());
+    }
+
+    compressedRecordEncoder
+        .wrapAndApplyHeader(writeBuffer, offset, headerEncoder)
+        .index(index)
+        .asqn(asqn)
+        .compression(CompressionAlgorithm.ZSTD)
+        .uncompressedLength(uncompressedLength)
+        .putData(compressedBuffer, 0, compressedLength);
+
+    return Either.right(headerEncoder.encodedLength() + compressedRecordEncoder.encodedLength());
+  }
+
+  private RecordData readCompressedData(final DirectBuffer buffer, final int offset) {
+    compressedRecordDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    final long index = compressedRecordDecoder.index();
+    final long asqn = compressedRecordDecoder.asqn();
+    final CompressionAlgorithm algorithm = compressedRecordDecoder.compression();
+    if (algorithm != CompressionAlgorithm.ZSTD) {
+      throw new CorruptedJournalException(
+          "Cannot read record with index %d. Unknown compression algorithm %s."
+              .formatted(index, algorithm));
+    }
+
+    final int uncompressedLength = compressedRecordDecoder.uncompressedLength();
+    final int compressedLength = compressedRecordDecoder.dataLength();
+    ensureCompressedBufferCapacity(compressedLength);
+    compressedRecordDecoder.getData(compressedBuffer, 0, compressedLength);
+
+    // the decompressed data outlives this call, so the slab region is never handed out twice
+    final int dataOffset = allocateDecompressed(uncompressedLength);
+    final byte[] data = decompressedSlab;
+    final long startNanos = System.nanoTime();
+    final long result =
+        Zstd.decompressByteArray(
+            data, dataOffset, uncompressedLength, compressedBuffer, 0, compressedLength);
+    final long durationNanos = System.nanoTime() - startNanos;
+    if (Zstd.isError(result) || result != uncompressedLength) {
+      throw new CorruptedJournalException(
+          "Cannot read record with index %d. Expected to decompress %d bytes, but got %s."
+              .formatted(
+                  index,
+                  uncompressedLength,
+                  Zstd.isError(result) ? Zstd.getErrorName(result) : result));
+    }
+
+    compressionListener.onDecompressed(compressedLength, uncompressedLength, durationNanos);
+    return new RecordData(index, asqn, new UnsafeBuffer(data, dataOffset, uncompressedLength));
+  }
+
+  /**
+   * Reserves the given number of bytes in the current slab, and returns the offset of the reserved
+   * region. Regions are never reused, as records may still refer to them; once a slab is full, a
+   * new one is allocated, and the old one is collected once no record refers to it anymore.
+   */
+  private int allocateDecompressed(final int length) {
+    if (decompressedSlab.length - decompressedSlabOffset < length) {
+      decompressedSlab = new byte[Math.max(DECOMPRESSED_SLAB_SIZE, length)];
+      decompressedSlabOffset = 0;
+    }
+
+    final int offset = decompressedSlabOffset;
+    decompressedSlabOffset += length;
+    return offset;
+  }
+
+  private void ensureCompressedBufferCapacity(final int capacity) {
+    if (compressedBuffer.length < capacity) {
+      compressedBuffer = new byte[capacity];
+    }
+  }
+
   private int getSerializedLength(final int entryLength) {
     return headerEncoder.encodedLength()
         + recordEncoder.sbeBlockLength()
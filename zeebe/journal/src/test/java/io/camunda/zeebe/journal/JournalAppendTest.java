@@ -17,6 +17,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
 import io.camunda.zeebe.journal.util.TestJournalRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -344,6 +345,38 @@ final class JournalAppendTest {
     }
   }
 
+  @Test
+  void shouldAppendCompressedSerializedRecordToUncompressedJournal() {
+    // given
+    final var data = "TestData".repeat(100).getBytes();
+    try (final var leaderJournal =
+            SegmentedJournal.builder(meterRegistry)
+                .withDirectory(directory.resolve("data-leader").toFile())
+                .withMetaStore(new MockJournalMetastore())
+                .withRecordCompression(RecordCompression.ZSTD)
+                .build();
+        final var receiverJournal =
+            SegmentedJournal.builder(meterRegistry)
+                .withDirectory(directory.resolve("data-2").toFile())
+                .withMetaStore(new MockJournalMetastore())
+                .build()) {
+      final var record =
+          leaderJournal.append(1, new DirectBufferWriter().wrap(new UnsafeBuffer(data)));
+
+      // when
+      final var serializedRecord = getSerializedBytes(record);
+      receiverJournal.append(record.checksum(), serializedRecord);
+
+      // then
+      assertThat(serializedRecord.length).isLessThan(data.length);
+      final var reader = receiverJournal.openReader();
+      assertThat(reader.hasNext()).isTrue();
+      final var actual = reader.next();
+      assertThat(actual).isEqualTo(record);
+      assertThat(BufferUtil.bufferAsArray(actual.data())).isEqualTo(data);
+    }
+  }
+
   private static byte[] getSerializedBytes(final JournalRecord record) {
     final byte[] serializedRecord = new byte[record.serializedRecord().capacity()];
     record.serializedRecord().getBytes(0, serializedRecord);
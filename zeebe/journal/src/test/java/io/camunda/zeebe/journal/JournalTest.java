@@ -15,6 +15,7 @@ import io.camunda.zeebe.journal.file.LogCorrupter;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.record.RecordData;
 import io.camunda.zeebe.journal.record.RecordMetadata;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
@@ -557,6 +558,35 @@ final class JournalTest {
     assertThat(metaStore.loadLastFlushedIndex()).isEqualTo(lastWrittenIndex);
   }
 
+  @Test
+  void shouldReadCompressedRecordsAfterDisablingCompression() throws Exception {
+    // given
+    final var compressible = "TestData".repeat(100).getBytes();
+    journal.close();
+    journal = openJournal(b -> b.withRecordCompression(RecordCompression.ZSTD));
+    final var compressed =
+        copyRecord(
+            journal.append(1, new DirectBufferWriter().wrap(new UnsafeBuffer(compressible))));
+    final var small = copyRecord(journal.append(2, recordDataWriter));
+
+    // when
+    journal.close();
+    journal = openJournal();
+    final var uncompressed =
+        copyRecord(
+            journal.append(3, new DirectBufferWriter().wrap(new UnsafeBuffer(compressible))));
+
+    // then
+    assertThat(compressed.serializedRecord().capacity()).isLessThan(compressible.length);
+    assertThat(uncompressed.serializedRecord().capacity()).isGreaterThan(compressible.length);
+    final var reader = journal.openReader();
+    assertThat(reader.next()).isEqualTo(compressed);
+    assertThat(reader.next()).isEqualTo(small);
+    assertThat(reader.next()).isEqualTo(uncompressed);
+    assertThat(BufferUtil.bufferAsArray(compressed.data())).isEqualTo(compressible);
+    assertThat(BufferUtil.bufferAsArray(small.data())).isEqualTo(entry);
+  }
+
   // TODO: do not rely on implementation detail to compare records
   private PersistedJournalRecord copyRecord(final JournalRecord record) {
     final RecordData data =
@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Compares the {@link SparseJournalIndex} with the {@link SortedArrayJournalIndex}.
+ *
+ * <p>{@link #measureSeek(Blackhole)} measures the lookups done by a reader seeking in a journal
+ * with many indexed entries. {@link #measureIndexing()} builds a complete index per invocation;
+ * when run with the GC profiler (e.g. {@code -prof gc}), its normalized allocation rate ({@code
+ * gc.alloc.rate.norm}) approximates the heap footprint of an index with {@link #entries} entries.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+
+  @Param({"sparse", "sortedArray"})
+  public String implementation;
+
+  @Param({"1000000"})
+  public int entries;
+
+  private JournalIndex index;
+
+  @Setup
+  public void setup() {
+    index = fillIndex();
+  }
+
+  @Benchmark
+  public void measureSeek(final Blackhole blackhole) {
+    final long target = ThreadLocalRandom.current().nextLong(1, entries + 1);
+    blackhole.consume(index.lookup(target));
+    blackhole.consume(index.lookupAsqn(target * 2, target));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public JournalIndex measureIndexing() {
+    return fillIndex();
+  }
+
+  private JournalIndex fillIndex() {
+    final JournalIndex journalIndex =
+        "sortedArray".equals(implementation)
+            ? new SortedArrayJournalIndex(1)
+            : new SparseJournalIndex(1);
+    for (long i = 1; i <= entries; i++) {
+      journalIndex.index(new TestJournalRecord(i, i * 2, 0, null, null), (int) (i % 1_000_000));
+    }
+
+    return journalIndex;
+  }
+
+  @JMHTest("measureSeek")
+  void shouldSeekSortedArrayIndexWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 10_000_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options.param("implementation", "sortedArray").addProfiler(GCProfiler.class))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
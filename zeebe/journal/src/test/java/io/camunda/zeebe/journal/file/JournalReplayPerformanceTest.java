@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalReader;
+import io.camunda.zeebe.journal.util.MockJournalMetastore;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import jnr.ffi.LibraryLoader;
+import jnr.ffi.Platform;
+import jnr.ffi.Platform.OS;
+import jnr.ffi.annotations.In;
+import jnr.ffi.types.off_t;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput, in records per second, of a full sequential scan over a journal of
+ * {@link #RECORD_COUNT} records spread over several segments, as done on replay or by a lagging
+ * exporter, with and without advising sequential reads of sealed segments.
+ *
+ * <p>The journal is reopened before each scan. On Linux, the segment files are also evicted from
+ * the page cache beforehand, so that every scan starts cold and reads from disk; on other platforms
+ * the scans run against a warm page cache, and both modes should perform the same.
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JournalReplayPerformanceTest {
+  private static final int RECORD_COUNT = 256 * 1024;
+  private static final int RECORD_SIZE = 1024;
+  private static final int SEGMENT_SIZE = 32 * 1024 * 1024;
+
+  @Param({"false", "true"})
+  public boolean adviseSequentialReads;
+
+  private Path directory;
+  private SegmentedJournal journal;
+  private JournalReader reader;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-replay");
+    final var data = new byte[RECORD_SIZE];
+    ThreadLocalRandom.current().nextBytes(data);
+    final var writer = new DirectBufferWriter().wrap(new UnsafeBuffer(data));
+
+    try (final var writeJournal = openJournal()) {
+      for (int i = 1; i <= RECORD_COUNT; i++) {
+        writeJournal.append(i, writer);
+      }
+      writeJournal.flush();
+    } catch (final Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void openColdJournal() throws IOException {
+    PageCache.evict(directory);
+    journal = openJournal();
+    reader = journal.openReader();
+  }
+
+  @TearDown(Level.Invocation)
+  public void closeJournal() {
+    reader.close();
+    journal.close();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(RECORD_COUNT)
+  public void measureFullReplay(final Blackhole blackhole) {
+    reader.seekToFirst();
+    while (reader.hasNext()) {
+      final var record = reader.next();
+      // touch the data, as a consumer of the log would
+      blackhole.consume(record.data().getByte(RECORD_SIZE - 1));
+    }
+  }
+
+  private SegmentedJournal openJournal() {
+    return SegmentedJournal.builder(new SimpleMeterRegistry())
+        .withDirectory(directory.toFile())
+        .withMaxSegmentSize(SEGMENT_SIZE)
+        .withMetaStore(new MockJournalMetastore())
+        .withAdviseSequentialReads(adviseSequentialReads)
+        .build();
+  }
+
+  @JMHTest("measureFullReplay")
+  void shouldReplayWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected records/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 1_000_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("adviseSequentialReads", "true")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  /** Evicts files from the page cache via {@code posix_fadvise}; only supported on Linux. */
+  private static final class PageCache {
+    private static final int O_RDONLY = 0;
+    private static final int POSIX_FADV_DONTNEED = 4;
+    private static final LibC LIB_C =
+        Platform.getNativePlatform().getOS() == OS.LINUX
+            ? LibraryLoader.create(LibC.class).load("c")
+            : null;
+
+    private static void evict(final Path directory) throws IOException {
+      if (LIB_C == null) {
+        return;
+      }
+
+      try (final var files = Files.list(directory)) {
+        for (final var file : files.toList()) {
+          final var fd = LIB_C.open(file.toString(), O_RDONLY);
+          if (fd < 0) {
+            throw new IOException("Failed to open " + file + " to evict it from the page cache");
+          }
+
+          try {
+            LIB_C.posix_fadvise(fd, 0, 0, POSIX_FADV_DONTNEED);
+          } finally {
+            LIB_C.close(fd);
+          }
+        }
+      }
+    }
+
+    public interface LibC {
+      int open(@In String path, int flags);
+
+      @SuppressWarnings("checkstyle:MethodName")
+      int posix_fadvise(int fd, @off_t long offset, @off_t long length, int advice);
+
+      int close(int fd);
+    }
+  }
+}
@@ -26,8 +26,10 @@ import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -175,6 +177,69 @@ class SegmentedJournalReaderTest {
         .isNotNull();
   }
 
+  @Test
+  void shouldAdviseSequentialReadOfSealedSegmentsOnlyWhenMovingToThem() {
+    // given - four segments, of which only the last one is not sealed
+    final var factory = new TestJournalFactory(ENTRIES_PER_SEGMENT);
+    final var advisedBuffers = new ArrayList<MappedByteBuffer>();
+    final var segments = factory.segmentsManager(directory.resolve("advised"));
+    try (final var advisedJournal = factory.journal(segments, (b, l) -> advisedBuffers.add(b))) {
+      for (int i = 1; i <= ENTRIES_PER_SEGMENT * 4; i++) {
+        advisedJournal.append(i, factory.entry());
+      }
+
+      // when - seeking alone does not advise, but moving on to the second and third segment does
+      try (final var advisedReader = advisedJournal.openReader()) {
+        advisedReader.seekToFirst();
+        advisedReader.seekToAsqn(ENTRIES_PER_SEGMENT * 2);
+        assertThat(advisedBuffers).isEmpty();
+
+        advisedReader.seekToFirst();
+        while (advisedReader.hasNext()) {
+          advisedReader.next();
+        }
+      }
+    }
+
+    // then
+    assertThat(advisedBuffers).hasSize(2);
+    assertThat(advisedBuffers.get(0)).isNotSameAs(advisedBuffers.get(1));
+  }
+
+  @Test
+  void shouldReadAllRecordsWhenAdvisingSequentialReads() {
+    // given
+    final int entrySize = FrameUtil.getLength() + getSerializedSize(data);
+    try (final var advisedJournal =
+        SegmentedJournal.builder(meterRegistry)
+            .withDirectory(directory.resolve("advised").toFile())
+            .withMaxSegmentSize(
+                entrySize * ENTRIES_PER_SEGMENT
+                    + SegmentDescriptorSerializer.currentEncodingLength())
+            .withMetaStore(new MockJournalMetastore())
+            .withAdviseSequentialReads(true)
+            .build()) {
+      for (int i = 1; i <= ENTRIES_PER_SEGMENT * 3; i++) {
+        advisedJournal.append(i, recordDataWriter);
+      }
+
+      // when
+      long lastReadIndex = 0;
+      try (final var advisedReader = advisedJournal.openReader()) {
+        advisedReader.seekToFirst();
+        while (advisedReader.hasNext()) {
+          final var record = advisedReader.next();
+          assertThat(record.index()).isEqualTo(lastReadIndex + 1);
+          assertThat(record.data()).isEqualTo(data);
+          lastReadIndex = record.index();
+        }
+      }
+
+      // then
+      assertThat(lastReadIndex).isEqualTo(ENTRIES_PER_SEGMENT * 3);
+    }
+  }
+
   private int getSerializedSize(final DirectBuffer data) {
     final var record = new RecordData(Long.MAX_VALUE, Long.MAX_VALUE, data);
     final var serializer = new SBESerializer();
@@ -0,0 +1,181 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class SortedArrayJournalIndexTest {
+
+  @Test
+  void shouldFindIndexAfterGrowing() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(1);
+
+    // when - more entries than the initial capacity
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(5_000)).isEqualTo(new IndexInfo(5_000, 10_000));
+    assertThat(index.lookupAsqn(50_005)).isEqualTo(5_000);
+    assertThat(index.lookup(10_001)).isEqualTo(new IndexInfo(10_000, 20_000));
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given - a reader lazily indexing an older segment after the writer indexed a newer one
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(20, 20), 4);
+    index.index(asJournalRecord(25, 25), 8);
+
+    // when
+    index.index(asJournalRecord(5, 5), 12);
+    index.index(asJournalRecord(10, 10), 16);
+
+    // then
+    assertThat(index.lookup(7)).isEqualTo(new IndexInfo(5, 12));
+    assertThat(index.lookup(14)).isEqualTo(new IndexInfo(10, 16));
+    assertThat(index.lookup(22)).isEqualTo(new IndexInfo(20, 4));
+    assertThat(index.lookupAsqn(12)).isEqualTo(10);
+    assertThat(index.lookupAsqn(27)).isEqualTo(25);
+  }
+
+  @Test
+  void shouldIndexSegmentsLazilyInAnyOrder() {
+    // given - the last segment is indexed on open, and older ones lazily as readers seek into them
+    final var random = new Random(11);
+    final JournalIndex expected = new SparseJournalIndex(3);
+    final JournalIndex actual = new SortedArrayJournalIndex(3);
+    final int segmentSize = 100;
+    final List<Integer> segments = new ArrayList<>(IntStream.range(0, 20).boxed().toList());
+    Collections.shuffle(segments, random);
+    segments.remove(Integer.valueOf(19));
+    segments.add(0, 19);
+
+    // when
+    for (final int segment : segments) {
+      for (int i = 1; i <= segmentSize; i++) {
+        final long index = (long) segment * segmentSize + i;
+        final var record = asJournalRecord(index, index * 2);
+        expected.index(record, i);
+        actual.index(record, i);
+      }
+    }
+
+    // then
+    for (long probe = 0; probe <= 20 * segmentSize + 1; probe++) {
+      assertThat(actual.lookup(probe)).isEqualTo(expected.lookup(probe));
+      assertThat(actual.hasIndexed(probe)).isEqualTo(expected.hasIndexed(probe));
+      assertThat(actual.lookupAsqn(probe)).isEqualTo(expected.lookupAsqn(probe));
+      assertThat(actual.lookupAsqn(probe * 2, probe / 2))
+          .isEqualTo(expected.lookupAsqn(probe * 2, probe / 2));
+    }
+  }
+
+  @Test
+  void shouldReplaceReindexedEntry() {
+    // given
+    final JournalIndex index = new SortedArrayJournalIndex(5);
+    index.index(asJournalRecord(5, 5), 10);
+    index.index(asJournalRecord(10, 10), 20);
+    index.deleteAfter(7);
+
+    // when
+    index.index(asJournalRecord(10, 12), 30);
+
+    // then
+    assertThat(index.lookup(10)).isEqualTo(new IndexInfo(10, 30));
+    assertThat(index.lookupAsqn(11)).isEqualTo(5);
+    assertThat(index.lookupAsqn(12)).isEqualTo(10);
+  }
+
+  @Test
+  void shouldNotOverwriteTruncatedEntriesInPlace() {
+    // given
+    final var index = new SortedArrayJournalIndex(1);
+    index.index(asJournalRecord(1, 1), 10);
+    index.index(asJournalRecord(2, 2), 20);
+    index.index(asJournalRecord(3, 3), 30);
+    final var lookupBeforeTruncation = index.lookup(3);
+
+    // when
+    index.deleteAfter(1);
+    index.index(asJournalRecord(2, 4), 40);
+
+    // then
+    assertThat(lookupBeforeTruncation).isEqualTo(new IndexInfo(3, 30));
+    assertThat(index.lookup(3)).isEqualTo(new IndexInfo(2, 40));
+    assertThat(index.lookupAsqn(3)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldBehaveLikeSparseJournalIndex() {
+    // given
+    final var random = new Random(7);
+    final JournalIndex expected = new SparseJournalIndex(4);
+    final JournalIndex actual = new SortedArrayJournalIndex(4);
+    long nextIndex = 1;
+    long nextAsqn = 1;
+    long firstIndex = 1;
+
+    // when
+    for (int i = 0; i < 50_000; i++) {
+      final int operation = random.nextInt(1000);
+      if (operation < 990 || nextIndex == firstIndex) {
+        final long asqn = random.nextBoolean() ? nextAsqn++ : SegmentedJournal.ASQN_IGNORE;
+        final var record = asJournalRecord(nextIndex++, asqn);
+        final int position = random.nextInt(1024 * 1024);
+        expected.index(record, position);
+        actual.index(record, position);
+      } else if (operation < 995) {
+        nextIndex = firstIndex + random.nextLong(nextIndex - firstIndex) + 1;
+        expected.deleteAfter(nextIndex - 1);
+        actual.deleteAfter(nextIndex - 1);
+      } else {
+        firstIndex = firstIndex + random.nextLong(nextIndex - firstIndex);
+        expected.deleteUntil(firstIndex);
+        actual.deleteUntil(firstIndex);
+      }
+
+      // then
+      final long probe = firstIndex + random.nextLong(nextIndex - firstIndex + 1);
+      final long asqnProbe = random.nextLong(nextAsqn + 1);
+      assertThat(actual.lookup(probe)).isEqualTo(expected.lookup(probe));
+      assertThat(actual.hasIndexed(probe)).isEqualTo(expected.hasIndexed(probe));
+      assertThat(seekStart(actual.lookupAsqn(asqnProbe), firstIndex))
+          .isEqualTo(seekStart(expected.lookupAsqn(asqnProbe), firstIndex));
+      assertThat(seekStart(actual.lookupAsqn(asqnProbe, probe), firstIndex))
+          .isEqualTo(seekStart(expected.lookupAsqn(asqnProbe, probe), firstIndex));
+    }
+  }
+
+  /**
+   * The sparse index may keep an asqn entry for an index which was already compacted, which makes
+   * the reader seek to the first index, same as if no entry was found.
+   */
+  private static Long seekStart(final Long index, final long firstIndex) {
+    return index == null || index < firstIndex ? null : index;
+  }
+}
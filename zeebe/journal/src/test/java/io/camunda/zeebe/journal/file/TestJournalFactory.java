@@ -120,8 +120,12 @@ final class TestJournalFactory {
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
+    return journal(segments, SegmentReadAdvisor.noop());
+  }
+
+  SegmentedJournal journal(final SegmentsManager segments, final SegmentReadAdvisor readAdvisor) {
     final var segmentsFlusher = new SegmentsFlusher(metaStore);
-    return new SegmentedJournal(index, segments, metrics, segmentsFlusher);
+    return new SegmentedJournal(index, segments, metrics, segmentsFlusher, readAdvisor);
   }
 
   DirectBuffer entryData() {
@@ -13,6 +13,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.util.Either;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -152,4 +155,147 @@ final class SBESerializerTest {
     // when - then
     assertThat(serializer.writeData(record, writeBuffer, offset)).matches(Either::isLeft);
   }
+
+  @Test
+  void shouldCompressRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.ZSTD, CompressionListener.NOOP);
+    final var data = new UnsafeBuffer("firstData".repeat(100).getBytes());
+    final var largeRecord = new RecordData(1, 2, data);
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(4096));
+
+    // when
+    final int compressedLength = compressingSerializer.writeData(largeRecord, buffer, 0).get();
+    final int uncompressedLength = serializer.writeData(largeRecord, buffer, 0).get();
+
+    // then
+    assertThat(compressedLength).isLessThan(uncompressedLength);
+  }
+
+  @Test
+  void shouldReadCompressedRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.ZSTD, CompressionListener.NOOP);
+    final var data = new UnsafeBuffer("firstData".repeat(100).getBytes());
+    final var largeRecord = new RecordData(1, 2, data);
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(4096));
+    compressingSerializer.writeData(largeRecord, buffer, 10).get();
+
+    // when - read with a serializer which does not compress itself
+    final var readData = serializer.readData(buffer, 10);
+
+    // then
+    assertThat(readData).isEqualTo(largeRecord);
+  }
+
+  @Test
+  void shouldKeepPreviouslyReadCompressedRecords() {
+    // given - more records than fit into one slab of decompressed data
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.ZSTD, CompressionListener.NOOP);
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(4096));
+    final List<RecordData> expected = new ArrayList<>();
+    final List<RecordData> read = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      final var data = new UnsafeBuffer(("data" + i).repeat(200).getBytes());
+      final var record = new RecordData(i, i, data);
+      compressingSerializer.writeData(record, buffer, 0).get();
+      expected.add(record);
+      read.add(serializer.readData(buffer, 0));
+    }
+
+    // then
+    assertThat(read).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldNotCompressSmallRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.ZSTD, CompressionListener.NOOP);
+    final var data = new UnsafeBuffer(new byte[SBESerializer.MIN_COMPRESSIBLE_LENGTH - 1]);
+    final var smallRecord = new RecordData(1, 2, data);
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(4096));
+
+    // when
+    final int writtenLength = compressingSerializer.writeData(smallRecord, buffer, 0).get();
+
+    // then
+    assertThat(writtenLength).isEqualTo(serializer.writeData(smallRecord, buffer, 0).get());
+    assertThat(compressingSerializer.readData(buffer, 0)).isEqualTo(smallRecord);
+  }
+
+  @Test
+  void shouldNotCompressIncompressibleRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.ZSTD, CompressionListener.NOOP);
+    final var randomBytes = new byte[1024];
+    new Random(42).nextBytes(randomBytes);
+    final var incompressibleRecord = new RecordData(1, 2, new UnsafeBuffer(randomBytes));
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(4096));
+
+    // when
+    final int writtenLength =
+        compressingSerializer.writeData(incompressibleRecord, buffer, 0).get();
+
+    // then
+    assertThat(writtenLength)
+        .isEqualTo(serializer.writeData(incompressibleRecord, buffer, 0).get());
+    assertThat(compressingSerializer.readData(buffer, 0)).isEqualTo(incompressibleRecord);
+  }
+
+  @Test
+  void shouldThrowBufferOverFlowWhenNotEnoughSpaceForCompressedRecord() {
+    // given
+    final var compressingSerializer =
+        new SBESerializer(RecordCompression.ZSTD, CompressionListener.NOOP);
+    final var data = new UnsafeBuffer("firstData".repeat(100).getBytes());
+    final var largeRecord = new RecordData(1, 2, data);
+
+    // when - then
+    assertThat(compressingSerializer.writeData(largeRecord, writeBuffer, 200))
+        .matches(Either::isLeft);
+  }
+
+  @Test
+  void shouldNotifyListenerOfCompression() {
+    // given
+    final var listener = new RecordingCompressionListener();
+    final var compressingSerializer = new SBESerializer(RecordCompression.ZSTD, listener);
+    final var data = new UnsafeBuffer("firstData".repeat(100).getBytes());
+    final var buffer = new UnsafeBuffer(ByteBuffer.allocate(4096));
+
+    // when
+    compressingSerializer.writeData(new RecordData(1, 2, data), buffer, 0).get();
+    compressingSerializer.readData(buffer, 0);
+
+    // then
+    assertThat(listener.uncompressedLength).isEqualTo(data.capacity());
+    assertThat(listener.compressedLength).isPositive().isLessThan(data.capacity());
+    assertThat(listener.decompressedLength).isEqualTo(data.capacity());
+  }
+
+  private static final class RecordingCompressionListener implements CompressionListener {
+    private int uncompressedLength;
+    private int compressedLength;
+    private int decompressedLength;
+
+    @Override
+    public void onCompressed(
+        final int uncompressedLength, final int compressedLength, final long durationNanos) {
+      this.uncompressedLength = uncompressedLength;
+      this.compressedLength = compressedLength;
+    }
+
+    @Override
+    public void onDecompressed(
+        final int compressedLength, final int uncompressedLength, final long durationNanos) {
+      decompressedLength = uncompressedLength;
+    }
+  }
 }
@@ -0,0 +1,248 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static io.camunda.zeebe.logstreams.impl.log.LogAppendEntryMetadata.copyMetadata;
+import static io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor.FRAME_ALIGNMENT;
+import static io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer.calculateBatchLength;
+
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.InFlightEntry;
+import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.util.Either;
+import java.io.Closeable;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.agrona.BitUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A lock-free alternative to the {@link Sequencer}. Writers never park, which avoids contention
+ * between the different producers (e.g. command API, inter-partition distribution, scheduled tasks)
+ * on a single lock.
+ *
+ * <p>A write claims its position range and a sequence number with a single CAS, and publishes the
+ * batch into a bounded multi-producer ring, in the slot of its sequence number. Batches are then
+ * appended to the {@link LogStorage} strictly in sequence (and therefore position) order by
+ * whichever writer currently holds the drain flag; the other writers simply hand off their batch
+ * and return. This means the calls to {@link FlowControl#onAppend(InFlightEntry, long)} and {@link
+ * LogStorage#append} remain serialized and ordered, exactly as with the {@link Sequencer}, so flow
+ * control is unaffected.
+ *
+ * <p>Note that, unlike the {@link Sequencer}, a successful write may return before the batch was
+ * appended to the log storage, if another writer is draining concurrently. It is however guaranteed
+ * to be appended by that writer. When the ring is full, writers spin and help draining instead of
+ * parking.
+ */
+final class LockFreeSequencer implements LogStreamWriter, Closeable {
+  static final int DEFAULT_RING_CAPACITY = 1024;
+
+  private static final Logger LOG = LoggerFactory.getLogger(LockFreeSequencer.class);
+
+  private final int maxFragmentSize;
+  private final AtomicReference<Claim> claim;
+  private final AtomicReferenceArray<PendingBatch> ring;
+  private final int ringMask;
+  private final AtomicBoolean draining = new AtomicBoolean();
+  private final LogStorage logStorage;
+  private final InstantSource clock;
+  private final SequencerMetrics sequencerMetrics;
+  private final FlowControl flowControl;
+
+  // the sequence of the next batch to append; only updated by the thread holding the drain flag
+  private volatile long drainedSequence;
+  private volatile boolean isClosed = false;
+
+  LockFreeSequencer(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int maxFragmentSize,
+      final int ringCapacity,
+      final InstantSource clock,
+      final SequencerMetrics sequencerMetrics,
+      final FlowControl flowControl) {
+    LOG.trace("Starting new lock-free sequencer at position {}", initialPosition);
+    if (!BitUtil.isPowerOfTwo(ringCapacity)) {
+      throw new IllegalArgumentException(
+          "Expected ring capacity to be a power of two, but was '%d'".formatted(ringCapacity));
+    }
+
+    this.logStorage = logStorage;
+    this.clock = Objects.requireNonNull(clock);
+    this.maxFragmentSize = maxFragmentSize;
+    this.sequencerMetrics =
+        Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
+    this.flowControl = flowControl;
+    claim = new AtomicReference<>(new Claim(0, initialPosition));
+    ring = new AtomicReferenceArray<>(ringCapacity);
+    ringMask = ringCapacity - 1;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean canWriteEvents(final int eventCount, final int batchSize) {
+    final int framedMessageLength =
+        batchSize
+            + eventCount * (DataFrameDescriptor.HEADER_LENGTH + FRAME_ALIGNMENT)
+            + FRAME_ALIGNMENT;
+    return framedMessageLength <= maxFragmentSize;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  // False positive: https://github.com/checkstyle/checkstyle/issues/14891
+  @SuppressWarnings("checkstyle:MissingSwitchDefault")
+  public Either<WriteFailure, Long> tryWrite(
+      final WriteContext context,
+      final List<LogAppendEntry> appendEntries,
+      final long sourcePosition) {
+    if (isClosed) {
+      LOG.warn("Rejecting write of {}, sequencer is closed", appendEntries);
+      return Either.left(WriteFailure.CLOSED);
+    }
+    if (appendEntries.isEmpty()) {
+      return Either.left(WriteFailure.INVALID_ARGUMENT);
+    }
+    for (final var entry : appendEntries) {
+      if (!isEntryValid(entry)) {
+        LOG.warn("Reject write of invalid entry {}", entry);
+        return Either.left(WriteFailure.INVALID_ARGUMENT);
+      }
+    }
+    final InFlightEntry inFlightEntry;
+    switch (flowControl.tryAcquire(context, copyMetadata(appendEntries))) {
+      case Either.Left<Rejection, InFlightEntry>(final var rejected) -> {
+        return switch (rejected) {
+          case RequestLimitExhausted -> Either.left(WriteFailure.REQUEST_LIMIT_EXHAUSTED);
+          case WriteRateLimitExhausted -> Either.left(WriteFailure.WRITE_LIMIT_EXHAUSTED);
+        };
+      }
+      case Either.Right<Rejection, InFlightEntry>(final var accepted) -> inFlightEntry = accepted;
+    }
+
+    final int batchSize = appendEntries.size();
+    final int batchLength = calculateBatchLength(appendEntries);
+    final var claimed = claim(batchSize);
+    final var lowestPosition = claimed.position();
+    final var highestPosition = lowestPosition + batchSize - 1;
+
+    ring.set(
+        slot(claimed.sequence()),
+        new PendingBatch(
+            inFlightEntry,
+            lowestPosition,
+            highestPosition,
+            sourcePosition,
+            appendEntries,
+            batchLength));
+    drain();
+
+    sequencerMetrics.observeBatchLengthBytes(batchLength);
+    sequencerMetrics.observeBatchSize(batchSize);
+    return Either.right(highestPosition);
+  }
+
+  /**
+   * Closes the sequencer. After closing, writes are rejected but reads are still allowed to drain
+   * the queue. Closing the sequencer is not atomic so some writes may occur shortly after closing.
+   */
+  @Override
+  public void close() {
+    LOG.info("Closing sequencer for writing");
+    isClosed = true;
+  }
+
+  private Claim claim(final int batchSize) {
+    while (true) {
+      final var current = claim.get();
+      if (current.sequence() - drainedSequence >= ring.length()) {
+        // the ring is full: instead of parking until a slot is freed, help draining it
+        drain();
+        Thread.onSpinWait();
+        continue;
+      }
+
+      final var next = new Claim(current.sequence() + 1, current.position() + batchSize);
+      if (claim.compareAndSet(current, next)) {
+        return current;
+      }
+    }
+  }
+
+  /**
+   * Appends all published batches, in sequence order, as long as this thread can hold the drain
+   * flag. After releasing the flag, the next slot is checked once more, since a writer may have
+   * published a batch after we last checked but failed to acquire the flag we were still holding.
+   */
+  private void drain() {
+    while (draining.compareAndSet(false, true)) {
+      try {
+        long sequence = drainedSequence;
+        PendingBatch pending;
+        while ((pending = ring.get(slot(sequence))) != null) {
+          // the slot must be freed before advancing the drained sequence, as advancing allows a
+          // writer to claim it again
+          ring.set(slot(sequence), null);
+          try {
+            append(pending);
+          } finally {
+            drainedSequence = ++sequence;
+          }
+        }
+      } finally {
+        draining.set(false);
+      }
+
+      if (ring.get(slot(drainedSequence)) == null) {
+        return;
+      }
+    }
+  }
+
+  private void append(final PendingBatch pending) {
+    final var sequencedBatch =
+        new SequencedBatch(
+            clock.millis(),
+            pending.lowestPosition(),
+            pending.sourcePosition(),
+            pending.entries(),
+            pending.batchLength());
+    flowControl.onAppend(pending.inFlightEntry(), pending.highestPosition());
+    logStorage.append(
+        pending.lowestPosition(), pending.highestPosition(), sequencedBatch, flowControl);
+  }
+
+  private int slot(final long sequence) {
+    return (int) (sequence & ringMask);
+  }
+
+  private static boolean isEntryValid(final LogAppendEntry entry) {
+    return entry.recordValue() != null && entry.recordMetadata() != null;
+  }
+
+  /** The next sequence number and position which will be claimed by a write. */
+  private record Claim(long sequence, long position) {}
+
+  private record PendingBatch(
+      InFlightEntry inFlightEntry,
+      long lowestPosition,
+      long highestPosition,
+      long sourcePosition,
+      List<LogAppendEntry> entries,
+      int batchLength) {}
+}
@@ -26,6 +26,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private Limit requestLimit;
   private RateLimit writeRateLimit;
   private MeterRegistry meterRegistry;
+  private boolean lockFreeSequencer;
 
   @Override
   public LogStreamBuilder withMaxFragmentSize(final int maxFragmentSize) {
@@ -75,6 +76,12 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withLockFreeSequencer(final boolean lockFreeSequencer) {
+    this.lockFreeSequencer = lockFreeSequencer;
+    return this;
+  }
+
   @Override
   public LogStream build() {
     validate();
@@ -87,7 +94,8 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
         clock,
         requestLimit,
         writeRateLimit,
-        meterRegistry);
+        meterRegistry,
+        lockFreeSequencer);
   }
 
   private void validate() {
@@ -35,7 +35,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   private final int partitionId;
   private final LogStorage logStorage;
   private final FlowControl flowControl;
-  private final Sequencer sequencer;
+  private final LogStreamWriter sequencer;
   private volatile boolean closed;
 
   LogStreamImpl(
@@ -46,7 +46,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final InstantSource clock,
       final Limit requestLimit,
       final RateLimit writeRateLimit,
-      final MeterRegistry meterRegistry) {
+      final MeterRegistry meterRegistry,
+      final boolean lockFreeSequencer) {
     this.logName = logName;
 
     this.partitionId = partitionId;
@@ -54,13 +55,22 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     flowControl =
         new FlowControl(new LogStreamMetrics(meterRegistry), requestLimit, writeRateLimit);
     sequencer =
-        new Sequencer(
-            logStorage,
-            getWriteBuffersInitialPosition(),
-            maxFragmentSize,
-            clock,
-            new SequencerMetrics(meterRegistry),
-            flowControl);
+        lockFreeSequencer
+            ? new LockFreeSequencer(
+                logStorage,
+                getWriteBuffersInitialPosition(),
+                maxFragmentSize,
+                LockFreeSequencer.DEFAULT_RING_CAPACITY,
+                clock,
+                new SequencerMetrics(meterRegistry),
+                flowControl)
+            : new Sequencer(
+                logStorage,
+                getWriteBuffersInitialPosition(),
+                maxFragmentSize,
+                clock,
+                new SequencerMetrics(meterRegistry),
+                flowControl);
     logStorage.addCommitListener(this);
   }
 
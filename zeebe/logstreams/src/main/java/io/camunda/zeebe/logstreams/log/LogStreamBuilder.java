@@ -65,6 +65,15 @@ public interface LogStreamBuilder {
    */
   LogStreamBuilder withMeterRegistry(final MeterRegistry meterRegistry);
 
+  /**
+   * Sets whether writes are sequenced without a lock, such that concurrent writers never park.
+   * Defaults to false.
+   *
+   * @param lockFreeSequencer true to use the lock-free sequencer, false otherwise
+   * @return this builder
+   */
+  LogStreamBuilder withLockFreeSequencer(boolean lockFreeSequencer);
+
   /**
    * Returns a future which, when completed, contains a log stream that can be read from/written to.
    *
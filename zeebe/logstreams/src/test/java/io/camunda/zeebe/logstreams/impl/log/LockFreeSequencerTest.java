@@ -0,0 +1,189 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.asserts.EitherAssert;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.mockito.Mockito;
+
+@SuppressWarnings("resource")
+@Execution(ExecutionMode.CONCURRENT)
+final class LockFreeSequencerTest {
+
+  @Test
+  void writingMultipleEntriesIncreasesPositions() {
+    // given
+    final long initialPosition = 1L;
+    final var sequencer = newSequencer(Mockito.mock(LogStorage.class), initialPosition, 16);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+
+    // when
+    final var first = sequencer.tryWrite(WriteContext.internal(), entries);
+    final var second = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then
+    EitherAssert.assertThat(first).isRight().right().isEqualTo(3L);
+    EitherAssert.assertThat(second).isRight().right().isEqualTo(4L);
+  }
+
+  @Test
+  void writesToLogStorageBeforeReturningWithoutContention() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var sequencer = newSequencer(logStorage, 1, 16);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+
+    // when
+    sequencer.tryWrite(WriteContext.internal(), entries);
+
+    // then
+    Mockito.verify(logStorage).append(eq(1L), eq(3L), any(BufferWriter.class), any());
+  }
+
+  @Test
+  void rejectsWritesAfterClosing() {
+    // given
+    final var logStorage = Mockito.mock(LogStorage.class);
+    final var sequencer = newSequencer(logStorage, 1, 16);
+
+    // when
+    sequencer.close();
+    final var result = sequencer.tryWrite(WriteContext.internal(), TestEntry.ofDefaults());
+
+    // then
+    EitherAssert.assertThat(result).isLeft().left().isEqualTo(WriteFailure.CLOSED);
+    Mockito.verifyNoInteractions(logStorage);
+  }
+
+  @Test
+  void shouldRejectRingCapacityWhichIsNotAPowerOfTwo() {
+    Assertions.assertThatThrownBy(() -> newSequencer(Mockito.mock(LogStorage.class), 1, 12))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void maintainsPositionWithMultipleWritersAndMultipleEntries() throws InterruptedException {
+    // given - a ring much smaller than the number of concurrent writes, to force wrapping around
+    final var numberOfWriters = 8;
+    final var batchesPerWriter = 50_000;
+    final var logStorage = new VerifyingLogStorage();
+    final var sequencer = newSequencer(logStorage, 1, 4);
+    final var entries =
+        List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults(), TestEntry.ofDefaults());
+    final var testFailures = new ConcurrentLinkedQueue<Throwable>();
+
+    // when
+    final var writers = new Thread[numberOfWriters];
+    for (int i = 0; i < numberOfWriters; i++) {
+      writers[i] = newWriterThread(sequencer, batchesPerWriter, entries, testFailures::add);
+    }
+    for (final var writer : writers) {
+      writer.start();
+    }
+    for (final var writer : writers) {
+      writer.join();
+    }
+
+    // then - every batch was appended exactly once and in order
+    Assertions.assertThat(testFailures).isEmpty();
+    Assertions.assertThat(logStorage.position.get())
+        .isEqualTo((long) numberOfWriters * batchesPerWriter * entries.size());
+  }
+
+  private LockFreeSequencer newSequencer(
+      final LogStorage logStorage, final long initialPosition, final int ringCapacity) {
+    return new LockFreeSequencer(
+        logStorage,
+        initialPosition,
+        16,
+        ringCapacity,
+        InstantSource.system(),
+        new SequencerMetrics(new SimpleMeterRegistry()),
+        new FlowControl(new LogStreamMetrics(new SimpleMeterRegistry())));
+  }
+
+  private Thread newWriterThread(
+      final LockFreeSequencer sequencer,
+      final long batchesToWrite,
+      final List<LogAppendEntry> batchToWrite,
+      final Consumer<Throwable> failedAssertionHandler) {
+    final var thread =
+        new Thread(
+            () -> {
+              var batchesWritten = 0L;
+              var lastWrittenPosition = 0L;
+              while (batchesWritten < batchesToWrite) {
+                final var result = sequencer.tryWrite(WriteContext.internal(), batchToWrite);
+                Assertions.assertThat(result.isRight()).isTrue();
+                Assertions.assertThat(result.get()).isGreaterThan(lastWrittenPosition);
+                lastWrittenPosition = result.get();
+                batchesWritten += 1;
+              }
+            });
+    thread.setUncaughtExceptionHandler((t, e) -> failedAssertionHandler.accept(e));
+
+    return thread;
+  }
+
+  private static final class VerifyingLogStorage implements LogStorage {
+
+    // only accessed by the thread holding the drain flag, but read by the test thread afterwards
+    private final AtomicLong position = new AtomicLong(-1);
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      if (position.get() != -1) {
+        Assertions.assertThat(lowestPosition).isEqualTo(position.get() + 1);
+      }
+      position.set(highestPosition);
+      listener.onCommit(lowestPosition, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
+import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.logstreams.log.WriteContext;
+import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorageReader;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the append latency of the {@link Sequencer} and the {@link LockFreeSequencer} under
+ * contention of 1, 4 and 16 concurrent writers. The sample time mode reports the latency
+ * distribution, including the p99 ({@code p0.99}), for each benchmark.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SequencerPerformanceTest {
+
+  private static final List<LogAppendEntry> BATCH =
+      List.of(TestEntry.ofDefaults(), TestEntry.ofDefaults());
+
+  @Param({"locking", "lockFree"})
+  public String implementation;
+
+  private LogStreamWriter sequencer;
+
+  @Setup
+  public void setup() {
+    final var logStorage = new NoopLogStorage();
+    final var flowControl = new FlowControl(new LogStreamMetrics(new SimpleMeterRegistry()));
+    final var metrics = new SequencerMetrics(new SimpleMeterRegistry());
+    final var maxFragmentSize = 4 * 1024 * 1024;
+
+    sequencer =
+        "lockFree".equals(implementation)
+            ? new LockFreeSequencer(
+                logStorage,
+                1,
+                maxFragmentSize,
+                LockFreeSequencer.DEFAULT_RING_CAPACITY,
+                InstantSource.system(),
+                metrics,
+                flowControl)
+            : new Sequencer(
+                logStorage, 1, maxFragmentSize, InstantSource.system(), metrics, flowControl);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object measureAppendLatencyWithSingleWriter() {
+    return sequencer.tryWrite(WriteContext.internal(), BATCH);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object measureAppendLatencyWithFourWriters() {
+    return sequencer.tryWrite(WriteContext.internal(), BATCH);
+  }
+
+  @Benchmark
+  @Threads(16)
+  public Object measureAppendLatencyWithSixteenWriters() {
+    return sequencer.tryWrite(WriteContext.internal(), BATCH);
+  }
+
+  @JMHTest("measureAppendLatencyWithSixteenWriters")
+  void shouldAppendWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected average latency in ns/op, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 2_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("implementation", "lockFree")).run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.5);
+  }
+
+  /** Accepts all appends and immediately acknowledges them, to only measure the sequencing. */
+  private static final class NoopLogStorage implements LogStorage {
+
+    @Override
+    public LogStorageReader newReader() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void append(
+        final long lowestPosition,
+        final long highestPosition,
+        final BufferWriter bufferWriter,
+        final AppendListener listener) {
+      listener.onWrite(lowestPosition, highestPosition);
+      listener.onCommit(lowestPosition, highestPosition);
+    }
+
+    @Override
+    public void addCommitListener(final CommitListener listener) {}
+
+    @Override
+    public void removeCommitListener(final CommitListener listener) {}
+  }
+}
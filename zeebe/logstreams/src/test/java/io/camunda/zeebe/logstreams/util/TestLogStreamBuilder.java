@@ -74,6 +74,12 @@ public final class TestLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public TestLogStreamBuilder withLockFreeSequencer(final boolean lockFreeSequencer) {
+    delegate.withLockFreeSequencer(lockFreeSequencer);
+    return this;
+  }
+
   @Override
   public TestLogStream build() {
     return new TestLogStream(delegate.build());
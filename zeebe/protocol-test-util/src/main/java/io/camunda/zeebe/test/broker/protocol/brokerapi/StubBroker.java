@@ -100,11 +100,18 @@ public final class StubBroker implements AutoCloseable {
 
     channelHandler = new StubRequestHandler(msgPackHelper);
     serverTransport.subscribe(partitionId, RequestType.COMMAND, channelHandler);
+    serverTransport.subscribe(partitionId, RequestType.COMMAND_BATCH, channelHandler);
 
     writeBrokerInfoProperties();
     return this;
   }
 
+  /** Stops accepting batches of commands, like a broker which does not support them yet. */
+  public StubBroker withoutCommandBatches() {
+    serverTransport.unsubscribe(partitionId, RequestType.COMMAND_BATCH).join();
+    return this;
+  }
+
   public Member member() {
     return cluster.getMembershipService().getLocalMember();
   }
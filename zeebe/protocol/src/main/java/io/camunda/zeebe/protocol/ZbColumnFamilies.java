@@ -247,7 +247,10 @@ public enum ZbColumnFamilies implements EnumValue, ScopedColumnFamily {
 
   MULTI_INSTANCE_INPUT_COLLECTION(125, PARTITION_LOCAL),
 
-  CLUSTER_VARIABLES(126, GLOBAL);
+  CLUSTER_VARIABLES(126, GLOBAL),
+
+  VARIABLE_BLOBS(127, PARTITION_LOCAL),
+  VARIABLE_BLOB_REFERENCES(128, PARTITION_LOCAL);
 
   private final int value;
   private final ColumnFamilyScope columnFamilyScope;
@@ -67,6 +67,25 @@ public interface ActorMetrics {
           public boolean isEnabled() {
             return false;
           }
+
+          @Override
+          public boolean shouldSampleSchedulingLatency() {
+            return false;
+          }
+
+          @Override
+          public boolean shouldSampleJobExecutionLatency() {
+            return false;
+          }
+
+          @Override
+          public void observeTaskSchedulingLatency(final long latencyNs) {}
+
+          @Override
+          public void observeJobExecutionLatency(final long latencyNs) {}
+
+          @Override
+          public void countSteal() {}
         };
 
     void countExecution();
@@ -80,6 +99,29 @@ public interface ActorMetrics {
     }
 
     boolean isEnabled();
+
+    /**
+     * Returns whether the next submission of the task should be observed via {@link
+     * #observeTaskSchedulingLatency(long)}. Always false if the metrics are disabled, so callers
+     * can skip taking timestamps altogether.
+     */
+    boolean shouldSampleSchedulingLatency();
+
+    /**
+     * Returns whether the next job of the task should be observed via {@link
+     * #observeJobExecutionLatency(long)}. Always false if the metrics are disabled, so callers can
+     * skip taking timestamps altogether.
+     */
+    boolean shouldSampleJobExecutionLatency();
+
+    /** Observes the time between submitting the task to a thread group and running it. */
+    void observeTaskSchedulingLatency(final long latencyNs);
+
+    /** Observes the time it took to execute a single job of the task. */
+    void observeJobExecutionLatency(final long latencyNs);
+
+    /** Counts that the task was stolen from the queue of another thread. */
+    void countSteal();
   }
 
   enum SubscriptionType {
@@ -115,6 +115,118 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
       return "The length of the job queue for an actor task";
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+  },
+  /** Time between submitting an actor task to its thread group and executing it (sampled) */
+  TASK_SCHEDULING_LATENCY {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(1, 4, 12, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.scheduling.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time between submitting an actor task to its thread group and executing it"
+          + " (sampled)";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
+  /** Execution time of a single job of a certain actor task (sampled) */
+  JOB_EXECUTION_LATENCY {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(1, 4, 12, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.job.execution.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Execution time of a single job of a certain actor task (sampled)";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
+  /** Distribution of the job queue length of an actor task after executing it (sampled) */
+  JOB_QUEUE_DEPTH {
+    private static final double[] BUCKETS = {1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024};
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.queue.depth";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Distribution of the job queue length of an actor task after executing it (sampled)";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+  },
+  /** Number of times a certain actor task was stolen by another thread */
+  TASK_STEAL_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.actor.task.steal.count";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of times a certain actor task was stolen from the queue of another thread";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
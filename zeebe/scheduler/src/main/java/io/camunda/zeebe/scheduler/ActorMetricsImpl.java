@@ -12,6 +12,7 @@ import static io.camunda.zeebe.scheduler.ActorMetricsDoc.*;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -22,6 +23,13 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 final class ActorMetricsImpl implements ActorMetrics {
+  /**
+   * Only every n-th event is observed by the per-actor histograms, which keeps the overhead of
+   * taking timestamps and recording them low for actors executing many short jobs. Must be a power
+   * of two.
+   */
+  static final int SAMPLING_INTERVAL = 8;
+
   private final Map<SubscriptionType, Timer> schedulingLatency =
       new EnumMap<>(SubscriptionType.class);
   private final MeterRegistry registry;
@@ -63,6 +71,31 @@ final class ActorMetricsImpl implements ActorMetrics {
         .register(registry);
   }
 
+  private Timer createTaskSchedulingTimer(final String actorName) {
+    return MicrometerUtil.buildTimer(TASK_SCHEDULING_LATENCY)
+        .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+        .register(registry);
+  }
+
+  private Timer createJobExecutionTimer(final String actorName) {
+    return MicrometerUtil.buildTimer(JOB_EXECUTION_LATENCY)
+        .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+        .register(registry);
+  }
+
+  private DistributionSummary createJobQueueDepth(final String actorName) {
+    return MicrometerUtil.buildSummary(JOB_QUEUE_DEPTH)
+        .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+        .register(registry);
+  }
+
+  private Counter createStealCount(final String actorName) {
+    return Counter.builder(TASK_STEAL_COUNT.getName())
+        .description(TASK_STEAL_COUNT.getDescription())
+        .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+        .register(registry);
+  }
+
   @Override
   public boolean isEnabled() {
     return true;
@@ -76,7 +109,11 @@ final class ActorMetricsImpl implements ActorMetrics {
         createExecutionTimer(actorName),
         createJobQueueLength(actorName, jobQueueLength),
         jobQueueLength,
-        createExecutionCount(actorName));
+        createExecutionCount(actorName),
+        createTaskSchedulingTimer(actorName),
+        createJobExecutionTimer(actorName),
+        createJobQueueDepth(actorName),
+        createStealCount(actorName));
   }
 
   @Override
@@ -85,13 +122,44 @@ final class ActorMetricsImpl implements ActorMetrics {
     schedulingLatency.get(subscriptionType).record(waitTimeNs, TimeUnit.NANOSECONDS);
   }
 
-  record ActorMetricsScopedEnabled(
-      MeterRegistry registry,
-      Timer executionLatency,
-      Gauge jobQueueLengthGauge,
-      AtomicLong jobQueueLength,
-      Counter executionCount)
-      implements ActorMetricsScoped {
+  static final class ActorMetricsScopedEnabled implements ActorMetricsScoped {
+    private final MeterRegistry registry;
+    private final Timer executionLatency;
+    private final Gauge jobQueueLengthGauge;
+    private final AtomicLong jobQueueLength;
+    private final Counter executionCount;
+    private final Timer taskSchedulingLatency;
+    private final Timer jobExecutionLatency;
+    private final DistributionSummary jobQueueDepth;
+    private final Counter stealCount;
+
+    // each sampled metric counts its own events, as events of different metrics interleave in
+    // fixed patterns, e.g. one submission per few jobs, which would otherwise always pick the
+    // same metric; not thread safe on purpose, as a lost update merely shifts the sampled events
+    private int submissions;
+    private int jobs;
+    private int queueLengthUpdates;
+
+    ActorMetricsScopedEnabled(
+        final MeterRegistry registry,
+        final Timer executionLatency,
+        final Gauge jobQueueLengthGauge,
+        final AtomicLong jobQueueLength,
+        final Counter executionCount,
+        final Timer taskSchedulingLatency,
+        final Timer jobExecutionLatency,
+        final DistributionSummary jobQueueDepth,
+        final Counter stealCount) {
+      this.registry = registry;
+      this.executionLatency = executionLatency;
+      this.jobQueueLengthGauge = jobQueueLengthGauge;
+      this.jobQueueLength = jobQueueLength;
+      this.executionCount = executionCount;
+      this.taskSchedulingLatency = taskSchedulingLatency;
+      this.jobExecutionLatency = jobExecutionLatency;
+      this.jobQueueDepth = jobQueueDepth;
+      this.stealCount = stealCount;
+    }
 
     @Override
     public void close() {
@@ -99,6 +167,10 @@ final class ActorMetricsImpl implements ActorMetrics {
       registry.remove(executionLatency);
       registry.remove(jobQueueLengthGauge);
       registry.remove(executionCount);
+      registry.remove(taskSchedulingLatency);
+      registry.remove(jobExecutionLatency);
+      registry.remove(jobQueueDepth);
+      registry.remove(stealCount);
     }
 
     @Override
@@ -109,6 +181,9 @@ final class ActorMetricsImpl implements ActorMetrics {
     @Override
     public void updateJobQueueLength(final int length) {
       jobQueueLength.set(length);
+      if (isSampled(++queueLengthUpdates)) {
+        jobQueueDepth.record(length);
+      }
     }
 
     @Override
@@ -120,5 +195,34 @@ final class ActorMetricsImpl implements ActorMetrics {
     public boolean isEnabled() {
       return true;
     }
+
+    @Override
+    public boolean shouldSampleSchedulingLatency() {
+      return isSampled(++submissions);
+    }
+
+    @Override
+    public boolean shouldSampleJobExecutionLatency() {
+      return isSampled(++jobs);
+    }
+
+    private static boolean isSampled(final int event) {
+      return (event & (SAMPLING_INTERVAL - 1)) == 0;
+    }
+
+    @Override
+    public void observeTaskSchedulingLatency(final long latencyNs) {
+      taskSchedulingLatency.record(latencyNs, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void observeJobExecutionLatency(final long latencyNs) {
+      jobExecutionLatency.record(latencyNs, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void countSteal() {
+      stealCount.increment();
+    }
   }
 }
@@ -131,6 +131,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
+    private IoThreadMode ioThreadMode = IoThreadMode.PLATFORM;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
@@ -202,6 +203,15 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public IoThreadMode getIoThreadMode() {
+      return ioThreadMode;
+    }
+
+    public ActorSchedulerBuilder setIoThreadMode(final IoThreadMode ioThreadMode) {
+      this.ioThreadMode = Objects.requireNonNull(ioThreadMode);
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -241,7 +251,11 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     private void initIoBoundActorThreadGroup() {
       if (ioBoundActorGroup == null) {
-        ioBoundActorGroup = new IoThreadGroup(this);
+        ioBoundActorGroup =
+            switch (ioThreadMode) {
+              case PLATFORM -> new IoThreadGroup(this);
+              case VIRTUAL -> new VirtualIoThreadGroup(this);
+            };
       }
     }
 
@@ -61,6 +61,7 @@ public class ActorTask {
   private volatile Queue<ActorJob> submittedJobs = new ClosedQueue();
 
   private ActorMetricsScoped metrics = ActorMetricsScoped.NOOP;
+  private long submittedAt = -1;
 
   public ActorTask(final Actor actor) {
     this.actor = actor;
@@ -122,7 +123,11 @@ public class ActorTask {
 
     boolean resubmit = false;
     while (!resubmit && (currentJob != null || poll())) {
+      final long jobStartedAt = metrics.shouldSampleJobExecutionLatency() ? System.nanoTime() : -1;
       currentJob.execute(runner);
+      if (jobStartedAt != -1) {
+        metrics.observeJobExecutionLatency(System.nanoTime() - jobStartedAt);
+      }
 
       switch (currentJob.schedulingState) {
         case TERMINATED:
@@ -542,6 +547,24 @@ public class ActorTask {
     return metrics;
   }
 
+  /**
+   * Called by the thread group when the task is submitted to it; remembers when it was submitted if
+   * the scheduling latency of this submission is sampled.
+   */
+  void onSubmitted() {
+    if (metrics.shouldSampleSchedulingLatency()) {
+      submittedAt = System.nanoTime();
+    }
+  }
+
+  /** Called by the actor thread right before it executes the task. */
+  void observeSchedulingLatency() {
+    if (submittedAt != -1) {
+      metrics.observeTaskSchedulingLatency(System.nanoTime() - submittedAt);
+      submittedAt = -1;
+    }
+  }
+
   void setActorMetrics(final ActorMetricsScoped scoped) {
     metrics = scoped;
   }
@@ -99,6 +99,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     currentTask = taskScheduler.getNextTask();
 
     if (currentTask != null) {
+      currentTask.observeSchedulingLatency();
       final var metrics = currentTask.getActorMetrics();
       try (final var timer = metrics.startExecutionTimer()) {
         executeCurrentTask();
@@ -165,9 +166,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    // virtual threads cannot be extended, so they are looked up separately
+    return thread.isVirtual() ? VirtualActorThread.currentVirtual() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -208,12 +213,17 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   @Override
   public synchronized void start() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
-      super.start();
+      startThread();
     } else {
       throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
     }
   }
 
+  /** Starts the thread which executes {@link #run()}; by default, this thread itself. */
+  void startThread() {
+    super.start();
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
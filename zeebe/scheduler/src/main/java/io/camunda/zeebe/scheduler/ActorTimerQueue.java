@@ -18,6 +18,9 @@ public final class ActorTimerQueue extends DeadlineTimerWheel {
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
   private static final int DEFAULT_TICKS_PER_WHEEL = 32;
   private final Long2ObjectHashMap<TimerSubscription> timerJobMap = new Long2ObjectHashMap<>();
+  private long nextDeadline;
+  private final TimerConsumer nextDeadlineFinder =
+      (deadline, timerId) -> nextDeadline = Math.min(nextDeadline, deadline);
 
   private final TimerHandler timerHandler =
       (timeUnit, now, timerId) -> {
@@ -48,6 +51,19 @@ public final class ActorTimerQueue extends DeadlineTimerWheel {
     } while (timersProcessed > 0);
   }
 
+  /**
+   * @return the earliest deadline of all scheduled timers in milliseconds, or {@link
+   *     #NULL_DEADLINE} if no timer is scheduled
+   */
+  public long nextDeadline() {
+    nextDeadline = NULL_DEADLINE;
+    if (timerCount() > 0) {
+      forEach(nextDeadlineFinder);
+    }
+
+    return nextDeadline;
+  }
+
   public void schedule(final TimerSubscription timer, final ActorClock now) {
     final long deadline = timer.getDeadline(now);
 
@@ -9,6 +9,7 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 
+/** Thread group for blocking, I/O bound tasks, which share a fixed number of threads. */
 public final class IoThreadGroup extends ActorThreadGroup {
 
   public IoThreadGroup(final ActorSchedulerBuilder builder) {
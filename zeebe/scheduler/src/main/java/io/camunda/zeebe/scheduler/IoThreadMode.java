@@ -0,0 +1,23 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+/** Defines on which threads the I/O bound actors of an {@link ActorScheduler} are executed. */
+public enum IoThreadMode {
+  /**
+   * I/O bound actors share a fixed number of platform threads, see {@link IoThreadGroup}. An actor
+   * blocking on I/O blocks all actors waiting for the same thread.
+   */
+  PLATFORM,
+
+  /**
+   * Each I/O bound actor runs on its own virtual thread, see {@link VirtualIoThreadGroup}. An actor
+   * blocking on I/O only blocks itself.
+   */
+  VIRTUAL
+}
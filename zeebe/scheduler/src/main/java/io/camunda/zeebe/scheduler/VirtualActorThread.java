@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import org.agrona.DeadlineTimerWheel;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * An {@link ActorThread} which executes a single actor task on its own virtual thread. The actor
+ * thread itself is never started as a platform thread; its run loop is executed by the virtual
+ * thread instead, and {@link ActorThread#current()} resolves it via {@link #currentVirtual()}.
+ *
+ * <p>An idle thread parks until a job is submitted to its task, or until the next timer of its task
+ * is due, instead of polling with the configured {@link IdleStrategy}. Only a thread using a clock
+ * other than the system clock keeps the configured strategy, as such a clock may jump ahead without
+ * waking up the thread.
+ *
+ * <p>As there is only ever one task to run, the thread is also its own {@link TaskScheduler}. Once
+ * the task is closed and no longer scheduled, the thread retires itself through its {@link
+ * VirtualIoThreadGroup}, which lets the virtual thread terminate.
+ */
+final class VirtualActorThread extends ActorThread {
+  private static final ThreadLocal<VirtualActorThread> CURRENT = new ThreadLocal<>();
+
+  private final VirtualIoThreadGroup threadGroup;
+  private final ActorTask task;
+  private final SingleTaskScheduler scheduler;
+  private volatile Thread virtualThread;
+
+  private VirtualActorThread(
+      final String name,
+      final VirtualIoThreadGroup threadGroup,
+      final ActorTask task,
+      final SingleTaskScheduler scheduler,
+      final ActorClock clock,
+      final ActorTimerQueue timerQueue,
+      final ActorMetrics actorMetrics,
+      final IdleStrategy idleStrategy) {
+    super(name, 0, threadGroup, scheduler, clock, timerQueue, actorMetrics, idleStrategy);
+    this.threadGroup = threadGroup;
+    this.task = task;
+    this.scheduler = scheduler;
+    if (getClock() instanceof DefaultActorClock) {
+      this.idleStrategy = new ActorTaskRunnerIdleStrategy(new ParkingIdleStrategy());
+    }
+  }
+
+  static VirtualActorThread of(
+      final String name,
+      final VirtualIoThreadGroup threadGroup,
+      final ActorTask task,
+      final ActorClock clock,
+      final ActorTimerQueue timerQueue,
+      final ActorMetrics actorMetrics,
+      final IdleStrategy idleStrategy) {
+    final var scheduler = new SingleTaskScheduler();
+    final var thread =
+        new VirtualActorThread(
+            name, threadGroup, task, scheduler, clock, timerQueue, actorMetrics, idleStrategy);
+    scheduler.thread = thread;
+    return thread;
+  }
+
+  /**
+   * @return the virtual actor thread executed by the current thread, or null if there is none
+   */
+  static VirtualActorThread currentVirtual() {
+    return CURRENT.get();
+  }
+
+  @Override
+  void startThread() {
+    virtualThread = Thread.ofVirtual().name(getName()).unstarted(this);
+    virtualThread.start();
+  }
+
+  @Override
+  public void run() {
+    CURRENT.set(this);
+    try {
+      super.run();
+    } finally {
+      CURRENT.remove();
+    }
+  }
+
+  @Override
+  public void hintWorkAvailable() {
+    LockSupport.unpark(virtualThread);
+  }
+
+  @Override
+  public CompletableFuture<Void> close() {
+    final var terminated = super.close();
+    // wake up the thread, so it notices that it's terminating
+    hintWorkAvailable();
+    return terminated;
+  }
+
+  /** Schedules the task to be executed next; must only be called for the task of this thread. */
+  void submit(final ActorTask task) {
+    scheduler.pendingTask.set(task);
+  }
+
+  boolean hasPendingTask() {
+    return scheduler.pendingTask.get() != null;
+  }
+
+  private ActorTask pollTask() {
+    final var nextTask = scheduler.pendingTask.getAndSet(null);
+    if (nextTask == null && task.getLifecyclePhase() == ActorTask.ActorLifecyclePhase.CLOSED) {
+      threadGroup.retire(task, this);
+    }
+
+    return nextTask;
+  }
+
+  /** Parks the virtual thread until it is unparked by {@link #hintWorkAvailable()}. */
+  private final class ParkingIdleStrategy implements IdleStrategy {
+
+    @Override
+    public void idle(final int workCount) {
+      if (workCount <= 0) {
+        idle();
+      }
+    }
+
+    @Override
+    public void idle() {
+      final long nextDeadline = timerJobQueue.nextDeadline();
+      if (nextDeadline == DeadlineTimerWheel.NULL_DEADLINE) {
+        LockSupport.park(this);
+        return;
+      }
+
+      final long remainingMillis = nextDeadline - getClock().getTimeMillis();
+      if (remainingMillis > 0) {
+        LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+      }
+    }
+
+    @Override
+    public void reset() {}
+  }
+
+  private static final class SingleTaskScheduler implements TaskScheduler {
+    private final AtomicReference<ActorTask> pendingTask = new AtomicReference<>();
+    private VirtualActorThread thread;
+
+    @Override
+    public ActorTask getNextTask() {
+      return thread.pollTask();
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.util.Loggers;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * Thread group for blocking, I/O bound tasks, which runs each actor on its own virtual thread.
+ *
+ * <p>Unlike the {@link IoThreadGroup}, an actor blocking on I/O does not delay the other I/O bound
+ * actors. The semantics of an actor are preserved: its jobs are still executed sequentially by a
+ * single {@link ActorThread}, which also owns the timers scheduled by the actor.
+ *
+ * <p>The thread of an actor is created the first time its task is submitted, and retires once the
+ * actor is closed.
+ */
+public final class VirtualIoThreadGroup extends ActorThreadGroup {
+  private final Map<ActorTask, VirtualActorThread> threads = new ConcurrentHashMap<>();
+  private final ActorClock clock;
+  private final ActorTimerQueue timerQueue;
+  private final ActorMetrics actorMetrics;
+  private final Supplier<IdleStrategy> idleStrategySupplier;
+  private volatile boolean isClosed;
+
+  public VirtualIoThreadGroup(final ActorSchedulerBuilder builder) {
+    super("zb-fs-workers", 0, builder, builder.getSchedulerName());
+    clock = builder.getActorClock();
+    timerQueue = builder.getActorTimerQueue();
+    actorMetrics = builder.getActorMetrics();
+    idleStrategySupplier = builder.getIdleStrategySupplier();
+  }
+
+  @Override
+  public void submit(final ActorTask actorTask) {
+    if (isClosed) {
+      Loggers.ACTOR_LOGGER.debug(
+          "Expected to submit task {} to thread group '{}', but it is already closed",
+          actorTask,
+          groupName);
+      return;
+    }
+
+    actorTask.schedulingState.set(QUEUED);
+    actorTask.onSubmitted();
+    final var thread =
+        threads.compute(
+            actorTask,
+            (task, existing) -> {
+              final var actorThread = existing != null ? existing : newThread(task);
+              actorThread.submit(task);
+              return actorThread;
+            });
+    thread.hintWorkAvailable();
+  }
+
+  @Override
+  public void start() {
+    // threads are started on demand, when a task is submitted for the first time
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    Loggers.ACTOR_LOGGER.debug("Closing actor thread group '{}'", groupName);
+    isClosed = true;
+
+    final var terminationFutures =
+        threads.values().stream().map(this::closeThread).toArray(CompletableFuture[]::new);
+    threads.clear();
+
+    return CompletableFuture.allOf(terminationFutures)
+        .thenAccept(
+            ok ->
+                Loggers.ACTOR_LOGGER.debug(
+                    "Closing actor thread group '{}': closed successfully", groupName));
+  }
+
+  /**
+   * Retires the thread of the given, closed task, unless the task was submitted again in the
+   * meantime. Must be called from the given thread.
+   */
+  void retire(final ActorTask task, final VirtualActorThread thread) {
+    final var isRetired = new boolean[1];
+    threads.computeIfPresent(
+        task,
+        (ignored, existing) -> {
+          if (existing != thread || thread.hasPendingTask()) {
+            return existing;
+          }
+
+          isRetired[0] = true;
+          return null;
+        });
+
+    if (isRetired[0]) {
+      closeThread(thread);
+    }
+  }
+
+  private VirtualActorThread newThread(final ActorTask task) {
+    final var thread =
+        VirtualActorThread.of(
+            "%s-%s".formatted(groupName, task.getName()),
+            this,
+            task,
+            clock,
+            timerQueue,
+            actorMetrics,
+            idleStrategySupplier.get());
+    thread.start();
+    return thread;
+  }
+
+  private CompletableFuture<Void> closeThread(final VirtualActorThread thread) {
+    try {
+      return thread.close();
+    } catch (final IllegalStateException e) {
+      // the thread was already retired
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+}
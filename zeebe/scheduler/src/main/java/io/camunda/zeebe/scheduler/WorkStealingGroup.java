@@ -32,6 +32,7 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
+    task.onSubmitted();
     taskQueues[threadId].append(task);
   }
 
@@ -84,6 +85,7 @@ public final class WorkStealingGroup implements TaskScheduler {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
+          stolenActor.getActorMetrics().countSteal();
           return stolenActor;
         }
       }
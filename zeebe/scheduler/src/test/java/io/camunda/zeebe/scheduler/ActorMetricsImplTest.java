@@ -0,0 +1,172 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.ActorMetricsDoc.ActorMetricsKeyName;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class ActorMetricsImplTest {
+  private static final String ACTOR_NAME = "actor";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ActorMetrics metrics = new ActorMetricsImpl(registry);
+
+  @Test
+  void shouldSampleEveryNthEvent() {
+    // given
+    final var scoped = metrics.scoped(ACTOR_NAME);
+
+    // when
+    final var sampled =
+        IntStream.range(0, ActorMetricsImpl.SAMPLING_INTERVAL * 4)
+            .filter(ignored -> scoped.shouldSampleJobExecutionLatency())
+            .count();
+
+    // then
+    assertThat(sampled).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSampleEachMetricIndependently() {
+    // given - a task which runs two jobs per submission, and reports its queue length once
+    final var scoped = metrics.scoped(ACTOR_NAME);
+    int sampledSubmissions = 0;
+    int sampledJobs = 0;
+
+    // when
+    for (int i = 0; i < ActorMetricsImpl.SAMPLING_INTERVAL * 4; i++) {
+      sampledSubmissions += scoped.shouldSampleSchedulingLatency() ? 1 : 0;
+      sampledJobs += scoped.shouldSampleJobExecutionLatency() ? 1 : 0;
+      sampledJobs += scoped.shouldSampleJobExecutionLatency() ? 1 : 0;
+      scoped.updateJobQueueLength(1);
+    }
+
+    // then
+    assertThat(sampledSubmissions).isEqualTo(4);
+    assertThat(sampledJobs).isEqualTo(8);
+    assertThat(
+            registry
+                .get(ActorMetricsDoc.JOB_QUEUE_DEPTH.getName())
+                .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), ACTOR_NAME)
+                .summary()
+                .count())
+        .isEqualTo(4);
+  }
+
+  @Test
+  void shouldNeverSampleWhenDisabled() {
+    // given
+    final var scoped = ActorMetrics.disabled().scoped(ACTOR_NAME);
+
+    // when
+    final var sampled =
+        IntStream.range(0, ActorMetricsImpl.SAMPLING_INTERVAL * 4)
+            .filter(
+                ignored ->
+                    scoped.shouldSampleSchedulingLatency()
+                        || scoped.shouldSampleJobExecutionLatency())
+            .count();
+
+    // then
+    assertThat(sampled).isZero();
+  }
+
+  @Test
+  void shouldRecordPerActorHistograms() {
+    // given
+    final var scoped = metrics.scoped(ACTOR_NAME);
+
+    // when
+    scoped.observeTaskSchedulingLatency(1_000);
+    scoped.observeJobExecutionLatency(2_000);
+    scoped.countSteal();
+    for (int i = 0; i < ActorMetricsImpl.SAMPLING_INTERVAL; i++) {
+      scoped.updateJobQueueLength(3);
+    }
+
+    // then
+    assertThat(timerCount(ActorMetricsDoc.TASK_SCHEDULING_LATENCY)).isOne();
+    assertThat(timerCount(ActorMetricsDoc.JOB_EXECUTION_LATENCY)).isOne();
+    assertThat(
+            registry
+                .get(ActorMetricsDoc.TASK_STEAL_COUNT.getName())
+                .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), ACTOR_NAME)
+                .counter()
+                .count())
+        .isOne();
+    assertThat(
+            registry
+                .get(ActorMetricsDoc.JOB_QUEUE_DEPTH.getName())
+                .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), ACTOR_NAME)
+                .summary()
+                .max())
+        .isEqualTo(3);
+  }
+
+  @Test
+  void shouldRemoveMetersOnClose() {
+    // given
+    final var scoped = metrics.scoped(ACTOR_NAME);
+
+    // when
+    scoped.close();
+
+    // then
+    assertThat(
+            registry
+                .find(ActorMetricsDoc.TASK_SCHEDULING_LATENCY.getName())
+                .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), ACTOR_NAME)
+                .meters())
+        .isEmpty();
+    assertThat(registry.find(ActorMetricsDoc.TASK_STEAL_COUNT.getName()).meters()).isEmpty();
+    assertThat(registry.find(ActorMetricsDoc.JOB_QUEUE_DEPTH.getName()).meters()).isEmpty();
+  }
+
+  @Test
+  void shouldObserveSchedulingLatencyOfSubmittedActors() throws Exception {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .setMeterRegistry(registry)
+            .build();
+    scheduler.start();
+    final var actor = new Actor() {};
+
+    try {
+      // when
+      scheduler.submitActor(actor).join();
+      for (int i = 0; i < ActorMetricsImpl.SAMPLING_INTERVAL * 4; i++) {
+        actor.call(() -> null).join();
+      }
+
+      // then
+      assertThat(timerCount(ActorMetricsDoc.TASK_SCHEDULING_LATENCY, actor.getName())).isPositive();
+      assertThat(timerCount(ActorMetricsDoc.JOB_EXECUTION_LATENCY, actor.getName())).isPositive();
+    } finally {
+      scheduler.close();
+    }
+  }
+
+  private long timerCount(final ActorMetricsDoc doc) {
+    return timerCount(doc, ACTOR_NAME);
+  }
+
+  private long timerCount(final ActorMetricsDoc doc, final String actorName) {
+    return registry
+        .get(doc.getName())
+        .tag(ActorMetricsKeyName.ACTOR_NAME.asString(), actorName)
+        .timer()
+        .count();
+  }
+}
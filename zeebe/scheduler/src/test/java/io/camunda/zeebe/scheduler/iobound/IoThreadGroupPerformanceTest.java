@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.IoThreadMode;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the head-of-line blocking of I/O bound actors: while {@link #BLOCKING_ACTORS} actors
+ * continuously block, e.g. when persisting a snapshot or exporting, it measures how long a job of
+ * another, non-blocking, I/O bound actor takes to complete. The sample time mode reports the
+ * latency distribution of the job for each {@link IoThreadMode}.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IoThreadGroupPerformanceTest {
+  private static final int IO_THREADS = 2;
+  private static final int BLOCKING_ACTORS = 8;
+  private static final long BLOCKING_TIME_MS = 5;
+
+  @Param({"PLATFORM", "VIRTUAL"})
+  public IoThreadMode ioThreadMode;
+
+  private ActorScheduler scheduler;
+  private final List<BlockingActor> blockingActors = new ArrayList<>();
+  private ProbeActor probeActor;
+
+  @Setup
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(IO_THREADS)
+            .setIoThreadMode(ioThreadMode)
+            .build();
+    scheduler.start();
+
+    for (int i = 0; i < BLOCKING_ACTORS; i++) {
+      final var actor = new BlockingActor();
+      scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+      blockingActors.add(actor);
+    }
+
+    probeActor = new ProbeActor();
+    scheduler.submitActor(probeActor, SchedulingHints.ioBound()).join();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Benchmark
+  public Integer measureJobLatency() {
+    return probeActor.probe();
+  }
+
+  @JMHTest("measureJobLatency")
+  void shouldNotBlockBehindOtherActorsWithVirtualThreads(final JMHTestCase testCase) {
+    // given - an expected average latency in microseconds, as measured in CI; each blocking actor
+    // blocks for 5ms, so a job stuck behind them would take at least that long
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 16;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(options -> options.param("ioThreadMode", IoThreadMode.VIRTUAL.name()))
+            .run();
+
+    // then
+    assertResult.isWithinDeviation(referenceScore, 0.5);
+  }
+
+  /** An actor which blocks its thread over and over again, yielding it in between. */
+  private static final class BlockingActor extends Actor {
+    @Override
+    protected void onActorStarted() {
+      actor.submit(this::block);
+    }
+
+    private void block() {
+      try {
+        Thread.sleep(BLOCKING_TIME_MS);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+
+      actor.submit(this::block);
+    }
+  }
+
+  private static final class ProbeActor extends Actor {
+    private int probes;
+
+    private Integer probe() {
+      return actor.call(() -> ++probes).join();
+    }
+  }
+}
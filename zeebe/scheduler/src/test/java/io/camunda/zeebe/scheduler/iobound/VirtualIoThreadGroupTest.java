@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.IoThreadMode;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.VirtualIoThreadGroup;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualIoThreadGroupTest {
+
+  private ActorSchedulerBuilder builder;
+  private ActorScheduler scheduler;
+
+  @BeforeEach
+  void beforeEach() {
+    builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setIoThreadMode(IoThreadMode.VIRTUAL);
+    scheduler = builder.build();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final var actor = new TestActor();
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(builder.getIoBoundActorThreads()).isInstanceOf(VirtualIoThreadGroup.class);
+    assertThat(actor.call(() -> Thread.currentThread().isVirtual()).join()).isTrue();
+    assertThat(actor.call(() -> ActorThread.current().getActorThreadGroup()).join())
+        .isSameAs(builder.getIoBoundActorThreads());
+  }
+
+  @Test
+  void shouldNotDelayOtherActorsWhileBlocked() throws InterruptedException {
+    // given
+    final var blockedActor = new TestActor();
+    final var otherActor = new TestActor();
+    final var unblock = new CountDownLatch(1);
+    final var blocked = new CountDownLatch(1);
+    scheduler.submitActor(blockedActor, SchedulingHints.ioBound()).join();
+    scheduler.submitActor(otherActor, SchedulingHints.ioBound()).join();
+
+    // when
+    blockedActor.call(
+        () -> {
+          blocked.countDown();
+          unblock.await();
+          return null;
+        });
+    blocked.await();
+
+    // then
+    try {
+      assertThat(otherActor.call(() -> "done")).succeedsWithin(Duration.ofSeconds(5));
+    } finally {
+      unblock.countDown();
+    }
+  }
+
+  @Test
+  void shouldRunTimersOfActor() {
+    // given
+    final var actor = new TestActor();
+    final var timerFired = new CompletableFuture<Boolean>();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // when
+    actor.run(
+        () ->
+            actor.schedule(
+                Duration.ofMillis(10), () -> timerFired.complete(ActorThread.current() != null)));
+
+    // then
+    assertThat(timerFired).succeedsWithin(Duration.ofSeconds(5)).isEqualTo(true);
+  }
+
+  @Test
+  void shouldParkIdleActorUntilJobIsSubmitted() {
+    // given
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final var thread = actor.call(Thread::currentThread).join();
+
+    // when - the backoff idle strategy parks without a blocker
+    Awaitility.await("until the idle actor's thread is parked until work is available")
+        .until(() -> LockSupport.getBlocker(thread), Objects::nonNull);
+
+    // then
+    assertThat(actor.call(() -> "done")).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldParkIdleActorUntilNextTimerIsDue() {
+    // given
+    final var actor = new TestActor();
+    final var timerFired = new CompletableFuture<Void>();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    final var thread = actor.call(Thread::currentThread).join();
+
+    // when
+    actor.run(() -> actor.schedule(Duration.ofSeconds(1), () -> timerFired.complete(null)));
+
+    // then
+    Awaitility.await("until the idle actor's thread is parked until the timer is due")
+        .until(() -> LockSupport.getBlocker(thread), Objects::nonNull);
+    assertThat(timerFired).succeedsWithin(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldRestartClosedActor() {
+    // given
+    final var actor = new TestActor();
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    actor.closeAsync().join();
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(actor.call(() -> Thread.currentThread().isVirtual()))
+        .succeedsWithin(Duration.ofSeconds(5))
+        .isEqualTo(true);
+  }
+
+  private static final class TestActor extends Actor {}
+}
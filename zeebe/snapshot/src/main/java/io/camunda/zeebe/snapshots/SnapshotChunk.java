@@ -41,4 +41,12 @@ public interface SnapshotChunk {
   long getFileBlockPosition();
 
   long getTotalFileSize();
+
+  /**
+   * @return true if the chunk has no content, but refers to the whole file with the same name and
+   *     checksum in the latest snapshot of the receiver, which it can reuse instead
+   */
+  default boolean isFileReference() {
+    return false;
+  }
 }
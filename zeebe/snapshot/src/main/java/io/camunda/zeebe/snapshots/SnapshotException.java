@@ -51,4 +51,19 @@ public class SnapshotException extends RuntimeException {
       super(message);
     }
   }
+
+  /**
+   * Thrown when a received chunk refers to a file of the latest snapshot, which doesn't exist, has
+   * a different checksum or size, or can't be linked or copied. The file has to be received with
+   * its content instead.
+   */
+  public static class FileNotReusableException extends SnapshotException {
+    public FileNotReusableException(final String message) {
+      super(message);
+    }
+
+    public FileNotReusableException(final String message, final Throwable cause) {
+      super(message, cause);
+    }
+  }
 }
@@ -13,17 +13,23 @@ import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotException.FileNotReusableException;
 import io.camunda.zeebe.snapshots.SnapshotId;
 import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotId.SnapshotParseResult.Invalid;
 import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotId.SnapshotParseResult.Parsed;
 import io.camunda.zeebe.util.FileUtil;
+import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.zip.CRC32C;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,7 +47,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private FileBasedSnapshotMetadata metadata;
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
-  private SfvChecksumImpl checksumCollection;
+  private final Map<String, FileChecksum> fileChecksums = new HashMap<>();
+  private final Map<String, Long> reusedFileChecksums = new HashMap<>();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -87,7 +94,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    if (!snapshotChunk.isFileReference()) {
+      checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    }
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -99,14 +108,17 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
 
+    if (snapshotChunk.isFileReference()) {
+      reuseFileOfLatestSnapshot(snapshotChunk, snapshotFile);
+      return;
+    }
+
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
 
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
-    }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    fileChecksums
+        .computeIfAbsent(chunkName, ignored -> new FileChecksum())
+        .update(snapshotChunk.getFileBlockPosition(), snapshotChunk.getContent());
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -117,6 +129,78 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  /**
+   * Links the file the chunk refers to from the latest snapshot, which is possible because snapshot
+   * files are never modified once they are persisted. If the file can't be linked, e.g. because the
+   * file system doesn't support hard links, it's copied instead.
+   */
+  private void reuseFileOfLatestSnapshot(final SnapshotChunk chunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var chunkName = chunk.getChunkName();
+    final var latestSnapshot =
+        snapshotStore
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new FileNotReusableException(
+                        "Expected to reuse file %s, but there is no snapshot yet"
+                            .formatted(chunkName)));
+
+    final var latestChecksum = latestSnapshot.getChecksums().getChecksums().get(chunkName);
+    final var latestFile = latestSnapshot.getPath().resolve(chunkName);
+    final long latestFileSize = sizeOf(latestFile);
+    if (latestChecksum == null
+        || latestChecksum != chunk.getChecksum()
+        || latestFileSize != chunk.getTotalFileSize()) {
+      throw new FileNotReusableException(
+          ("Expected to reuse file %s with checksum %d and size %d of snapshot %s, but it has"
+                  + " checksum %s and size %d")
+              .formatted(
+                  chunkName,
+                  chunk.getChecksum(),
+                  chunk.getTotalFileSize(),
+                  latestSnapshot.getId(),
+                  latestChecksum,
+                  latestFileSize));
+    }
+
+    try {
+      Files.deleteIfExists(snapshotFile);
+      linkOrCopy(latestFile, snapshotFile);
+    } catch (final IOException e) {
+      // the file has to be sent with its content then, instead of referring to it again
+      throw new FileNotReusableException(
+          "Expected to reuse file %s of snapshot %s, but failed to link or copy it"
+              .formatted(chunkName, latestSnapshot.getId()),
+          e);
+    }
+
+    reusedFileChecksums.put(chunkName, chunk.getChecksum());
+    fileChecksums.remove(chunkName);
+    LOGGER.trace("Reused file {} of snapshot {}", chunkName, latestSnapshot.getId());
+  }
+
+  private static void linkOrCopy(final Path source, final Path target) throws IOException {
+    try {
+      Files.createLink(target, source);
+    } catch (final IOException | UnsupportedOperationException e) {
+      LOGGER.debug("Failed to link file {} to {}, copying it instead", source, target, e);
+      Files.deleteIfExists(target);
+      Files.copy(source, target);
+    }
+  }
+
+  /**
+   * @return the size of the file, or -1 if it doesn't exist or can't be read
+   */
+  private static long sizeOf(final Path file) {
+    try {
+      return Files.size(file);
+    } catch (final IOException e) {
+      return -1;
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
@@ -276,7 +360,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
                 false);
       }
       final PersistedSnapshot value =
-          snapshotStore.persistNewSnapshot(directory, snapshotId, checksumCollection, metadata);
+          snapshotStore.persistNewSnapshot(
+              directory, snapshotId, collectChecksums(files), metadata);
       future.complete(value);
     } catch (final Exception e) {
       future.completeExceptionally(e);
@@ -285,6 +370,26 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     snapshotStore.removePendingSnapshot(this);
   }
 
+  private SfvChecksumImpl collectChecksums(final File[] files) throws IOException {
+    final var checksums = new SfvChecksumImpl();
+    for (final var file : files) {
+      final var reusedChecksum = reusedFileChecksums.get(file.getName());
+      if (reusedChecksum != null) {
+        checksums.updateFromChecksum(file.toPath(), reusedChecksum);
+        continue;
+      }
+
+      final var checksum = fileChecksums.get(file.getName());
+      if (checksum != null && checksum.isComplete(file.length())) {
+        checksums.updateFromChecksum(file.toPath(), checksum.getValue());
+      } else {
+        // chunks of this file were not applied in order, e.g. because a chunk was sent again
+        checksums.updateFromFile(file.toPath());
+      }
+    }
+    return checksums;
+  }
+
   @Override
   public String toString() {
     return "FileBasedReceivedSnapshot{"
@@ -294,4 +399,33 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         + snapshotId
         + '}';
   }
+
+  /**
+   * Running checksum of a received file, which is computed while the chunks are applied, such that
+   * the file doesn't need to be read again on persist. It is only valid as long as the chunks of
+   * the file are applied in order.
+   */
+  private static final class FileChecksum {
+    private final CRC32C checksum = new CRC32C();
+    private long nextPosition;
+    private boolean inOrder = true;
+
+    private void update(final long position, final byte[] content) {
+      if (!inOrder || position != nextPosition) {
+        inOrder = false;
+        return;
+      }
+
+      checksum.update(content);
+      nextPosition += content.length;
+    }
+
+    private boolean isComplete(final long fileLength) {
+      return inOrder && nextPosition == fileLength;
+    }
+
+    private long getValue() {
+      return checksum.getValue();
+    }
+  }
 }
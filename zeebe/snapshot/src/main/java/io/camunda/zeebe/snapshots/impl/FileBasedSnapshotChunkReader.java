@@ -15,6 +15,7 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 
@@ -22,10 +23,15 @@ import java.util.TreeSet;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>If the checksums of the files are known, files which the receiver already has with the same
+ * checksum are returned as a single chunk referring to the receiver's file, instead of being read.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final Map<String, Long> fileChecksums;
+  private Map<String, Long> reusableFiles = Map.of();
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
@@ -34,12 +40,28 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private long maximumChunkSize;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
-    this(directory, Long.MAX_VALUE);
+    this(directory, Map.of());
+  }
+
+  /**
+   * @param directory the snapshot directory
+   * @param fileChecksums the checksums of the snapshot files, by file name
+   */
+  public FileBasedSnapshotChunkReader(final Path directory, final Map<String, Long> fileChecksums)
+      throws IOException {
+    this(directory, fileChecksums, Long.MAX_VALUE);
   }
 
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, Map.of(), maximumChunkSize);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final Map<String, Long> fileChecksums, final long maximumChunkSize)
+      throws IOException {
     this.directory = directory;
+    this.fileChecksums = fileChecksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -89,6 +111,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void setReusableFiles(final Map<String, Long> fileChecksums) {
+    reusableFiles = Map.copyOf(fileChecksums);
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -103,6 +130,10 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public SnapshotChunk next() {
     final var fileName = chunksView.first().toString();
+    if (offset == 0 && isReusable(fileName)) {
+      return nextFileReference(fileName);
+    }
+
     final var filePath = directory.resolve(fileName).toString();
 
     try (final var file = new RandomAccessFile(filePath, "r")) {
@@ -125,4 +156,25 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new UncheckedIOException(e);
     }
   }
+
+  private boolean isReusable(final String fileName) {
+    // the metadata is read by the receiver when it receives the chunk, so it's always sent
+    if (fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
+      return false;
+    }
+
+    final var checksum = fileChecksums.get(fileName);
+    return checksum != null && checksum.equals(reusableFiles.get(fileName));
+  }
+
+  private SnapshotChunk nextFileReference(final String fileName) {
+    try {
+      final var fileLength = Files.size(directory.resolve(fileName));
+      chunksView.pollFirst();
+      return SnapshotChunkUtil.createFileReference(
+          snapshotID, totalCount, fileName, fileChecksums.get(fileName), fileLength);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
 }
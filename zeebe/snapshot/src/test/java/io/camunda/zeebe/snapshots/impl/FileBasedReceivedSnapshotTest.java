@@ -18,6 +18,7 @@ import io.camunda.zeebe.snapshots.PersistedSnapshotListener;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkWrapper;
+import io.camunda.zeebe.snapshots.SnapshotException.FileNotReusableException;
 import io.camunda.zeebe.test.util.asserts.DirectoryAssert;
 import io.camunda.zeebe.util.FileUtil;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -27,6 +28,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -347,6 +349,154 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldPersistChecksumsOfWholeFilesWhenFilesAreChunked() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+  }
+
+  @Test
+  public void shouldPersistChecksumsWhenChunkIsAppliedAgain() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when - the first chunk is sent again after the second one, e.g. after a leader change
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      final var firstChunk = snapshotChunkReader.next();
+      receivedSnapshot.apply(firstChunk).join();
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      receivedSnapshot.apply(firstChunk).join();
+
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+  }
+
+  @Test
+  public void shouldReuseUnchangedFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var firstSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var secondSnapshot =
+        takePersistedSnapshot(2L, Map.of("file1", "file1 contents", "file2", "file2 changed"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+
+    // when
+    final var appliedChunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(firstSnapshot.getChecksums().getChecksums());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        appliedChunks.add(chunk);
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then - only the changed file was sent
+    assertThat(appliedChunks)
+        .filteredOn(chunk -> !chunk.isFileReference())
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactlyInAnyOrder("file2", FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(secondSnapshot.getChecksums().getChecksums());
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file1")).hasContent("file1 contents");
+    assertThat(receivedPersistedSnapshot.getPath().resolve("file2")).hasContent("file2 changed");
+  }
+
+  @Test
+  public void shouldNotReuseFileWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var secondSnapshot =
+        takePersistedSnapshot(2L, Map.of("file1", "file1 changed", "file2", "file2 contents"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+
+    // when - the receiver is wrongly assumed to have the changed file
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(secondSnapshot.getChecksums().getChecksums());
+      final var reference = snapshotChunkReader.next();
+
+      // then
+      assertThatCode(() -> receivedSnapshot.apply(reference).join())
+          .hasCauseInstanceOf(FileNotReusableException.class)
+          .hasMessageContaining("Expected to reuse file file1");
+    }
+  }
+
+  @Test
+  public void shouldNotReuseFileWithDifferentSize() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var secondSnapshot =
+        takePersistedSnapshot(2L, Map.of("file1", "file1 contents", "file2", "file2 contents"));
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(secondSnapshot.getId()).join();
+
+    // when - the file has the same checksum, but a different size
+    try (final var snapshotChunkReader = secondSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(secondSnapshot.getChecksums().getChecksums());
+      final var reference = snapshotChunkReader.next();
+      final var referenceWithDifferentSize =
+          SnapshotChunkUtil.createFileReference(
+              reference.getSnapshotId(),
+              reference.getTotalCount(),
+              reference.getChunkName(),
+              reference.getChecksum(),
+              reference.getTotalFileSize() + 1);
+
+      // then
+      assertThatCode(() -> receivedSnapshot.apply(referenceWithDifferentSize).join())
+          .hasCauseInstanceOf(FileNotReusableException.class)
+          .hasMessageContaining("Expected to reuse file file1");
+    }
+  }
+
+  @Test
+  public void shouldNotReuseFileWithoutLatestSnapshot() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(persistedSnapshot.getChecksums().getChecksums());
+      final var reference = snapshotChunkReader.next();
+
+      // then
+      assertThatCode(() -> receivedSnapshot.apply(reference).join())
+          .hasCauseInstanceOf(FileNotReusableException.class)
+          .hasMessageContaining("there is no snapshot yet");
+    }
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -361,17 +511,22 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> fileContents) {
     final var transientSnapshot =
         senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0, false).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot.take(path -> writeSnapshot(path, fileContents)).join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -332,6 +333,40 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldReferToFilesWhichCanBeReused() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(Map.of("file1", 1L, "file2", 2L, "file3", 3L));
+
+    // when - the receiver has file1 with the same checksum, but file2 with a different one
+    snapshotChunkReader.setReusableFiles(Map.of("file1", 1L, "file2", 5L));
+    final var snapshotChunks = getAllChunks(snapshotChunkReader);
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::isFileReference)
+        .containsExactly(tuple("file1", true), tuple("file2", false), tuple("file3", false));
+    assertThat(snapshotChunks.getFirst().getContent()).isEmpty();
+    assertThat(snapshotChunks.getFirst().getChecksum()).isEqualTo(1L);
+    assertThat(snapshotChunks.getFirst().getTotalFileSize()).isEqualTo("this".length());
+    assertThat(snapshotChunks.getFirst().getTotalCount()).isEqualTo(SNAPSHOT_CHUNK.size());
+  }
+
+  @Test
+  public void shouldNotReferToFileWhichIsPartiallySent() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(Map.of("file1", 1L, "file2", 2L, "file3", 3L), 3);
+    snapshotChunkReader.setReusableFiles(Map.of("file1", 1L));
+
+    // when
+    snapshotChunkReader.seek(asByteBuffer("file1__3"));
+    final var snapshotChunk = snapshotChunkReader.next();
+
+    // then
+    assertThat(snapshotChunk.isFileReference()).isFalse();
+    assertThat(snapshotChunk.getContent()).asString().isEqualTo("s");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -347,6 +382,16 @@ public final class FileBasedSnapshotChunkReaderTest {
   }
 
   private FileBasedSnapshotChunkReader newReader(final long chunkSize) throws IOException {
+    return newReader(Map.of(), chunkSize);
+  }
+
+  private FileBasedSnapshotChunkReader newReader(final Map<String, Long> fileChecksums)
+      throws IOException {
+    return newReader(fileChecksums, Long.MAX_VALUE);
+  }
+
+  private FileBasedSnapshotChunkReader newReader(
+      final Map<String, Long> fileChecksums, final long chunkSize) throws IOException {
     snapshotDirectory = temporaryFolder.getRoot().toPath();
 
     for (final var chunk : SNAPSHOT_CHUNK.keySet()) {
@@ -355,7 +400,7 @@ public final class FileBasedSnapshotChunkReaderTest {
       Files.writeString(path, SNAPSHOT_CHUNK.get(chunk));
     }
 
-    return new FileBasedSnapshotChunkReader(snapshotDirectory, chunkSize);
+    return new FileBasedSnapshotChunkReader(snapshotDirectory, fileChecksums, chunkSize);
   }
 
   private FileBasedSnapshotChunkReader newReader() throws IOException {
@@ -16,6 +16,9 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
  */
 public interface RecordProcessor {
 
+  /** The replay shard of events which must be replayed in the order of the log. */
+  long UNSHARDED = -1L;
+
   /**
    * Called by platform to initialize the processor
    *
@@ -56,6 +59,23 @@ public interface RecordProcessor {
    */
   void replay(TypedRecord record);
 
+  /**
+   * Called by platform to determine the shard of an event for a parallel replay. The events of
+   * different shards are replayed concurrently, each shard by a separate instance of the processor
+   * and in a separate transaction, while the events of one shard are replayed in order. The shard
+   * must therefore cover all the state which replaying the event reads or writes.
+   *
+   * <p>An event for which {@link #UNSHARDED} is returned is replayed after all events before it
+   * and before all events after it, as in a sequential replay. This is the default, so that a
+   * processor which doesn't support a parallel replay is replayed in order.
+   *
+   * @param record the event to replay
+   * @return a non-negative shard key, or {@link #UNSHARDED}
+   */
+  default long getReplayShard(final TypedRecord record) {
+    return UNSHARDED;
+  }
+
   /**
    * Called by platform to process a single record.
    *
@@ -0,0 +1,357 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import io.camunda.zeebe.stream.impl.records.RecordValues;
+import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
+import org.slf4j.Logger;
+
+/**
+ * Replays the events of a window of batches on several threads. The events are distributed over the
+ * workers by their replay shard, see {@link RecordProcessor#getReplayShard}, so that all events of
+ * a shard are replayed by the same worker in the order of the log. Each worker replays its events
+ * with its own record processors in its own transaction, and the transactions of all workers are
+ * committed together with the transaction of the stream processor, so that a window is either
+ * replayed completely or not at all.
+ *
+ * <p>An unsharded event is a barrier: its batch is replayed alone by the first worker, after all
+ * events before it are committed, and before any event after it is replayed.
+ *
+ * <p>The window is collected and committed on the actor of the stream processor, only the replay of
+ * the events runs on the threads of the workers.
+ */
+final class ParallelReplay implements AutoCloseable {
+
+  /** The maximum number of events of a window, to limit the memory of the copied events. */
+  static final int MAX_WINDOW_EVENTS = 10_000;
+
+  private static final Logger LOG = Loggers.PROCESSOR_LOGGER;
+  private static final long SHARD_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private final ZeebeDb zeebeDb;
+  private final ReplayWorker[] workers;
+  private final ExecutorService executor;
+
+  private int windowEvents;
+  private boolean isBarrier;
+  private boolean isClosed;
+
+  ParallelReplay(
+      final ZeebeDb zeebeDb,
+      final StreamProcessorContext context,
+      final List<RecordProcessor> recordProcessors) {
+    this.zeebeDb = zeebeDb;
+
+    final int partitionId = context.getPartitionId();
+    workers = new ReplayWorker[context.getReplayThreads()];
+    for (int i = 0; i < workers.length; i++) {
+      final var transactionContext = zeebeDb.createContext();
+      final var processorContext =
+          new RecordProcessorContextImpl(
+              partitionId,
+              context.getScheduleService(),
+              zeebeDb,
+              transactionContext,
+              context.getPartitionCommandSender(),
+              context.getKeyGeneratorControls(),
+              context.getClock(),
+              context.getMeterRegistry());
+      final var workerProcessors = context.getReplayProcessorsFactory().get();
+      workerProcessors.forEach(processor -> processor.init(processorContext));
+      workers[i] =
+          new ReplayWorker(
+              partitionId,
+              transactionContext,
+              workerProcessors,
+              recordProcessors,
+              processorContext.getLifecycleListeners());
+    }
+
+    executor =
+        Executors.newFixedThreadPool(
+            workers.length,
+            Thread.ofPlatform().name("zb-replay-" + partitionId + "-", 0).daemon().factory());
+  }
+
+  /**
+   * @return true if the workers can replay events of the given type, otherwise events of this type
+   *     must be treated as unsharded
+   */
+  boolean canReplay(final ValueType valueType) {
+    return workers[0].accepts(valueType);
+  }
+
+  /**
+   * Adds the event to the window. The event is copied, so the given event can be reused afterward.
+   *
+   * @param shard the replay shard of the event, or {@link RecordProcessor#UNSHARDED} if the event
+   *     is part of a barrier
+   */
+  void add(final LoggedEvent event, final long shard) {
+    if (shard == RecordProcessor.UNSHARDED) {
+      isBarrier = true;
+      workers[0].add(event);
+    } else {
+      workers[workerOf(shard)].add(event);
+    }
+    windowEvents++;
+  }
+
+  boolean isEmpty() {
+    return windowEvents == 0;
+  }
+
+  /**
+   * @return true if no more events should be added to the window
+   */
+  boolean isFull() {
+    return isBarrier || windowEvents >= MAX_WINDOW_EVENTS;
+  }
+
+  /**
+   * Replays the events of the window. A barrier is replayed on the calling thread, since it
+   * contains events which the workers may not accept.
+   *
+   * @return a future which is completed when all workers have replayed their events
+   */
+  ActorFuture<Void> replay() {
+    if (isBarrier) {
+      try {
+        replayBarrier();
+        return CompletableActorFuture.completed(null);
+      } catch (final Exception e) {
+        return CompletableActorFuture.completedExceptionally(e);
+      }
+    }
+
+    final var activeWorkers = activeWorkers();
+    if (activeWorkers.isEmpty()) {
+      // e.g. if the window contains only commands
+      return CompletableActorFuture.completed();
+    }
+
+    final var future = new CompletableActorFuture<Void>();
+    final var pendingWorkers = new AtomicInteger(activeWorkers.size());
+    final var failure = new AtomicReference<Exception>();
+    for (final var worker : activeWorkers) {
+      executor.execute(
+          () -> {
+            try {
+              worker.replay();
+            } catch (final Exception e) {
+              failure.compareAndSet(null, e);
+            }
+
+            if (pendingWorkers.decrementAndGet() == 0) {
+              if (failure.get() != null) {
+                future.completeExceptionally(failure.get());
+              } else {
+                future.complete(null);
+              }
+            }
+          });
+    }
+    return future;
+  }
+
+  /**
+   * Replays the events of the window as a barrier on the calling thread, i.e. by the first worker,
+   * regardless of their replay shards.
+   */
+  void replayBarrier() throws Exception {
+    workers[0].replay();
+  }
+
+  /**
+   * Commits the replayed window together with the given transaction of the stream processor, and
+   * clears the window.
+   */
+  void commit(final TransactionContext transactionContext) throws Exception {
+    final var contexts = new ArrayList<TransactionContext>(workers.length + 1);
+    contexts.add(transactionContext);
+    activeWorkers().forEach(worker -> contexts.add(worker.transactionContext));
+
+    zeebeDb.commitAtomically(contexts);
+    clear();
+  }
+
+  /** Rolls back the transactions of the workers and clears the window. */
+  void rollback() {
+    for (final var worker : activeWorkers()) {
+      try {
+        worker.transactionContext.getCurrentTransaction().rollback();
+      } catch (final Exception e) {
+        LOG.warn("Failed to roll back the transaction of a replay worker", e);
+      }
+    }
+    clear();
+  }
+
+  @Override
+  public void close() {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+
+    // the workers must not access the database anymore after it's closed
+    executor.shutdownNow();
+    try {
+      if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+        LOG.warn("Expected the replay workers to terminate, but they are still running");
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    // releases the state of the record processors of the workers, as if their stream processor was
+    // closed, and the workers themselves, which are not needed after the replay
+    for (int i = 0; i < workers.length; i++) {
+      workers[i].close();
+      workers[i] = null;
+    }
+  }
+
+  private List<ReplayWorker> activeWorkers() {
+    final var activeWorkers = new ArrayList<ReplayWorker>(workers.length);
+    for (final var worker : workers) {
+      if (!worker.isEmpty()) {
+        activeWorkers.add(worker);
+      }
+    }
+    return activeWorkers;
+  }
+
+  private int workerOf(final long shard) {
+    // the keys of a partition are sequential, and may be taken at a regular stride, so the shard is
+    // mixed to not map all of them to the same worker
+    final long hash = shard * SHARD_MULTIPLIER;
+    return (int) Math.floorMod(hash ^ (hash >>> 32), (long) workers.length);
+  }
+
+  private void clear() {
+    for (final var worker : workers) {
+      worker.clear();
+    }
+    windowEvents = 0;
+    isBarrier = false;
+  }
+
+  /** Replays the events of its shards, which are copied into a buffer in the order of the log. */
+  private static final class ReplayWorker {
+
+    private final TransactionContext transactionContext;
+    private final List<RecordProcessor> recordProcessors;
+    private final List<RecordProcessor> fallbackProcessors;
+    private final List<StreamProcessorLifecycleAware> lifecycleListeners;
+
+    private final ExpandableArrayBuffer events = new ExpandableArrayBuffer();
+    private final IntArrayList eventOffsets = new IntArrayList();
+    private int eventsLength;
+
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final RecordValues recordValues = new RecordValues();
+    private final TypedRecordImpl typedEvent;
+
+    private ReplayWorker(
+        final int partitionId,
+        final TransactionContext transactionContext,
+        final List<RecordProcessor> recordProcessors,
+        final List<RecordProcessor> fallbackProcessors,
+        final List<StreamProcessorLifecycleAware> lifecycleListeners) {
+      this.transactionContext = transactionContext;
+      this.recordProcessors = recordProcessors;
+      this.fallbackProcessors = fallbackProcessors;
+      this.lifecycleListeners = lifecycleListeners;
+      typedEvent = new TypedRecordImpl(partitionId);
+    }
+
+    private boolean accepts(final ValueType valueType) {
+      return recordProcessors.stream().anyMatch(p -> p.accepts(valueType));
+    }
+
+    private void add(final LoggedEvent loggedEvent) {
+      eventOffsets.addInt(eventsLength);
+      loggedEvent.write(events, eventsLength);
+      eventsLength += loggedEvent.getLength();
+    }
+
+    private boolean isEmpty() {
+      return eventOffsets.isEmpty();
+    }
+
+    private void clear() {
+      eventOffsets.clear();
+      eventsLength = 0;
+    }
+
+    private void close() {
+      for (final var listener : lifecycleListeners) {
+        try {
+          listener.onClose();
+        } catch (final Exception e) {
+          LOG.warn("Failed to close a record processor of a replay worker", e);
+        }
+      }
+    }
+
+    private void replay() throws Exception {
+      transactionContext
+          .getCurrentTransaction()
+          .run(
+              () -> {
+                for (int i = 0; i < eventOffsets.size(); i++) {
+                  event.wrap(events, eventOffsets.getInt(i));
+                  replayEvent();
+                }
+              });
+    }
+
+    private void replayEvent() {
+      metadata.reset();
+      event.readMetadata(metadata);
+      final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
+      typedEvent.wrap(event, metadata, value);
+
+      // unsharded events of a barrier may be of a type which only the stream processor accepts
+      final var processor =
+          recordProcessors.stream()
+              .filter(p -> p.accepts(typedEvent.getValueType()))
+              .findFirst()
+              .or(
+                  () ->
+                      fallbackProcessors.stream()
+                          .filter(p -> p.accepts(typedEvent.getValueType()))
+                          .findFirst())
+              .orElseThrow(() -> NoSuchProcessorException.forRecord(typedEvent));
+      processor.replay(typedEvent);
+    }
+  }
+}
@@ -26,6 +26,7 @@ import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.retry.AbortableRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.OperationToRetry;
 import io.camunda.zeebe.scheduler.retry.RecoverableRetryStrategy;
 import io.camunda.zeebe.scheduler.retry.RetryStrategy;
 import io.camunda.zeebe.stream.api.EmptyProcessingResult;
@@ -54,6 +55,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import org.slf4j.Logger;
 
@@ -92,6 +94,14 @@ import org.slf4j.Logger;
  *                                    +--------------+
  *
  * </pre>
+ *
+ * <p>By default, every step is run as its own actor job, and the next record is read in a new job
+ * once the previous one was completely processed. In pipelined mode, each step is tried right away
+ * within the current job, and only retried asynchronously if that first attempt fails; the next
+ * record is then read within the same job as well, up to {@link #MAX_PIPELINED_RECORDS} records,
+ * before the actor gets the chance to run other jobs. The steps and their order stay the same, so
+ * the next command is still only processed after the previous one was written, committed and its
+ * responses were sent.
  */
 public final class ProcessingStateMachine {
 
@@ -118,6 +128,10 @@ public final class ProcessingStateMachine {
   private static final String NOTIFY_SKIPPED_LISTENER_ERROR_MESSAGE =
       "Expected to invoke skipped listener for record '{} {}' successfully, but exception was thrown.";
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
+
+  /** The maximum number of records read within a single actor job in pipelined mode. */
+  private static final int MAX_PIPELINED_RECORDS = 32;
+
   private static final String ERROR_MESSAGE_HANDLING_PROCESSING_ERROR_FAILED =
       "Expected to process command '{} {}' successfully on stream processor, but caught unexpected exception. Failed to handle the exception gracefully.";
   private final EventFilter processingFilter;
@@ -164,6 +178,12 @@ public final class ProcessingStateMachine {
   private final ScheduledCommandCache scheduledCommandCache;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
   private final ControllableStreamClock clock;
+  private final boolean pipelinedProcessing;
+
+  /** Whether the next record can be read within the current job, see {@link #readNextRecord()}. */
+  private boolean isReadingRecords;
+
+  private boolean shouldReadNextRecord;
 
   public ProcessingStateMachine(
       final StreamProcessorContext context,
@@ -198,12 +218,13 @@ public final class ProcessingStateMachine {
             .and(record -> !record.shouldSkipProcessing())
             .and(context.processingFilter());
     clock = context.getClock();
+    pipelinedProcessing = context.isPipelinedProcessingEnabled();
   }
 
   private void skipRecord() {
     notifySkippedListener(currentRecord);
     markProcessingCompleted();
-    actor.submit(this::tryToReadNextRecord);
+    readNextRecord();
     processingMetrics.eventSkipped();
   }
 
@@ -216,6 +237,44 @@ public final class ProcessingStateMachine {
   }
 
   void tryToReadNextRecord() {
+    if (!pipelinedProcessing) {
+      tryToReadRecord();
+      return;
+    }
+
+    isReadingRecords = true;
+    try {
+      int readRecords = 0;
+      do {
+        shouldReadNextRecord = false;
+        tryToReadRecord();
+        readRecords++;
+      } while (shouldReadNextRecord && readRecords < MAX_PIPELINED_RECORDS);
+    } finally {
+      isReadingRecords = false;
+    }
+
+    if (shouldReadNextRecord) {
+      // give other jobs of the actor a chance to run
+      shouldReadNextRecord = false;
+      actor.submit(this::tryToReadNextRecord);
+    }
+  }
+
+  /**
+   * Continues with the next record once the current one is completed. In pipelined mode, the next
+   * record is read by the loop in {@link #tryToReadNextRecord()} if the current record was
+   * completed within it, i.e. without waiting for any asynchronous step.
+   */
+  private void readNextRecord() {
+    if (isReadingRecords) {
+      shouldReadNextRecord = true;
+    } else {
+      actor.submit(this::tryToReadNextRecord);
+    }
+  }
+
+  private void tryToReadRecord() {
     final var hasNext = logStreamReader.hasNext();
 
     if (currentRecord != null) {
@@ -610,7 +669,8 @@ public final class ProcessingStateMachine {
       writeFuture = CompletableActorFuture.completed(true);
     } else {
       writeFuture =
-          writeRetryStrategy.runWithRetry(
+          runWithRetry(
+              writeRetryStrategy,
               () -> {
                 final var writeResult =
                     logStreamWriter.tryWrite(
@@ -621,15 +681,14 @@ public final class ProcessingStateMachine {
                 } else {
                   return false;
                 }
-              },
-              abortCondition);
+              });
     }
     return writeFuture;
   }
 
   private void writeRecords() {
     final ActorFuture<Boolean> writeFuture = writeWithRetryAsync();
-    actor.runOnCompletion(
+    runOnCompletion(
         writeFuture,
         (bool, t) -> {
           if (t != null) {
@@ -653,17 +712,17 @@ public final class ProcessingStateMachine {
 
   private void updateState() {
     final ActorFuture<Boolean> retryFuture =
-        updateStateRetryStrategy.runWithRetry(
+        runWithRetry(
+            updateStateRetryStrategy,
             () -> {
               zeebeDbTransaction.commit();
               lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
               processingMetrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
               return true;
-            },
-            abortCondition);
+            });
 
-    actor.runOnCompletion(
+    runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
           if (throwable != null) {
@@ -681,7 +740,8 @@ public final class ProcessingStateMachine {
 
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
-        sideEffectsRetryStrategy.runWithRetry(
+        runWithRetry(
+            sideEffectsRetryStrategy,
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
@@ -703,10 +763,9 @@ public final class ProcessingStateMachine {
                         processingResponse.requestStreamId(), processingResponse.requestId());
               }
               return executePostCommitTasks();
-            },
-            abortCondition);
+            });
 
-    actor.runOnCompletion(
+    runOnCompletion(
         retryFuture,
         (bool, throwable) -> {
           if (throwable != null) {
@@ -721,10 +780,48 @@ public final class ProcessingStateMachine {
 
           // continue with next record
           markProcessingCompleted();
-          actor.submit(this::tryToReadNextRecord);
+          readNextRecord();
         });
   }
 
+  /**
+   * Runs the operation with the given retry strategy. In pipelined mode, the operation is tried
+   * right away first, and only handed over to the retry strategy if that attempt fails.
+   */
+  private ActorFuture<Boolean> runWithRetry(
+      final RetryStrategy retryStrategy, final OperationToRetry operation) {
+    if (pipelinedProcessing) {
+      try {
+        if (operation.run()) {
+          return CompletableActorFuture.completed(true);
+        }
+      } catch (final RecoverableException e) {
+        LOG.debug("Failed to run operation right away, will retry", e);
+      } catch (final Exception e) {
+        return CompletableActorFuture.completedExceptionally(e);
+      }
+    }
+
+    return retryStrategy.runWithRetry(operation, abortCondition);
+  }
+
+  /**
+   * Invokes the callback once the future is completed. In pipelined mode, a completed future is
+   * handled right away instead of in a new actor job.
+   */
+  private <T> void runOnCompletion(
+      final ActorFuture<T> future, final BiConsumer<T, Throwable> callback) {
+    if (pipelinedProcessing && future.isDone()) {
+      if (future.isCompletedExceptionally()) {
+        callback.accept(null, future.getException());
+      } else {
+        callback.accept(future.join(), null);
+      }
+    } else {
+      actor.runOnCompletion(future, callback);
+    }
+  }
+
   private boolean executePostCommitTasks() {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
       return currentProcessingResult.executePostCommitTasks();
@@ -36,6 +36,7 @@ import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import java.util.List;
 import java.util.function.BooleanSupplier;
+import org.agrona.collections.LongArrayList;
 import org.slf4j.Logger;
 
 /** Represents the state machine to replay events and rebuild the state. */
@@ -49,6 +50,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private static final String ERROR_MSG_EXPECTED_TO_READ_METADATA =
       "Expected to read the metadata for the record '%s', but an exception was thrown.";
 
+  private static final long NOT_REPLAYED = Long.MIN_VALUE;
+
   private static final MetadataFilter REPLAY_FILTER =
       recordMetadata -> recordMetadata.getRecordType() == RecordType.EVENT;
 
@@ -87,10 +90,27 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final List<RecordProcessor> recordProcessors;
   private final int partitionId;
 
+  // only set if the events are replayed in parallel
+  private final ParallelReplay parallelReplay;
+  private final LongArrayList batchShards = new LongArrayList();
+  private Batch pendingBatch;
+  private long windowReplayedEventPosition = StreamProcessor.UNSET_POSITION;
+  // the events up to this position are replayed sequentially, after their window failed
+  private long sequentialReplayEndPosition = StreamProcessor.UNSET_POSITION;
+
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
       final StreamProcessorContext context,
       final BooleanSupplier shouldReplayNext) {
+    this(recordProcessors, context, shouldReplayNext, null);
+  }
+
+  ReplayStateMachine(
+      final List<RecordProcessor> recordProcessors,
+      final StreamProcessorContext context,
+      final BooleanSupplier shouldReplayNext,
+      final ParallelReplay parallelReplay) {
+    this.parallelReplay = parallelReplay;
     partitionId = context.getPartitionId();
     this.recordProcessors = recordProcessors;
     shouldPause = () -> !shouldReplayNext.getAsBoolean();
@@ -155,30 +175,16 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
 
     try {
-      if (logStreamBatchReader.hasNext()) {
+      if (pendingBatch != null || logStreamBatchReader.hasNext()) {
         currentState = State.REPLAY_EVENT;
 
-        final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
-        final var batch = logStreamBatchReader.next();
-        replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
-            .onComplete(
-                (success, failure) -> {
-                  if (failure != null) {
-                    throw new RuntimeException(
-                        "Failed to replay batch at '%s %s'"
-                            .formatted(batch.current(), typedEvent.getMetadata()),
-                        failure);
-                  } else {
-                    // observe the replay duration
-                    replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
-                    lastSourceEventPosition =
-                        Math.max(lastSourceEventPosition, batchSourceEventPosition);
-                    replayMetrics.setLastSourcePosition(lastSourceEventPosition);
-                    actor.submit(this::replayNextEvent);
-                  }
-                });
+        if (parallelReplay == null) {
+          replayNextBatch();
+        } else if (lastReadRecordPosition < sequentialReplayEndPosition) {
+          replayNextBatchWithWorker();
+        } else {
+          replayNextWindow();
+        }
 
       } else if (streamProcessorMode == StreamProcessorMode.PROCESSING) {
         onRecordsReplayed();
@@ -196,6 +202,240 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
+  private void replayNextBatch() {
+    final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
+    final var batch = logStreamBatchReader.next();
+    replayStrategy
+        .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+        .onComplete(
+            (success, failure) -> {
+              if (failure != null) {
+                throw new RuntimeException(
+                    "Failed to replay batch at '%s %s'"
+                        .formatted(batch.current(), typedEvent.getMetadata()),
+                    failure);
+              } else {
+                // observe the replay duration
+                replayDurationTimer.close();
+                // the position should be visible only after the batch is replayed successfully
+                lastSourceEventPosition =
+                    Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+                actor.submit(this::replayNextEvent);
+              }
+            });
+  }
+
+  /**
+   * Collects the next window of batches and replays it with the workers of the parallel replay. The
+   * position of the replayed events, and the key generator are updated in the transaction of the
+   * stream processor, which is committed together with the transactions of the workers.
+   *
+   * <p>If the window fails, it's rolled back and its batches are replayed again one after the
+   * other, see {@link #replayNextBatchWithWorker()}; the windows after it are replayed in parallel
+   * again.
+   */
+  private void replayNextWindow() {
+    final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
+    final long windowStartPosition = lastReadRecordPosition;
+    final long windowStartSourceEventPosition = batchSourceEventPosition;
+    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    try {
+      zeebeDbTransaction.run(this::collectWindow);
+    } catch (final Exception e) {
+      rollbackWindow();
+      throw new RuntimeException("Failed to collect the events to replay", e);
+    }
+
+    actor.runOnCompletion(
+        parallelReplay.replay(),
+        (ignore, replayFailure) -> {
+          Throwable failure = replayFailure;
+          if (failure == null) {
+            try {
+              parallelReplay.commit(transactionContext);
+            } catch (final Exception e) {
+              failure = e;
+            }
+          }
+
+          if (failure != null) {
+            LOG.warn(
+                "Failed to replay events up to position '{}' in parallel, retrying sequentially",
+                lastReadRecordPosition,
+                failure);
+            rollbackWindow();
+            replayWindowSequentially(windowStartPosition, windowStartSourceEventPosition);
+            actor.submit(this::replayNextEvent);
+            return;
+          }
+
+          zeebeDbTransaction = null;
+          replayDurationTimer.close();
+          lastReplayedEventPosition =
+              Math.max(lastReplayedEventPosition, windowReplayedEventPosition);
+          lastSourceEventPosition = Math.max(lastSourceEventPosition, batchSourceEventPosition);
+          replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+          actor.submit(this::replayNextEvent);
+        });
+  }
+
+  /**
+   * Rewinds the reader to the start of the rolled back window, such that its batches are replayed
+   * one after the other, up to the last position which the window read.
+   */
+  private void replayWindowSequentially(
+      final long windowStartPosition, final long windowStartSourceEventPosition) {
+    sequentialReplayEndPosition = lastReadRecordPosition;
+    rewind(windowStartPosition, windowStartSourceEventPosition);
+  }
+
+  private void rewind(final long position, final long sourceEventPosition) {
+    lastReadRecordPosition = position;
+    batchSourceEventPosition = sourceEventPosition;
+    pendingBatch = null;
+    logStreamBatchReader.seekToNextBatch(position > 0 ? position : snapshotPosition);
+  }
+
+  /**
+   * Replays the next batch of a failed window on its own, with the same retries as a batch which is
+   * not replayed in parallel. The batch is replayed as a barrier, by the record processors of the
+   * first worker, since the state which the record processors of the stream processor keep in
+   * memory is not updated by the windows which the workers replay, and must not be built while
+   * replaying either.
+   */
+  private void replayNextBatchWithWorker() {
+    final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
+    final long batchStartPosition = lastReadRecordPosition;
+    final long batchStartSourceEventPosition = batchSourceEventPosition;
+    replayStrategy
+        .runWithRetry(
+            () -> tryToReplayBatchWithWorker(batchStartPosition, batchStartSourceEventPosition),
+            abortCondition)
+        .onComplete(
+            (success, failure) -> {
+              if (failure != null) {
+                throw new RuntimeException(
+                    "Failed to replay batch after position '%d'".formatted(batchStartPosition),
+                    failure);
+              } else {
+                replayDurationTimer.close();
+                lastReplayedEventPosition =
+                    Math.max(lastReplayedEventPosition, windowReplayedEventPosition);
+                lastSourceEventPosition =
+                    Math.max(lastSourceEventPosition, batchSourceEventPosition);
+                replayMetrics.setLastSourcePosition(lastSourceEventPosition);
+                actor.submit(this::replayNextEvent);
+              }
+            });
+  }
+
+  private boolean tryToReplayBatchWithWorker(
+      final long batchStartPosition, final long batchStartSourceEventPosition) throws Exception {
+    final boolean onRetry = zeebeDbTransaction != null;
+    if (onRetry) {
+      rollbackWindow();
+      // reading the whole batch from the beginning again
+      rewind(batchStartPosition, batchStartSourceEventPosition);
+    }
+
+    zeebeDbTransaction = transactionContext.getCurrentTransaction();
+    zeebeDbTransaction.run(
+        () -> {
+          final var batch = logStreamBatchReader.next();
+          readReplayShards(batch);
+          addBatch(batch, true);
+        });
+
+    if (!parallelReplay.isEmpty()) {
+      parallelReplay.replayBarrier();
+    }
+    parallelReplay.commit(transactionContext);
+    zeebeDbTransaction = null;
+
+    return true;
+  }
+
+  private void collectWindow() {
+    while (!parallelReplay.isFull()) {
+      final Batch batch;
+      if (pendingBatch != null) {
+        batch = pendingBatch;
+        pendingBatch = null;
+      } else if (logStreamBatchReader.hasNext()) {
+        batch = logStreamBatchReader.next();
+      } else {
+        return;
+      }
+
+      final boolean isBarrier = readReplayShards(batch);
+      if (isBarrier && !parallelReplay.isEmpty()) {
+        // the barrier must see the state of all events before it
+        pendingBatch = batch;
+        return;
+      }
+
+      addBatch(batch, isBarrier);
+    }
+  }
+
+  /**
+   * Adds the events of the batch to the window, with the shards read by {@link #readReplayShards}.
+   */
+  private void addBatch(final Batch batch, final boolean isBarrier) {
+    batch.head();
+    for (int i = 0; batch.hasNext(); i++) {
+      final var currentEvent = batch.next();
+      final long shard = batchShards.getLong(i);
+      if (shard != NOT_REPLAYED) {
+        parallelReplay.add(currentEvent, isBarrier ? RecordProcessor.UNSHARDED : shard);
+        windowReplayedEventPosition = currentEvent.getPosition();
+      }
+      onRecordReplayed(currentEvent);
+    }
+
+    if (batchSourceEventPosition > snapshotPosition) {
+      lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
+    }
+  }
+
+  /**
+   * Reads the replay shards of the events of the batch into {@link #batchShards}.
+   *
+   * @return true if the batch contains an unsharded event, and must be replayed as a barrier
+   */
+  private boolean readReplayShards(final Batch batch) {
+    batchShards.clear();
+    boolean isBarrier = false;
+    while (batch.hasNext()) {
+      final var currentEvent = batch.next();
+      if (!shouldReplay(currentEvent)) {
+        batchShards.addLong(NOT_REPLAYED);
+        continue;
+      }
+
+      readMetadata(currentEvent);
+      final var currentTypedEvent = readRecordValue(currentEvent);
+      final long shard =
+          parallelReplay.canReplay(currentTypedEvent.getValueType())
+              ? findProcessor(currentTypedEvent).getReplayShard(currentTypedEvent)
+              : RecordProcessor.UNSHARDED;
+      batchShards.addLong(shard);
+      isBarrier |= shard < 0;
+    }
+    return isBarrier;
+  }
+
+  private void rollbackWindow() {
+    parallelReplay.rollback();
+    try {
+      zeebeDbTransaction.rollback();
+    } catch (final Exception e) {
+      LOG.warn("Failed to roll back the transaction of the replay", e);
+    }
+    zeebeDbTransaction = null;
+  }
+
   private boolean tryToReplayBatch(final Batch batch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
@@ -221,26 +461,31 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   }
 
   private void replayEvent(final LoggedEvent currentEvent) {
-    if (eventFilter.applies(currentEvent)
-        && (currentEvent.getSourceEventPosition() > snapshotPosition
-            || currentEvent.getSourceEventPosition()
-                < 0)) { // some events might not have a source pointer
+    if (shouldReplay(currentEvent)) {
       readMetadata(currentEvent);
       final var currentTypedEvent = readRecordValue(currentEvent);
 
-      final var processor =
-          recordProcessors.stream()
-              .filter(p -> p.accepts(currentTypedEvent.getValueType()))
-              .findFirst()
-              .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
-
-      processor.replay(currentTypedEvent);
+      findProcessor(currentTypedEvent).replay(currentTypedEvent);
       lastReplayedEventPosition = currentTypedEvent.getPosition();
     }
 
     onRecordReplayed(currentEvent);
   }
 
+  private boolean shouldReplay(final LoggedEvent currentEvent) {
+    return eventFilter.applies(currentEvent)
+        && (currentEvent.getSourceEventPosition() > snapshotPosition
+            || currentEvent.getSourceEventPosition()
+                < 0); // some events might not have a source pointer
+  }
+
+  private RecordProcessor findProcessor(final TypedRecord<?> currentTypedEvent) {
+    return recordProcessors.stream()
+        .filter(p -> p.accepts(currentTypedEvent.getValueType()))
+        .findFirst()
+        .orElseThrow(() -> NoSuchProcessorException.forRecord(currentTypedEvent));
+  }
+
   /**
    * Ends the replay and sets some important properties, especially completes the replay future with
    * the last processing positions.
@@ -258,6 +503,11 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     final var lastProcessingPositions =
         new LastProcessingPositions(lastProcessedPosition, lastWrittenPosition);
 
+    if (parallelReplay != null) {
+      // the workers are only needed for the replay, the processing continues on the actor
+      parallelReplay.close();
+    }
+
     LOG.info(LOG_STMT_REPLAY_FINISHED, lastProcessingPositions);
     recoveryFuture.complete(lastProcessingPositions);
   }
@@ -324,6 +574,9 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
   public void close() {
     logStream.removeRecordAvailableListener(this);
+    if (parallelReplay != null) {
+      parallelReplay.close();
+    }
   }
 
   private enum State {
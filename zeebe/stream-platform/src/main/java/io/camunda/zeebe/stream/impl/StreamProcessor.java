@@ -193,8 +193,13 @@ public class StreamProcessor extends Actor implements HealthMonitorable, LogReco
 
       healthCheckTick();
 
+      final var parallelReplay =
+          streamProcessorContext.getReplayThreads() > 1
+              ? new ParallelReplay(zeebeDb, streamProcessorContext, recordProcessors)
+              : null;
       replayStateMachine =
-          new ReplayStateMachine(recordProcessors, streamProcessorContext, this::shouldProcessNext);
+          new ReplayStateMachine(
+              recordProcessors, streamProcessorContext, this::shouldProcessNext, parallelReplay);
 
       openFuture.complete(null);
       replayCompletedFuture = replayStateMachine.startRecover(snapshotPosition);
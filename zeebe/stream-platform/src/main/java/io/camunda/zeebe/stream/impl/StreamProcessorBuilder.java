@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public final class StreamProcessorBuilder {
 
@@ -147,6 +148,16 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getReplayThreads() < 1) {
+      throw new IllegalArgumentException(
+          "Replay threads must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getReplayThreads()));
+    }
+    if (streamProcessorContext.getReplayThreads() > 1) {
+      Objects.requireNonNull(
+          streamProcessorContext.getReplayProcessorsFactory(),
+          "No record processors for the parallel replay provided");
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -159,6 +170,27 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Enables the pipelined mode of the {@link ProcessingStateMachine}, which runs the steps of
+   * processing a command within the same actor job as long as they succeed right away.
+   */
+  public StreamProcessorBuilder setEnablePipelinedProcessing(final boolean enabled) {
+    streamProcessorContext.setEnablePipelinedProcessing(enabled);
+    return this;
+  }
+
+  /**
+   * Replays the events of independent shards concurrently on the given number of threads, see
+   * {@link RecordProcessor#getReplayShard}. Each thread replays its shards with its own instances
+   * of the record processors, created by the given factory. With a single thread, the events are
+   * replayed in order by the record processors of the stream processor.
+   */
+  public StreamProcessorBuilder parallelReplay(
+      final int replayThreads, final Supplier<List<RecordProcessor>> replayProcessorsFactory) {
+    streamProcessorContext.parallelReplay(replayThreads, replayProcessorsFactory);
+    return this;
+  }
+
   public StreamProcessorBuilder processingFilter(final EventFilter processingFilter) {
     streamProcessorContext.processingFilter(processingFilter);
     return this;
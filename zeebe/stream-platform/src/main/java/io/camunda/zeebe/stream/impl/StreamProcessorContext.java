@@ -16,6 +16,7 @@ import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.stream.api.EventFilter;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.StreamClock.ControllableStreamClock;
 import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
 import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
@@ -24,8 +25,10 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
@@ -53,10 +56,13 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
   private boolean enableAsyncScheduledTasks = true;
+  private boolean enablePipelinedProcessing = false;
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
   private MeterRegistry meterRegistry;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
+  private int replayThreads = 1;
+  private Supplier<List<RecordProcessor>> replayProcessorsFactory;
 
   public StreamProcessorContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -228,6 +234,15 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return this;
   }
 
+  public boolean isPipelinedProcessingEnabled() {
+    return enablePipelinedProcessing;
+  }
+
+  public StreamProcessorContext setEnablePipelinedProcessing(final boolean enabled) {
+    enablePipelinedProcessing = enabled;
+    return this;
+  }
+
   public EventFilter processingFilter() {
     return processingFilter;
   }
@@ -255,4 +270,19 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     this.scheduledTaskCheckInterval = scheduledTaskCheckInterval;
     return this;
   }
+
+  public int getReplayThreads() {
+    return replayThreads;
+  }
+
+  public Supplier<List<RecordProcessor>> getReplayProcessorsFactory() {
+    return replayProcessorsFactory;
+  }
+
+  public StreamProcessorContext parallelReplay(
+      final int replayThreads, final Supplier<List<RecordProcessor>> replayProcessorsFactory) {
+    this.replayThreads = replayThreads;
+    this.replayProcessorsFactory = replayProcessorsFactory;
+    return this;
+  }
 }
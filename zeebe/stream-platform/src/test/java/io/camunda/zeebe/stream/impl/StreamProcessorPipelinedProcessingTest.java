@@ -0,0 +1,191 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTIVATE_ELEMENT;
+import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.api.PostCommitTask;
+import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.util.RecordToWrite;
+import io.camunda.zeebe.stream.util.Records;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.verification.VerificationWithTimeout;
+
+@ExtendWith(StreamPlatformExtension.class)
+final class StreamProcessorPipelinedProcessingTest {
+
+  private static final long TIMEOUT_MILLIS = 2_000L;
+  private static final VerificationWithTimeout TIMEOUT = timeout(TIMEOUT_MILLIS);
+
+  @SuppressWarnings("unused") // injected by the extension
+  private StreamPlatform streamPlatform;
+
+  @Test
+  void shouldProcessCommandsInOrder() {
+    // given - more commands than are processed within a single actor job
+    final var commandCount = 100;
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    when(defaultRecordProcessor.process(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final TypedRecord<?> command = invocation.getArgument(0);
+              final ProcessingResultBuilder resultBuilder = invocation.getArgument(1);
+              processedPositions.add(command.getPosition());
+              resultBuilder.appendRecordReturnEither(
+                  command.getKey(),
+                  Records.processInstance(1),
+                  new RecordMetadata()
+                      .recordType(RecordType.EVENT)
+                      .intent(ELEMENT_ACTIVATING)
+                      .rejectionType(RejectionType.NULL_VAL)
+                      .rejectionReason(""));
+              return resultBuilder.build();
+            });
+    startPipelinedStreamProcessor();
+
+    // when
+    final var lastCommandPosition =
+        streamPlatform.writeBatch(
+            IntStream.range(0, commandCount)
+                .mapToObj(
+                    i ->
+                        RecordToWrite.command()
+                            .processInstance(ACTIVATE_ELEMENT, Records.processInstance(i)))
+                .toArray(RecordToWrite[]::new));
+
+    // then
+    verify(defaultRecordProcessor, timeout(TIMEOUT_MILLIS * 5).times(commandCount))
+        .process(any(), any());
+    await("Last processed position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(lastCommandPosition));
+    assertThat(processedPositions).isSorted().hasSize(commandCount);
+
+    await("should write a follow up event per command")
+        .untilAsserted(() -> assertThat(followUpEventSources()).hasSize(commandCount));
+    assertThat(followUpEventSources()).containsExactlyElementsOf(processedPositions);
+  }
+
+  @Test
+  void shouldExecutePostCommitTask() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var mockPostCommitTask = mock(PostCommitTask.class);
+    when(mockPostCommitTask.flush()).thenReturn(true);
+    final var resultBuilder = new BufferedProcessingResultBuilder((c, s) -> true);
+    resultBuilder.appendPostCommitTask(mockPostCommitTask);
+    when(defaultRecordProcessor.process(any(), any())).thenReturn(resultBuilder.build());
+    startPipelinedStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(mockPostCommitTask, TIMEOUT).flush();
+  }
+
+  @Test
+  void shouldRepeatPostCommitTaskUntilItSucceeds() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var mockPostCommitTask = mock(PostCommitTask.class);
+    when(mockPostCommitTask.flush()).thenReturn(false, false, false, true);
+    final var resultBuilder = new BufferedProcessingResultBuilder((c, s) -> true);
+    resultBuilder.appendPostCommitTask(mockPostCommitTask);
+    when(defaultRecordProcessor.process(any(), any())).thenReturn(resultBuilder.build());
+    startPipelinedStreamProcessor();
+
+    // when
+    final var position =
+        streamPlatform.writeBatch(
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(mockPostCommitTask, TIMEOUT.times(4)).flush();
+    await("Last processed position should be updated")
+        .untilAsserted(
+            () ->
+                assertThat(
+                        streamPlatform.getStreamProcessor().getLastProcessedPositionAsync().join())
+                    .isEqualTo(position));
+  }
+
+  @Test
+  void shouldWriteResponse() {
+    // given
+    final var defaultRecordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    final var resultBuilder = new BufferedProcessingResultBuilder((c, s) -> true);
+    resultBuilder.withResponse(
+        RecordType.EVENT,
+        3,
+        ELEMENT_ACTIVATING,
+        Records.processInstance(1),
+        ValueType.PROCESS_INSTANCE,
+        RejectionType.NULL_VAL,
+        "",
+        1,
+        12);
+    when(defaultRecordProcessor.process(any(), any())).thenReturn(resultBuilder.build());
+    startPipelinedStreamProcessor();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    final var commandResponseWriter = streamPlatform.getMockCommandResponseWriter();
+    verify(commandResponseWriter, TIMEOUT).key(3);
+    verify(commandResponseWriter, TIMEOUT).tryWriteResponse(anyInt(), anyLong());
+  }
+
+  private void startPipelinedStreamProcessor() {
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(), true, cfg -> cfg.setEnablePipelinedProcessing(true));
+  }
+
+  private List<Long> followUpEventSources() {
+    final var reader = streamPlatform.getLogStream().newLogStreamReader();
+    reader.seekToFirstEvent();
+
+    final var sources = new ArrayList<Long>();
+    final var metadata = new RecordMetadata();
+    while (reader.hasNext()) {
+      final var event = reader.next();
+      event.readMetadata(metadata);
+      if (metadata.getRecordType() == RecordType.EVENT) {
+        sources.add(event.getSourceEventPosition());
+      }
+    }
+    return sources;
+  }
+}
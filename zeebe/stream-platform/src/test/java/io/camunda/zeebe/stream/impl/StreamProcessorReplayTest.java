@@ -14,9 +14,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -25,11 +27,14 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.ErrorIntent;
 import io.camunda.zeebe.stream.api.ProcessingResultBuilder;
 import io.camunda.zeebe.stream.api.RecordProcessor;
+import io.camunda.zeebe.stream.api.RecordProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import java.util.List;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -390,4 +395,63 @@ final class StreamProcessorReplayTest {
     // then
     assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
   }
+
+  @Test
+  void shouldReplaySequentiallyIfParallelReplayFails() {
+    // given
+    final var eventKey = Protocol.encodePartitionId(1, 19);
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .key(eventKey)
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0));
+
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    when(recordProcessor.getReplayShard(any())).thenReturn(1L);
+    final RecordProcessor replayWorkerProcessor = mock(RecordProcessor.class);
+    when(replayWorkerProcessor.accepts(any())).thenReturn(true);
+    doThrow(new RuntimeException("expected")).doNothing().when(replayWorkerProcessor).replay(any());
+
+    // when
+    final var streamProcessor =
+        streamPlatform.buildStreamProcessor(
+            streamPlatform.getLogStream(),
+            true,
+            cfg -> cfg.parallelReplay(2, () -> List.of(replayWorkerProcessor)));
+
+    // then - the batch is replayed again by a worker, not by the processors of the stream processor
+    verify(replayWorkerProcessor, TIMEOUT.times(2)).replay(any());
+    assertThat(streamProcessor.getHealthReport().isHealthy()).isTrue();
+    Awaitility.await("position has to be set on processing start")
+        .untilAsserted(
+            () -> assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(1L));
+    assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey())).isEqualTo(19L);
+    verify(recordProcessor, never()).replay(any());
+  }
+
+  @Test
+  void shouldCloseRecordProcessorsOfReplayWorkersAfterReplay() {
+    // given
+    final RecordProcessor replayWorkerProcessor = mock(RecordProcessor.class);
+    final StreamProcessorLifecycleAware lifecycleListener =
+        mock(StreamProcessorLifecycleAware.class);
+    doAnswer(
+            invocation -> {
+              final RecordProcessorContext context = invocation.getArgument(0);
+              context.addLifecycleListeners(List.of(lifecycleListener));
+              return null;
+            })
+        .when(replayWorkerProcessor)
+        .init(any());
+
+    // when
+    streamPlatform.buildStreamProcessor(
+        streamPlatform.getLogStream(),
+        true,
+        cfg -> cfg.parallelReplay(2, () -> List.of(replayWorkerProcessor)));
+
+    // then - each worker closes its record processors
+    verify(lifecycleListener, TIMEOUT.times(2)).onClose();
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.test.util.jmh;
 import java.text.DecimalFormat;
 import org.assertj.core.api.AbstractAssert;
 import org.assertj.core.error.BasicErrorMessageFactory;
+import org.openjdk.jmh.results.Result;
 import org.openjdk.jmh.results.RunResult;
 
 /** Convenience class to assert results of a JMH test (via {@link RunResult}. */
@@ -43,7 +44,35 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
    */
   @SuppressWarnings("UnusedReturnValue")
   public JMHAssert isWithinDeviation(final double referenceScore, final double maxDeviation) {
-    final double score = actual.getPrimaryResult().getScore();
+    return isWithinDeviation(actual.getPrimaryResult(), referenceScore, maxDeviation);
+  }
+
+  /**
+   * Asserts that the secondary result with the given label, e.g. {@code gc.alloc.rate.norm} of the
+   * GC profiler, is within one deviation of the reference score.
+   *
+   * @param label the label of the secondary result
+   * @param referenceScore the expected reference score
+   * @param maxDeviation the maximum deviation, as a float from 0 to 1
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert isSecondaryWithinDeviation(
+      final String label, final double referenceScore, final double maxDeviation) {
+    final var result = actual.getSecondaryResults().get(label);
+    if (result == null) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected secondary result %s, but got only %s",
+              label, actual.getSecondaryResults().keySet()));
+    }
+
+    return isWithinDeviation(result, referenceScore, maxDeviation);
+  }
+
+  private JMHAssert isWithinDeviation(
+      final Result<?> result, final double referenceScore, final double maxDeviation) {
+    final double score = result.getScore();
     final double deviation = Math.abs(score / referenceScore - 1);
 
     if (deviation > maxDeviation) {
@@ -9,6 +9,7 @@ package io.camunda.zeebe.transport;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.time.Duration;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
@@ -98,4 +99,32 @@ public interface ClientTransport extends AutoCloseable {
    */
   ActorFuture<DirectBuffer> sendRequest(
       Supplier<String> nodeAddressSupplier, ClientRequest clientRequest, Duration timeout);
+
+  /**
+   * Sends several requests to a node as one request, without any retries. All requests must be sent
+   * to the same partition and be of the same request type, which must support batching (see {@link
+   * RequestType#getBatchType()}). The server transport unpacks the batch and hands each request to
+   * the request handler separately, as if it had been sent on its own, and sends the response to
+   * each request back on its own, as soon as it's ready.
+   *
+   * <p>Guarantees:
+   *
+   * <ul>
+   *   <li>Not garbage-free
+   *   <li>1 intermediary copy of the requests
+   *
+   * @param nodeAddressSupplier supplier for the node address the batch is sent to. The supplier may
+   *     resolve to <code>null</code> to signal that a node address can not be determined. In that
+   *     case, the requests will be completed with a ConnectException.
+   * @param clientRequests the requests which should be sent, must not be empty
+   * @param timeout The timeout until the returned futures fail if no response is received.
+   * @return a future per request, in the same order as the requests, carrying its response. The
+   *     futures complete exceptionally in failure cases such as timeout, or all of them if the node
+   *     has no handler for batches.
+   * @throws IllegalArgumentException if the requests can not be sent as one batch
+   */
+  List<ActorFuture<DirectBuffer>> sendRequestBatch(
+      Supplier<String> nodeAddressSupplier,
+      List<? extends ClientRequest> clientRequests,
+      Duration timeout);
 }
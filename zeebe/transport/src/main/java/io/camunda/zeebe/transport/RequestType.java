@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.transport;
 
+import java.util.Optional;
+
 /**
  * Defines the supported types of request that can be sent through the transport. A subscribed
  * request handler will only receive requests of the request types it subscribed to.
@@ -19,6 +21,9 @@ package io.camunda.zeebe.transport;
 public enum RequestType {
   // Supported request types
   COMMAND("command"),
+  // several commands to the same partition, sent as one request, see
+  // ClientTransport#sendRequestBatch
+  COMMAND_BATCH("command-batch"),
   QUERY("query"),
   ADMIN("admin"),
 
@@ -38,4 +43,20 @@ public enum RequestType {
   public String getId() {
     return id;
   }
+
+  /**
+   * @return the request type with which several requests of this type can be sent as one batch, if
+   *     the type can be batched at all
+   */
+  public Optional<RequestType> getBatchType() {
+    return this == COMMAND ? Optional.of(COMMAND_BATCH) : Optional.empty();
+  }
+
+  /**
+   * @return true if requests of this type carry a batch of other requests, which the server
+   *     transport unpacks before handing them to the subscribed request handler
+   */
+  public boolean isBatch() {
+    return this == COMMAND_BATCH;
+  }
 }
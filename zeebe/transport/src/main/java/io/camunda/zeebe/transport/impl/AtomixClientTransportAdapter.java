@@ -9,16 +9,26 @@ package io.camunda.zeebe.transport.impl;
 
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.utils.net.Address;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.ClientRequest;
 import io.camunda.zeebe.transport.ClientTransport;
+import io.camunda.zeebe.transport.RequestType;
 import java.net.ConnectException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +41,11 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
       "Failed to send request to %s, no remote address found.";
 
   private final MessagingService messagingService;
+  // responses to batched requests are sent to this topic, which is unique to this transport since
+  // several client transports may share the same messaging service
+  private final String batchResponseTopic = "batch-response-" + UUID.randomUUID();
+  private final AtomicLong batchIds = new AtomicLong();
+  private final Long2ObjectHashMap<PendingBatch> pendingBatches = new Long2ObjectHashMap<>();
 
   public AtomixClientTransportAdapter(final MessagingService messagingService) {
     this.messagingService = messagingService;
@@ -54,6 +69,141 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
     return sendRequestInternal(nodeAddressSupplier, r -> true, clientRequest, false, timeout);
   }
 
+  @Override
+  public List<ActorFuture<DirectBuffer>> sendRequestBatch(
+      final Supplier<String> nodeAddressSupplier,
+      final List<? extends ClientRequest> clientRequests,
+      final Duration timeout) {
+    if (clientRequests.isEmpty()) {
+      throw new IllegalArgumentException("Expected to send a batch of requests, but it is empty");
+    }
+
+    final var partitionId = clientRequests.getFirst().getPartitionId();
+    final var requestType = clientRequests.getFirst().getRequestType();
+    final var batchType =
+        requestType
+            .getBatchType()
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        ("Expected to send a batch of requests, but requests of type %s can't be"
+                                + " batched")
+                            .formatted(requestType)));
+    for (final var clientRequest : clientRequests) {
+      if (clientRequest.getPartitionId() != partitionId
+          || clientRequest.getRequestType() != requestType) {
+        throw new IllegalArgumentException(
+            ("Expected to send a batch of %s requests to partition %d, but got a %s request to"
+                    + " partition %d")
+                .formatted(
+                    requestType,
+                    partitionId,
+                    clientRequest.getRequestType(),
+                    clientRequest.getPartitionId()));
+      }
+    }
+
+    // copy once, all requests into the same message
+    final long batchId = batchIds.incrementAndGet();
+    final var requestBytes =
+        RequestBatch.encodeRequests(batchResponseTopic, batchId, clientRequests);
+    final var batch = new PendingBatch(clientRequests.size());
+    actor.call(
+        () -> {
+          pendingBatches.put(batchId, batch);
+          batch.timer =
+              actor.schedule(
+                  timeout,
+                  () ->
+                      failBatch(
+                          batchId, new TimeoutException("Request timed out after " + timeout)));
+
+          // the batch is answered once its requests are handed to the request handler, and the
+          // response to each request is received on the response topic
+          final var acknowledgement = new CompletableActorFuture<DirectBuffer>();
+          startRequest(
+              new RequestContext(
+                  acknowledgement,
+                  nodeAddressSupplier,
+                  partitionId,
+                  batchType,
+                  requestBytes,
+                  r -> true,
+                  false,
+                  timeout));
+          acknowledgement.onComplete(
+              (ignored, error) -> {
+                if (error != null) {
+                  failBatch(batchId, error);
+                }
+              });
+        });
+
+    return List.copyOf(batch.responseFutures);
+  }
+
+  @Override
+  protected void onActorStarted() {
+    final BiConsumer<Address, byte[]> responseHandler =
+        (sender, response) -> handleBatchedResponse(response);
+    messagingService.registerHandler(batchResponseTopic, responseHandler, actor::run);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    messagingService.unregisterHandler(batchResponseTopic);
+    for (final long batchId : pendingBatches.keySet().toArray(Long[]::new)) {
+      failBatch(batchId, new IllegalStateException("Client transport is closing"));
+    }
+  }
+
+  private void handleBatchedResponse(final byte[] responseBytes) {
+    final RequestBatch.Response response;
+    try {
+      response = RequestBatch.decodeResponse(responseBytes);
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to decode the response of a batched request", e);
+      return;
+    }
+
+    final var batch = pendingBatches.get(response.batchId());
+    if (batch == null || response.index() < 0 || response.index() >= batch.size()) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("Handle response, but batch {} is already done", response.batchId());
+      }
+      return;
+    }
+
+    if (response.failed()) {
+      final var payload = response.payload();
+      batch.completeExceptionally(
+          response.index(),
+          new MessagingException.RemoteHandlerFailure(
+              payload.getStringWithoutLengthUtf8(0, payload.capacity())));
+    } else {
+      batch.complete(response.index(), response.payload());
+    }
+
+    if (batch.isDone()) {
+      pendingBatches.remove(response.batchId());
+      batch.timer.cancel();
+    }
+  }
+
+  private void failBatch(final long batchId, final Throwable error) {
+    final var batch = pendingBatches.remove(batchId);
+    if (batch == null) {
+      return;
+    }
+
+    if (batch.timer != null) {
+      batch.timer.cancel();
+    }
+    for (int index = 0; index < batch.size(); index++) {
+      batch.completeExceptionally(index, error);
+    }
+  }
+
   private ActorFuture<DirectBuffer> sendRequestInternal(
       final Supplier<String> nodeAddressSupplier,
       final Predicate<DirectBuffer> responseValidator,
@@ -67,9 +217,24 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
     final var buffer = new UnsafeBuffer(requestBytes);
     clientRequest.write(buffer, 0);
 
-    final var partitionId = clientRequest.getPartitionId();
-    final var requestType = clientRequest.getRequestType();
+    return sendRequestInternal(
+        nodeAddressSupplier,
+        responseValidator,
+        clientRequest.getPartitionId(),
+        clientRequest.getRequestType(),
+        requestBytes,
+        shouldRetry,
+        timeout);
+  }
 
+  private ActorFuture<DirectBuffer> sendRequestInternal(
+      final Supplier<String> nodeAddressSupplier,
+      final Predicate<DirectBuffer> responseValidator,
+      final int partitionId,
+      final RequestType requestType,
+      final byte[] requestBytes,
+      final boolean shouldRetry,
+      final Duration timeout) {
     final var requestFuture = new CompletableActorFuture<DirectBuffer>();
     final var requestContext =
         new RequestContext(
@@ -81,16 +246,18 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
             responseValidator,
             shouldRetry,
             timeout);
-    actor.call(
-        () -> {
-          final var scheduledTimer = actor.schedule(timeout, () -> timeoutFuture(requestContext));
-          requestContext.setScheduledTimer(scheduledTimer);
-          tryToSend(requestContext);
-        });
+    actor.call(() -> startRequest(requestContext));
 
     return requestFuture;
   }
 
+  private void startRequest(final RequestContext requestContext) {
+    final var scheduledTimer =
+        actor.schedule(requestContext.getTimeout(), () -> timeoutFuture(requestContext));
+    requestContext.setScheduledTimer(scheduledTimer);
+    tryToSend(requestContext);
+  }
+
   private void tryToSend(final RequestContext requestContext) {
     if (requestContext.isDone()) {
       if (LOG.isTraceEnabled()) {
@@ -228,4 +395,42 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
 
     requestContext.timeout();
   }
+
+  private static final class PendingBatch {
+    private final List<CompletableActorFuture<DirectBuffer>> responseFutures;
+    private int pendingResponses;
+    private ScheduledTimer timer;
+
+    private PendingBatch(final int size) {
+      responseFutures = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        responseFutures.add(new CompletableActorFuture<>());
+      }
+      pendingResponses = size;
+    }
+
+    private int size() {
+      return responseFutures.size();
+    }
+
+    private boolean isDone() {
+      return pendingResponses == 0;
+    }
+
+    private void complete(final int index, final DirectBuffer response) {
+      final var future = responseFutures.get(index);
+      if (!future.isDone()) {
+        pendingResponses--;
+        future.complete(response);
+      }
+    }
+
+    private void completeExceptionally(final int index, final Throwable error) {
+      final var future = responseFutures.get(index);
+      if (!future.isDone()) {
+        pendingResponses--;
+        future.completeExceptionally(error);
+      }
+    }
+  }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.transport.impl;
 
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.utils.net.Address;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.RequestHandler;
@@ -68,10 +69,18 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
           final var topicName = topicName(partitionId, requestType);
           LOG.trace("Subscribe for topic {}", topicName);
           partitionsRequestMap.computeIfAbsent(partitionId, id -> new Long2ObjectHashMap<>());
-          messagingService.registerHandler(
-              topicName,
-              (sender, request) ->
-                  handleAtomixRequest(request, partitionId, requestType, requestHandler));
+          if (requestType.isBatch()) {
+            messagingService.registerHandler(
+                topicName,
+                (sender, request) ->
+                    handleAtomixBatchRequest(
+                        sender, request, partitionId, requestType, requestHandler));
+          } else {
+            messagingService.registerHandler(
+                topicName,
+                (sender, request) ->
+                    handleAtomixRequest(request, partitionId, requestType, requestHandler));
+          }
         });
   }
 
@@ -105,7 +114,6 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     final var completableFuture = new CompletableFuture<byte[]>();
     actor.call(
         () -> {
-          final long requestId = requestIdGenerator.nextId();
           final var requestMap = partitionsRequestMap.get(partitionId);
           if (requestMap == null) {
             final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
@@ -114,32 +122,115 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
             return;
           }
 
+          handleRequest(
+              requestMap,
+              requestBytes,
+              partitionId,
+              requestType,
+              requestHandler,
+              completableFuture);
+        });
+
+    return completableFuture;
+  }
+
+  /**
+   * Hands each request of the batch to the request handler, as if it was sent on its own, such that
+   * each gets its own request id and is answered separately by the handler. The batch itself is
+   * answered once all of its requests are handed over, and the response to each request is sent
+   * back to the response topic of the batch as soon as it's ready.
+   */
+  private CompletableFuture<byte[]> handleAtomixBatchRequest(
+      final Address sender,
+      final byte[] batchBytes,
+      final int partitionId,
+      final RequestType requestType,
+      final RequestHandler requestHandler) {
+    final var batchFuture = new CompletableFuture<byte[]>();
+    actor.call(
+        () -> {
+          final var requestMap = partitionsRequestMap.get(partitionId);
+          if (requestMap == null) {
+            final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
+            LOG.trace(errorMsg);
+            batchFuture.completeExceptionally(new IllegalStateException(errorMsg));
+            return;
+          }
+
+          final RequestBatch.Requests batch;
           try {
-            requestHandler.onRequest(
-                this,
-                partitionId,
-                requestId,
-                new UnsafeBuffer(requestBytes),
-                0,
-                requestBytes.length);
-            if (LOG.isTraceEnabled()) {
-              LOG.trace(
-                  "Handled request {} for topic {}",
-                  requestId,
-                  topicName(partitionId, requestType));
-            }
-            // we only add the request to the map after successful handling
-            requestMap.put(requestId, completableFuture);
-          } catch (final Exception exception) {
-            LOG.error(
-                "Unexpected exception on handling request for partition {}.",
+            batch = RequestBatch.decodeRequests(batchBytes);
+          } catch (final RuntimeException exception) {
+            LOG.error("Failed to decode batch request for partition {}.", partitionId, exception);
+            batchFuture.completeExceptionally(exception);
+            return;
+          }
+
+          final var requests = batch.requests();
+          for (int index = 0; index < requests.size(); index++) {
+            final var responseFuture = new CompletableFuture<byte[]>();
+            final int requestIndex = index;
+            responseFuture.whenComplete(
+                (response, error) ->
+                    sendBatchedResponse(sender, batch, requestIndex, response, error));
+            handleRequest(
+                requestMap,
+                requests.get(index),
                 partitionId,
-                exception);
-            completableFuture.completeExceptionally(exception);
+                requestType,
+                requestHandler,
+                responseFuture);
           }
+
+          batchFuture.complete(new byte[0]);
         });
 
-    return completableFuture;
+    return batchFuture;
+  }
+
+  private void sendBatchedResponse(
+      final Address sender,
+      final RequestBatch.Requests batch,
+      final int index,
+      final byte[] response,
+      final Throwable error) {
+    final var responseBytes =
+        error == null
+            ? RequestBatch.encodeResponse(batch.batchId(), index, response)
+            : RequestBatch.encodeFailure(batch.batchId(), index, error.getMessage());
+    messagingService
+        .sendAsync(sender, batch.responseTopic(), responseBytes)
+        .whenComplete(
+            (ignored, sendError) -> {
+              if (sendError != null) {
+                // the request times out on the client, as if the response got lost
+                LOG.debug("Failed to send response of batched request to {}", sender, sendError);
+              }
+            });
+  }
+
+  private void handleRequest(
+      final Long2ObjectHashMap<CompletableFuture<byte[]>> requestMap,
+      final byte[] requestBytes,
+      final int partitionId,
+      final RequestType requestType,
+      final RequestHandler requestHandler,
+      final CompletableFuture<byte[]> completableFuture) {
+    final long requestId = requestIdGenerator.nextId();
+    try {
+      requestHandler.onRequest(
+          this, partitionId, requestId, new UnsafeBuffer(requestBytes), 0, requestBytes.length);
+      if (LOG.isTraceEnabled()) {
+        LOG.trace(
+            "Handled request {} for topic {}", requestId, topicName(partitionId, requestType));
+      }
+      // we only add the request to the map after successful handling
+      requestMap.put(requestId, completableFuture);
+    } catch (final Exception exception) {
+      LOG.error(
+          "Unexpected exception on handling request for partition {}.", partitionId, exception);
+      completableFuture.completeExceptionally(exception);
+    }
   }
 
   @Override
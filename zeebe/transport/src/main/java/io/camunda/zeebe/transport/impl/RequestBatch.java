@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.impl;
+
+import io.camunda.zeebe.transport.ClientRequest;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Frames several requests into one message, which is sent on the topic of a batch {@link
+ * io.camunda.zeebe.transport.RequestType}, and the response to each of these requests into a
+ * message of its own, which is sent back to the response topic of the batch.
+ *
+ * <p>The layout of a batch is the length and the bytes of the response topic, the id of the batch
+ * and the number of requests, followed by the length and the bytes of each request, in order. The
+ * layout of a response is the id of the batch, the index of the request in the batch and whether it
+ * failed, followed by the bytes of the response, or the message of the failure.
+ */
+final class RequestBatch {
+
+  private static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+  private static final int RESPONSE_HEADER_LENGTH =
+      BitUtil.SIZE_OF_LONG + BitUtil.SIZE_OF_INT + BitUtil.SIZE_OF_BYTE;
+  private static final byte RESPONSE = 0;
+  private static final byte FAILURE = 1;
+
+  private RequestBatch() {}
+
+  static byte[] encodeRequests(
+      final String responseTopic,
+      final long batchId,
+      final List<? extends ClientRequest> requests) {
+    final var topicBytes = responseTopic.getBytes(StandardCharsets.UTF_8);
+    var length =
+        BitUtil.SIZE_OF_INT + topicBytes.length + BitUtil.SIZE_OF_LONG + BitUtil.SIZE_OF_INT;
+    for (final var request : requests) {
+      length += BitUtil.SIZE_OF_INT + request.getLength();
+    }
+
+    final var bytes = new byte[length];
+    final var buffer = new UnsafeBuffer(bytes);
+    buffer.putInt(0, topicBytes.length, BYTE_ORDER);
+    var offset = BitUtil.SIZE_OF_INT;
+    buffer.putBytes(offset, topicBytes);
+    offset += topicBytes.length;
+    buffer.putLong(offset, batchId, BYTE_ORDER);
+    offset += BitUtil.SIZE_OF_LONG;
+    buffer.putInt(offset, requests.size(), BYTE_ORDER);
+    offset += BitUtil.SIZE_OF_INT;
+    for (final var request : requests) {
+      final var requestLength = request.getLength();
+      buffer.putInt(offset, requestLength, BYTE_ORDER);
+      offset += BitUtil.SIZE_OF_INT;
+      request.write(buffer, offset);
+      offset += requestLength;
+    }
+
+    return bytes;
+  }
+
+  /**
+   * Copies each request into its own array, such that handlers which assume that the buffer they
+   * get starts at offset zero, as for requests which are not batched, can handle it as well.
+   */
+  static Requests decodeRequests(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var topicLength = buffer.getInt(0, BYTE_ORDER);
+    var offset = BitUtil.SIZE_OF_INT;
+    final var responseTopic = buffer.getStringWithoutLengthUtf8(offset, topicLength);
+    offset += topicLength;
+    final var batchId = buffer.getLong(offset, BYTE_ORDER);
+    offset += BitUtil.SIZE_OF_LONG;
+    final var count = buffer.getInt(offset, BYTE_ORDER);
+    offset += BitUtil.SIZE_OF_INT;
+
+    final List<byte[]> requests = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      final var length = buffer.getInt(offset, BYTE_ORDER);
+      offset += BitUtil.SIZE_OF_INT;
+      final var request = new byte[length];
+      buffer.getBytes(offset, request);
+      offset += length;
+      requests.add(request);
+    }
+
+    return new Requests(responseTopic, batchId, requests);
+  }
+
+  static byte[] encodeResponse(final long batchId, final int index, final byte[] response) {
+    return encodeResponse(batchId, index, RESPONSE, response);
+  }
+
+  static byte[] encodeFailure(final long batchId, final int index, final String message) {
+    return encodeResponse(
+        batchId, index, FAILURE, String.valueOf(message).getBytes(StandardCharsets.UTF_8));
+  }
+
+  static Response decodeResponse(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var batchId = buffer.getLong(0, BYTE_ORDER);
+    final var index = buffer.getInt(BitUtil.SIZE_OF_LONG, BYTE_ORDER);
+    final var failed = buffer.getByte(BitUtil.SIZE_OF_LONG + BitUtil.SIZE_OF_INT) == FAILURE;
+    // copied, such that the response starts at offset zero, as for requests which are not batched
+    final var payload = new byte[bytes.length - RESPONSE_HEADER_LENGTH];
+    buffer.getBytes(RESPONSE_HEADER_LENGTH, payload);
+    return new Response(batchId, index, failed, new UnsafeBuffer(payload));
+  }
+
+  private static byte[] encodeResponse(
+      final long batchId, final int index, final byte status, final byte[] payload) {
+    final var bytes = new byte[RESPONSE_HEADER_LENGTH + payload.length];
+    final var buffer = new UnsafeBuffer(bytes);
+    buffer.putLong(0, batchId, BYTE_ORDER);
+    buffer.putInt(BitUtil.SIZE_OF_LONG, index, BYTE_ORDER);
+    buffer.putByte(BitUtil.SIZE_OF_LONG + BitUtil.SIZE_OF_INT, status);
+    buffer.putBytes(RESPONSE_HEADER_LENGTH, payload);
+    return bytes;
+  }
+
+  record Requests(String responseTopic, long batchId, List<byte[]> requests) {}
+
+  /**
+   * @param payload the response to the request, or the UTF-8 encoded message of the failure
+   */
+  record Response(long batchId, int index, boolean failed, DirectBuffer payload) {}
+}
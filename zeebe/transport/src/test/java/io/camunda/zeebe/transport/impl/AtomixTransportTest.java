@@ -25,13 +25,16 @@ import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.transport.ServerOutput;
 import io.camunda.zeebe.transport.ServerTransport;
 import io.camunda.zeebe.transport.TransportFactory;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.ConnectException;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -402,6 +405,93 @@ public class AtomixTransportTest {
     assertThat(requestId1).isNotEqualByComparingTo(requestId2);
   }
 
+  @Test
+  public void shouldSendRequestBatch() {
+    // given
+    final var incomingRequests = new CopyOnWriteArrayList<String>();
+    serverTransport
+        .subscribe(
+            0,
+            RequestType.COMMAND_BATCH,
+            new DirectlyResponder(bytes -> incomingRequests.add(new String(bytes))))
+        .join();
+
+    // when
+    final var responseFutures =
+        clientTransport.sendRequestBatch(
+            nodeAddressSupplier,
+            List.of(new Request("first"), new Request("second"), new Request("third")),
+            REQUEST_TIMEOUT);
+
+    // then - each request is handled on its own
+    assertThat(responseFutures)
+        .extracting(responseFuture -> new String(responseFuture.join().byteArray()))
+        .containsExactly("first", "second", "third");
+    assertThat(incomingRequests).containsExactly("first", "second", "third");
+  }
+
+  @Test
+  public void shouldCompleteEachRequestOfBatchOnceItIsAnswered() {
+    // given - a handler which answers only the last request right away
+    final var pendingResponses = new CopyOnWriteArrayList<ServerResponseImpl>();
+    final var serverOutputRef = new AtomicReference<ServerOutput>();
+    serverTransport
+        .subscribe(
+            0,
+            RequestType.COMMAND_BATCH,
+            (serverOutput, partitionId, requestId, buffer, offset, length) -> {
+              serverOutputRef.set(serverOutput);
+              final var response =
+                  new ServerResponseImpl()
+                      .buffer(BufferUtil.cloneBuffer(buffer, offset, length))
+                      .setRequestId(requestId)
+                      .setPartitionId(partitionId);
+              if (BufferUtil.bufferAsString(buffer, offset, length).equals("third")) {
+                serverOutput.sendResponse(response);
+              } else {
+                pendingResponses.add(response);
+              }
+            })
+        .join();
+
+    // when
+    final var responseFutures =
+        clientTransport.sendRequestBatch(
+            nodeAddressSupplier,
+            List.of(new Request("first"), new Request("second"), new Request("third")),
+            REQUEST_TIMEOUT);
+
+    // then - the answered request doesn't wait for the others
+    assertThat(new String(responseFutures.get(2).join().byteArray())).isEqualTo("third");
+    assertThat(responseFutures.get(0).isDone()).isFalse();
+    assertThat(responseFutures.get(1).isDone()).isFalse();
+
+    pendingResponses.forEach(serverOutputRef.get()::sendResponse);
+    assertThat(responseFutures)
+        .extracting(responseFuture -> new String(responseFuture.join().byteArray()))
+        .containsExactly("first", "second", "third");
+  }
+
+  @Test
+  public void shouldFailRequestBatchIfNotSubscribedToBatches() {
+    // given
+    serverTransport.subscribe(0, RequestType.COMMAND, new FailingResponder()).join();
+
+    // when
+    final var responseFutures =
+        clientTransport.sendRequestBatch(
+            nodeAddressSupplier,
+            List.of(new Request("first"), new Request("second")),
+            REQUEST_TIMEOUT);
+
+    // then - the batch is not retried, such that the caller can fall back to single requests
+    assertThat(responseFutures)
+        .allSatisfy(
+            responseFuture ->
+                assertThatThrownBy(responseFuture::join)
+                    .hasRootCauseInstanceOf(MessagingException.NoRemoteHandler.class));
+  }
+
   private static final class Request implements ClientRequest {
 
     private final String msg;
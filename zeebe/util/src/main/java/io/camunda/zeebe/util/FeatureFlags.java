@@ -47,6 +47,7 @@ public final class FeatureFlags {
   private static final boolean ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR = true;
   private static final boolean ENABLE_IDENTITY_SETUP = true;
   private static final boolean ENABLE_MESSAGE_BODY_ON_EXPIRED = false;
+  private static final boolean ENABLE_LOCK_FREE_SEQUENCER = false;
 
   private boolean yieldingDueDateChecker;
   private boolean enableActorMetrics;
@@ -54,6 +55,7 @@ public final class FeatureFlags {
   private boolean enableTimerDueDateCheckerAsync;
   private boolean enableStraightThroughProcessingLoopDetector;
   private boolean enableMessageBodyOnExpired;
+  private boolean enableLockFreeSequencer;
 
   public FeatureFlags(
       final boolean yieldingDueDateChecker,
@@ -61,7 +63,8 @@ public final class FeatureFlags {
       final boolean enableMessageTTLCheckerAsync,
       final boolean enableTimerDueDateCheckerAsync,
       final boolean enableStraightThroughProcessingLoopDetector,
-      final boolean enableMessageBodyOnExpired
+      final boolean enableMessageBodyOnExpired,
+      final boolean enableLockFreeSequencer
       /*, boolean foo*/ ) {
     this.yieldingDueDateChecker = yieldingDueDateChecker;
     this.enableActorMetrics = enableActorMetrics;
@@ -69,6 +72,7 @@ public final class FeatureFlags {
     this.enableTimerDueDateCheckerAsync = enableTimerDueDateCheckerAsync;
     this.enableStraightThroughProcessingLoopDetector = enableStraightThroughProcessingLoopDetector;
     this.enableMessageBodyOnExpired = enableMessageBodyOnExpired;
+    this.enableLockFreeSequencer = enableLockFreeSequencer;
   }
 
   public static FeatureFlags createDefault() {
@@ -78,7 +82,8 @@ public final class FeatureFlags {
         ENABLE_MSG_TTL_CHECKER_ASYNC,
         ENABLE_DUE_DATE_CHECKER_ASYNC,
         ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR,
-        ENABLE_MESSAGE_BODY_ON_EXPIRED
+        ENABLE_MESSAGE_BODY_ON_EXPIRED,
+        ENABLE_LOCK_FREE_SEQUENCER
         /*, FOO_DEFAULT*/ );
   }
 
@@ -94,7 +99,8 @@ public final class FeatureFlags {
         true, /* ENABLE_MSG_TTL_CHECKER_ASYNC */
         true, /* ENABLE_DUE_DATE_CHECKER_ASYNC */
         true, /* ENABLE_STRAIGHT_THOUGH_PROCESSING_LOOP_DETECTOR */
-        false /* ENABLE_MESSAGE_BODY_ON_EXPIRED */
+        false, /* ENABLE_MESSAGE_BODY_ON_EXPIRED */
+        false /* ENABLE_LOCK_FREE_SEQUENCER */
         /*, FOO_DEFAULT*/ );
   }
 
@@ -122,6 +128,10 @@ public final class FeatureFlags {
     return enableMessageBodyOnExpired;
   }
 
+  public boolean enableLockFreeSequencer() {
+    return enableLockFreeSequencer;
+  }
+
   public void setYieldingDueDateChecker(final boolean yieldingDueDateChecker) {
     this.yieldingDueDateChecker = yieldingDueDateChecker;
   }
@@ -147,6 +157,10 @@ public final class FeatureFlags {
     this.enableMessageBodyOnExpired = enableMessageBodyOnExpired;
   }
 
+  public void setEnableLockFreeSequencer(final boolean enableLockFreeSequencer) {
+    this.enableLockFreeSequencer = enableLockFreeSequencer;
+  }
+
   @Override
   public String toString() {
     return ToStringBuilder.reflectionToString(this, ToStringStyle.SHORT_PREFIX_STYLE);
@@ -23,6 +23,7 @@ class FeatureFlagsTest {
     assertThat(sut.enableActorMetrics()).isFalse();
     assertThat(sut.enableMessageTTLCheckerAsync()).isFalse();
     assertThat(sut.enableMessageBodyOnExpired()).isFalse();
+    assertThat(sut.enableLockFreeSequencer()).isFalse();
   }
 
   @Test
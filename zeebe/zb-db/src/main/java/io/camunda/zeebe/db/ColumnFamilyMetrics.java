@@ -17,4 +17,10 @@ public interface ColumnFamilyMetrics {
   CloseableSilently measureDeleteLatency();
 
   CloseableSilently measureIterateLatency();
+
+  /** Counts a lookup which was served by the cache of the column family. */
+  void countCacheHit();
+
+  /** Counts a lookup which missed the cache of the column family and was read from RocksDB. */
+  void countCacheMiss();
 }
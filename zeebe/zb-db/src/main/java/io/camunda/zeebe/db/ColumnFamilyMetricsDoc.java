@@ -53,6 +53,68 @@ public enum ColumnFamilyMetricsDoc implements ExtendedMeterDocumentation {
       return KEYS;
     }
 
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of lookups served by the cache of a column family */
+  CACHE_HITS {
+    private static final KeyName[] KEYS =
+        new KeyName[] {PartitionKeyNames.PARTITION, ColumnFamilyMetricsKeyName.COLUMN_FAMILY};
+
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.cache.hits";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of lookups served by the cache of a column family";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEYS;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+  },
+
+  /** Number of lookups which missed the cache of a column family */
+  CACHE_MISSES {
+    private static final KeyName[] KEYS =
+        new KeyName[] {PartitionKeyNames.PARTITION, ColumnFamilyMetricsKeyName.COLUMN_FAMILY};
+
+    @Override
+    public String getName() {
+      return "zeebe.rocksdb.cache.misses";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of lookups which missed the cache of a column family and were read from RocksDB";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEYS;
+    }
+
     @Override
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
@@ -34,4 +34,16 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is notified once the transaction currently in progress is committed
+   * or rolled back. If there is no transaction in progress, every operation is committed right
+   * away, and the listener is not registered.
+   *
+   * @param listener the listener to notify
+   * @return true if the listener was registered, false if there is no transaction in progress
+   */
+  default boolean addTransactionListener(final TransactionListener listener) {
+    return false;
+  }
 }
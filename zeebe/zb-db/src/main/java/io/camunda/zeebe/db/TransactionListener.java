@@ -0,0 +1,25 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Notified once the transaction it was registered on is completed. Allows to keep in-memory state
+ * consistent with the database, e.g. by undoing changes which were made as part of a transaction
+ * that is rolled back.
+ */
+@FunctionalInterface
+public interface TransactionListener {
+
+  /**
+   * Called once the transaction is completed.
+   *
+   * @param committed true if the transaction was committed, false if it was rolled back or
+   *     discarded
+   */
+  void onTransactionCompleted(boolean committed);
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.db;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -65,6 +66,21 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
    */
   boolean isEmpty(ColumnFamilyType column, TransactionContext context);
 
+  /**
+   * Commits the current transactions of the given contexts with a single atomic write, so that
+   * either the changes of all of them or of none of them are visible, e.g. in a snapshot. The
+   * transactions are not checked for conflicts with each other; if several of them wrote the same
+   * key, the last one in the given order wins.
+   *
+   * @param contexts the contexts whose current transactions are committed
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  default void commitAtomically(final List<TransactionContext> contexts) throws Exception {
+    throw new UnsupportedOperationException(
+        "Expected to commit transactions atomically, but the database doesn't support it");
+  }
+
   /**
    * Returns a meter registry tied to the lifecycle of the DB; any metrics registered while the DB
    * is opened will be removed once the DB is closed.
@@ -10,9 +10,11 @@ package io.camunda.zeebe.db.impl;
 import static io.camunda.zeebe.db.ColumnFamilyMetricsDoc.*;
 
 import io.camunda.zeebe.db.ColumnFamilyMetrics;
+import io.camunda.zeebe.db.ColumnFamilyMetricsDoc;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.util.Objects;
@@ -23,6 +25,8 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
   private final Timer put;
   private final Timer delete;
   private final Timer iterate;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
   private final MeterRegistry registry;
 
   public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
@@ -34,6 +38,8 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
     put = createTimer(columnFamilyLabel, OperationType.PUT);
     delete = createTimer(columnFamilyLabel, OperationType.DELETE);
     iterate = createTimer(columnFamilyLabel, OperationType.ITERATE);
+    cacheHits = createCounter(columnFamilyLabel, CACHE_HITS);
+    cacheMisses = createCounter(columnFamilyLabel, CACHE_MISSES);
   }
 
   @Override
@@ -56,6 +62,23 @@ public final class FineGrainedColumnFamilyMetrics implements ColumnFamilyMetrics
     return MicrometerUtil.timer(iterate, Timer.start(registry));
   }
 
+  @Override
+  public void countCacheHit() {
+    cacheHits.increment();
+  }
+
+  @Override
+  public void countCacheMiss() {
+    cacheMisses.increment();
+  }
+
+  private Counter createCounter(final String columnFamily, final ColumnFamilyMetricsDoc doc) {
+    return Counter.builder(doc.getName())
+        .description(doc.getDescription())
+        .tags(ColumnFamilyMetricsKeyName.COLUMN_FAMILY.asString(), columnFamily)
+        .register(registry);
+  }
+
   private Timer createTimer(final String columnFamily, final OperationType type) {
     return Timer.builder(LATENCY.getName())
         .description(LATENCY.getDescription())
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.db.impl.rocksdb;
 
 import java.util.Properties;
+import java.util.Set;
 
 public final class RocksDbConfiguration {
 
@@ -43,6 +44,10 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  public static final long DEFAULT_COLUMN_FAMILY_CACHE_SIZE = 32 * 1024 * 1024L;
+
+  public static final TransactionKind DEFAULT_TRANSACTION_KIND = TransactionKind.OPTIMISTIC;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -72,6 +77,25 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * The names of the column families whose values are kept in a write-through cache, which avoids
+   * reading hot keys from RocksDB over and over. Per default, no column family is cached.
+   */
+  private Set<String> cachedColumnFamilies = Set.of();
+
+  /**
+   * The maximum size in bytes of the keys and values kept in the cache of each cached column
+   * family. Least recently used entries are evicted once it is exceeded.
+   */
+  private long columnFamilyCacheSize = DEFAULT_COLUMN_FAMILY_CACHE_SIZE;
+
+  /**
+   * Defines how transactions are implemented. Per default, an optimistic transaction database is
+   * used, which detects conflicts between concurrent transactions. As there is a single writer per
+   * partition, the write batch kind can be used instead to avoid the cost of tracking conflicts.
+   */
+  private TransactionKind transactionKind = DEFAULT_TRANSACTION_KIND;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +179,38 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public Set<String> getCachedColumnFamilies() {
+    return cachedColumnFamilies;
+  }
+
+  public RocksDbConfiguration setCachedColumnFamilies(final Set<String> cachedColumnFamilies) {
+    this.cachedColumnFamilies = cachedColumnFamilies;
+    return this;
+  }
+
+  public long getColumnFamilyCacheSize() {
+    return columnFamilyCacheSize;
+  }
+
+  public RocksDbConfiguration setColumnFamilyCacheSize(final long columnFamilyCacheSize) {
+    this.columnFamilyCacheSize = columnFamilyCacheSize;
+    return this;
+  }
+
+  public TransactionKind getTransactionKind() {
+    return transactionKind;
+  }
+
+  public RocksDbConfiguration setTransactionKind(final TransactionKind transactionKind) {
+    this.transactionKind = transactionKind;
+    return this;
+  }
+
+  public enum TransactionKind {
+    /** Transactions of an optimistic transaction database, which tracks conflicts */
+    OPTIMISTIC,
+    /** Indexed write batches written to a plain database, without tracking conflicts */
+    WRITE_BATCH
+  }
 }
@@ -13,6 +13,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeWriteBatchDb;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -68,14 +69,26 @@ public final class ZeebeRocksDbFactory<
   public ZeebeTransactionDb<ColumnFamilyType> createDb(final File pathName) {
     final List<AutoCloseable> closeables = Collections.synchronizedList(new ArrayList<>());
     try {
-      return ZeebeTransactionDb.openTransactionalDb(
-          prepareOptions(closeables),
-          pathName.getAbsolutePath(),
-          closeables,
-          rocksDbConfiguration,
-          consistencyChecksSettings,
-          metrics,
-          meterRegistryFactory);
+      return switch (rocksDbConfiguration.getTransactionKind()) {
+        case OPTIMISTIC ->
+            ZeebeTransactionDb.openTransactionalDb(
+                prepareOptions(closeables),
+                pathName.getAbsolutePath(),
+                closeables,
+                rocksDbConfiguration,
+                consistencyChecksSettings,
+                metrics,
+                meterRegistryFactory);
+        case WRITE_BATCH ->
+            ZeebeWriteBatchDb.openWriteBatchDb(
+                prepareOptions(closeables),
+                pathName.getAbsolutePath(),
+                closeables,
+                rocksDbConfiguration,
+                consistencyChecksSettings,
+                metrics,
+                meterRegistryFactory);
+      };
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
       throw new IllegalStateException("Unexpected error occurred trying to open the database", e);
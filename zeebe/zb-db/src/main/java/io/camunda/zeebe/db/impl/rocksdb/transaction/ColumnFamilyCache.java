@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * A write-through cache of the serialized values of a single column family. It is shared by all
+ * {@link TransactionalColumnFamily} instances of the same column family, so that a write through
+ * one instance is seen by the reads through all the others.
+ *
+ * <p>Values written or deleted within a {@link ZeebeTransaction} are kept as pending entries of
+ * that transaction, which are only visible to that transaction. They are promoted to the committed
+ * entries when the transaction is committed, and discarded when it is rolled back. The committed
+ * entries are evicted in least-recently-used order, as soon as the sum of the length of their keys
+ * and values exceeds the configured size.
+ *
+ * <p>The cached values are shared between readers, and must never be modified.
+ */
+final class ColumnFamilyCache {
+
+  /** Returned on a cache hit for a key which was deleted in the current transaction. */
+  static final byte[] ABSENT = new byte[0];
+
+  private final long maxSize;
+  private final LinkedHashMap<CacheKey, byte[]> committed = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<ZeebeTransaction, Map<CacheKey, byte[]>> pending = new IdentityHashMap<>();
+  private final CacheKey lookupKey = new CacheKey();
+  private long size;
+
+  ColumnFamilyCache(final long maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected cache size to be positive, but was '%d'".formatted(maxSize));
+    }
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the value of the given key as seen by the given transaction.
+   *
+   * @return the cached value, {@link #ABSENT} if the key was deleted in the given transaction, or
+   *     null if the key is not cached
+   */
+  synchronized byte[] get(
+      final ZeebeTransaction transaction, final byte[] key, final int keyLength) {
+    lookupKey.wrap(key, keyLength);
+
+    final var pendingEntries = pending.get(transaction);
+    if (pendingEntries != null) {
+      final var pendingValue = pendingEntries.get(lookupKey);
+      if (pendingValue != null) {
+        return pendingValue;
+      }
+    }
+
+    return committed.get(lookupKey);
+  }
+
+  /** Caches a committed value, which was read from the database. */
+  synchronized void putCommitted(final byte[] key, final int keyLength, final byte[] value) {
+    lookupKey.wrap(key, keyLength);
+    if (!committed.containsKey(lookupKey)) {
+      addCommitted(lookupKey.copy(), value);
+    }
+  }
+
+  /** Caches a value written by the given transaction, until it is committed or rolled back. */
+  synchronized void putPending(
+      final ZeebeTransaction transaction,
+      final byte[] key,
+      final int keyLength,
+      final byte[] value,
+      final int valueLength) {
+    pendingEntries(transaction)
+        .put(lookupKey.wrap(key, keyLength).copy(), Arrays.copyOf(value, valueLength));
+  }
+
+  /** Marks a key as deleted by the given transaction, until it is committed or rolled back. */
+  synchronized void deletePending(
+      final ZeebeTransaction transaction, final byte[] key, final int keyLength) {
+    pendingEntries(transaction).put(lookupKey.wrap(key, keyLength).copy(), ABSENT);
+  }
+
+  /**
+   * Completes the pending entries of the given transaction: on commit, they replace the committed
+   * entries, otherwise they are discarded.
+   */
+  synchronized void complete(final ZeebeTransaction transaction, final boolean isCommitted) {
+    final var pendingEntries = pending.remove(transaction);
+    if (pendingEntries == null || !isCommitted) {
+      return;
+    }
+
+    for (final var entry : pendingEntries.entrySet()) {
+      removeCommitted(entry.getKey());
+      if (entry.getValue() != ABSENT) {
+        addCommitted(entry.getKey(), entry.getValue());
+      }
+    }
+  }
+
+  synchronized long size() {
+    return size;
+  }
+
+  private Map<CacheKey, byte[]> pendingEntries(final ZeebeTransaction transaction) {
+    return pending.computeIfAbsent(
+        transaction,
+        tx -> {
+          tx.registerPendingCache(this);
+          return new HashMap<>();
+        });
+  }
+
+  private void addCommitted(final CacheKey key, final byte[] value) {
+    final long entrySize = (long) key.length + value.length;
+    if (entrySize > maxSize) {
+      return;
+    }
+
+    committed.put(key, value);
+    size += entrySize;
+    evict();
+  }
+
+  private void removeCommitted(final CacheKey key) {
+    final var value = committed.remove(key);
+    if (value != null) {
+      size -= key.length + value.length;
+    }
+  }
+
+  private void evict() {
+    final Iterator<Entry<CacheKey, byte[]>> eldest = committed.entrySet().iterator();
+    while (size > maxSize && eldest.hasNext()) {
+      final var entry = eldest.next();
+      size -= entry.getKey().length + entry.getValue().length;
+      eldest.remove();
+    }
+  }
+
+  /**
+   * The key of a cache entry. Entries own a copy of their key bytes, while the lookup key only
+   * wraps the key buffer of the caller to avoid allocating on reads.
+   */
+  private static final class CacheKey {
+    private byte[] bytes;
+    private int length;
+    private int hash;
+
+    private CacheKey wrap(final byte[] bytes, final int length) {
+      this.bytes = bytes;
+      this.length = length;
+      hash = hash(bytes, length);
+      return this;
+    }
+
+    private CacheKey copy() {
+      final var copy = new CacheKey();
+      copy.bytes = Arrays.copyOf(bytes, length);
+      copy.length = length;
+      copy.hash = hash;
+      return copy;
+    }
+
+    private static int hash(final byte[] bytes, final int length) {
+      int result = 1;
+      for (int i = 0; i < length; i++) {
+        result = 31 * result + bytes[i];
+      }
+      return result;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof final CacheKey other)) {
+        return false;
+      }
+      return hash == other.hash && Arrays.equals(bytes, 0, length, other.bytes, 0, other.length);
+    }
+  }
+}
@@ -32,9 +32,15 @@ public class ColumnFamilyContext {
   private final Queue<ExpandableArrayBuffer> prefixKeyBuffers;
   private int keyLength;
   private final long columnFamilyPrefix;
+  private final ColumnFamilyCache cache;
 
   public ColumnFamilyContext(final long columnFamilyPrefix) {
+    this(columnFamilyPrefix, null);
+  }
+
+  ColumnFamilyContext(final long columnFamilyPrefix, final ColumnFamilyCache cache) {
     this.columnFamilyPrefix = columnFamilyPrefix;
+    this.cache = cache;
     prefixKeyBuffers = new ArrayDeque<>();
     prefixKeyBuffers.add(new ExpandableArrayBuffer());
     prefixKeyBuffers.add(new ExpandableArrayBuffer());
@@ -64,6 +70,42 @@ public class ColumnFamilyContext {
     return valueBuffer.byteArray();
   }
 
+  boolean isCached() {
+    return cache != null;
+  }
+
+  /**
+   * Looks up the value of the last written key in the cache, as seen by the given transaction.
+   *
+   * @return the cached value, {@link ColumnFamilyCache#ABSENT} if the key was deleted in the given
+   *     transaction, or null if the key is not cached
+   */
+  byte[] getCachedValue(final ZeebeTransaction transaction) {
+    return cache.get(transaction, keyBuffer.byteArray(), keyLength);
+  }
+
+  /** Caches the committed value of the last written key, as it was read from the database. */
+  void cacheReadValue(final byte[] value) {
+    if (cache != null) {
+      cache.putCommitted(keyBuffer.byteArray(), keyLength, value);
+    }
+  }
+
+  /** Caches the last written key and value as written by the given transaction. */
+  void cacheWrittenValue(final ZeebeTransaction transaction, final int valueLength) {
+    if (cache != null) {
+      cache.putPending(
+          transaction, keyBuffer.byteArray(), keyLength, valueBuffer.byteArray(), valueLength);
+    }
+  }
+
+  /** Caches the last written key as deleted by the given transaction. */
+  void cacheDeletedValue(final ZeebeTransaction transaction) {
+    if (cache != null) {
+      cache.deletePending(transaction, keyBuffer.byteArray(), keyLength);
+    }
+  }
+
   public void wrapKeyView(final byte[] key) {
     if (key != null) {
       // wrap without the column family key
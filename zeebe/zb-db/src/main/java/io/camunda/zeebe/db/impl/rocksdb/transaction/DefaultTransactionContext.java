@@ -10,6 +10,7 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.RECOVERABLE_ERROR_CODES;
 
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
@@ -55,6 +56,16 @@ public final class DefaultTransactionContext implements TransactionContext {
     return transaction;
   }
 
+  @Override
+  public boolean addTransactionListener(final TransactionListener listener) {
+    if (!transaction.isInCurrentTransaction()) {
+      return false;
+    }
+
+    transaction.addListener(listener);
+    return true;
+  }
+
   private void runInNewTransaction(final TransactionOperation operations) throws Exception {
     try {
       transaction.resetTransaction();
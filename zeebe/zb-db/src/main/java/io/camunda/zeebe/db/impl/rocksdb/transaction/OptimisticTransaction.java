@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Transaction;
+
+/**
+ * A {@link ZeebeTransaction} backed by a RocksDB {@link Transaction} of an {@link
+ * org.rocksdb.OptimisticTransactionDB}, which detects conflicting writes of concurrent transactions
+ * on commit.
+ */
+final class OptimisticTransaction extends ZeebeTransaction {
+
+  private final long nativeHandle;
+  private final TransactionRenovator transactionRenovator;
+
+  private Transaction transaction;
+
+  OptimisticTransaction(
+      final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this.transactionRenovator = transactionRenovator;
+    this.transaction = transaction;
+    try {
+      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
+    } catch (final Exception ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyOffset,
+      final int keyLength,
+      final byte[] value,
+      final int valueOffset,
+      final int valueLength)
+      throws Exception {
+    try {
+      RocksDbInternal.putWithHandle.invokeExact(
+          nativeHandle,
+          key,
+          keyOffset,
+          keyLength,
+          value,
+          valueOffset,
+          valueLength,
+          columnFamilyHandle,
+          false);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyOffset,
+      final int keyLength)
+      throws Exception {
+    try {
+      return (byte[])
+          RocksDbInternal.getWithHandle.invokeExact(
+              nativeHandle, readOptionsHandle, key, keyOffset, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    try {
+      RocksDbInternal.removeWithHandle.invokeExact(
+          nativeHandle, key, keyLength, columnFamilyHandle, false);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    return transaction.getIterator(options, handle);
+  }
+
+  @Override
+  void renewWrites() {
+    transaction = transactionRenovator.renewTransaction(transaction);
+  }
+
+  @Override
+  void commitWrites() throws RocksDBException {
+    transaction.commit();
+  }
+
+  @Override
+  void rollbackWrites() throws RocksDBException {
+    transaction.rollback();
+  }
+
+  @Override
+  byte[] getWrites() throws RocksDBException {
+    return transaction.getWriteBatch().getWriteBatch().data();
+  }
+
+  @Override
+  public void close() {
+    transaction.close();
+  }
+}
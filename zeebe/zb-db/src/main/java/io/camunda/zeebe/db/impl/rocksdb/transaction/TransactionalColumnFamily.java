@@ -70,7 +70,8 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
-      final ColumnFamilyMetrics metrics) {
+      final ColumnFamilyMetrics metrics,
+      final ColumnFamilyCache cache) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -78,7 +79,7 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
-    columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
+    columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue(), cache);
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
 
@@ -98,6 +99,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            columnFamilyContext.cacheWrittenValue(transaction, value.getLength());
           });
     }
   }
@@ -117,6 +119,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            columnFamilyContext.cacheWrittenValue(transaction, value.getLength());
           });
     }
   }
@@ -135,6 +138,7 @@ class TransactionalColumnFamily<
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            columnFamilyContext.cacheWrittenValue(transaction, value.getLength());
           });
     }
   }
@@ -145,13 +149,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -169,12 +167,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] valueBytes =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
+            final byte[] valueBytes = getValue(transaction);
             if (valueBytes != null) {
               final var newValue = valueSupplier.get();
               newValue.wrap(new UnsafeBuffer(valueBytes), 0, valueBytes.length);
@@ -258,6 +251,7 @@ class TransactionalColumnFamily<
                 transactionDb.getDefaultNativeHandle(),
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            columnFamilyContext.cacheDeletedValue(transaction);
           });
     }
   }
@@ -272,6 +266,7 @@ class TransactionalColumnFamily<
                 transactionDb.getDefaultNativeHandle(),
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            columnFamilyContext.cacheDeletedValue(transaction);
           });
     }
   }
@@ -282,13 +277,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -319,6 +308,38 @@ class TransactionalColumnFamily<
     return countEachInPrefix(prefix);
   }
 
+  /**
+   * Returns the value of the last written key, as seen by the given transaction. If the column
+   * family is cached, the value is looked up in the cache first, and cached after reading it from
+   * the database on a miss.
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    if (!columnFamilyContext.isCached()) {
+      return readValue(transaction);
+    }
+
+    final byte[] cachedValue = columnFamilyContext.getCachedValue(transaction);
+    if (cachedValue != null) {
+      metrics.countCacheHit();
+      return cachedValue == ColumnFamilyCache.ABSENT ? null : cachedValue;
+    }
+
+    metrics.countCacheMiss();
+    final byte[] value = readValue(transaction);
+    if (value != null) {
+      columnFamilyContext.cacheReadValue(value);
+    }
+    return value;
+  }
+
+  private byte[] readValue(final ZeebeTransaction transaction) throws Exception {
+    return transaction.get(
+        transactionDb.getDefaultNativeHandle(),
+        transactionDb.getReadOptionsNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+  }
+
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
       throws Exception {
     if (!consistencyChecksSettings.enableForeignKeyChecks()) {
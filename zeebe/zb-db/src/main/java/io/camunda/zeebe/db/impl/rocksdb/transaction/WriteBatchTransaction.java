@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import org.agrona.LangUtil;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.WriteBatchWithIndex;
+import org.rocksdb.WriteOptions;
+
+/**
+ * A {@link ZeebeTransaction} which collects its writes in an indexed {@link WriteBatchWithIndex}
+ * and writes them atomically to a plain {@link RocksDB} on commit. Reads and iterators see the
+ * writes of the batch on top of the database, so the transaction reads its own writes.
+ *
+ * <p>Unlike an optimistic transaction, no conflicts are tracked between concurrent transactions.
+ * This is only safe if there is a single writer for the database, as it is the case for the state
+ * of a partition.
+ */
+final class WriteBatchTransaction extends ZeebeTransaction {
+
+  private final RocksDB database;
+  private final long databaseHandle;
+  private final WriteOptions writeOptions;
+  private final WriteBatchWithIndex batch;
+  private final long batchHandle;
+
+  WriteBatchTransaction(final RocksDB database, final WriteOptions writeOptions) {
+    this.database = database;
+    this.writeOptions = writeOptions;
+    // overwriting keys in the index is required to iterate correctly over the batch and database
+    batch = new WriteBatchWithIndex(true);
+    try {
+      databaseHandle = RocksDbInternal.nativeHandle.getLong(database);
+      batchHandle = RocksDbInternal.nativeHandle.getLong(batch);
+    } catch (final Exception ex) {
+      throw new RuntimeException(ex);
+    }
+  }
+
+  @Override
+  public void put(
+      final long columnFamilyHandle,
+      final byte[] key,
+      final int keyOffset,
+      final int keyLength,
+      final byte[] value,
+      final int valueOffset,
+      final int valueLength)
+      throws Exception {
+    // the native batch operations don't support offsets, so we copy in the rare case we need them
+    final var keyBytes =
+        keyOffset == 0 ? key : Arrays.copyOfRange(key, keyOffset, keyOffset + keyLength);
+    final var valueBytes =
+        valueOffset == 0
+            ? value
+            : Arrays.copyOfRange(value, valueOffset, valueOffset + valueLength);
+    try {
+      RocksDbInternal.batchPutWithHandle.invokeExact(
+          batchHandle, keyBytes, keyLength, valueBytes, valueLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public byte[] get(
+      final long columnFamilyHandle,
+      final long readOptionsHandle,
+      final byte[] key,
+      final int keyOffset,
+      final int keyLength)
+      throws Exception {
+    final var keyBytes =
+        keyOffset == 0 ? key : Arrays.copyOfRange(key, keyOffset, keyOffset + keyLength);
+    try {
+      return (byte[])
+          RocksDbInternal.batchGetWithHandle.invokeExact(
+              batchHandle,
+              databaseHandle,
+              readOptionsHandle,
+              keyBytes,
+              keyLength,
+              columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+      return null; // unreachable
+    }
+  }
+
+  @Override
+  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception {
+    try {
+      RocksDbInternal.batchRemoveWithHandle.invokeExact(
+          batchHandle, key, keyLength, columnFamilyHandle);
+    } catch (final Throwable e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+  }
+
+  @Override
+  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
+    // the returned iterator takes ownership of the base iterator
+    return batch.newIteratorWithBase(handle, database.newIterator(handle, options), options);
+  }
+
+  @Override
+  void renewWrites() {
+    batch.clear();
+  }
+
+  @Override
+  void commitWrites() throws RocksDBException {
+    try {
+      database.write(writeOptions, batch);
+    } finally {
+      batch.clear();
+    }
+  }
+
+  @Override
+  byte[] getWrites() throws RocksDBException {
+    return batch.getWriteBatch().data();
+  }
+
+  @Override
+  void rollbackWrites() {
+    batch.clear();
+  }
+
+  @Override
+  public void close() {
+    batch.close();
+  }
+}
@@ -9,36 +9,29 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
-import org.agrona.LangUtil;
+import java.util.ArrayList;
+import java.util.List;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
-import org.rocksdb.Transaction;
 
-public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
+/**
+ * A transaction on the state of a partition. Implementations differ in how they collect and write
+ * the writes of a transaction, see {@link OptimisticTransaction} and {@link WriteBatchTransaction},
+ * while this class keeps track of the transaction's lifecycle and notifies its listeners.
+ */
+public abstract class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
-  private final long nativeHandle;
-  private final TransactionRenovator transactionRenovator;
+  private final List<TransactionListener> listeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
-  private Transaction transaction;
-
-  public ZeebeTransaction(
-      final Transaction transaction, final TransactionRenovator transactionRenovator) {
-    this.transactionRenovator = transactionRenovator;
-    this.transaction = transaction;
-    try {
-      nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
-    } catch (final Exception ex) {
-      throw new RuntimeException(ex);
-    }
-  }
 
-  public void put(
+  public abstract void put(
       final long columnFamilyHandle,
       final byte[] key,
       final int keyOffset,
@@ -46,22 +39,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueOffset,
       final int valueLength)
-      throws Exception {
-    try {
-      RocksDbInternal.putWithHandle.invokeExact(
-          nativeHandle,
-          key,
-          keyOffset,
-          keyLength,
-          value,
-          valueOffset,
-          valueLength,
-          columnFamilyHandle,
-          false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+      throws Exception;
 
   public void put(
       final long columnFamilyHandle,
@@ -82,42 +60,36 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return get(columnFamilyHandle, readOptionsHandle, key, 0, keyLength);
   }
 
-  public byte[] get(
+  public abstract byte[] get(
       final long columnFamilyHandle,
       final long readOptionsHandle,
       final byte[] key,
       final int keyOffset,
       final int keyLength)
-      throws Exception {
-    try {
-      return (byte[])
-          RocksDbInternal.getWithHandle.invokeExact(
-              nativeHandle, readOptionsHandle, key, keyOffset, keyLength, columnFamilyHandle);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-      return null; // unreachable
-    }
-  }
+      throws Exception;
 
-  public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
-      throws Exception {
-    try {
-      RocksDbInternal.removeWithHandle.invokeExact(
-          nativeHandle, key, keyLength, columnFamilyHandle, false);
-    } catch (final Throwable e) {
-      LangUtil.rethrowUnchecked(e);
-    }
-  }
+  public abstract void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
+      throws Exception;
 
-  public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
-    return transaction.getIterator(options, handle);
-  }
+  public abstract RocksIterator newIterator(
+      final ReadOptions options, final ColumnFamilyHandle handle);
 
   void resetTransaction() {
-    transaction = transactionRenovator.renewTransaction(transaction);
+    // renewing the transaction discards any of its uncommitted writes
+    notifyListeners(false);
+    renewWrites();
     inCurrentTransaction = true;
   }
 
+  /** Discards the writes of the current transaction, such that it can be reused. */
+  abstract void renewWrites();
+
+  /** Writes the writes of the current transaction to the database. */
+  abstract void commitWrites() throws RocksDBException;
+
+  /** Discards the writes of the current transaction. */
+  abstract void rollbackWrites() throws RocksDBException;
+
   boolean isInCurrentTransaction() {
     return inCurrentTransaction;
   }
@@ -163,16 +135,65 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.commit();
+    boolean isCommitted = false;
+    try {
+      commitWrites();
+      isCommitted = true;
+    } finally {
+      notifyListeners(isCommitted);
+    }
   }
 
+  /**
+   * Completes the current transaction as committed, after its writes were written to the database
+   * together with the writes of other transactions, see {@link #getWrites()}.
+   */
+  void completeAsCommitted() throws RocksDBException {
+    inCurrentTransaction = false;
+    try {
+      // the writes are already in the database, so they're only discarded from the transaction
+      rollbackWrites();
+    } finally {
+      notifyListeners(true);
+    }
+  }
+
+  /** Returns the writes of the current transaction, in the serialized format of a write batch. */
+  abstract byte[] getWrites() throws RocksDBException;
+
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
-    transaction.rollback();
+    try {
+      rollbackWrites();
+    } finally {
+      notifyListeners(false);
+    }
   }
 
-  @Override
-  public void close() {
-    transaction.close();
+  /**
+   * Registers a cache which holds entries written in the current transaction, so that they are
+   * promoted on commit or discarded on rollback.
+   */
+  void registerPendingCache(final ColumnFamilyCache cache) {
+    listeners.add(committed -> cache.complete(this, committed));
+  }
+
+  /** Registers a listener which is notified once the current transaction is completed. */
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
+  private void notifyListeners(final boolean isCommitted) {
+    if (listeners.isEmpty()) {
+      return;
+    }
+
+    for (final var listener : listeners) {
+      listener.onTransactionCompleted(isCommitted);
+    }
+    listeners.clear();
   }
+
+  @Override
+  public abstract void close();
 }
@@ -28,11 +28,16 @@ import io.camunda.zeebe.protocol.ScopedColumnFamily;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
@@ -43,17 +48,20 @@ import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
 public class ZeebeTransactionDb<
         ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue & ScopedColumnFamily>
-    implements ZeebeDb<ColumnFamilyNames>, TransactionRenovator {
+    implements ZeebeDb<ColumnFamilyNames> {
 
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
-  private final OptimisticTransactionDB optimisticTransactionDB;
+  // a sequence number (fixed64) followed by the number of records (fixed32)
+  private static final int WRITE_BATCH_HEADER_LENGTH = Long.BYTES + Integer.BYTES;
+  private final RocksDB database;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
@@ -64,10 +72,14 @@ public class ZeebeTransactionDb<
   private final AccessMetricsConfiguration accessMetricsConfiguration;
   private final MeterRegistry meterRegistry;
   private final RocksDBMetricExporter metricExporter;
+  private final Set<String> cachedColumnFamilies;
+  private final long columnFamilyCacheSize;
+  private final Map<ColumnFamilyNames, ColumnFamilyCache> columnFamilyCaches =
+      new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
-      final OptimisticTransactionDB optimisticTransactionDB,
+      final RocksDB database,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
@@ -75,12 +87,14 @@ public class ZeebeTransactionDb<
       final MeterRegistry meterRegistry) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
-    this.optimisticTransactionDB = optimisticTransactionDB;
+    this.database = database;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
     this.meterRegistry = meterRegistry;
     metricExporter = new RocksDBMetricExporter(meterRegistry);
+    cachedColumnFamilies = rocksDbConfiguration.getCachedColumnFamilies();
+    columnFamilyCacheSize = rocksDbConfiguration.getColumnFamilyCacheSize();
 
     prefixReadOptions = PrefixReadOptions.readOptions();
     closables.add(prefixReadOptions);
@@ -175,12 +189,26 @@ public class ZeebeTransactionDb<
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        metrics,
+        getColumnFamilyCache(columnFamily));
+  }
+
+  /**
+   * Returns the cache shared by all instances of the given column family, or null if it is not
+   * cached. Sharing the cache ensures that writes through one instance are visible to all others.
+   */
+  private ColumnFamilyCache getColumnFamilyCache(final ColumnFamilyNames columnFamily) {
+    if (columnFamilyCacheSize <= 0 || !cachedColumnFamilies.contains(columnFamily.name())) {
+      return null;
+    }
+
+    return columnFamilyCaches.computeIfAbsent(
+        columnFamily, ignored -> new ColumnFamilyCache(columnFamilyCacheSize));
   }
 
   @Override
   public void createSnapshot(final File snapshotDir) {
-    try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
+    try (final Checkpoint checkpoint = Checkpoint.create(database)) {
       try {
         checkpoint.createCheckpoint(snapshotDir.getAbsolutePath());
       } catch (final RocksDBException rocksException) {
@@ -194,7 +222,7 @@ public class ZeebeTransactionDb<
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      propertyValue = database.getProperty(defaultHandle, propertyName);
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
@@ -203,8 +231,7 @@ public class ZeebeTransactionDb<
 
   @Override
   public TransactionContext createContext() {
-    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction = newTransaction();
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
@@ -216,6 +243,31 @@ public class ZeebeTransactionDb<
         .isEmpty();
   }
 
+  @Override
+  public void commitAtomically(final List<TransactionContext> contexts) throws Exception {
+    final List<ZeebeTransaction> transactions = new ArrayList<>(contexts.size());
+    final List<byte[]> writes = new ArrayList<>(contexts.size());
+    for (final var context : contexts) {
+      final var transaction = (ZeebeTransaction) context.getCurrentTransaction();
+      transactions.add(transaction);
+      writes.add(transaction.getWrites());
+    }
+
+    try (final var batch = new WriteBatch(concatWriteBatches(writes))) {
+      database.write(defaultWriteOptions, batch);
+    } catch (final RocksDBException e) {
+      if (RocksDbInternal.isRocksDbExceptionRecoverable(e)) {
+        throw new ZeebeDbException(
+            "Unexpected error occurred during atomic commit of RocksDB transactions.", e);
+      }
+      throw e;
+    }
+
+    for (final var transaction : transactions) {
+      transaction.completeAsCommitted();
+    }
+  }
+
   @Override
   public MeterRegistry getMeterRegistry() {
     return meterRegistry;
@@ -223,12 +275,50 @@ public class ZeebeTransactionDb<
 
   @Override
   public void exportMetrics() {
-    metricExporter.exportMetrics(optimisticTransactionDB);
+    metricExporter.exportMetrics(database);
   }
 
-  @Override
-  public Transaction renewTransaction(final Transaction oldTransaction) {
-    return optimisticTransactionDB.beginTransaction(defaultWriteOptions, oldTransaction);
+  ZeebeTransaction newTransaction() {
+    final Transaction transaction = optimisticTransactionDB().beginTransaction(defaultWriteOptions);
+    return new OptimisticTransaction(transaction, this::renewTransaction);
+  }
+
+  private Transaction renewTransaction(final Transaction oldTransaction) {
+    return optimisticTransactionDB().beginTransaction(defaultWriteOptions, oldTransaction);
+  }
+
+  protected RocksDB getDatabase() {
+    return database;
+  }
+
+  protected WriteOptions getDefaultWriteOptions() {
+    return defaultWriteOptions;
+  }
+
+  /**
+   * Concatenates serialized write batches. A batch consists of a header, with a sequence number and
+   * the number of its records, followed by the records; see {@code write_batch.cc} of RocksDB. The
+   * records are appended to each other, and the header gets the sum of the record counts.
+   */
+  private static byte[] concatWriteBatches(final List<byte[]> batches) {
+    int length = WRITE_BATCH_HEADER_LENGTH;
+    for (final var batch : batches) {
+      length += batch.length - WRITE_BATCH_HEADER_LENGTH;
+    }
+
+    final var result = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+    int count = 0;
+    result.position(WRITE_BATCH_HEADER_LENGTH);
+    for (final var batch : batches) {
+      count += ByteBuffer.wrap(batch).order(ByteOrder.LITTLE_ENDIAN).getInt(Long.BYTES);
+      result.put(batch, WRITE_BATCH_HEADER_LENGTH, batch.length - WRITE_BATCH_HEADER_LENGTH);
+    }
+    result.putInt(Long.BYTES, count);
+    return result.array();
+  }
+
+  private OptimisticTransactionDB optimisticTransactionDB() {
+    return (OptimisticTransactionDB) database;
   }
 
   @Override
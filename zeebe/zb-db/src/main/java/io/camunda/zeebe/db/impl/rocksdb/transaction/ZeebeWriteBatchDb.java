@@ -0,0 +1,99 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.protocol.ScopedColumnFamily;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+
+/**
+ * A {@link ZeebeTransactionDb} backed by a plain {@link RocksDB} instead of an {@link
+ * org.rocksdb.OptimisticTransactionDB}. Each transaction context collects its writes in a {@link
+ * WriteBatchTransaction}, which avoids the overhead of tracking conflicts on every operation.
+ *
+ * <p>The semantics of the {@link io.camunda.zeebe.db.TransactionContext} are the same, except that
+ * concurrent transactions writing the same keys are not detected as conflicts. It must therefore
+ * only be used when there is a single writer, e.g. the stream processor of a partition.
+ */
+public final class ZeebeWriteBatchDb<
+        ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue & ScopedColumnFamily>
+    extends ZeebeTransactionDb<ColumnFamilyNames> {
+
+  private ZeebeWriteBatchDb(
+      final ColumnFamilyHandle defaultHandle,
+      final RocksDB database,
+      final List<AutoCloseable> closables,
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration accessMetricsConfiguration,
+      final MeterRegistry meterRegistry) {
+    super(
+        defaultHandle,
+        database,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        accessMetricsConfiguration,
+        meterRegistry);
+  }
+
+  public static <
+          ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue & ScopedColumnFamily>
+      ZeebeWriteBatchDb<ColumnFamilyNames> openWriteBatchDb(
+          final RocksDbOptions options,
+          final String path,
+          final List<AutoCloseable> closables,
+          final RocksDbConfiguration rocksDbConfiguration,
+          final ConsistencyChecksSettings consistencyChecksSettings,
+          final AccessMetricsConfiguration metrics,
+          final Supplier<MeterRegistry> meterRegistryFactory)
+          throws RocksDBException {
+    final var cfDescriptors =
+        List.of(new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
+    final RocksDB database = RocksDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
+    closables.add(database);
+
+    if (cfHandles.size() != 1) {
+      throw new IllegalStateException(
+          "Expected a handle for the default column family but found %d handles"
+              .formatted(cfHandles.size()));
+    }
+
+    final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
+    closables.add(defaultColumnFamilyHandle);
+
+    final var meterRegistry = meterRegistryFactory.get();
+    closables.add(() -> MicrometerUtil.close(meterRegistry));
+
+    return new ZeebeWriteBatchDb<>(
+        defaultColumnFamilyHandle,
+        database,
+        closables,
+        rocksDbConfiguration,
+        consistencyChecksSettings,
+        metrics,
+        meterRegistry);
+  }
+
+  @Override
+  ZeebeTransaction newTransaction() {
+    return new WriteBatchTransaction(getDatabase(), getDefaultWriteOptions());
+  }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.camunda.zeebe.protocol.ColumnFamilyScope;
+import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.protocol.ScopedColumnFamily;
+import io.camunda.zeebe.test.util.jmh.JMHAssert;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.FileUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of the basic column family operations on a state of {@link #keys} keys,
+ * with and without consistency checks.
+ *
+ * <p>The state mirrors the common layout of the engine state: a parent column family, and a child
+ * column family whose composite keys reference a parent via a {@link DbForeignKey}, with {@link
+ * #CHILDREN_PER_PARENT} children per parent. All operations run against the child column family,
+ * each in its own transaction, so they cover the serialization of {@link DbCompositeKey}, the
+ * foreign key checks on writes, and the prefix iteration of {@link
+ * ColumnFamily#whileEqualPrefix(io.camunda.zeebe.db.DbKey, java.util.function.BiConsumer)} and
+ * {@link ColumnFamily#countEqualPrefix(io.camunda.zeebe.db.DbKey)}.
+ *
+ * <p>Filling the state with 10^7 keys takes a while; run a single key count with {@code -p
+ * keys=...} when iterating on a change.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ColumnFamilyPerformanceTest {
+  private static final int CHILDREN_PER_PARENT = 10;
+  private static final int FILL_BATCH_SIZE = 10_000;
+
+  @Param({"10000", "1000000", "10000000"})
+  public int keys;
+
+  @Param({"true", "false"})
+  public boolean consistencyChecks;
+
+  private Path directory;
+  private ZeebeDb<BenchmarkColumnFamilies> zeebeDb;
+  private TransactionContext context;
+  private int parents;
+  private long nextChildIndex;
+
+  private DbLong parentKey;
+  private ColumnFamily<DbLong, DbNil> parentColumnFamily;
+
+  private DbCompositeKey<DbForeignKey<DbLong>, DbLong> childKey;
+  private DbLong childValue;
+  private ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbLong>, DbLong> childColumnFamily;
+
+  private DbLong prefix;
+
+  @Setup
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("zb-db-perf");
+    zeebeDb =
+        new ZeebeRocksDbFactory<BenchmarkColumnFamilies>(
+                new RocksDbConfiguration(),
+                new ConsistencyChecksSettings(consistencyChecks, consistencyChecks),
+                new AccessMetricsConfiguration(Kind.NONE, 1),
+                SimpleMeterRegistry::new)
+            .createDb(directory.toFile());
+    context = zeebeDb.createContext();
+
+    parentKey = new DbLong();
+    parentColumnFamily =
+        zeebeDb.createColumnFamily(
+            BenchmarkColumnFamilies.PARENT, context, parentKey, DbNil.INSTANCE);
+
+    childKey =
+        new DbCompositeKey<>(
+            new DbForeignKey<>(new DbLong(), BenchmarkColumnFamilies.PARENT), new DbLong());
+    childValue = new DbLong();
+    childColumnFamily =
+        zeebeDb.createColumnFamily(BenchmarkColumnFamilies.CHILD, context, childKey, childValue);
+
+    prefix = new DbLong();
+
+    fill();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  /** Inserts a new child for an existing parent. */
+  @Benchmark
+  public void measureInsert() {
+    wrapChildKey(randomParent(), nextChildIndex++);
+    childValue.wrapLong(nextChildIndex);
+    childColumnFamily.insert(childKey, childValue);
+  }
+
+  /** Updates the value of an existing child. */
+  @Benchmark
+  public void measureUpdate() {
+    wrapRandomChildKey();
+    childValue.wrapLong(ThreadLocalRandom.current().nextLong());
+    childColumnFamily.update(childKey, childValue);
+  }
+
+  /** Reads the value of an existing child. */
+  @Benchmark
+  public void measureGet(final Blackhole blackhole) {
+    wrapRandomChildKey();
+    blackhole.consume(childColumnFamily.get(childKey));
+  }
+
+  /** Visits all children of an existing parent. */
+  @Benchmark
+  public void measurePrefixScan(final Blackhole blackhole) {
+    prefix.wrapLong(randomParent());
+    childColumnFamily.whileEqualPrefix(
+        prefix,
+        (key, value) -> {
+          blackhole.consume(value.getValue());
+        });
+  }
+
+  /** Counts the children of an existing parent. */
+  @Benchmark
+  public long measureCountEqualPrefix() {
+    prefix.wrapLong(randomParent());
+    return childColumnFamily.countEqualPrefix(prefix);
+  }
+
+  /**
+   * Deletes an existing child, and inserts it again within the same transaction, so that the number
+   * of keys stays the same over the whole run.
+   */
+  @Benchmark
+  public void measureDelete() {
+    wrapRandomChildKey();
+    context.runInTransaction(
+        () -> {
+          childColumnFamily.deleteExisting(childKey);
+          childValue.wrapLong(childKey.second().getValue());
+          childColumnFamily.insert(childKey, childValue);
+        });
+  }
+
+  private void fill() {
+    parents = Math.max(1, keys / CHILDREN_PER_PARENT);
+    nextChildIndex = CHILDREN_PER_PARENT;
+
+    for (int batchStart = 0; batchStart < parents; batchStart += FILL_BATCH_SIZE) {
+      final int batchEnd = Math.min(parents, batchStart + FILL_BATCH_SIZE);
+      final int firstParent = batchStart;
+      context.runInTransaction(
+          () -> {
+            for (int parent = firstParent; parent < batchEnd; parent++) {
+              parentKey.wrapLong(parent);
+              parentColumnFamily.insert(parentKey, DbNil.INSTANCE);
+
+              for (int child = 0; child < CHILDREN_PER_PARENT; child++) {
+                wrapChildKey(parent, child);
+                childValue.wrapLong(child);
+                childColumnFamily.insert(childKey, childValue);
+              }
+            }
+          });
+    }
+  }
+
+  private void wrapRandomChildKey() {
+    wrapChildKey(randomParent(), ThreadLocalRandom.current().nextInt(CHILDREN_PER_PARENT));
+  }
+
+  private void wrapChildKey(final long parent, final long child) {
+    childKey.first().inner().wrapLong(parent);
+    childKey.second().wrapLong(child);
+  }
+
+  private long randomParent() {
+    return ThreadLocalRandom.current().nextInt(parents);
+  }
+
+  @JMHTest("measureGet")
+  void shouldGetWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 150_000;
+
+    // when
+    final var assertResult = runWithLargeStateAndConsistencyChecks(testCase);
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureInsert")
+  void shouldInsertWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 40_000;
+
+    // when
+    final var assertResult = runWithLargeStateAndConsistencyChecks(testCase);
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureUpdate")
+  void shouldUpdateWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 60_000;
+
+    // when
+    final var assertResult = runWithLargeStateAndConsistencyChecks(testCase);
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measurePrefixScan")
+  void shouldScanPrefixWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 65_000;
+
+    // when
+    final var assertResult = runWithLargeStateAndConsistencyChecks(testCase);
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureDelete")
+  void shouldDeleteWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 40_000;
+
+    // when
+    final var assertResult = runWithLargeStateAndConsistencyChecks(testCase);
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  @JMHTest("measureCountEqualPrefix")
+  void shouldCountEqualPrefixWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured in CI
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 60_000;
+
+    // when
+    final var assertResult = runWithLargeStateAndConsistencyChecks(testCase);
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static JMHAssert runWithLargeStateAndConsistencyChecks(final JMHTestCase testCase) {
+    return testCase
+        .withOptions(options -> options.param("keys", "1000000").param("consistencyChecks", "true"))
+        .run();
+  }
+
+  private enum BenchmarkColumnFamilies implements EnumValue, ScopedColumnFamily {
+    PARENT(0),
+    CHILD(1);
+
+    private final int value;
+
+    BenchmarkColumnFamilies(final int value) {
+      this.value = value;
+    }
+
+    @Override
+    public int getValue() {
+      return value;
+    }
+
+    @Override
+    public ColumnFamilyScope partitionScope() {
+      return ColumnFamilyScope.PARTITION_LOCAL;
+    }
+  }
+}
@@ -19,7 +19,9 @@ import io.camunda.zeebe.protocol.ColumnFamilyScope;
 import io.camunda.zeebe.protocol.EnumValue;
 import io.camunda.zeebe.protocol.ScopedColumnFamily;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -33,6 +35,7 @@ public final class DbTransactionTest {
   private final ZeebeDbFactory<ColumnFamilies> dbFactory =
       DefaultZeebeDbFactory.getDefaultFactory();
 
+  private ZeebeDb<ColumnFamilies> zeebeDb;
   private TransactionContext transactionContext;
 
   private ColumnFamily<DbLong, DbLong> oneColumnFamily;
@@ -49,7 +52,7 @@ public final class DbTransactionTest {
   @Before
   public void setup() throws Exception {
     final File pathName = temporaryFolder.newFolder();
-    final ZeebeDb<ColumnFamilies> zeebeDb = dbFactory.createDb(pathName);
+    zeebeDb = dbFactory.createDb(pathName);
     transactionContext = zeebeDb.createContext();
 
     oneKey = new DbLong();
@@ -479,6 +482,124 @@ public final class DbTransactionTest {
         .isSameAs(exception);
   }
 
+  @Test
+  public void shouldNotifyListenerOnCommit() throws Exception {
+    // given
+    final List<Boolean> completions = new ArrayList<>();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+
+    // when
+    final var registered = transactionContext.addTransactionListener(completions::add);
+    transaction.commit();
+
+    // then
+    assertThat(registered).isTrue();
+    assertThat(completions).containsExactly(true);
+  }
+
+  @Test
+  public void shouldNotifyListenerOnRollback() throws Exception {
+    // given
+    final List<Boolean> completions = new ArrayList<>();
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transactionContext.addTransactionListener(completions::add);
+
+    // when
+    transaction.rollback();
+    transactionContext.getCurrentTransaction().commit();
+
+    // then
+    assertThat(completions).containsExactly(false);
+  }
+
+  @Test
+  public void shouldNotRegisterListenerWithoutTransaction() {
+    // given
+    final List<Boolean> completions = new ArrayList<>();
+
+    // when
+    final var registered = transactionContext.addTransactionListener(completions::add);
+    transactionContext.runInTransaction(() -> oneColumnFamily.upsert(oneKey, oneValue));
+
+    // then
+    assertThat(registered).isFalse();
+    assertThat(completions).isEmpty();
+  }
+
+  @Test
+  public void shouldCommitTransactionsOfSeveralContextsAtomically() throws Exception {
+    // given
+    final var otherContext = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        zeebeDb.createColumnFamily(ColumnFamilies.TWO, otherContext, otherKey, otherValue);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(10);
+    transactionContext.runInTransaction(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    transactionContext
+        .getCurrentTransaction()
+        .run(
+            () -> {
+              oneColumnFamily.deleteExisting(oneKey);
+              threeKey.wrapLong(3);
+              threeValue.wrapLong(30);
+              threeColumnFamily.insert(threeKey, threeValue);
+            });
+    otherContext
+        .getCurrentTransaction()
+        .run(
+            () -> {
+              otherKey.wrapLong(2);
+              otherValue.wrapLong(20);
+              otherColumnFamily.insert(otherKey, otherValue);
+            });
+
+    // when
+    zeebeDb.commitAtomically(List.of(transactionContext, otherContext));
+
+    // then
+    assertThat(oneColumnFamily.exists(oneKey)).isFalse();
+    twoKey.wrapLong(2);
+    assertThat(twoColumnFamily.get(twoKey).getValue()).isEqualTo(20);
+    assertThat(threeColumnFamily.get(threeKey).getValue()).isEqualTo(30);
+  }
+
+  @Test
+  public void shouldNotifyListenersOnAtomicCommit() throws Exception {
+    // given
+    final var otherContext = zeebeDb.createContext();
+    final List<Boolean> completions = new ArrayList<>();
+    transactionContext.getCurrentTransaction();
+    transactionContext.addTransactionListener(completions::add);
+    otherContext.getCurrentTransaction();
+    otherContext.addTransactionListener(completions::add);
+
+    // when
+    zeebeDb.commitAtomically(List.of(transactionContext, otherContext));
+
+    // then
+    assertThat(completions).containsExactly(true, true);
+  }
+
+  @Test
+  public void shouldStartNewTransactionAfterAtomicCommit() throws Exception {
+    // given
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(10);
+    transactionContext.getCurrentTransaction().run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    zeebeDb.commitAtomically(List.of(transactionContext));
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.deleteExisting(oneKey));
+    transaction.rollback();
+
+    // then
+    assertThat(oneColumnFamily.get(oneKey).getValue()).isEqualTo(10);
+  }
+
   private enum ColumnFamilies implements EnumValue, ScopedColumnFamily {
     DEFAULT, // rocksDB needs a default column family
     ONE,
@@ -0,0 +1,265 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ColumnFamilyMetricsDoc;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ColumnFamilyCacheTest {
+
+  @TempDir File temporaryFolder;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @BeforeEach
+  void beforeEach() {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration()
+                .setCachedColumnFamilies(Set.of(DefaultColumnFamily.DEFAULT.name())),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.FINE, 1),
+            () -> meterRegistry);
+    zeebeDb = factory.createDb(temporaryFolder);
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldServeCommittedValueFromCache() {
+    // given
+    upsert(1, 10);
+
+    // when
+    final var cachedValue = get(1);
+    final var exists = exists(1);
+
+    // then
+    assertThat(cachedValue).isEqualTo(10);
+    assertThat(exists).isTrue();
+    assertThat(cacheHits()).isEqualTo(2);
+    assertThat(cacheMisses()).isZero();
+  }
+
+  @Test
+  void shouldCacheValueReadOnMiss() {
+    // given - a value written without going through the cache
+    upsertWithoutCache(1, 20);
+
+    // when
+    final var firstRead = get(1);
+    final var secondRead = get(1);
+
+    // then
+    assertThat(firstRead).isEqualTo(20);
+    assertThat(secondRead).isEqualTo(20);
+    assertThat(cacheMisses()).isOne();
+    assertThat(cacheHits()).isOne();
+  }
+
+  @Test
+  void shouldOnlyShowUncommittedWritesToOwnTransaction() throws Exception {
+    // given
+    upsert(1, 10);
+    final var otherContext = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, otherContext, otherKey, new DbLong());
+    otherKey.wrapLong(1);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(20);
+          columnFamily.upsert(key, value);
+        });
+
+    // then
+    assertThat(get(1)).isEqualTo(20);
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(10);
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldDiscardUncommittedWritesOnRollback() throws Exception {
+    // given
+    upsert(1, 10);
+    upsert(2, 20);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(11);
+          columnFamily.upsert(key, value);
+          key.wrapLong(2);
+          columnFamily.deleteExisting(key);
+        });
+    assertThat(get(1)).isEqualTo(11);
+    assertThat(exists(2)).isFalse();
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    assertThat(get(2)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldRemoveDeletedValuesOnCommit() {
+    // given
+    upsert(1, 10);
+
+    // when
+    context.runInTransaction(
+        () -> {
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+        });
+
+    // then
+    assertThat(exists(1)).isFalse();
+    assertThat(cacheMisses()).isOne();
+  }
+
+  @Test
+  void shouldShareCacheBetweenInstancesOfSameColumnFamily() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, otherKey, otherValue);
+    upsert(1, 10);
+    assertThat(get(1)).isEqualTo(10);
+
+    // when
+    otherKey.wrapLong(1);
+    otherValue.wrapLong(20);
+    otherColumnFamily.upsert(otherKey, otherValue);
+
+    // then
+    assertThat(get(1)).isEqualTo(20);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntriesWhenExceedingSize() {
+    // given - room for exactly two entries of 8 bytes key and 8 bytes value
+    final var cache = new ColumnFamilyCache(32);
+    cache.putCommitted(bytes(1), Long.BYTES, bytes(10));
+    cache.putCommitted(bytes(2), Long.BYTES, bytes(20));
+    cache.get(null, bytes(1), Long.BYTES);
+
+    // when
+    cache.putCommitted(bytes(3), Long.BYTES, bytes(30));
+
+    // then
+    assertThat(cache.size()).isEqualTo(32);
+    assertThat(cache.get(null, bytes(1), Long.BYTES)).isEqualTo(bytes(10));
+    assertThat(cache.get(null, bytes(2), Long.BYTES)).isNull();
+    assertThat(cache.get(null, bytes(3), Long.BYTES)).isEqualTo(bytes(30));
+  }
+
+  @Test
+  void shouldNotCacheEntryLargerThanSize() {
+    // given
+    final var cache = new ColumnFamilyCache(8);
+
+    // when
+    cache.putCommitted(bytes(1), Long.BYTES, bytes(10));
+
+    // then
+    assertThat(cache.size()).isZero();
+    assertThat(cache.get(null, bytes(1), Long.BYTES)).isNull();
+  }
+
+  private void upsert(final long newKey, final long newValue) {
+    key.wrapLong(newKey);
+    value.wrapLong(newValue);
+    columnFamily.upsert(key, value);
+  }
+
+  private void upsertWithoutCache(final long newKey, final long newValue) {
+    final var transactionDb = (ZeebeTransactionDb<DefaultColumnFamily>) zeebeDb;
+    final var rawColumnFamily = new ColumnFamilyContext(DefaultColumnFamily.DEFAULT.getValue());
+    key.wrapLong(newKey);
+    value.wrapLong(newValue);
+    rawColumnFamily.writeKey(key);
+    rawColumnFamily.writeValue(value);
+    context.runInTransaction(
+        () ->
+            ((ZeebeTransaction) context.getCurrentTransaction())
+                .put(
+                    transactionDb.getDefaultNativeHandle(),
+                    rawColumnFamily.getKeyBufferArray(),
+                    rawColumnFamily.getKeyLength(),
+                    rawColumnFamily.getValueBufferArray(),
+                    value.getLength()));
+  }
+
+  private long get(final long keyToGet) {
+    key.wrapLong(keyToGet);
+    return columnFamily.get(key).getValue();
+  }
+
+  private boolean exists(final long keyToCheck) {
+    key.wrapLong(keyToCheck);
+    return columnFamily.exists(key);
+  }
+
+  private double cacheHits() {
+    return meterRegistry.get(ColumnFamilyMetricsDoc.CACHE_HITS.getName()).counter().count();
+  }
+
+  private double cacheMisses() {
+    return meterRegistry.get(ColumnFamilyMetricsDoc.CACHE_MISSES.getName()).counter().count();
+  }
+
+  private static byte[] bytes(final long value) {
+    final var bytes = new byte[Long.BYTES];
+    for (int i = 0; i < Long.BYTES; i++) {
+      bytes[i] = (byte) (value >>> (8 * i));
+    }
+    return bytes;
+  }
+}
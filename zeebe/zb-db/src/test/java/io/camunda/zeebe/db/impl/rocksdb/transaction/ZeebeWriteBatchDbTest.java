@@ -0,0 +1,222 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration.TransactionKind;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ZeebeWriteBatchDbTest {
+
+  @TempDir File temporaryFolder;
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext context;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @BeforeEach
+  void beforeEach() {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setTransactionKind(TransactionKind.WRITE_BATCH),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            SimpleMeterRegistry::new);
+    zeebeDb = factory.createDb(temporaryFolder);
+    context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldOpenWriteBatchDb() {
+    assertThat(zeebeDb).isInstanceOf(ZeebeWriteBatchDb.class);
+  }
+
+  @Test
+  void shouldReadOwnUncommittedWrites() throws Exception {
+    // given
+    upsert(1, 10);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          upsert(1, 11);
+          upsert(2, 20);
+        });
+
+    // then
+    assertThat(get(1)).isEqualTo(11);
+    assertThat(get(2)).isEqualTo(20);
+    assertThat(keys()).containsExactly(1L, 2L);
+    transaction.commit();
+  }
+
+  @Test
+  void shouldIterateOverUncommittedDeletes() throws Exception {
+    // given
+    upsert(1, 10);
+    upsert(2, 20);
+    upsert(3, 30);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(2);
+          columnFamily.deleteExisting(key);
+        });
+
+    // then
+    assertThat(keys()).containsExactly(1L, 3L);
+    assertThat(columnFamily.count()).isEqualTo(2);
+    transaction.rollback();
+  }
+
+  @Test
+  void shouldNotShowUncommittedWritesToOtherContexts() throws Exception {
+    // given
+    final var otherContext = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, otherContext, otherKey, new DbLong());
+    otherKey.wrapLong(1);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(() -> upsert(1, 10));
+
+    // then
+    assertThat(otherColumnFamily.exists(otherKey)).isFalse();
+
+    // when
+    transaction.commit();
+
+    // then
+    assertThat(otherColumnFamily.get(otherKey).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldCommitBatchesOfSeveralContextsAtomically() throws Exception {
+    // given
+    final var otherContext = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> otherColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, otherContext, otherKey, otherValue);
+    upsert(1, 10);
+
+    context
+        .getCurrentTransaction()
+        .run(
+            () -> {
+              key.wrapLong(1);
+              columnFamily.deleteExisting(key);
+              upsert(3, 30);
+            });
+    otherContext
+        .getCurrentTransaction()
+        .run(
+            () -> {
+              otherKey.wrapLong(2);
+              otherValue.wrapLong(20);
+              otherColumnFamily.upsert(otherKey, otherValue);
+            });
+
+    // when
+    zeebeDb.commitAtomically(List.of(context, otherContext));
+
+    // then
+    assertThat(keys()).containsExactly(2L, 3L);
+    assertThat(get(2)).isEqualTo(20);
+    assertThat(get(3)).isEqualTo(30);
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    upsert(1, 10);
+
+    // when
+    final var transaction = context.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          upsert(1, 11);
+          upsert(2, 20);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+    key.wrapLong(2);
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldDiscardWritesOnException() {
+    // given
+    upsert(1, 10);
+
+    // when
+    try {
+      context.runInTransaction(
+          () -> {
+            upsert(1, 11);
+            throw new IllegalStateException("expected");
+          });
+    } catch (final IllegalStateException ignored) {
+      // expected
+    }
+
+    // then
+    assertThat(get(1)).isEqualTo(10);
+  }
+
+  private void upsert(final long newKey, final long newValue) {
+    key.wrapLong(newKey);
+    value.wrapLong(newValue);
+    columnFamily.upsert(key, value);
+  }
+
+  private long get(final long keyToGet) {
+    key.wrapLong(keyToGet);
+    return columnFamily.get(key).getValue();
+  }
+
+  private List<Long> keys() {
+    final List<Long> keys = new ArrayList<>();
+    columnFamily.forEach((k, v) -> keys.add(k.getValue()));
+    return keys;
+  }
+}